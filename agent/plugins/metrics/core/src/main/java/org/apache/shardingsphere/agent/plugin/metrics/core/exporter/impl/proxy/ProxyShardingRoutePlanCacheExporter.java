@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.sharding.cache.ShardingCache;
+import org.apache.shardingsphere.sharding.cache.route.plan.ShardingRoutePlanCache;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Proxy sharding route plan cache exporter.
+ */
+public final class ProxyShardingRoutePlanCacheExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("proxy_sharding_route_plan_cache",
+            MetricCollectorType.GAUGE_METRIC_FAMILY, "Sharding route plan cache of ShardingSphere-Proxy. hit_count is count of routes by plan; miss_count is count of routes without plan; "
+                    + "route_nanos is total elapsed nanoseconds of routes by plan",
+            Arrays.asList("database", "name"), Collections.emptyMap());
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        if (null == ProxyContext.getInstance().getContextManager()) {
+            return Optional.empty();
+        }
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        for (ShardingSphereDatabase each : ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getAllDatabases()) {
+            findRoutePlanCache(each).ifPresent(optional -> addMetrics(result, each.getName(), optional));
+        }
+        return Optional.of(result);
+    }
+    
+    private Optional<ShardingRoutePlanCache> findRoutePlanCache(final ShardingSphereDatabase database) {
+        return database.getRuleMetaData().findSingleRule(ShardingRule.class).map(ShardingRule::getShardingCache).map(ShardingCache::getRoutePlanCache);
+    }
+    
+    private void addMetrics(final GaugeMetricFamilyMetricsCollector collector, final String databaseName, final ShardingRoutePlanCache routePlanCache) {
+        collector.addMetric(Arrays.asList(databaseName, "hit_count"), routePlanCache.getHitCount());
+        collector.addMetric(Arrays.asList(databaseName, "miss_count"), routePlanCache.getMissCount());
+        collector.addMetric(Arrays.asList(databaseName, "route_nanos"), routePlanCache.getRouteNanos());
+    }
+}
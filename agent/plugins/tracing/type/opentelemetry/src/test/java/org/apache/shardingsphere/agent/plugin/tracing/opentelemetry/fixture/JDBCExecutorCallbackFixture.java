@@ -37,7 +37,7 @@ public final class JDBCExecutorCallbackFixture extends JDBCExecutorCallback<Obje
     private Object attachment;
     
     public JDBCExecutorCallbackFixture(final DatabaseType protocolType, final ResourceMetaData resourceMetaData, final SQLStatement sqlStatement, final boolean isExceptionThrown) {
-        super(protocolType, resourceMetaData, sqlStatement, isExceptionThrown);
+        super("foo_db", protocolType, resourceMetaData, sqlStatement, isExceptionThrown);
     }
     
     @Override
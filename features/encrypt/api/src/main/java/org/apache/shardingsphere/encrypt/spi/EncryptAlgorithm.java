@@ -21,6 +21,10 @@ import org.apache.shardingsphere.infra.algorithm.core.ShardingSphereAlgorithm;
 import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
 import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Encrypt algorithm.
  */
@@ -44,6 +48,36 @@ public interface EncryptAlgorithm extends ShardingSphereAlgorithm {
      */
     Object decrypt(Object cipherValue, AlgorithmSQLContext algorithmSQLContext);
     
+    /**
+     * Encrypt values in batch.
+     *
+     * @param plainValues plain values, null value is encrypted to null
+     * @param algorithmSQLContext algorithm SQL context
+     * @return cipher values in the same order of plain values
+     */
+    default List<Object> batchEncrypt(final Collection<?> plainValues, final AlgorithmSQLContext algorithmSQLContext) {
+        List<Object> result = new ArrayList<>(plainValues.size());
+        for (Object each : plainValues) {
+            result.add(null == each ? null : encrypt(each, algorithmSQLContext));
+        }
+        return result;
+    }
+    
+    /**
+     * Decrypt values in batch.
+     *
+     * @param cipherValues cipher values, null value is decrypted to null
+     * @param algorithmSQLContext algorithm SQL context
+     * @return plain values in the same order of cipher values
+     */
+    default List<Object> batchDecrypt(final Collection<?> cipherValues, final AlgorithmSQLContext algorithmSQLContext) {
+        List<Object> result = new ArrayList<>(cipherValues.size());
+        for (Object each : cipherValues) {
+            result.add(null == each ? null : decrypt(each, algorithmSQLContext));
+        }
+        return result;
+    }
+    
     /**
      * Get encrypt algorithm meta data.
      *
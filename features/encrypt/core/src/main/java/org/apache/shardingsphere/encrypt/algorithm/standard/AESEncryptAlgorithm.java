@@ -28,6 +28,9 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
 import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -63,6 +66,20 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm {
         return cryptographicAlgorithm.decrypt(cipherValue);
     }
     
+    @Override
+    public List<Object> batchEncrypt(final Collection<?> plainValues, final AlgorithmSQLContext algorithmSQLContext) {
+        List<Object> result = new ArrayList<>(plainValues.size());
+        for (Object each : cryptographicAlgorithm.batchEncrypt(plainValues)) {
+            result.add(null == each ? null : String.valueOf(each));
+        }
+        return result;
+    }
+    
+    @Override
+    public List<Object> batchDecrypt(final Collection<?> cipherValues, final AlgorithmSQLContext algorithmSQLContext) {
+        return cryptographicAlgorithm.batchDecrypt(cipherValues);
+    }
+    
     @Override
     public AlgorithmConfiguration toConfiguration() {
         return new AlgorithmConfiguration(getType(),
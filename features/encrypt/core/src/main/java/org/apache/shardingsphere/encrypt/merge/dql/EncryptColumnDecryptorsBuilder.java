@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.merge.dql;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.rule.column.EncryptColumn;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.bound.ColumnSegmentBoundInfo;
+
+import java.util.Optional;
+
+/**
+ * Encrypt column decryptors builder.
+ */
+@RequiredArgsConstructor
+public final class EncryptColumnDecryptorsBuilder {
+    
+    private final ShardingSphereDatabase database;
+    
+    private final ShardingSphereMetaData metaData;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    /**
+     * Build encrypt column decryptors.
+     *
+     * @return encrypt column decryptors indexed by column index minus one, null element means the column is not encrypted
+     */
+    public EncryptColumnDecryptor[] build() {
+        EncryptColumnDecryptor[] result = new EncryptColumnDecryptor[selectStatementContext.getProjectionsContext().getExpandProjections().size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = selectStatementContext.findColumnBoundInfo(i + 1).map(this::createDecryptor).orElse(null);
+        }
+        return result;
+    }
+    
+    private EncryptColumnDecryptor createDecryptor(final ColumnSegmentBoundInfo columnSegmentBoundInfo) {
+        String originalTableName = columnSegmentBoundInfo.getOriginalTable().getValue();
+        String originalColumnName = columnSegmentBoundInfo.getOriginalColumn().getValue();
+        ShardingSphereDatabase originalDatabase = metaData.containsDatabase(columnSegmentBoundInfo.getOriginalDatabase().getValue())
+                ? metaData.getDatabase(columnSegmentBoundInfo.getOriginalDatabase().getValue())
+                : database;
+        Optional<EncryptRule> rule = originalDatabase.getRuleMetaData().findSingleRule(EncryptRule.class);
+        if (!rule.isPresent() || !rule.get().findEncryptTable(originalTableName).map(optional -> optional.isEncryptColumn(originalColumnName)).orElse(false)) {
+            return null;
+        }
+        EncryptColumn encryptColumn = rule.get().getEncryptTable(originalTableName).getEncryptColumn(originalColumnName);
+        String schemaName = selectStatementContext.getTablesContext().getSchemaName()
+                .orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getSqlStatement().getDatabaseType()).getDefaultSchemaName(originalDatabase.getName()));
+        return new EncryptColumnDecryptor(originalDatabase.getName(), schemaName, originalTableName, originalColumnName, encryptColumn);
+    }
+}
@@ -21,25 +21,85 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.merge.engine.decorator.ResultDecorator;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.bound.ColumnSegmentBoundInfo;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
 
 /**
  * DQL result decorator for encrypt.
+ * 
+ * <p>Rows are decrypted by window only when every plain column of the result is a table column which is neither LOB nor temporal,
+ * because cells prefetched into a window can not be read with calendar or as stream of the underlying merged result.</p>
  */
 @RequiredArgsConstructor
 public final class EncryptDQLResultDecorator implements ResultDecorator<EncryptRule> {
     
+    private static final Collection<Integer> DECRYPT_WINDOW_UNSUPPORTED_DATA_TYPES = new HashSet<>(Arrays.asList(
+            Types.DATE, Types.TIME, Types.TIMESTAMP, Types.TIME_WITH_TIMEZONE, Types.TIMESTAMP_WITH_TIMEZONE,
+            Types.BLOB, Types.CLOB, Types.NCLOB, Types.LONGVARBINARY, Types.LONGVARCHAR, Types.LONGNVARCHAR, Types.SQLXML));
+    
     private final ShardingSphereDatabase database;
     
     private final ShardingSphereMetaData metaData;
     
     private final SelectStatementContext selectStatementContext;
     
+    private final ConfigurationProperties props;
+    
+    private final ConnectionContext connectionContext;
+    
     @Override
     public MergedResult decorate(final MergedResult mergedResult, final SQLStatementContext sqlStatementContext, final EncryptRule rule) {
-        return new EncryptMergedResult(database, metaData, selectStatementContext, mergedResult);
+        EncryptColumnDecryptor[] decryptors = new EncryptColumnDecryptorsBuilder(database, metaData, selectStatementContext).build();
+        int decryptWindowSize = props.<Integer>getValue(ConfigurationPropertyKey.ENCRYPT_DECRYPT_WINDOW_SIZE);
+        Optional<Executor> mergeExecutor = null == connectionContext ? Optional.empty() : connectionContext.getMergeExecutor();
+        return decryptWindowSize > 0 && mergeExecutor.isPresent() && Arrays.stream(decryptors).anyMatch(Objects::nonNull) && isDecryptWindowSupported(decryptors)
+                ? new EncryptWindowMergedResult(decryptors, mergedResult, decryptWindowSize, mergeExecutor.get())
+                : new EncryptMergedResult(decryptors, mergedResult);
+    }
+    
+    private boolean isDecryptWindowSupported(final EncryptColumnDecryptor[] decryptors) {
+        for (int i = 0; i < decryptors.length; i++) {
+            if (null == decryptors[i]
+                    && !selectStatementContext.findColumnBoundInfo(i + 1).flatMap(this::findDataType).filter(optional -> !DECRYPT_WINDOW_UNSUPPORTED_DATA_TYPES.contains(optional)).isPresent()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private Optional<Integer> findDataType(final ColumnSegmentBoundInfo columnSegmentBoundInfo) {
+        String originalDatabaseName = null == columnSegmentBoundInfo.getOriginalDatabase() ? null : columnSegmentBoundInfo.getOriginalDatabase().getValue();
+        ShardingSphereDatabase originalDatabase = null != originalDatabaseName && metaData.containsDatabase(originalDatabaseName) ? metaData.getDatabase(originalDatabaseName) : database;
+        String schemaName = null == columnSegmentBoundInfo.getOriginalSchema() || null == columnSegmentBoundInfo.getOriginalSchema().getValue()
+                ? new DatabaseTypeRegistry(selectStatementContext.getSqlStatement().getDatabaseType()).getDefaultSchemaName(originalDatabase.getName())
+                : columnSegmentBoundInfo.getOriginalSchema().getValue();
+        if (null == schemaName || !originalDatabase.containsSchema(schemaName)) {
+            return Optional.empty();
+        }
+        ShardingSphereSchema schema = originalDatabase.getSchema(schemaName);
+        String tableName = columnSegmentBoundInfo.getOriginalTable().getValue();
+        if (!schema.containsTable(tableName)) {
+            return Optional.empty();
+        }
+        ShardingSphereTable table = schema.getTable(tableName);
+        String columnName = columnSegmentBoundInfo.getOriginalColumn().getValue();
+        return table.containsColumn(columnName) ? Optional.of(table.getColumn(columnName).getDataType()) : Optional.empty();
     }
 }
@@ -17,64 +17,35 @@
 
 package org.apache.shardingsphere.encrypt.merge.dql;
 
-import org.apache.shardingsphere.encrypt.exception.data.DecryptFailedException;
-import org.apache.shardingsphere.encrypt.rule.EncryptRule;
-import org.apache.shardingsphere.encrypt.rule.column.EncryptColumn;
 import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
-import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
-import org.apache.shardingsphere.infra.exception.core.external.sql.identifier.SQLExceptionIdentifier;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.decorator.DecoratorMergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
-import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.bound.ColumnSegmentBoundInfo;
 
 import java.sql.SQLException;
-import java.util.Optional;
 
 /**
  * Merged result for encrypt.
+ * 
+ * <p>Encrypt columns of the result are resolved once when the merged result is created, so getting cell value only needs to look up the decryptor by column index.</p>
  */
 public final class EncryptMergedResult extends DecoratorMergedResult {
     
-    private final ShardingSphereDatabase database;
-    
-    private final ShardingSphereMetaData metaData;
-    
-    private final SelectStatementContext selectStatementContext;
+    private final EncryptColumnDecryptor[] decryptors;
     
     public EncryptMergedResult(final ShardingSphereDatabase database, final ShardingSphereMetaData metaData, final SelectStatementContext selectStatementContext, final MergedResult mergedResult) {
+        this(new EncryptColumnDecryptorsBuilder(database, metaData, selectStatementContext).build(), mergedResult);
+    }
+    
+    public EncryptMergedResult(final EncryptColumnDecryptor[] decryptors, final MergedResult mergedResult) {
         super(mergedResult);
-        this.database = database;
-        this.metaData = metaData;
-        this.selectStatementContext = selectStatementContext;
+        this.decryptors = decryptors;
     }
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
-        Optional<ColumnSegmentBoundInfo> columnSegmentBoundInfo = selectStatementContext.findColumnBoundInfo(columnIndex);
-        if (!columnSegmentBoundInfo.isPresent()) {
-            return getMergedResult().getValue(columnIndex, type);
-        }
-        String originalTableName = columnSegmentBoundInfo.get().getOriginalTable().getValue();
-        String originalColumnName = columnSegmentBoundInfo.get().getOriginalColumn().getValue();
-        ShardingSphereDatabase database = metaData.containsDatabase(columnSegmentBoundInfo.get().getOriginalDatabase().getValue())
-                ? metaData.getDatabase(columnSegmentBoundInfo.get().getOriginalDatabase().getValue())
-                : this.database;
-        Optional<EncryptRule> rule = database.getRuleMetaData().findSingleRule(EncryptRule.class);
-        if (!rule.isPresent() || !rule.get().findEncryptTable(originalTableName).map(optional -> optional.isEncryptColumn(originalColumnName)).orElse(false)) {
-            return getMergedResult().getValue(columnIndex, type);
-        }
-        Object cipherValue = getMergedResult().getValue(columnIndex, Object.class);
-        EncryptColumn encryptColumn = rule.get().getEncryptTable(originalTableName).getEncryptColumn(originalColumnName);
-        String schemaName = selectStatementContext.getTablesContext().getSchemaName()
-                .orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getSqlStatement().getDatabaseType()).getDefaultSchemaName(database.getName()));
-        try {
-            return encryptColumn.getCipher().decrypt(database.getName(), schemaName, originalTableName, originalColumnName, cipherValue);
-            // CHECKSTYLE:OFF
-        } catch (final Exception ex) {
-            // CHECKSTYLE:ON
-            throw new DecryptFailedException(String.valueOf(cipherValue), new SQLExceptionIdentifier(database.getName(), originalTableName, originalColumnName), ex);
-        }
+        EncryptColumnDecryptor decryptor = columnIndex <= decryptors.length ? decryptors[columnIndex - 1] : null;
+        return null == decryptor ? getMergedResult().getValue(columnIndex, type) : decryptor.decrypt(getMergedResult().getValue(columnIndex, Object.class));
     }
 }
@@ -0,0 +1,267 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.merge.dql;
+
+import org.apache.shardingsphere.infra.exception.kernel.data.UnsupportedStreamCharsetConversionException;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.util.ResultSetUtils;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Merged result for encrypt, which decrypts encrypted cells of a window of rows in batch.
+ * 
+ * <p>Rows are read one by one like {@link EncryptMergedResult} until the caller only reads cells as objects. Then rows are prefetched window by window,
+ * and encrypted cells of each window are decrypted by slices concurrently, the caller thread decrypts slices not claimed by the merge executor.
+ * Once the caller reads a plain cell with another type, with calendar or as stream, rows are read one by one again after the current window is drained,
+ * so typed values of plain cells are still read from the underlying merged result.</p>
+ * 
+ * <p>Cells of the current window are converted to the type the caller reads, so the result is only created by {@link EncryptDQLResultDecorator}
+ * for results whose plain columns are neither LOB nor temporal, of which values do not depend on calendar or stream of the underlying merged result.</p>
+ */
+public final class EncryptWindowMergedResult implements MergedResult {
+    
+    private static final int MIN_ROWS_PER_TASK = 256;
+    
+    private final EncryptColumnDecryptor[] decryptors;
+    
+    private final MergedResult mergedResult;
+    
+    private final int windowSize;
+    
+    private final Executor executor;
+    
+    private final int[] encryptColumnIndexes;
+    
+    private Object[][] rows;
+    
+    private int rowCount;
+    
+    private int rowIndex;
+    
+    private boolean windowed;
+    
+    private boolean objectRead;
+    
+    private boolean typedRead;
+    
+    private boolean exhausted;
+    
+    private boolean wasNull;
+    
+    public EncryptWindowMergedResult(final EncryptColumnDecryptor[] decryptors, final MergedResult mergedResult, final int windowSize, final Executor executor) {
+        this.decryptors = decryptors;
+        this.mergedResult = mergedResult;
+        this.windowSize = windowSize;
+        this.executor = executor;
+        encryptColumnIndexes = getEncryptColumnIndexes(decryptors);
+    }
+    
+    private int[] getEncryptColumnIndexes(final EncryptColumnDecryptor[] decryptors) {
+        int[] result = new int[decryptors.length];
+        int count = 0;
+        for (int i = 0; i < decryptors.length; i++) {
+            if (null != decryptors[i]) {
+                result[count++] = i;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (windowed && ++rowIndex < rowCount) {
+            return true;
+        }
+        windowed = false;
+        if (exhausted) {
+            return false;
+        }
+        if (objectRead && !typedRead) {
+            fetchWindow();
+            decryptWindow();
+            rowIndex = 0;
+            windowed = rowCount > 0;
+            return windowed;
+        }
+        return mergedResult.next();
+    }
+    
+    private void fetchWindow() throws SQLException {
+        if (null == rows) {
+            rows = new Object[windowSize][];
+        }
+        rowCount = 0;
+        while (rowCount < windowSize && mergedResult.next()) {
+            Object[] row = new Object[decryptors.length];
+            for (int i = 0; i < row.length; i++) {
+                row[i] = mergedResult.getValue(i + 1, Object.class);
+            }
+            rows[rowCount++] = row;
+        }
+        exhausted = rowCount < windowSize;
+        Arrays.fill(rows, rowCount, windowSize, null);
+    }
+    
+    private void decryptWindow() throws SQLException {
+        if (0 == rowCount) {
+            return;
+        }
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        int rowsPerTask = Math.max(MIN_ROWS_PER_TASK, (rowCount + parallelism - 1) / parallelism);
+        int slicesPerColumn = (rowCount + rowsPerTask - 1) / rowsPerTask;
+        int taskCount = encryptColumnIndexes.length * slicesPerColumn;
+        AtomicInteger nextTask = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(taskCount);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        try {
+            for (int i = 1; i < Math.min(taskCount, parallelism); i++) {
+                executor.execute(() -> decryptSlices(rowsPerTask, slicesPerColumn, taskCount, nextTask, latch, failure));
+            }
+        } catch (final RejectedExecutionException ignored) {
+            // the caller thread decrypts slices not claimed by executor
+        }
+        decryptSlices(rowsPerTask, slicesPerColumn, taskCount, nextTask, latch, failure);
+        try {
+            latch.await();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        }
+        if (null != failure.get()) {
+            throw failure.get();
+        }
+    }
+    
+    private void decryptSlices(final int rowsPerTask, final int slicesPerColumn, final int taskCount,
+                               final AtomicInteger nextTask, final CountDownLatch latch, final AtomicReference<RuntimeException> failure) {
+        int task;
+        while ((task = nextTask.getAndIncrement()) < taskCount) {
+            try {
+                if (null == failure.get()) {
+                    int startRow = task % slicesPerColumn * rowsPerTask;
+                    decryptSlice(encryptColumnIndexes[task / slicesPerColumn], startRow, Math.min(startRow + rowsPerTask, rowCount));
+                }
+            } catch (final RuntimeException ex) {
+                failure.compareAndSet(null, ex);
+            } finally {
+                latch.countDown();
+            }
+        }
+    }
+    
+    private void decryptSlice(final int columnIndex, final int startRow, final int endRow) {
+        List<Object> cipherValues = new ArrayList<>(endRow - startRow);
+        for (int i = startRow; i < endRow; i++) {
+            cipherValues.add(rows[i][columnIndex]);
+        }
+        List<Object> plainValues = decryptors[columnIndex].decrypt(cipherValues);
+        for (int i = startRow; i < endRow; i++) {
+            rows[i][columnIndex] = plainValues.get(i - startRow);
+        }
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        EncryptColumnDecryptor decryptor = columnIndex <= decryptors.length ? decryptors[columnIndex - 1] : null;
+        if (Object.class == type) {
+            objectRead = true;
+        } else if (null == decryptor) {
+            typedRead = true;
+        }
+        if (windowed) {
+            return Object.class == type ? getWindowValue(columnIndex) : ResultSetUtils.convertValue(getWindowValue(columnIndex), type);
+        }
+        if (columnIndex > decryptors.length) {
+            typedRead = true;
+        }
+        return null == decryptor ? mergedResult.getValue(columnIndex, type) : decryptor.decrypt(mergedResult.getValue(columnIndex, Object.class));
+    }
+    
+    private Object getWindowValue(final int columnIndex) throws SQLException {
+        if (columnIndex > decryptors.length) {
+            throw new SQLFeatureNotSupportedException(String.format("Get value of column index `%d` out of decrypt window", columnIndex));
+        }
+        Object result = rows[rowIndex][columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, @SuppressWarnings("UseOfObsoleteDateTimeApi") final Calendar calendar) throws SQLException {
+        typedRead = true;
+        return windowed ? ResultSetUtils.convertValue(getWindowValue(columnIndex), type) : mergedResult.getCalendarValue(columnIndex, type, calendar);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        typedRead = true;
+        return windowed ? getWindowInputStream(getWindowValue(columnIndex), type) : mergedResult.getInputStream(columnIndex, type);
+    }
+    
+    private InputStream getWindowInputStream(final Object value, final String type) throws SQLException {
+        if (null == value) {
+            return null;
+        }
+        switch (type) {
+            case "Ascii":
+                return new ByteArrayInputStream(value.toString().getBytes(StandardCharsets.US_ASCII));
+            case "Unicode":
+                return new ByteArrayInputStream(value.toString().getBytes(StandardCharsets.UTF_16BE));
+            case "Binary":
+                return new ByteArrayInputStream(value instanceof byte[] ? (byte[]) value : value.toString().getBytes(StandardCharsets.UTF_8));
+            default:
+                throw new UnsupportedStreamCharsetConversionException(type).toSQLException();
+        }
+    }
+    
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        typedRead = true;
+        if (windowed) {
+            Object value = getWindowValue(columnIndex);
+            return null == value ? null : new StringReader(value.toString());
+        }
+        return mergedResult.getCharacterStream(columnIndex);
+    }
+    
+    @Override
+    public boolean wasNull() throws SQLException {
+        return windowed ? wasNull : mergedResult.wasNull();
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        mergedResult.close();
+    }
+}
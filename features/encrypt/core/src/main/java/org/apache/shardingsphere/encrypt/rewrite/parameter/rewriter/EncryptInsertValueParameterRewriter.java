@@ -77,19 +77,37 @@ public final class EncryptInsertValueParameterRewriter implements ParameterRewri
                                      final String schemaName, final String tableName, final String columnName) {
         EncryptColumn encryptColumn = rule.getEncryptTable(tableName).getEncryptColumn(columnName);
         int columnIndex = getColumnIndex(paramBuilder, insertStatementContext, columnName);
+        List<Integer> groupIndexes = new ArrayList<>();
+        List<Object> originalValues = new ArrayList<>();
         int count = 0;
         for (List<Object> each : insertStatementContext.getGroupedParameters()) {
-            int paramIndex = insertStatementContext.getInsertValueContexts().get(count).getParameterIndex(columnIndex);
-            if (!each.isEmpty()) {
-                StandardParameterBuilder standardParamBuilder = paramBuilder.getParameterBuilders().get(count);
-                ExpressionSegment expressionSegment = insertStatementContext.getInsertValueContexts().get(count).getValueExpressions().get(columnIndex);
-                if (expressionSegment instanceof ParameterMarkerExpressionSegment) {
-                    Object literalValue = insertStatementContext.getInsertValueContexts().get(count).getLiteralValue(columnIndex).orElse(null);
-                    encryptInsertValue(encryptColumn, paramIndex, literalValue, standardParamBuilder, schemaName, tableName);
-                }
+            if (!each.isEmpty() && insertStatementContext.getInsertValueContexts().get(count).getValueExpressions().get(columnIndex) instanceof ParameterMarkerExpressionSegment) {
+                groupIndexes.add(count);
+                originalValues.add(insertStatementContext.getInsertValueContexts().get(count).getLiteralValue(columnIndex).orElse(null));
             }
             count++;
         }
+        if (groupIndexes.isEmpty()) {
+            return;
+        }
+        List<Object> cipherValues = encryptColumn.getCipher().encrypt(databaseName, schemaName, tableName, encryptColumn.getName(), originalValues);
+        List<Object> assistedQueryValues =
+                encryptColumn.getAssistedQuery().map(optional -> optional.encrypt(databaseName, schemaName, tableName, encryptColumn.getName(), originalValues)).orElse(null);
+        List<Object> likeQueryValues = encryptColumn.getLikeQuery().map(optional -> optional.encrypt(databaseName, schemaName, tableName, encryptColumn.getName(), originalValues)).orElse(null);
+        for (int i = 0; i < groupIndexes.size(); i++) {
+            int groupIndex = groupIndexes.get(i);
+            int paramIndex = insertStatementContext.getInsertValueContexts().get(groupIndex).getParameterIndex(columnIndex);
+            StandardParameterBuilder standardParamBuilder = paramBuilder.getParameterBuilders().get(groupIndex);
+            standardParamBuilder.addReplacedParameters(paramIndex, cipherValues.get(i));
+            Collection<Object> addedParams = new LinkedList<>();
+            if (null != assistedQueryValues) {
+                addedParams.add(assistedQueryValues.get(i));
+            }
+            if (null != likeQueryValues) {
+                addedParams.add(likeQueryValues.get(i));
+            }
+            addParameters(standardParamBuilder, paramIndex, addedParams);
+        }
     }
     
     private int getColumnIndex(final GroupedParameterBuilder paramBuilder, final InsertStatementContext insertStatementContext, final String encryptLogicColumnName) {
@@ -103,17 +121,7 @@ public final class EncryptInsertValueParameterRewriter implements ParameterRewri
         return columnNames.indexOf(encryptLogicColumnName);
     }
     
-    private void encryptInsertValue(final EncryptColumn encryptColumn, final int paramIndex, final Object originalValue,
-                                    final StandardParameterBuilder paramBuilder, final String schemaName, final String tableName) {
-        String columnName = encryptColumn.getName();
-        paramBuilder.addReplacedParameters(paramIndex, encryptColumn.getCipher().encrypt(databaseName, schemaName, tableName, columnName, originalValue));
-        Collection<Object> addedParams = new LinkedList<>();
-        if (encryptColumn.getAssistedQuery().isPresent()) {
-            addedParams.add(encryptColumn.getAssistedQuery().get().encrypt(databaseName, schemaName, tableName, columnName, originalValue));
-        }
-        if (encryptColumn.getLikeQuery().isPresent()) {
-            addedParams.add(encryptColumn.getLikeQuery().get().encrypt(databaseName, schemaName, tableName, columnName, originalValue));
-        }
+    private void addParameters(final StandardParameterBuilder paramBuilder, final int paramIndex, final Collection<Object> addedParams) {
         if (!addedParams.isEmpty()) {
             if (!paramBuilder.getAddedIndexAndParameters().containsKey(paramIndex)) {
                 paramBuilder.getAddedIndexAndParameters().put(paramIndex, new LinkedList<>());
@@ -46,6 +46,7 @@ import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.simp
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.value.identifier.IdentifierValue;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -92,13 +93,9 @@ public final class EncryptInsertValuesTokenGenerator implements OptionalSQLToken
     private void processPreviousSQLToken(final InsertStatementContext insertStatementContext, final InsertValuesToken insertValuesToken) {
         String tableName = insertStatementContext.getSqlStatement().getTable().map(optional -> optional.getTableName().getIdentifier().getValue()).orElse("");
         EncryptTable encryptTable = rule.getEncryptTable(tableName);
-        int count = 0;
         String schemaName = insertStatementContext.getTablesContext().getSchemaName()
                 .orElseGet(() -> new DatabaseTypeRegistry(insertStatementContext.getSqlStatement().getDatabaseType()).getDefaultSchemaName(database.getName()));
-        for (InsertValueContext each : insertStatementContext.getInsertValueContexts()) {
-            encryptToken(insertValuesToken.getInsertValues().get(count), schemaName, encryptTable, insertStatementContext, each);
-            count++;
-        }
+        encryptTokens(insertValuesToken.getInsertValues(), schemaName, encryptTable, insertStatementContext);
     }
     
     private InsertValuesToken generateNewSQLToken(final InsertStatementContext insertStatementContext) {
@@ -109,10 +106,9 @@ public final class EncryptInsertValuesTokenGenerator implements OptionalSQLToken
         String schemaName = insertStatementContext.getTablesContext().getSchemaName()
                 .orElseGet(() -> new DatabaseTypeRegistry(insertStatementContext.getSqlStatement().getDatabaseType()).getDefaultSchemaName(database.getName()));
         for (InsertValueContext each : insertStatementContext.getInsertValueContexts()) {
-            InsertValue insertValueToken = new InsertValue(new LinkedList<>(each.getValueExpressions()));
-            encryptToken(insertValueToken, schemaName, encryptTable, insertStatementContext, each);
-            result.getInsertValues().add(insertValueToken);
+            result.getInsertValues().add(new InsertValue(new LinkedList<>(each.getValueExpressions())));
         }
+        encryptTokens(result.getInsertValues(), schemaName, encryptTable, insertStatementContext);
         return result;
     }
     
@@ -132,10 +128,10 @@ public final class EncryptInsertValuesTokenGenerator implements OptionalSQLToken
         return result;
     }
     
-    private void encryptToken(final InsertValue insertValueToken, final String schemaName, final EncryptTable encryptTable,
-                              final InsertStatementContext insertStatementContext, final InsertValueContext insertValueContext) {
+    private void encryptTokens(final List<InsertValue> insertValueTokens, final String schemaName, final EncryptTable encryptTable, final InsertStatementContext insertStatementContext) {
         String tableName = encryptTable.getTable();
         Optional<SQLToken> useDefaultInsertColumnsToken = findPreviousSQLToken(UseDefaultInsertColumnsToken.class);
+        List<InsertValueContext> insertValueContexts = insertStatementContext.getInsertValueContexts();
         Iterator<String> descendingColumnNames = insertStatementContext.getDescendingColumnNames();
         while (descendingColumnNames.hasNext()) {
             String columnName = descendingColumnNames.next();
@@ -145,43 +141,64 @@ public final class EncryptInsertValuesTokenGenerator implements OptionalSQLToken
             EncryptColumn encryptColumn = rule.getEncryptTable(tableName).getEncryptColumn(columnName);
             int columnIndex = useDefaultInsertColumnsToken
                     .map(optional -> ((UseDefaultInsertColumnsToken) optional).getColumns().indexOf(columnName)).orElseGet(() -> insertStatementContext.getColumnNames().indexOf(columnName));
-            Object originalValue = insertValueContext.getLiteralValue(columnIndex).orElse(null);
-            ExpressionSegment valueExpression = insertValueContext.getValueExpressions().get(columnIndex);
-            setCipherColumn(schemaName, tableName, encryptColumn, insertValueToken, valueExpression, columnIndex, originalValue);
+            List<Object> originalValues = new ArrayList<>(insertValueContexts.size());
+            for (InsertValueContext each : insertValueContexts) {
+                originalValues.add(each.getLiteralValue(columnIndex).orElse(null));
+            }
+            setCipherColumns(schemaName, tableName, encryptColumn, insertValueTokens, insertValueContexts, columnIndex, originalValues);
             int indexDelta = 1;
             if (encryptColumn.getAssistedQuery().isPresent()) {
-                addAssistedQueryColumn(schemaName, tableName, encryptColumn, insertValueToken, valueExpression, columnIndex, indexDelta, originalValue);
+                addAssistedQueryColumns(schemaName, tableName, encryptColumn, insertValueTokens, insertValueContexts, columnIndex, indexDelta, originalValues);
                 indexDelta++;
             }
             if (encryptColumn.getLikeQuery().isPresent()) {
-                addLikeQueryColumn(schemaName, tableName, encryptColumn, insertValueToken, valueExpression, columnIndex, indexDelta, originalValue);
+                addLikeQueryColumns(schemaName, tableName, encryptColumn, insertValueTokens, insertValueContexts, columnIndex, indexDelta, originalValues);
             }
         }
     }
     
-    private void setCipherColumn(final String schemaName, final String tableName, final EncryptColumn encryptColumn,
-                                 final InsertValue insertValueToken, final ExpressionSegment valueExpression, final int columnIndex, final Object originalValue) {
-        if (valueExpression instanceof LiteralExpressionSegment) {
-            insertValueToken.getValues().set(columnIndex, new LiteralExpressionSegment(
-                    valueExpression.getStartIndex(), valueExpression.getStopIndex(),
-                    encryptColumn.getCipher().encrypt(database.getName(), schemaName, tableName, encryptColumn.getName(), originalValue)));
+    private void setCipherColumns(final String schemaName, final String tableName, final EncryptColumn encryptColumn, final List<InsertValue> insertValueTokens,
+                                  final List<InsertValueContext> insertValueContexts, final int columnIndex, final List<Object> originalValues) {
+        List<Integer> literalIndexes = new ArrayList<>(insertValueContexts.size());
+        List<Object> literalValues = new ArrayList<>(insertValueContexts.size());
+        for (int i = 0; i < insertValueContexts.size(); i++) {
+            if (insertValueContexts.get(i).getValueExpressions().get(columnIndex) instanceof LiteralExpressionSegment) {
+                literalIndexes.add(i);
+                literalValues.add(originalValues.get(i));
+            }
+        }
+        if (literalIndexes.isEmpty()) {
+            return;
+        }
+        List<Object> cipherValues = encryptColumn.getCipher().encrypt(database.getName(), schemaName, tableName, encryptColumn.getName(), literalValues);
+        for (int i = 0; i < literalIndexes.size(); i++) {
+            int rowIndex = literalIndexes.get(i);
+            ExpressionSegment valueExpression = insertValueContexts.get(rowIndex).getValueExpressions().get(columnIndex);
+            insertValueTokens.get(rowIndex).getValues().set(columnIndex, new LiteralExpressionSegment(valueExpression.getStartIndex(), valueExpression.getStopIndex(), cipherValues.get(i)));
         }
     }
     
-    private void addAssistedQueryColumn(final String schemaName, final String tableName, final EncryptColumn encryptColumn, final InsertValue insertValueToken,
-                                        final ExpressionSegment valueExpression, final int columnIndex, final int indexDelta, final Object originalValue) {
+    private void addAssistedQueryColumns(final String schemaName, final String tableName, final EncryptColumn encryptColumn, final List<InsertValue> insertValueTokens,
+                                         final List<InsertValueContext> insertValueContexts, final int columnIndex, final int indexDelta, final List<Object> originalValues) {
         Optional<AssistedQueryColumnItem> assistedQueryColumnItem = encryptColumn.getAssistedQuery();
         Preconditions.checkState(assistedQueryColumnItem.isPresent());
-        Object derivedValue = assistedQueryColumnItem.get().encrypt(database.getName(), schemaName, tableName, encryptColumn.getName(), originalValue);
-        addDerivedColumn(insertValueToken, valueExpression, columnIndex, indexDelta, derivedValue, assistedQueryColumnItem.get().getName());
+        List<Object> derivedValues = assistedQueryColumnItem.get().encrypt(database.getName(), schemaName, tableName, encryptColumn.getName(), originalValues);
+        addDerivedColumns(insertValueTokens, insertValueContexts, columnIndex, indexDelta, derivedValues, assistedQueryColumnItem.get().getName());
     }
     
-    private void addLikeQueryColumn(final String schemaName, final String tableName, final EncryptColumn encryptColumn, final InsertValue insertValueToken,
-                                    final ExpressionSegment valueExpression, final int columnIndex, final int indexDelta, final Object originalValue) {
+    private void addLikeQueryColumns(final String schemaName, final String tableName, final EncryptColumn encryptColumn, final List<InsertValue> insertValueTokens,
+                                     final List<InsertValueContext> insertValueContexts, final int columnIndex, final int indexDelta, final List<Object> originalValues) {
         Optional<LikeQueryColumnItem> likeQueryColumnItem = encryptColumn.getLikeQuery();
         Preconditions.checkState(likeQueryColumnItem.isPresent());
-        Object derivedValue = likeQueryColumnItem.get().encrypt(database.getName(), schemaName, tableName, encryptColumn.getName(), originalValue);
-        addDerivedColumn(insertValueToken, valueExpression, columnIndex, indexDelta, derivedValue, likeQueryColumnItem.get().getName());
+        List<Object> derivedValues = likeQueryColumnItem.get().encrypt(database.getName(), schemaName, tableName, encryptColumn.getName(), originalValues);
+        addDerivedColumns(insertValueTokens, insertValueContexts, columnIndex, indexDelta, derivedValues, likeQueryColumnItem.get().getName());
+    }
+    
+    private void addDerivedColumns(final List<InsertValue> insertValueTokens, final List<InsertValueContext> insertValueContexts, final int columnIndex, final int indexDelta,
+                                   final List<Object> derivedValues, final String derivedColumnName) {
+        for (int i = 0; i < insertValueContexts.size(); i++) {
+            addDerivedColumn(insertValueTokens.get(i), insertValueContexts.get(i).getValueExpressions().get(columnIndex), columnIndex, indexDelta, derivedValues.get(i), derivedColumnName);
+        }
     }
     
     private void addDerivedColumn(final InsertValue insertValueToken, final ExpressionSegment valueExpression, final int columnIndex, final int indexDelta, final Object derivedValue,
@@ -18,15 +18,41 @@
 package org.apache.shardingsphere.encrypt.merge.dql;
 
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.rule.column.EncryptColumn;
+import org.apache.shardingsphere.encrypt.rule.column.item.CipherColumnItem;
+import org.apache.shardingsphere.encrypt.rule.table.EncryptTable;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.Projection;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.TableSourceType;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.bound.ColumnSegmentBoundInfo;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.bound.TableSegmentBoundInfo;
+import org.apache.shardingsphere.sql.parser.statement.core.value.identifier.IdentifierValue;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.Executor;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
@@ -38,9 +64,62 @@ class EncryptDQLResultDecoratorTest {
     void assertDecorate() throws SQLException {
         MergedResult mergedResult = mock(MergedResult.class);
         when(mergedResult.next()).thenReturn(true);
-        EncryptDQLResultDecorator decorator =
-                new EncryptDQLResultDecorator(mock(ShardingSphereDatabase.class), mock(ShardingSphereMetaData.class), mock(SelectStatementContext.class, RETURNS_DEEP_STUBS));
+        EncryptDQLResultDecorator decorator = new EncryptDQLResultDecorator(mock(ShardingSphereDatabase.class), mock(ShardingSphereMetaData.class),
+                mock(SelectStatementContext.class, RETURNS_DEEP_STUBS), new ConfigurationProperties(new Properties()), mock(ConnectionContext.class));
         MergedResult actual = decorator.decorate(mergedResult, mock(SQLStatementContext.class), mock(EncryptRule.class));
         assertTrue(actual.next());
     }
+    
+    @Test
+    void assertDecorateWithDecryptWindow() {
+        assertThat(decorateWithDecryptWindow(Optional.of(createColumnSegmentBoundInfo("bar_col")), Types.VARCHAR), instanceOf(EncryptWindowMergedResult.class));
+    }
+    
+    @Test
+    void assertDecorateWithTemporalColumn() {
+        assertThat(decorateWithDecryptWindow(Optional.of(createColumnSegmentBoundInfo("bar_col")), Types.TIMESTAMP), instanceOf(EncryptMergedResult.class));
+    }
+    
+    @Test
+    void assertDecorateWithLobColumn() {
+        assertThat(decorateWithDecryptWindow(Optional.of(createColumnSegmentBoundInfo("bar_col")), Types.BLOB), instanceOf(EncryptMergedResult.class));
+    }
+    
+    @Test
+    void assertDecorateWithUnresolvedColumn() {
+        assertThat(decorateWithDecryptWindow(Optional.empty(), Types.VARCHAR), instanceOf(EncryptMergedResult.class));
+    }
+    
+    private MergedResult decorateWithDecryptWindow(final Optional<ColumnSegmentBoundInfo> plainColumnBoundInfo, final int plainColumnDataType) {
+        SelectStatementContext selectStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(selectStatementContext.getProjectionsContext().getExpandProjections()).thenReturn(Arrays.asList(mock(Projection.class), mock(Projection.class)));
+        when(selectStatementContext.findColumnBoundInfo(1)).thenReturn(Optional.of(createColumnSegmentBoundInfo("foo_col")));
+        when(selectStatementContext.findColumnBoundInfo(2)).thenReturn(plainColumnBoundInfo);
+        when(selectStatementContext.getTablesContext().getSchemaName()).thenReturn(Optional.of("foo_schema"));
+        ShardingSphereTable table = new ShardingSphereTable("foo_tbl", Arrays.asList(new ShardingSphereColumn("foo_col", Types.VARCHAR, false, false, false, true, false, true),
+                new ShardingSphereColumn("bar_col", plainColumnDataType, false, false, false, true, false, true)), Collections.emptyList(), Collections.emptyList());
+        ShardingSphereDatabase database = new ShardingSphereDatabase("foo_db", mock(), mock(), new RuleMetaData(Collections.singleton(mockRule())),
+                Collections.singleton(new ShardingSphereSchema("foo_schema", Collections.singleton(table), Collections.emptyList())));
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(Collections.singleton(database), mock(), mock(), mock());
+        ConnectionContext connectionContext = mock(ConnectionContext.class);
+        when(connectionContext.getMergeExecutor()).thenReturn(Optional.of((Executor) Runnable::run));
+        ConfigurationProperties props = new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.ENCRYPT_DECRYPT_WINDOW_SIZE.getKey(), "2")));
+        EncryptDQLResultDecorator decorator = new EncryptDQLResultDecorator(database, metaData, selectStatementContext, props, connectionContext);
+        return decorator.decorate(mock(MergedResult.class), mock(SQLStatementContext.class), mock(EncryptRule.class));
+    }
+    
+    private ColumnSegmentBoundInfo createColumnSegmentBoundInfo(final String columnName) {
+        return new ColumnSegmentBoundInfo(new TableSegmentBoundInfo(new IdentifierValue("foo_db"), new IdentifierValue("foo_schema")), new IdentifierValue("foo_tbl"), new IdentifierValue(columnName),
+                TableSourceType.PHYSICAL_TABLE);
+    }
+    
+    private EncryptRule mockRule() {
+        EncryptRule result = mock(EncryptRule.class);
+        EncryptTable encryptTable = mock(EncryptTable.class);
+        when(encryptTable.isEncryptColumn("foo_col")).thenReturn(true);
+        when(encryptTable.getEncryptColumn("foo_col")).thenReturn(new EncryptColumn("foo_col", new CipherColumnItem("foo_cipher_col", mock(EncryptAlgorithm.class))));
+        when(result.findEncryptTable("foo_tbl")).thenReturn(Optional.of(encryptTable));
+        when(result.getEncryptTable("foo_tbl")).thenReturn(encryptTable);
+        return result;
+    }
 }
@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.merge.dql;
+
+import org.apache.shardingsphere.encrypt.exception.data.DecryptFailedException;
+import org.apache.shardingsphere.encrypt.rule.column.EncryptColumn;
+import org.apache.shardingsphere.encrypt.rule.column.item.CipherColumnItem;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EncryptWindowMergedResultTest {
+    
+    @Test
+    void assertGetValueWithObjectRead() throws SQLException {
+        EncryptAlgorithm encryptAlgorithm = mockEncryptAlgorithm();
+        EncryptWindowMergedResult actual = new EncryptWindowMergedResult(createDecryptors(encryptAlgorithm), mockMergedResult(5), 2, Runnable::run);
+        for (int i = 1; i <= 5; i++) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is("decrypted_foo_value_" + i));
+            assertThat(actual.getValue(2, Object.class), is("bar_value_" + i));
+            assertFalse(actual.wasNull());
+        }
+        assertFalse(actual.next());
+        assertFalse(actual.next());
+        verify(encryptAlgorithm).decrypt(any(), any());
+    }
+    
+    @Test
+    void assertGetValueWithTypedRead() throws SQLException {
+        EncryptAlgorithm encryptAlgorithm = mockEncryptAlgorithm();
+        EncryptWindowMergedResult actual = new EncryptWindowMergedResult(createDecryptors(encryptAlgorithm), mockMergedResult(3), 2, Runnable::run);
+        for (int i = 1; i <= 3; i++) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is("decrypted_foo_value_" + i));
+            assertThat(actual.getValue(2, String.class), is("bar_value_" + i));
+        }
+        assertFalse(actual.next());
+        verify(encryptAlgorithm, never()).batchDecrypt(any(), any());
+    }
+    
+    @Test
+    void assertGetValueWithTypedReadInWindow() throws SQLException {
+        EncryptAlgorithm encryptAlgorithm = mockEncryptAlgorithm();
+        EncryptWindowMergedResult actual = new EncryptWindowMergedResult(createDecryptors(encryptAlgorithm), mockMergedResult(4), 2, Runnable::run);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(2, Object.class), is("bar_value_1"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(2, String.class), is("bar_value_2"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(2, Object.class), is("bar_value_3"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, String.class), is("decrypted_foo_value_4"));
+        assertThat(actual.getValue(2, String.class), is("bar_value_4"));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertDecryptWindowWithExecutor() throws SQLException {
+        EncryptAlgorithm encryptAlgorithm = mockEncryptAlgorithm();
+        AtomicInteger executeCount = new AtomicInteger();
+        Executor executor = command -> {
+            executeCount.incrementAndGet();
+            command.run();
+        };
+        EncryptWindowMergedResult actual = new EncryptWindowMergedResult(createDecryptors(encryptAlgorithm), mockMergedResult(2049), 1024, executor);
+        for (int i = 1; i <= 2049; i++) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is("decrypted_foo_value_" + i));
+        }
+        assertFalse(actual.next());
+        int executeCountPerWindow = Math.min(4, Runtime.getRuntime().availableProcessors()) - 1;
+        assertThat(executeCount.get(), is(executeCountPerWindow * 2));
+    }
+    
+    @Test
+    void assertDecryptWindowFailed() throws SQLException {
+        EncryptAlgorithm encryptAlgorithm = mockEncryptAlgorithm();
+        when(encryptAlgorithm.batchDecrypt(any(), any())).thenThrow(new RuntimeException("Test failed"));
+        EncryptWindowMergedResult actual = new EncryptWindowMergedResult(createDecryptors(encryptAlgorithm), mockMergedResult(3), 2, Runnable::run);
+        assertTrue(actual.next());
+        actual.getValue(1, Object.class);
+        assertThrows(DecryptFailedException.class, actual::next);
+    }
+    
+    @Test
+    void assertGetConvertedValueInWindow() throws SQLException {
+        MergedResult mergedResult = mockMergedResult(3);
+        when(mergedResult.getValue(2, Object.class)).thenReturn(10);
+        EncryptWindowMergedResult actual = new EncryptWindowMergedResult(createDecryptors(mockEncryptAlgorithm()), mergedResult, 2, Runnable::run);
+        assertTrue(actual.next());
+        actual.getValue(1, Object.class);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(2, long.class), is(10L));
+        assertThat(actual.getValue(2, String.class), is("10"));
+        assertThat(actual.getCalendarValue(2, Long.class, Calendar.getInstance()), is(10L));
+    }
+    
+    @Test
+    void assertGetInputStreamInWindow() throws SQLException, IOException {
+        EncryptWindowMergedResult actual = new EncryptWindowMergedResult(createDecryptors(mockEncryptAlgorithm()), mockMergedResult(3), 2, Runnable::run);
+        assertTrue(actual.next());
+        actual.getValue(1, Object.class);
+        assertTrue(actual.next());
+        try (InputStream inputStream = actual.getInputStream(2, "Ascii")) {
+            assertThat(readAll(new InputStreamReader(inputStream, StandardCharsets.US_ASCII)), is("bar_value_2"));
+        }
+        try (InputStream inputStream = actual.getInputStream(1, "Binary")) {
+            assertThat(readAll(new InputStreamReader(inputStream, StandardCharsets.UTF_8)), is("decrypted_foo_value_2"));
+        }
+        assertThrows(SQLException.class, () -> actual.getInputStream(2, "foo"));
+    }
+    
+    @Test
+    void assertGetCharacterStreamInWindow() throws SQLException, IOException {
+        EncryptWindowMergedResult actual = new EncryptWindowMergedResult(createDecryptors(mockEncryptAlgorithm()), mockMergedResult(3), 2, Runnable::run);
+        assertTrue(actual.next());
+        actual.getValue(1, Object.class);
+        assertTrue(actual.next());
+        try (Reader reader = actual.getCharacterStream(2)) {
+            assertThat(readAll(reader), is("bar_value_2"));
+        }
+    }
+    
+    @Test
+    void assertGetValueOutOfWindow() throws SQLException {
+        EncryptWindowMergedResult actual = new EncryptWindowMergedResult(createDecryptors(mockEncryptAlgorithm()), mockMergedResult(3), 2, Runnable::run);
+        assertTrue(actual.next());
+        actual.getValue(1, Object.class);
+        assertTrue(actual.next());
+        assertThrows(SQLFeatureNotSupportedException.class, () -> actual.getValue(3, Object.class));
+    }
+    
+    private String readAll(final Reader reader) throws IOException {
+        StringBuilder result = new StringBuilder();
+        char[] buffer = new char[64];
+        int length;
+        while (-1 != (length = reader.read(buffer))) {
+            result.append(buffer, 0, length);
+        }
+        return result.toString();
+    }
+    
+    private EncryptAlgorithm mockEncryptAlgorithm() {
+        EncryptAlgorithm result = mock(EncryptAlgorithm.class);
+        when(result.decrypt(any(), any())).thenAnswer(invocation -> "decrypted_" + invocation.getArgument(0));
+        when(result.batchDecrypt(any(), any())).thenAnswer(invocation -> invocation.<Collection<?>>getArgument(0).stream().map(each -> "decrypted_" + each).collect(Collectors.toList()));
+        return result;
+    }
+    
+    private EncryptColumnDecryptor[] createDecryptors(final EncryptAlgorithm encryptAlgorithm) {
+        EncryptColumn encryptColumn = new EncryptColumn("foo_col", new CipherColumnItem("foo_cipher_col", encryptAlgorithm));
+        return new EncryptColumnDecryptor[]{new EncryptColumnDecryptor("foo_db", "foo_schema", "foo_tbl", "foo_col", encryptColumn), null};
+    }
+    
+    private MergedResult mockMergedResult(final int rowCount) throws SQLException {
+        MergedResult result = mock(MergedResult.class);
+        AtomicInteger rowIndex = new AtomicInteger();
+        when(result.next()).thenAnswer(invocation -> rowIndex.incrementAndGet() <= rowCount);
+        when(result.getValue(anyInt(), any())).thenAnswer(invocation -> (1 == invocation.<Integer>getArgument(0) ? "foo_value_" : "bar_value_") + rowIndex.get());
+        return result;
+    }
+}
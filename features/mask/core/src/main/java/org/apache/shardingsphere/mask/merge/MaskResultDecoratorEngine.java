@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.merge.engine.decorator.ResultDecorator;
 import org.apache.shardingsphere.infra.merge.engine.decorator.ResultDecoratorEngine;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.mask.constant.MaskOrder;
 import org.apache.shardingsphere.mask.merge.dql.MaskDQLResultDecorator;
 import org.apache.shardingsphere.mask.rule.MaskRule;
@@ -37,7 +38,7 @@ public final class MaskResultDecoratorEngine implements ResultDecoratorEngine<Ma
     
     @Override
     public Optional<ResultDecorator<MaskRule>> newInstance(final ShardingSphereMetaData metaData, final ShardingSphereDatabase database, final ConfigurationProperties props,
-                                                           final SQLStatementContext sqlStatementContext) {
+                                                           final SQLStatementContext sqlStatementContext, final ConnectionContext connectionContext) {
         return sqlStatementContext instanceof SelectStatementContext
                 ? Optional.of(new MaskDQLResultDecorator(database, metaData, (SelectStatementContext) sqlStatementContext))
                 : Optional.empty();
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.readwritesplitting.route;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.readwritesplitting.route.lag.ReplicationLagReadwriteSplittingDataSourceRouter;
 import org.apache.shardingsphere.readwritesplitting.route.qualified.QualifiedReadwriteSplittingDataSourceRouter;
 import org.apache.shardingsphere.readwritesplitting.route.qualified.type.QualifiedReadwriteSplittingPrimaryDataSourceRouter;
 import org.apache.shardingsphere.readwritesplitting.route.qualified.type.QualifiedReadwriteSplittingTransactionalDataSourceRouter;
@@ -38,9 +39,17 @@ public final class ReadwriteSplittingDataSourceRouter {
     
     private final Collection<QualifiedReadwriteSplittingDataSourceRouter> qualifiedRouters;
     
+    private final ReplicationLagReadwriteSplittingDataSourceRouter replicationLagRouter;
+    
     public ReadwriteSplittingDataSourceRouter(final ReadwriteSplittingDataSourceGroupRule rule, final ConnectionContext connectionContext) {
+        this(rule, connectionContext, null);
+    }
+    
+    public ReadwriteSplittingDataSourceRouter(final ReadwriteSplittingDataSourceGroupRule rule, final ConnectionContext connectionContext,
+                                              final ReplicationLagReadwriteSplittingDataSourceRouter replicationLagRouter) {
         this.rule = rule;
         qualifiedRouters = Arrays.asList(new QualifiedReadwriteSplittingPrimaryDataSourceRouter(), new QualifiedReadwriteSplittingTransactionalDataSourceRouter(connectionContext));
+        this.replicationLagRouter = replicationLagRouter;
     }
     
     /**
@@ -53,9 +62,13 @@ public final class ReadwriteSplittingDataSourceRouter {
     public String route(final SQLStatementContext sqlStatementContext, final HintValueContext hintValueContext) {
         for (QualifiedReadwriteSplittingDataSourceRouter each : qualifiedRouters) {
             if (each.isQualified(sqlStatementContext, rule, hintValueContext)) {
-                return each.route(rule);
+                String result = each.route(rule);
+                if (null != replicationLagRouter && result.equals(rule.getWriteDataSource())) {
+                    replicationLagRouter.recordWrite(rule);
+                }
+                return result;
             }
         }
-        return new StandardReadwriteSplittingDataSourceRouter().route(rule);
+        return null == replicationLagRouter ? new StandardReadwriteSplittingDataSourceRouter().route(rule) : replicationLagRouter.route(rule);
     }
 }
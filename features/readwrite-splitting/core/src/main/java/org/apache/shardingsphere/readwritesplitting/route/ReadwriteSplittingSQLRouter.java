@@ -19,6 +19,7 @@ package org.apache.shardingsphere.readwritesplitting.route;
 
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
@@ -26,6 +27,7 @@ import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.route.lifecycle.DecorateSQLRouter;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.readwritesplitting.constant.ReadwriteSplittingOrder;
+import org.apache.shardingsphere.readwritesplitting.route.lag.ReplicationLagReadwriteSplittingDataSourceRouter;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingRule;
 
 import java.util.Collection;
@@ -42,12 +44,13 @@ public final class ReadwriteSplittingSQLRouter implements DecorateSQLRouter<Read
                                      final ReadwriteSplittingRule rule, final Collection<String> tableNames, final ConfigurationProperties props) {
         Collection<RouteUnit> toBeRemoved = new LinkedList<>();
         Collection<RouteUnit> toBeAdded = new LinkedList<>();
+        ReplicationLagReadwriteSplittingDataSourceRouter replicationLagRouter = createReplicationLagRouter(queryContext, database, rule, props);
         for (RouteUnit each : routeContext.getRouteUnits()) {
             String logicDataSourceName = each.getDataSourceMapper().getActualName();
             rule.findDataSourceGroupRule(logicDataSourceName).ifPresent(optional -> {
                 toBeRemoved.add(each);
-                String actualDataSourceName =
-                        new ReadwriteSplittingDataSourceRouter(optional, queryContext.getConnectionContext()).route(queryContext.getSqlStatementContext(), queryContext.getHintValueContext());
+                String actualDataSourceName = new ReadwriteSplittingDataSourceRouter(optional, queryContext.getConnectionContext(), replicationLagRouter)
+                        .route(queryContext.getSqlStatementContext(), queryContext.getHintValueContext());
                 toBeAdded.add(new RouteUnit(new RouteMapper(logicDataSourceName, actualDataSourceName), each.getTableMappers()));
             });
         }
@@ -55,6 +58,15 @@ public final class ReadwriteSplittingSQLRouter implements DecorateSQLRouter<Read
         routeContext.getRouteUnits().addAll(toBeAdded);
     }
     
+    private ReplicationLagReadwriteSplittingDataSourceRouter createReplicationLagRouter(final QueryContext queryContext, final ShardingSphereDatabase database,
+                                                                                        final ReadwriteSplittingRule rule, final ConfigurationProperties props) {
+        long maxReplicationLagMillis = props.getValue(ConfigurationPropertyKey.READWRITE_SPLITTING_MAX_REPLICATION_LAG_MILLISECONDS);
+        return maxReplicationLagMillis < 0L
+                ? null
+                : new ReplicationLagReadwriteSplittingDataSourceRouter(queryContext.getConnectionContext(), database.getResourceMetaData(), rule.getReplicationLagMonitor(),
+                        maxReplicationLagMillis, props.getValue(ConfigurationPropertyKey.READWRITE_SPLITTING_REPLICATION_LAG_PROBE_INTERVAL_MILLISECONDS));
+    }
+    
     @Override
     public Type getType() {
         return Type.DATA_SOURCE;
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.route.lag;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.readwritesplitting.route.lag.probe.ReplicationLagProbe;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Replication lag monitor.
+ * 
+ * <p>Replication lag of replica is probed asynchronously when it is required and the next probe time is reached,
+ * replication lag is unknown before the first probe finished, or if it is not probed for several probe intervals, or it is not supported by the storage type.
+ * Probes of replicas run one by one on a single thread owned by the monitor, the probe interval of replica is doubled after each consecutive failed probe up to a limit.</p>
+ */
+@Slf4j
+public final class ReplicationLagMonitor implements AutoCloseable {
+    
+    private static final int EXPIRED_PROBE_INTERVALS = 3;
+    
+    private static final int MAX_BACKOFF_SHIFT = 6;
+    
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor(ExecutorThreadFactoryBuilder.build("ReplicationLagProbe-%d"));
+    
+    private final Map<String, ReplicationLagHolder> holders = new ConcurrentHashMap<>();
+    
+    /**
+     * Get replication lag.
+     *
+     * @param dataSourceName data source name of replica
+     * @param storageUnit storage unit of replica
+     * @param probeIntervalMillis probe interval in milliseconds
+     * @return replication lag, empty if unknown
+     */
+    public Optional<ReplicationLag> getReplicationLag(final String dataSourceName, final StorageUnit storageUnit, final long probeIntervalMillis) {
+        ReplicationLagHolder holder = holders.computeIfAbsent(dataSourceName, key -> new ReplicationLagHolder());
+        ReplicationLag result = holder.replicationLag;
+        long currentMillis = System.currentTimeMillis();
+        if (currentMillis >= holder.nextProbeMillis && holder.probing.compareAndSet(false, true)) {
+            submitProbe(dataSourceName, storageUnit, probeIntervalMillis, holder);
+        }
+        return null == result || currentMillis - result.getProbedMillis() > probeIntervalMillis * EXPIRED_PROBE_INTERVALS ? Optional.empty() : Optional.of(result);
+    }
+    
+    private void submitProbe(final String dataSourceName, final StorageUnit storageUnit, final long probeIntervalMillis, final ReplicationLagHolder holder) {
+        try {
+            executorService.execute(() -> probe(dataSourceName, storageUnit, probeIntervalMillis, holder));
+        } catch (final RejectedExecutionException ignored) {
+            holder.probing.set(false);
+        }
+    }
+    
+    private void probe(final String dataSourceName, final StorageUnit storageUnit, final long probeIntervalMillis, final ReplicationLagHolder holder) {
+        try {
+            holder.replicationLag = probe(storageUnit).orElse(null);
+            holder.failureCount = 0;
+            holder.nextProbeMillis = System.currentTimeMillis() + probeIntervalMillis;
+        } catch (final SQLException ex) {
+            holder.replicationLag = null;
+            holder.failureCount++;
+            holder.nextProbeMillis = System.currentTimeMillis() + (probeIntervalMillis << Math.min(holder.failureCount, MAX_BACKOFF_SHIFT));
+            if (1 == holder.failureCount) {
+                log.warn("Probe replication lag of `{}` failed.", dataSourceName, ex);
+            } else {
+                log.debug("Probe replication lag of `{}` failed {} times.", dataSourceName, holder.failureCount, ex);
+            }
+        } finally {
+            holder.probing.set(false);
+        }
+    }
+    
+    private Optional<ReplicationLag> probe(final StorageUnit storageUnit) throws SQLException {
+        Optional<ReplicationLagProbe> probe = DatabaseTypedSPILoader.findService(ReplicationLagProbe.class, storageUnit.getStorageType());
+        if (!probe.isPresent()) {
+            return Optional.empty();
+        }
+        long probedMillis = System.currentTimeMillis();
+        try (Connection connection = storageUnit.getDataSource().getConnection()) {
+            return probe.get().probe(connection).map(optional -> new ReplicationLag(optional, probedMillis));
+        }
+    }
+    
+    @Override
+    public void close() {
+        executorService.shutdownNow();
+    }
+    
+    private static final class ReplicationLagHolder {
+        
+        private final AtomicBoolean probing = new AtomicBoolean();
+        
+        private volatile ReplicationLag replicationLag;
+        
+        private volatile long nextProbeMillis;
+        
+        private volatile int failureCount;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.route.lag;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.readwritesplitting.route.standard.filter.type.DisabledReadDataSourcesFilter;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Replication lag aware data source router for readwrite-splitting.
+ * 
+ * <p>Reads are routed to replicas whose replication lag is not greater than the max replication lag,
+ * and which have applied the last write of the session to the data source group, or routed to primary if there is no such replica.
+ * The time of write is taken when the session leaves the transaction of write, which is not earlier than the commit of write.</p>
+ */
+@RequiredArgsConstructor
+public final class ReplicationLagReadwriteSplittingDataSourceRouter {
+    
+    private final ConnectionContext connectionContext;
+    
+    private final ResourceMetaData resourceMetaData;
+    
+    private final ReplicationLagMonitor replicationLagMonitor;
+    
+    private final long maxReplicationLagMillis;
+    
+    private final long probeIntervalMillis;
+    
+    /**
+     * Record write of session, the write is taken as committed when the next statement of session is routed out of transaction.
+     *
+     * @param rule readwrite-splitting data source group rule
+     */
+    public void recordWrite(final ReadwriteSplittingDataSourceGroupRule rule) {
+        connectionContext.getReadwriteSplittingUncommittedWriteGroups().add(rule.getName());
+    }
+    
+    /**
+     * Route to data source.
+     *
+     * @param rule readwrite-splitting data source group rule
+     * @return routed data source name
+     */
+    public String route(final ReadwriteSplittingDataSourceGroupRule rule) {
+        Long lastWriteMillis = getLastWriteMillis(rule);
+        List<String> readDataSources = new LinkedList<>();
+        for (String each : new DisabledReadDataSourcesFilter().filter(rule, rule.getReadwriteSplittingGroup().getReadDataSources())) {
+            if (isReadable(each, lastWriteMillis)) {
+                readDataSources.add(each);
+            }
+        }
+        return readDataSources.isEmpty() ? rule.getWriteDataSource() : rule.getLoadBalancer().getTargetName(rule.getName(), readDataSources);
+    }
+    
+    private Long getLastWriteMillis(final ReadwriteSplittingDataSourceGroupRule rule) {
+        if (connectionContext.getReadwriteSplittingUncommittedWriteGroups().contains(rule.getName())) {
+            if (connectionContext.getTransactionContext().isInTransaction()) {
+                return Long.MAX_VALUE;
+            }
+            connectionContext.getReadwriteSplittingUncommittedWriteGroups().remove(rule.getName());
+            connectionContext.getReadwriteSplittingLastWriteMillis().put(rule.getName(), System.currentTimeMillis());
+        }
+        return connectionContext.getReadwriteSplittingLastWriteMillis().get(rule.getName());
+    }
+    
+    private boolean isReadable(final String readDataSource, final Long lastWriteMillis) {
+        StorageUnit storageUnit = resourceMetaData.getStorageUnits().get(readDataSource);
+        if (null == storageUnit) {
+            return false;
+        }
+        Optional<ReplicationLag> replicationLag = replicationLagMonitor.getReplicationLag(readDataSource, storageUnit, probeIntervalMillis);
+        return replicationLag.isPresent() && replicationLag.get().getLagMillis() <= maxReplicationLagMillis && (null == lastWriteMillis || replicationLag.get().isApplied(lastWriteMillis));
+    }
+}
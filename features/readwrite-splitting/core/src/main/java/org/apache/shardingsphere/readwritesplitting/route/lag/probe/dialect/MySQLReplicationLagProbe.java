@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.route.lag.probe.dialect;
+
+import org.apache.shardingsphere.readwritesplitting.route.lag.probe.ReplicationLagProbe;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replication lag probe for MySQL.
+ * 
+ * <p>{@code SHOW REPLICA STATUS} is used since MySQL 8.0.22, {@code SHOW SLAVE STATUS} is used for earlier versions and MariaDB.
+ * The lag is reported in whole seconds, so the upper bound of the reported second is returned, lag under one second is never taken as zero.</p>
+ */
+public final class MySQLReplicationLagProbe implements ReplicationLagProbe {
+    
+    private static final String SHOW_REPLICA_STATUS = "SHOW REPLICA STATUS";
+    
+    private static final String SHOW_SLAVE_STATUS = "SHOW SLAVE STATUS";
+    
+    private static final String SECONDS_BEHIND_SOURCE = "Seconds_Behind_Source";
+    
+    private static final String SECONDS_BEHIND_MASTER = "Seconds_Behind_Master";
+    
+    private static final int REPLICA_STATUS_SUPPORTED_PATCH_VERSION = 22;
+    
+    @Override
+    public Optional<Long> probe(final Connection connection) throws SQLException {
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(isReplicaStatusSupported(connection.getMetaData()) ? SHOW_REPLICA_STATUS : SHOW_SLAVE_STATUS)) {
+            if (!resultSet.next()) {
+                return Optional.empty();
+            }
+            long result = resultSet.getLong(getSecondsBehindColumnLabel(resultSet.getMetaData()));
+            return resultSet.wasNull() ? Optional.empty() : Optional.of(TimeUnit.SECONDS.toMillis(result + 1L) - 1L);
+        }
+    }
+    
+    private boolean isReplicaStatusSupported(final DatabaseMetaData databaseMetaData) throws SQLException {
+        String productVersion = databaseMetaData.getDatabaseProductVersion();
+        if (null == productVersion || productVersion.contains("MariaDB")) {
+            return false;
+        }
+        int majorVersion = databaseMetaData.getDatabaseMajorVersion();
+        if (8 != majorVersion) {
+            return majorVersion > 8;
+        }
+        int minorVersion = databaseMetaData.getDatabaseMinorVersion();
+        return 0 != minorVersion || getPatchVersion(productVersion) >= REPLICA_STATUS_SUPPORTED_PATCH_VERSION;
+    }
+    
+    private int getPatchVersion(final String productVersion) {
+        String[] versions = productVersion.split("\\.", 3);
+        if (versions.length < 3) {
+            return 0;
+        }
+        int result = 0;
+        for (char each : versions[2].toCharArray()) {
+            if (!Character.isDigit(each)) {
+                break;
+            }
+            result = result * 10 + each - '0';
+        }
+        return result;
+    }
+    
+    private String getSecondsBehindColumnLabel(final ResultSetMetaData metaData) throws SQLException {
+        for (int columnIndex = 1; columnIndex <= metaData.getColumnCount(); columnIndex++) {
+            if (SECONDS_BEHIND_SOURCE.equalsIgnoreCase(metaData.getColumnLabel(columnIndex))) {
+                return SECONDS_BEHIND_SOURCE;
+            }
+        }
+        return SECONDS_BEHIND_MASTER;
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "MySQL";
+    }
+}
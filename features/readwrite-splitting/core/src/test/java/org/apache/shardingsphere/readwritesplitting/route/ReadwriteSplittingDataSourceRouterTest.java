@@ -22,6 +22,7 @@ import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementCont
 import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.readwritesplitting.route.lag.ReplicationLagReadwriteSplittingDataSourceRouter;
 import org.apache.shardingsphere.readwritesplitting.route.qualified.QualifiedReadwriteSplittingDataSourceRouter;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
 import org.apache.shardingsphere.test.infra.framework.mock.AutoMockExtension;
@@ -38,6 +39,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(AutoMockExtension.class)
@@ -73,6 +75,28 @@ class ReadwriteSplittingDataSourceRouterTest {
         assertThat(router.route(sqlStatementContext, hintValueContext), is("standard_ds"));
     }
     
+    @Test
+    void assertRouteWriteWithReplicationLagRouter() {
+        when(rule.getWriteDataSource()).thenReturn("write_ds");
+        ReplicationLagReadwriteSplittingDataSourceRouter replicationLagRouter = mock(ReplicationLagReadwriteSplittingDataSourceRouter.class);
+        ReadwriteSplittingDataSourceRouter router = new ReadwriteSplittingDataSourceRouter(rule, mock(ConnectionContext.class), replicationLagRouter);
+        QualifiedReadwriteSplittingDataSourceRouter qualifiedRouter = mock(QualifiedReadwriteSplittingDataSourceRouter.class);
+        when(qualifiedRouter.isQualified(sqlStatementContext, rule, hintValueContext)).thenReturn(true);
+        when(qualifiedRouter.route(rule)).thenReturn("write_ds");
+        setQualifiedRouters(router, qualifiedRouter);
+        assertThat(router.route(sqlStatementContext, hintValueContext), is("write_ds"));
+        verify(replicationLagRouter).recordWrite(rule);
+    }
+    
+    @Test
+    void assertRouteReadWithReplicationLagRouter() {
+        ReplicationLagReadwriteSplittingDataSourceRouter replicationLagRouter = mock(ReplicationLagReadwriteSplittingDataSourceRouter.class);
+        when(replicationLagRouter.route(rule)).thenReturn("read_ds");
+        ReadwriteSplittingDataSourceRouter router = new ReadwriteSplittingDataSourceRouter(rule, mock(ConnectionContext.class), replicationLagRouter);
+        setQualifiedRouters(router, mock(QualifiedReadwriteSplittingDataSourceRouter.class));
+        assertThat(router.route(sqlStatementContext, hintValueContext), is("read_ds"));
+    }
+    
     @SneakyThrows(ReflectiveOperationException.class)
     private void setQualifiedRouters(final ReadwriteSplittingDataSourceRouter router, final QualifiedReadwriteSplittingDataSourceRouter qualifiedRouter) {
         Plugins.getMemberAccessor().set(ReadwriteSplittingDataSourceRouter.class.getDeclaredField("qualifiedRouters"), router, Collections.singleton(qualifiedRouter));
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.route.lag;
+
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.session.connection.transaction.TransactionManager;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReplicationLagReadwriteSplittingDataSourceRouterTest {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ReadwriteSplittingDataSourceGroupRule rule;
+    
+    @Mock
+    private ResourceMetaData resourceMetaData;
+    
+    @Mock
+    private ReplicationLagMonitor replicationLagMonitor;
+    
+    private final ConnectionContext connectionContext = new ConnectionContext(Collections::emptyList);
+    
+    private ReplicationLagReadwriteSplittingDataSourceRouter router;
+    
+    @BeforeEach
+    void setUp() {
+        when(rule.getName()).thenReturn("readwrite_ds");
+        when(rule.getWriteDataSource()).thenReturn("write_ds");
+        when(rule.getReadwriteSplittingGroup().getReadDataSources()).thenReturn(Arrays.asList("read_ds_0", "read_ds_1"));
+        when(rule.getLoadBalancer().getTargetName(eq("readwrite_ds"), eq(Collections.singletonList("read_ds_1")))).thenReturn("read_ds_1");
+        Map<String, StorageUnit> storageUnits = new HashMap<>(2, 1F);
+        storageUnits.put("read_ds_0", mock(StorageUnit.class));
+        storageUnits.put("read_ds_1", mock(StorageUnit.class));
+        when(resourceMetaData.getStorageUnits()).thenReturn(storageUnits);
+        router = new ReplicationLagReadwriteSplittingDataSourceRouter(connectionContext, resourceMetaData, replicationLagMonitor, 100L, 1000L);
+    }
+    
+    @Test
+    void assertRouteToReplicaWithinMaxReplicationLag() {
+        long currentMillis = System.currentTimeMillis();
+        when(replicationLagMonitor.getReplicationLag(eq("read_ds_0"), any(StorageUnit.class), anyLong())).thenReturn(Optional.of(new ReplicationLag(200L, currentMillis)));
+        when(replicationLagMonitor.getReplicationLag(eq("read_ds_1"), any(StorageUnit.class), anyLong())).thenReturn(Optional.of(new ReplicationLag(50L, currentMillis)));
+        assertThat(router.route(rule), is("read_ds_1"));
+    }
+    
+    @Test
+    void assertRouteToPrimaryWithUnknownReplicationLag() {
+        when(replicationLagMonitor.getReplicationLag(eq("read_ds_0"), any(StorageUnit.class), anyLong())).thenReturn(Optional.empty());
+        when(replicationLagMonitor.getReplicationLag(eq("read_ds_1"), any(StorageUnit.class), anyLong())).thenReturn(Optional.empty());
+        assertThat(router.route(rule), is("write_ds"));
+    }
+    
+    @Test
+    void assertRouteAfterCommittedWrite() {
+        long beforeWriteMillis = System.currentTimeMillis();
+        router.recordWrite(rule);
+        when(replicationLagMonitor.getReplicationLag(eq("read_ds_0"), any(StorageUnit.class), anyLong())).thenReturn(Optional.of(new ReplicationLag(10L, beforeWriteMillis)));
+        when(replicationLagMonitor.getReplicationLag(eq("read_ds_1"), any(StorageUnit.class), anyLong())).thenReturn(Optional.of(new ReplicationLag(10L, beforeWriteMillis + 60000L)));
+        assertThat(router.route(rule), is("read_ds_1"));
+        assertTrue(connectionContext.getReadwriteSplittingUncommittedWriteGroups().isEmpty());
+        assertTrue(connectionContext.getReadwriteSplittingLastWriteMillis().get("readwrite_ds") >= beforeWriteMillis);
+    }
+    
+    @Test
+    void assertRouteToPrimaryWithUncommittedWriteInTransaction() {
+        connectionContext.getTransactionContext().beginTransaction("LOCAL", mock(TransactionManager.class));
+        router.recordWrite(rule);
+        long currentMillis = System.currentTimeMillis();
+        when(replicationLagMonitor.getReplicationLag(eq("read_ds_0"), any(StorageUnit.class), anyLong())).thenReturn(Optional.of(new ReplicationLag(10L, currentMillis + 60000L)));
+        when(replicationLagMonitor.getReplicationLag(eq("read_ds_1"), any(StorageUnit.class), anyLong())).thenReturn(Optional.of(new ReplicationLag(10L, currentMillis + 60000L)));
+        assertThat(router.route(rule), is("write_ds"));
+        assertTrue(connectionContext.getReadwriteSplittingUncommittedWriteGroups().contains("readwrite_ds"));
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.route.lag.probe.dialect;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class MySQLReplicationLagProbeTest {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private Connection connection;
+    
+    @Test
+    void assertProbeWithReplicaStatus() throws SQLException {
+        mockDatabaseVersion("8.0.22", 8, 0);
+        ResultSet resultSet = mockReplicaStatus("Seconds_Behind_Source");
+        when(resultSet.getLong("Seconds_Behind_Source")).thenReturn(2L);
+        when(connection.createStatement().executeQuery("SHOW REPLICA STATUS")).thenReturn(resultSet);
+        assertThat(new MySQLReplicationLagProbe().probe(connection), is(Optional.of(2999L)));
+    }
+    
+    @Test
+    void assertProbeWithSlaveStatusBeforeMySQL8022() throws SQLException {
+        mockDatabaseVersion("8.0.21-log", 8, 0);
+        ResultSet resultSet = mockReplicaStatus("Seconds_Behind_Master");
+        when(resultSet.getLong("Seconds_Behind_Master")).thenReturn(0L);
+        when(connection.createStatement().executeQuery("SHOW SLAVE STATUS")).thenReturn(resultSet);
+        assertThat(new MySQLReplicationLagProbe().probe(connection), is(Optional.of(999L)));
+    }
+    
+    @Test
+    void assertProbeWithSlaveStatusForMySQL57() throws SQLException {
+        mockDatabaseVersion("5.7.44", 5, 7);
+        ResultSet resultSet = mockReplicaStatus("Seconds_Behind_Master");
+        when(resultSet.getLong("Seconds_Behind_Master")).thenReturn(1L);
+        when(connection.createStatement().executeQuery("SHOW SLAVE STATUS")).thenReturn(resultSet);
+        assertThat(new MySQLReplicationLagProbe().probe(connection), is(Optional.of(1999L)));
+    }
+    
+    @Test
+    void assertProbeWithReplicationStopped() throws SQLException {
+        mockDatabaseVersion("8.4.0", 8, 4);
+        ResultSet resultSet = mockReplicaStatus("Seconds_Behind_Source");
+        when(resultSet.wasNull()).thenReturn(true);
+        when(connection.createStatement().executeQuery("SHOW REPLICA STATUS")).thenReturn(resultSet);
+        assertThat(new MySQLReplicationLagProbe().probe(connection), is(Optional.empty()));
+    }
+    
+    @Test
+    void assertProbeWithoutReplication() throws SQLException {
+        mockDatabaseVersion("8.4.0", 8, 4);
+        when(connection.createStatement().executeQuery("SHOW REPLICA STATUS")).thenReturn(mock(ResultSet.class));
+        assertThat(new MySQLReplicationLagProbe().probe(connection), is(Optional.empty()));
+    }
+    
+    private void mockDatabaseVersion(final String productVersion, final int majorVersion, final int minorVersion) throws SQLException {
+        when(connection.getMetaData().getDatabaseProductVersion()).thenReturn(productVersion);
+        when(connection.getMetaData().getDatabaseMajorVersion()).thenReturn(majorVersion);
+        when(connection.getMetaData().getDatabaseMinorVersion()).thenReturn(minorVersion);
+    }
+    
+    private ResultSet mockReplicaStatus(final String secondsBehindColumnLabel) throws SQLException {
+        ResultSet result = mock(ResultSet.class, RETURNS_DEEP_STUBS);
+        when(result.next()).thenReturn(true);
+        when(result.getMetaData().getColumnCount()).thenReturn(1);
+        when(result.getMetaData().getColumnLabel(1)).thenReturn(secondsBehindColumnLabel);
+        return result;
+    }
+}
@@ -17,8 +17,12 @@
 
 package org.apache.shardingsphere.sharding.algorithm.sharding.datetime;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.collect.BoundType;
 import com.google.common.collect.Range;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
@@ -30,6 +34,7 @@ import org.apache.shardingsphere.sharding.api.sharding.standard.StandardSharding
 import org.apache.shardingsphere.sharding.exception.data.InvalidDatetimeFormatException;
 import org.apache.shardingsphere.sharding.exception.data.NullShardingValueException;
 
+import java.time.DateTimeException;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -38,12 +43,24 @@ import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAccessor;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
 import java.util.Properties;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 /**
  * Interval sharding algorithm.
+ * 
+ * <p>Intervals from datetime lower to datetime upper and their table suffixes are computed once when initialized,
+ * and target names are indexed by suffix for each collection of available target names,
+ * so range sharding only visits intervals which may intersect the range and never scans all target names.</p>
  */
 public final class IntervalShardingAlgorithm implements StandardShardingAlgorithm<Comparable<?>> {
     
@@ -59,6 +76,10 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     
     private static final String INTERVAL_UNIT_KEY = "datetime-interval-unit";
     
+    private static final int MAX_INDEXED_INTERVAL_COUNT = 100000;
+    
+    private final Cache<Collection<String>, TargetNameIndex> targetNameIndexes = Caffeine.newBuilder().weakKeys().build();
+    
     private String dateTimePatternString;
     
     private DateTimeFormatter dateTimeFormatter;
@@ -75,6 +96,10 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     
     private ChronoUnit stepUnit;
     
+    private NavigableMap<Comparable<?>, Interval> intervals;
+    
+    private Collection<Integer> suffixLengths;
+    
     @Override
     public void init(final Properties props) {
         dateTimePatternString = getDateTimePattern(props);
@@ -85,6 +110,8 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         tableSuffixPattern = getTableSuffixPattern(props);
         stepAmount = Integer.parseInt(props.getOrDefault(INTERVAL_AMOUNT_KEY, 1).toString());
         stepUnit = props.containsKey(INTERVAL_UNIT_KEY) ? getStepUnit(props.getProperty(INTERVAL_UNIT_KEY)) : ChronoUnit.DAYS;
+        intervals = createIntervals();
+        suffixLengths = null == intervals ? Collections.emptyList() : intervals.values().stream().map(each -> each.getSuffix().length()).collect(Collectors.toCollection(TreeSet::new));
     }
     
     private String getDateTimePattern(final Properties props) {
@@ -124,6 +151,39 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         throw new UnsupportedSQLOperationException(String.format("Cannot find step unit for specified %s property: `%s`", INTERVAL_UNIT_KEY, stepUnit));
     }
     
+    /*
+     * Intervals are not indexed if there are too many of them, the datetime wraps around or the suffix can not be formatted,
+     * in which case matched tables are found interval by interval as before.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private <T extends TemporalAccessor & Comparable<?>> NavigableMap<Comparable<?>, Interval> createIntervals() {
+        NavigableMap<Comparable<?>, Interval> result = new TreeMap<>();
+        TemporalHandler<T> temporalHandler = TemporalHandlerFactory.newInstance(dateTimeLower);
+        T dateTimeUpper = temporalHandler.convertTo(this.dateTimeUpper);
+        T calculateTimeAsView = temporalHandler.convertTo(dateTimeLower);
+        while (!temporalHandler.isAfter(calculateTimeAsView, dateTimeUpper, stepAmount)) {
+            T nextCalculateTimeAsView = temporalHandler.add(calculateTimeAsView, stepAmount, stepUnit);
+            if (result.size() >= MAX_INDEXED_INTERVAL_COUNT || ((Comparable) nextCalculateTimeAsView).compareTo(calculateTimeAsView) <= 0) {
+                return null;
+            }
+            Optional<String> suffix = formatSuffix(calculateTimeAsView);
+            if (!suffix.isPresent()) {
+                return null;
+            }
+            result.put(calculateTimeAsView, new Interval(Range.closedOpen(calculateTimeAsView, nextCalculateTimeAsView), suffix.get()));
+            calculateTimeAsView = nextCalculateTimeAsView;
+        }
+        return result;
+    }
+    
+    private Optional<String> formatSuffix(final TemporalAccessor calculateTimeAsView) {
+        try {
+            return Optional.of(tableSuffixPattern.format(calculateTimeAsView));
+        } catch (final DateTimeException ignored) {
+            return Optional.empty();
+        }
+    }
+    
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
         ShardingSpherePreconditions.checkNotNull(shardingValue.getValue(), NullShardingValueException::new);
@@ -136,15 +196,53 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         return getMatchedTables(availableTargetNames, shardingValue.getValueRange());
     }
     
+    private Collection<String> getMatchedTables(final Collection<String> availableTargetNames, final Range<Comparable<?>> range) {
+        return null == intervals ? getMatchedTablesByAllIntervals(availableTargetNames, range) : getMatchedTablesByIndexedIntervals(availableTargetNames, range);
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private <T extends TemporalAccessor & Comparable<?>> Collection<String> getMatchedTablesByIndexedIntervals(final Collection<String> availableTargetNames, final Range<Comparable<?>> range) {
+        Collection<String> result = new HashSet<>();
+        if (intervals.isEmpty()) {
+            return result;
+        }
+        TemporalHandler<T> temporalHandler = TemporalHandlerFactory.newInstance(dateTimeLower);
+        Range<T> dateTimeRange = createDateTimeRange(range, temporalHandler.convertTo(dateTimeLower), temporalHandler.convertTo(dateTimeUpper), temporalHandler);
+        Comparable<?> fromKey = intervals.floorKey(dateTimeRange.lowerEndpoint());
+        if (null == fromKey) {
+            fromKey = intervals.firstKey();
+        }
+        if (((Comparable) fromKey).compareTo(dateTimeRange.upperEndpoint()) > 0) {
+            return result;
+        }
+        TargetNameIndex targetNameIndex = getTargetNameIndex(availableTargetNames);
+        for (Interval each : intervals.subMap(fromKey, true, dateTimeRange.upperEndpoint(), true).values()) {
+            if (hasIntersection((Range<T>) each.getRange(), dateTimeRange)) {
+                result.addAll(targetNameIndex.getTargetNames(each.getSuffix()));
+            }
+        }
+        return result;
+    }
+    
+    private TargetNameIndex getTargetNameIndex(final Collection<String> availableTargetNames) {
+        TargetNameIndex result = targetNameIndexes.getIfPresent(availableTargetNames);
+        if (null == result || result.getTargetNameCount() != availableTargetNames.size()) {
+            result = new TargetNameIndex(availableTargetNames, intervals.values().stream().map(Interval::getSuffix).collect(Collectors.toSet()), suffixLengths);
+            targetNameIndexes.put(availableTargetNames, result);
+        }
+        return result;
+    }
+    
     @SuppressWarnings("unchecked")
-    private <T extends TemporalAccessor & Comparable<?>> Collection<String> getMatchedTables(final Collection<String> availableTargetNames, final Range<Comparable<?>> range) {
+    private <T extends TemporalAccessor & Comparable<?>> Collection<String> getMatchedTablesByAllIntervals(final Collection<String> availableTargetNames, final Range<Comparable<?>> range) {
         Collection<String> result = new HashSet<>();
         TemporalHandler<T> temporalHandler = TemporalHandlerFactory.newInstance(dateTimeLower);
         T dateTimeUpper = temporalHandler.convertTo(this.dateTimeUpper);
         T dateTimeLower = temporalHandler.convertTo(this.dateTimeLower);
         T calculateTimeAsView = temporalHandler.convertTo(this.dateTimeLower);
         while (!temporalHandler.isAfter(calculateTimeAsView, dateTimeUpper, stepAmount)) {
-            if (hasIntersection(Range.closedOpen(calculateTimeAsView, temporalHandler.add(calculateTimeAsView, stepAmount, stepUnit)), range, dateTimeLower, dateTimeUpper, temporalHandler)) {
+            if (hasIntersection(Range.closedOpen(calculateTimeAsView, temporalHandler.add(calculateTimeAsView, stepAmount, stepUnit)),
+                    createDateTimeRange(range, dateTimeLower, dateTimeUpper, temporalHandler))) {
                 result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames, temporalHandler));
             }
             calculateTimeAsView = temporalHandler.add(calculateTimeAsView, stepAmount, stepUnit);
@@ -157,13 +255,16 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffixPattern.format(temporalHandler.convertTo(calculateTimeAsView)))).collect(Collectors.toSet());
     }
     
-    private <T extends TemporalAccessor & Comparable<?>> boolean hasIntersection(final Range<T> calculateRange, final Range<Comparable<?>> range,
-                                                                                 final T temporalLower, final T temporalUpper, final TemporalHandler<T> temporalHandler) {
+    private <T extends TemporalAccessor & Comparable<?>> Range<T> createDateTimeRange(final Range<Comparable<?>> range, final T temporalLower, final T temporalUpper,
+                                                                                      final TemporalHandler<T> temporalHandler) {
         T lower = range.hasLowerBound() ? parseTemporal(range.lowerEndpoint(), temporalHandler) : temporalLower;
         T upper = range.hasUpperBound() ? parseTemporal(range.upperEndpoint(), temporalHandler) : temporalUpper;
         BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
         BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<T> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
+        return Range.range(lower, lowerBoundType, upper, upperBoundType);
+    }
+    
+    private <T extends TemporalAccessor & Comparable<?>> boolean hasIntersection(final Range<T> calculateRange, final Range<T> dateTimeRange) {
         return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
     }
     
@@ -206,4 +307,37 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     public String getType() {
         return "INTERVAL";
     }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class Interval {
+        
+        private final Range<?> range;
+        
+        private final String suffix;
+    }
+    
+    private static final class TargetNameIndex {
+        
+        @Getter
+        private final int targetNameCount;
+        
+        private final Map<String, Collection<String>> suffixToTargetNames = new HashMap<>();
+        
+        TargetNameIndex(final Collection<String> targetNames, final Collection<String> suffixes, final Collection<Integer> suffixLengths) {
+            targetNameCount = targetNames.size();
+            for (String each : targetNames) {
+                for (int suffixLength : suffixLengths) {
+                    String suffix = each.length() >= suffixLength ? each.substring(each.length() - suffixLength) : null;
+                    if (null != suffix && suffixes.contains(suffix)) {
+                        suffixToTargetNames.computeIfAbsent(suffix, key -> new LinkedList<>()).add(each);
+                    }
+                }
+            }
+        }
+        
+        Collection<String> getTargetNames(final String suffix) {
+            return suffixToTargetNames.getOrDefault(suffix, Collections.emptyList());
+        }
+    }
 }
@@ -21,6 +21,8 @@ import lombok.Getter;
 import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheConfiguration;
 import org.apache.shardingsphere.sharding.cache.checker.ShardingRouteCacheableChecker;
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCache;
+import org.apache.shardingsphere.sharding.cache.route.plan.ShardingRoutePlanCache;
+import org.apache.shardingsphere.sharding.cache.route.plan.ShardingRoutePlanCompiler;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.timeservice.core.rule.TimestampServiceRule;
 import org.apache.shardingsphere.timeservice.core.rule.builder.DefaultTimestampServiceConfigurationBuilder;
@@ -41,11 +43,17 @@ public final class ShardingCache {
     
     private final ShardingRouteCache routeCache;
     
+    private final ShardingRoutePlanCompiler routePlanCompiler;
+    
+    private final ShardingRoutePlanCache routePlanCache;
+    
     public ShardingCache(final ShardingCacheConfiguration config, final ShardingRule shardingRule) {
         configuration = config;
         this.shardingRule = shardingRule;
         timestampServiceRule = new TimestampServiceRule(new DefaultTimestampServiceConfigurationBuilder().build());
         routeCacheableChecker = new ShardingRouteCacheableChecker(this);
         routeCache = new ShardingRouteCache(config.getRouteCache());
+        routePlanCompiler = new ShardingRoutePlanCompiler(shardingRule);
+        routePlanCache = new ShardingRoutePlanCache(config.getRouteCache());
     }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sharding.cache.route;
 
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
@@ -26,6 +27,8 @@ import org.apache.shardingsphere.sharding.cache.ShardingCache;
 import org.apache.shardingsphere.sharding.cache.checker.ShardingRouteCacheableCheckResult;
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheKey;
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheValue;
+import org.apache.shardingsphere.sharding.cache.route.plan.ShardingRoutePlan;
+import org.apache.shardingsphere.sharding.cache.route.plan.ShardingRoutePlanCacheValue;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 
 import java.util.ArrayList;
@@ -66,15 +69,37 @@ public final class CachedShardingSQLRouter {
             }
             shardingConditionParams.add(queryContext.getParameters().get(each));
         }
+        boolean routePlanSupported = queryContext.getSqlStatementContext() instanceof SelectStatementContext;
+        Optional<ShardingRoutePlanCacheValue> cachedRoutePlan = routePlanSupported ? shardingCache.getRoutePlanCache().get(queryContext.getSql()) : Optional.empty();
+        if (routePlanSupported) {
+            Optional<RouteContext> plannedResult = cachedRoutePlan.flatMap(ShardingRoutePlanCacheValue::getRoutePlan).flatMap(optional -> routeByPlan(optional, queryContext, shardingCache, props));
+            if (plannedResult.isPresent()) {
+                return plannedResult;
+            }
+            shardingCache.getRoutePlanCache().recordMiss();
+        }
         Optional<RouteContext> cachedResult = shardingCache.getRouteCache().get(new ShardingRouteCacheKey(queryContext.getSql(), shardingConditionParams))
                 .flatMap(ShardingRouteCacheValue::getCachedRouteContext);
         RouteContext result = cachedResult.orElseGet(() -> originSQLRouter.createRouteContext(queryContext, globalRuleMetaData, database, shardingCache.getShardingRule(), tableNames, props));
         if (!cachedResult.isPresent() && hitOneShardOnly(result)) {
             shardingCache.getRouteCache().put(new ShardingRouteCacheKey(queryContext.getSql(), shardingConditionParams), new ShardingRouteCacheValue(result));
         }
+        if (routePlanSupported && !cachedRoutePlan.isPresent() && !cachedResult.isPresent()) {
+            Optional<ShardingRoutePlan> routePlan = shardingCache.getRoutePlanCompiler().compile(queryContext, globalRuleMetaData, database, tableNames, result, props);
+            shardingCache.getRoutePlanCache().put(queryContext.getSql(), new ShardingRoutePlanCacheValue(routePlan.orElse(null)));
+        }
         return Optional.of(result);
     }
     
+    private Optional<RouteContext> routeByPlan(final ShardingRoutePlan routePlan, final QueryContext queryContext, final ShardingCache shardingCache, final ConfigurationProperties props) {
+        long startNanos = System.nanoTime();
+        Optional<RouteContext> result = routePlan.route(queryContext.getParameters(), props);
+        if (result.isPresent()) {
+            shardingCache.getRoutePlanCache().recordHit(System.nanoTime() - startNanos);
+        }
+        return result;
+    }
+    
     private boolean hitOneShardOnly(final RouteContext routeContext) {
         return 1 == routeContext.getRouteUnits().size() && 1 == routeContext.getRouteUnits().iterator().next().getTableMappers().size()
                 && 1 == routeContext.getOriginalDataNodes().size() && 1 == routeContext.getOriginalDataNodes().iterator().next().size();
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.route.plan;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
+import org.apache.shardingsphere.sharding.rule.ShardingTable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Sharding route plan, which routes SQL with the sharding strategies of one logic table and the sharding values taken from parameter positions directly.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class ShardingRoutePlan {
+    
+    private final String logicTableName;
+    
+    private final ShardingTable shardingTable;
+    
+    private final ShardingStrategy databaseShardingStrategy;
+    
+    private final ShardingRoutePlanValue databaseShardingValue;
+    
+    private final ShardingStrategy tableShardingStrategy;
+    
+    private final ShardingRoutePlanValue tableShardingValue;
+    
+    /**
+     * Route to one data node.
+     * 
+     * <p>Strategy without sharding value routes to all available targets, the route is only accepted when exactly one data node is hit.</p>
+     *
+     * @param params SQL parameters
+     * @param props configuration properties
+     * @return route context, empty if parameters do not match the plan or not routed to exactly one data node
+     */
+    public Optional<RouteContext> route(final List<Object> params, final ConfigurationProperties props) {
+        Collection<String> dataSourceNames = route(databaseShardingStrategy, databaseShardingValue, shardingTable.getActualDataSourceNames(), shardingTable.getDataSourceDataNode(), params, props);
+        DataNode dataNode = null;
+        for (String each : dataSourceNames) {
+            Collection<String> tableNames = route(tableShardingStrategy, tableShardingValue, shardingTable.getActualTableNames(each), shardingTable.getTableDataNode(), params, props);
+            if (tableNames.isEmpty()) {
+                continue;
+            }
+            if (null != dataNode || 1 != tableNames.size()) {
+                return Optional.empty();
+            }
+            dataNode = new DataNode(each, tableNames.iterator().next());
+        }
+        return null == dataNode ? Optional.empty() : Optional.of(createRouteContext(dataNode));
+    }
+    
+    private RouteContext createRouteContext(final DataNode dataNode) {
+        RouteContext result = new RouteContext();
+        result.getOriginalDataNodes().add(Collections.singletonList(dataNode));
+        result.getRouteUnits().add(new RouteUnit(new RouteMapper(dataNode.getDataSourceName(), dataNode.getDataSourceName()),
+                Collections.singleton(new RouteMapper(logicTableName, dataNode.getTableName()))));
+        return result;
+    }
+    
+    private Collection<String> route(final ShardingStrategy shardingStrategy, final ShardingRoutePlanValue shardingValue, final Collection<String> availableTargetNames,
+                                     final DataNodeInfo dataNodeInfo, final List<Object> params, final ConfigurationProperties props) {
+        if (null == shardingValue) {
+            return availableTargetNames;
+        }
+        Comparable<?> value = shardingValue.getValue(params);
+        if (null == value) {
+            return Collections.emptyList();
+        }
+        return shardingStrategy.doSharding(availableTargetNames,
+                Collections.singletonList(new ListShardingConditionValue<>(shardingValue.getColumnName(), shardingValue.getTableName(), Collections.singletonList(value))), dataNodeInfo, props);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.route.plan;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache for sharding route plan.
+ * 
+ * <p>Route plans are keyed by SQL, so SQL executed with different sharding parameter values shares the same plan.
+ * The cache is held by sharding cache which is rebuilt with sharding rule, plans of old rule version are dropped as a whole when rule changed.
+ * SQL which can not be routed by plan is kept apart and expires after a while, so it never evicts compiled plans.</p>
+ */
+public final class ShardingRoutePlanCache {
+    
+    private static final long UNCOMPILABLE_EXPIRE_MINUTES = 5L;
+    
+    private final Cache<String, ShardingRoutePlanCacheValue> cache;
+    
+    private final Cache<String, ShardingRoutePlanCacheValue> uncompilableCache;
+    
+    private final LongAdder hitCount = new LongAdder();
+    
+    private final LongAdder missCount = new LongAdder();
+    
+    private final LongAdder routeNanos = new LongAdder();
+    
+    public ShardingRoutePlanCache(final ShardingCacheOptionsConfiguration cacheOptions) {
+        cache = buildRoutePlanCache(cacheOptions);
+        uncompilableCache = Caffeine.newBuilder().maximumSize(cacheOptions.getMaximumSize()).expireAfterWrite(UNCOMPILABLE_EXPIRE_MINUTES, TimeUnit.MINUTES).build();
+    }
+    
+    private Cache<String, ShardingRoutePlanCacheValue> buildRoutePlanCache(final ShardingCacheOptionsConfiguration cacheOptions) {
+        Caffeine<Object, Object> result = Caffeine.newBuilder().initialCapacity(cacheOptions.getInitialCapacity()).maximumSize(cacheOptions.getMaximumSize());
+        if (cacheOptions.isSoftValues()) {
+            result.softValues();
+        }
+        return result.build();
+    }
+    
+    /**
+     * Cache route plan.
+     *
+     * @param sql SQL
+     * @param value cache value
+     */
+    public void put(final String sql, final ShardingRoutePlanCacheValue value) {
+        if (value.getRoutePlan().isPresent()) {
+            cache.put(sql, value);
+        } else {
+            uncompilableCache.put(sql, value);
+        }
+    }
+    
+    /**
+     * Get cached route plan.
+     *
+     * @param sql SQL
+     * @return optional cached route plan, empty if SQL is not compiled yet
+     */
+    public Optional<ShardingRoutePlanCacheValue> get(final String sql) {
+        ShardingRoutePlanCacheValue result = cache.getIfPresent(sql);
+        return null == result ? Optional.ofNullable(uncompilableCache.getIfPresent(sql)) : Optional.of(result);
+    }
+    
+    /**
+     * Record route by plan.
+     *
+     * @param elapsedNanos elapsed nanoseconds of route
+     */
+    public void recordHit(final long elapsedNanos) {
+        hitCount.increment();
+        routeNanos.add(elapsedNanos);
+    }
+    
+    /**
+     * Record route without plan.
+     */
+    public void recordMiss() {
+        missCount.increment();
+    }
+    
+    /**
+     * Get count of routes by plan.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+    
+    /**
+     * Get count of routes without plan.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+    
+    /**
+     * Get total elapsed nanoseconds of routes by plan.
+     *
+     * @return total elapsed nanoseconds
+     */
+    public long getRouteNanos() {
+        return routeNanos.sum();
+    }
+}
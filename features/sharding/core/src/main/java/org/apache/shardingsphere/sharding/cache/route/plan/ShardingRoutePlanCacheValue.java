@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.route.plan;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+
+/**
+ * Value of sharding route plan cache.
+ */
+@RequiredArgsConstructor
+public final class ShardingRoutePlanCacheValue {
+    
+    private final ShardingRoutePlan routePlan;
+    
+    /**
+     * Get route plan.
+     *
+     * @return route plan, empty means the SQL can not be routed by plan
+     */
+    public Optional<ShardingRoutePlan> getRoutePlan() {
+        return Optional.ofNullable(routePlan);
+    }
+}
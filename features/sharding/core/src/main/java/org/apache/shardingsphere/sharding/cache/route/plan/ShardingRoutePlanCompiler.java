@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.route.plan;
+
+import com.cedarsoftware.util.CaseInsensitiveSet;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
+import org.apache.shardingsphere.sharding.route.engine.condition.engine.ShardingConditionEngine;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategyFactory;
+import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.type.standard.StandardShardingStrategy;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.ShardingTable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Sharding route plan compiler.
+ * 
+ * <p>Only single table select statements whose database and table sharding strategies are standard or none can be compiled,
+ * every sharding column must be compared with one parameter or literal by equality, and the compiled plan must route to the same data node as the origin route.</p>
+ */
+@RequiredArgsConstructor
+public final class ShardingRoutePlanCompiler {
+    
+    private final ShardingRule shardingRule;
+    
+    /**
+     * Compile route plan.
+     *
+     * @param queryContext query context
+     * @param globalRuleMetaData global rule meta data
+     * @param database database
+     * @param tableNames table names
+     * @param routeContext route context created by origin route
+     * @param props configuration properties
+     * @return compiled route plan, empty if not compilable
+     */
+    public Optional<ShardingRoutePlan> compile(final QueryContext queryContext, final RuleMetaData globalRuleMetaData, final ShardingSphereDatabase database,
+                                               final Collection<String> tableNames, final RouteContext routeContext, final ConfigurationProperties props) {
+        if (!isCompilableStatement(queryContext)) {
+            return Optional.empty();
+        }
+        Collection<String> logicTableNames = shardingRule.getShardingLogicTableNames(tableNames);
+        if (1 != logicTableNames.size()) {
+            return Optional.empty();
+        }
+        String logicTableName = logicTableNames.iterator().next();
+        ShardingTable shardingTable = shardingRule.getShardingTable(logicTableName);
+        ShardingStrategy databaseShardingStrategy = createShardingStrategy(shardingRule.getDatabaseShardingStrategyConfiguration(shardingTable));
+        ShardingStrategy tableShardingStrategy = createShardingStrategy(shardingRule.getTableShardingStrategyConfiguration(shardingTable));
+        if (!isCompilableShardingStrategy(databaseShardingStrategy) || !isCompilableShardingStrategy(tableShardingStrategy)) {
+            return Optional.empty();
+        }
+        List<ShardingCondition> shardingConditions = new ShardingConditionEngine(globalRuleMetaData, database, shardingRule)
+                .createShardingConditions(queryContext.getSqlStatementContext(), queryContext.getParameters());
+        if (1 != shardingConditions.size()) {
+            return Optional.empty();
+        }
+        List<Object> params = queryContext.getParameters();
+        Collection<ShardingConditionValue> databaseShardingConditionValues = findShardingConditionValues(logicTableName, databaseShardingStrategy, shardingConditions.get(0));
+        Collection<ShardingConditionValue> tableShardingConditionValues = findShardingConditionValues(logicTableName, tableShardingStrategy, shardingConditions.get(0));
+        if (!isCompilableShardingConditionValues(databaseShardingConditionValues, params) || !isCompilableShardingConditionValues(tableShardingConditionValues, params)) {
+            return Optional.empty();
+        }
+        ShardingRoutePlan result = new ShardingRoutePlan(logicTableName, shardingTable, databaseShardingStrategy, createShardingValue(databaseShardingConditionValues),
+                tableShardingStrategy, createShardingValue(tableShardingConditionValues));
+        return result.route(params, props).filter(optional -> isSameRoute(optional, routeContext)).map(optional -> result);
+    }
+    
+    private boolean isCompilableStatement(final QueryContext queryContext) {
+        if (!(queryContext.getSqlStatementContext() instanceof SelectStatementContext)) {
+            return false;
+        }
+        SelectStatementContext selectStatementContext = (SelectStatementContext) queryContext.getSqlStatementContext();
+        return !selectStatementContext.isContainsSubquery() && !selectStatementContext.isContainsJoinQuery() && !selectStatementContext.isContainsCombine();
+    }
+    
+    private ShardingStrategy createShardingStrategy(final ShardingStrategyConfiguration shardingStrategyConfig) {
+        return null == shardingStrategyConfig
+                ? new NoneShardingStrategy()
+                : ShardingStrategyFactory.newInstance(shardingStrategyConfig, shardingRule.getShardingAlgorithms().get(shardingStrategyConfig.getShardingAlgorithmName()),
+                        shardingRule.getDefaultShardingColumn());
+    }
+    
+    private boolean isCompilableShardingStrategy(final ShardingStrategy shardingStrategy) {
+        return shardingStrategy instanceof StandardShardingStrategy || shardingStrategy instanceof NoneShardingStrategy;
+    }
+    
+    private Collection<ShardingConditionValue> findShardingConditionValues(final String logicTableName, final ShardingStrategy shardingStrategy, final ShardingCondition shardingCondition) {
+        Collection<String> shardingColumns = new CaseInsensitiveSet<>(shardingStrategy.getShardingColumns());
+        Collection<ShardingConditionValue> result = new LinkedList<>();
+        for (ShardingConditionValue each : shardingCondition.getValues()) {
+            if (logicTableName.equalsIgnoreCase(each.getTableName()) && shardingColumns.contains(each.getColumnName())) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private boolean isCompilableShardingConditionValues(final Collection<ShardingConditionValue> shardingConditionValues, final List<Object> params) {
+        if (shardingConditionValues.isEmpty()) {
+            return true;
+        }
+        if (1 != shardingConditionValues.size()) {
+            return false;
+        }
+        ShardingConditionValue shardingConditionValue = shardingConditionValues.iterator().next();
+        if (!(shardingConditionValue instanceof ListShardingConditionValue) || 1 != ((ListShardingConditionValue<?>) shardingConditionValue).getValues().size()) {
+            return false;
+        }
+        Object value = ((ListShardingConditionValue<?>) shardingConditionValue).getValues().iterator().next();
+        List<Integer> parameterMarkerIndexes = shardingConditionValue.getParameterMarkerIndexes();
+        if (!(value instanceof Comparable) || parameterMarkerIndexes.size() > 1) {
+            return false;
+        }
+        return parameterMarkerIndexes.isEmpty() || parameterMarkerIndexes.get(0) < params.size() && Objects.equals(value, params.get(parameterMarkerIndexes.get(0)));
+    }
+    
+    private ShardingRoutePlanValue createShardingValue(final Collection<ShardingConditionValue> shardingConditionValues) {
+        if (shardingConditionValues.isEmpty()) {
+            return null;
+        }
+        ShardingConditionValue shardingConditionValue = shardingConditionValues.iterator().next();
+        Comparable<?> value = (Comparable<?>) ((ListShardingConditionValue<?>) shardingConditionValue).getValues().iterator().next();
+        List<Integer> parameterMarkerIndexes = shardingConditionValue.getParameterMarkerIndexes();
+        return parameterMarkerIndexes.isEmpty()
+                ? new ShardingRoutePlanValue(shardingConditionValue.getTableName(), shardingConditionValue.getColumnName(), -1, value, value.getClass())
+                : new ShardingRoutePlanValue(shardingConditionValue.getTableName(), shardingConditionValue.getColumnName(), parameterMarkerIndexes.get(0), null, value.getClass());
+    }
+    
+    private boolean isSameRoute(final RouteContext planRouteContext, final RouteContext routeContext) {
+        return getRouteUnits(planRouteContext).equals(getRouteUnits(routeContext)) && getOriginalDataNodes(planRouteContext).equals(getOriginalDataNodes(routeContext));
+    }
+    
+    private List<RouteUnit> getRouteUnits(final RouteContext routeContext) {
+        List<RouteUnit> result = new ArrayList<>(routeContext.getRouteUnits().size());
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            result.add(new RouteUnit(each.getDataSourceMapper(), new ArrayList<>(each.getTableMappers())));
+        }
+        return result;
+    }
+    
+    private List<List<DataNode>> getOriginalDataNodes(final RouteContext routeContext) {
+        List<List<DataNode>> result = new ArrayList<>(routeContext.getOriginalDataNodes().size());
+        for (Collection<DataNode> each : routeContext.getOriginalDataNodes()) {
+            result.add(new ArrayList<>(each));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.route.plan;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Sharding value of route plan, which is either taken from parameter or fixed by literal.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class ShardingRoutePlanValue {
+    
+    private final String tableName;
+    
+    private final String columnName;
+    
+    private final int parameterMarkerIndex;
+    
+    private final Comparable<?> literalValue;
+    
+    private final Class<?> valueType;
+    
+    /**
+     * Get sharding value.
+     *
+     * @param params SQL parameters
+     * @return sharding value, null if the parameter does not match the type of compiled plan
+     */
+    public Comparable<?> getValue(final List<Object> params) {
+        if (parameterMarkerIndex < 0) {
+            return literalValue;
+        }
+        if (parameterMarkerIndex >= params.size()) {
+            return null;
+        }
+        Object result = params.get(parameterMarkerIndex);
+        return null != result && valueType == result.getClass() ? (Comparable<?>) result : null;
+    }
+}
@@ -23,19 +23,27 @@ import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.Ord
 import org.apache.shardingsphere.infra.binder.context.segment.select.pagination.PaginationContext;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.metadata.database.metadata.DialectDatabaseMetaData;
 import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.spill.BinaryRowCodec;
 import org.apache.shardingsphere.infra.merge.engine.merger.ResultMerger;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.stream.IteratorStreamMergedResult;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByHashMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByMemoryMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByPartialAggregationMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByStreamMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.hash.accumulator.GroupByAccumulatorFactory;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByLoserTreeMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.pagination.builder.PaginationDecoratorMergedResultBuilder;
 import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
@@ -46,6 +54,7 @@ import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Properties;
 
 /**
  * DQL result merger for Sharding.
@@ -53,8 +62,16 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public final class ShardingDQLResultMerger implements ResultMerger {
     
+    private static final int LOSER_TREE_ORDER_BY_MERGE_THRESHOLD = 16;
+    
     private final DatabaseType protocolType;
     
+    private final ConfigurationProperties props;
+    
+    public ShardingDQLResultMerger(final DatabaseType protocolType) {
+        this(protocolType, new ConfigurationProperties(new Properties()));
+    }
+    
     @Override
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext sqlStatementContext,
                               final ShardingSphereDatabase database, final ConnectionContext connectionContext) throws SQLException {
@@ -64,7 +81,7 @@ public final class ShardingDQLResultMerger implements ResultMerger {
         Map<String, Integer> columnLabelIndexMap = getColumnLabelIndexMap(queryResults.get(0));
         SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
         selectStatementContext.setIndexes(columnLabelIndexMap);
-        MergedResult mergedResult = build(queryResults, selectStatementContext, columnLabelIndexMap, database);
+        MergedResult mergedResult = build(queryResults, selectStatementContext, columnLabelIndexMap, database, connectionContext);
         return decorate(queryResults, selectStatementContext, mergedResult);
     }
     
@@ -80,20 +97,22 @@ public final class ShardingDQLResultMerger implements ResultMerger {
         return result;
     }
     
-    private MergedResult build(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
-                               final Map<String, Integer> columnLabelIndexMap, final ShardingSphereDatabase database) throws SQLException {
+    private MergedResult build(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final Map<String, Integer> columnLabelIndexMap,
+                               final ShardingSphereDatabase database, final ConnectionContext connectionContext) throws SQLException {
         String defaultSchemaName = new DatabaseTypeRegistry(selectStatementContext.getSqlStatement().getDatabaseType()).getDefaultSchemaName(database.getName());
         ShardingSphereSchema schema = selectStatementContext.getTablesContext().getSchemaName()
                 .map(database::getSchema).orElseGet(() -> database.getSchema(defaultSchemaName));
         if (isNeedProcessGroupBy(selectStatementContext)) {
-            return getGroupByMergedResult(queryResults, selectStatementContext, columnLabelIndexMap, schema);
+            return getGroupByMergedResult(queryResults, selectStatementContext, columnLabelIndexMap, schema, connectionContext);
         }
         if (isNeedProcessDistinctRow(selectStatementContext)) {
             setGroupByForDistinctRow(selectStatementContext);
-            return getGroupByMergedResult(queryResults, selectStatementContext, columnLabelIndexMap, schema);
+            return getGroupByMergedResult(queryResults, selectStatementContext, columnLabelIndexMap, schema, connectionContext);
         }
         if (isNeedProcessOrderBy(selectStatementContext)) {
-            return new OrderByStreamMergedResult(queryResults, selectStatementContext, schema);
+            return queryResults.size() >= LOSER_TREE_ORDER_BY_MERGE_THRESHOLD
+                    ? new OrderByLoserTreeMergedResult(queryResults, selectStatementContext, schema)
+                    : new OrderByStreamMergedResult(queryResults, selectStatementContext, schema);
         }
         return new IteratorStreamMergedResult(queryResults);
     }
@@ -115,11 +134,34 @@ public final class ShardingDQLResultMerger implements ResultMerger {
         }
     }
     
-    private MergedResult getGroupByMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
-                                                final Map<String, Integer> columnLabelIndexMap, final ShardingSphereSchema schema) throws SQLException {
-        return selectStatementContext.isSameGroupByAndOrderByItems()
-                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema)
-                : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema);
+    private MergedResult getGroupByMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final Map<String, Integer> columnLabelIndexMap,
+                                                final ShardingSphereSchema schema, final ConnectionContext connectionContext) throws SQLException {
+        if (selectStatementContext.isSameGroupByAndOrderByItems()) {
+            return new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema);
+        }
+        boolean encodable = isEncodable(queryResults.get(0).getMetaData());
+        long groupByMergeMemoryLimit = props.<Long>getValue(ConfigurationPropertyKey.GROUP_BY_MERGE_MEMORY_LIMIT);
+        if (groupByMergeMemoryLimit > 0L && encodable) {
+            return new GroupByHashMergedResult(queryResults, selectStatementContext, schema, groupByMergeMemoryLimit);
+        }
+        if (encodable && isNeedPartialAggregation(queryResults, selectStatementContext)) {
+            return new GroupByPartialAggregationMergedResult(queryResults, selectStatementContext, schema, connectionContext.getMergeExecutor().orElse(Runnable::run));
+        }
+        return new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema);
+    }
+    
+    private boolean isEncodable(final QueryResultMetaData metaData) throws SQLException {
+        for (int columnIndex = 1; columnIndex <= metaData.getColumnCount(); columnIndex++) {
+            if (!BinaryRowCodec.isEncodable(metaData.getColumnType(columnIndex))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isNeedPartialAggregation(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext) {
+        return queryResults.size() > 1 && props.<Boolean>getValue(ConfigurationPropertyKey.GROUP_BY_MERGE_PARTIAL_AGGREGATION_ENABLED)
+                && GroupByAccumulatorFactory.isCombinable(selectStatementContext.getProjectionsContext().getAggregationProjections());
     }
     
     private boolean isNeedProcessOrderBy(final SelectStatementContext selectStatementContext) {
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.Projection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
+
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Group by empty result utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class GroupByEmptyResultUtils {
+    
+    /**
+     * Get result rows when no group is aggregated.
+     *
+     * @param selectStatementContext select statement context
+     * @return empty if there are group by items or no aggregations, otherwise one row with zero for count and null for others
+     */
+    public static List<MemoryQueryResultRow> getEmptyResultRows(final SelectStatementContext selectStatementContext) {
+        boolean hasGroupBy = !selectStatementContext.getGroupByContext().getItems().isEmpty();
+        boolean hasAggregations = !selectStatementContext.getProjectionsContext().getAggregationProjections().isEmpty();
+        if (hasGroupBy || !hasAggregations) {
+            return Collections.emptyList();
+        }
+        return Collections.singletonList(new MemoryQueryResultRow(generateReturnData(selectStatementContext)));
+    }
+    
+    private static Object[] generateReturnData(final SelectStatementContext selectStatementContext) {
+        List<Projection> projections = new LinkedList<>(selectStatementContext.getProjectionsContext().getExpandProjections());
+        Object[] result = new Object[projections.size()];
+        for (int i = 0; i < projections.size(); i++) {
+            if (projections.get(i) instanceof AggregationProjection && AggregationType.COUNT == ((AggregationProjection) projections.get(i)).getType()) {
+                result[i] = 0;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,332 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.generic.UnknownSQLException;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.spill.RowSpillFile;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.hash.ColumnValueSource;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.hash.GroupByHashAggregation;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.hash.SpilledSortedRun;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Hash merged result for group by.
+ * 
+ * <p>Rows are aggregated by {@link GroupByHashAggregation} with compact keys and typed aggregation states.
+ * Once the estimated memory size exceeds memory limit, rows of new groups are hash partitioned into temporary files and aggregated partition by partition later,
+ * after the aggregation in memory is spilled. A partition exceeding memory limit is partitioned again by the next bits of key hash.
+ * The aggregated rows of memory and of each partition are sorted and spilled as runs, and merged by priority queue.
+ * Runs not read to the end are closed and deleted by {@link #close()}.</p>
+ */
+public final class GroupByHashMergedResult implements MergedResult {
+    
+    private static final Collection<Class<?>> INVALID_MEMORY_TYPES = new HashSet<>(Arrays.asList(Blob.class, Clob.class, Reader.class, InputStream.class, SQLXML.class));
+    
+    private static final int SPILL_PARTITION_BITS = 4;
+    
+    private static final int SPILL_PARTITION_COUNT = 1 << SPILL_PARTITION_BITS;
+    
+    private static final int MAX_SPILL_LEVEL = Integer.SIZE / SPILL_PARTITION_BITS - 1;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final long memoryLimit;
+    
+    private final Comparator<MemoryQueryResultRow> rowComparator;
+    
+    private final Iterator<MemoryQueryResultRow> memoryRows;
+    
+    private final PriorityQueue<SpilledSortedRun> spilledRuns;
+    
+    private MemoryQueryResultRow currentRow;
+    
+    private boolean wasNull;
+    
+    public GroupByHashMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                   final ShardingSphereSchema schema, final long memoryLimit) throws SQLException {
+        this.selectStatementContext = selectStatementContext;
+        this.memoryLimit = memoryLimit;
+        List<Boolean> valueCaseSensitive = queryResults.isEmpty()
+                ? Collections.emptyList()
+                : GroupByValueCaseSensitiveUtils.getValueCaseSensitive(queryResults.iterator().next(), selectStatementContext, schema);
+        rowComparator = new GroupByRowComparator(selectStatementContext, valueCaseSensitive);
+        spilledRuns = new PriorityQueue<>(SPILL_PARTITION_COUNT + 1, (o1, o2) -> rowComparator.compare(o1.getCurrentRow(), o2.getCurrentRow()));
+        try {
+            memoryRows = merge(queryResults);
+        } catch (final IOException ex) {
+            closeSpilledRunsQuietly(ex);
+            throw new UnknownSQLException(ex);
+        }
+    }
+    
+    private Iterator<MemoryQueryResultRow> merge(final List<QueryResult> queryResults) throws SQLException, IOException {
+        GroupByHashAggregation aggregation = createAggregation();
+        RowSpillFile[] partitions = null;
+        try {
+            for (QueryResult each : queryResults) {
+                int columnCount = each.getMetaData().getColumnCount();
+                ColumnValueSource source = columnIndex -> each.getValue(columnIndex, Object.class);
+                while (each.next()) {
+                    if (!aggregation.aggregate(source, () -> loadRow(each, columnCount), null == partitions)) {
+                        partitions[getPartitionIndex(aggregation.getKeyHash(), 0)].write(loadRow(each, columnCount));
+                    }
+                    if (null == partitions && isMemoryLimitExceeded(aggregation)) {
+                        partitions = createPartitions();
+                    }
+                }
+            }
+            if (null == partitions) {
+                return getMemoryRows(aggregation);
+            }
+            int columnCount = queryResults.get(0).getMetaData().getColumnCount();
+            addSpilledRun(aggregation, columnCount);
+            aggregation = null;
+            spillPartitions(partitions, columnCount, 1);
+            return Collections.emptyIterator();
+        } finally {
+            closePartitions(partitions);
+        }
+    }
+    
+    private void spillPartitions(final RowSpillFile[] partitions, final int columnCount, final int level) throws SQLException, IOException {
+        for (int i = 0; i < partitions.length; i++) {
+            RowSpillFile[] subPartitions = aggregateAndSpill(partitions[i], columnCount, level);
+            partitions[i].close();
+            partitions[i] = null;
+            if (null != subPartitions) {
+                try {
+                    spillPartitions(subPartitions, columnCount, level + 1);
+                } finally {
+                    closePartitions(subPartitions);
+                }
+            }
+        }
+    }
+    
+    private RowSpillFile[] aggregateAndSpill(final RowSpillFile partition, final int columnCount, final int level) throws SQLException, IOException {
+        GroupByHashAggregation aggregation = createAggregation();
+        RowSpillFile[] result = null;
+        try {
+            Object[] row;
+            while (null != (row = partition.read())) {
+                Object[] currentRow = row;
+                if (!aggregation.aggregate(columnIndex -> currentRow[columnIndex - 1], () -> currentRow, null == result)) {
+                    result[getPartitionIndex(aggregation.getKeyHash(), level)].write(currentRow);
+                }
+                if (null == result && level <= MAX_SPILL_LEVEL && isMemoryLimitExceeded(aggregation)) {
+                    result = createPartitions();
+                }
+            }
+            addSpilledRun(aggregation, columnCount);
+        } catch (final SQLException | IOException | RuntimeException ex) {
+            closePartitions(result);
+            throw ex;
+        }
+        return result;
+    }
+    
+    private int getPartitionIndex(final int keyHash, final int level) {
+        return (keyHash * 0x9E3779B9) >>> (level * SPILL_PARTITION_BITS) & (SPILL_PARTITION_COUNT - 1);
+    }
+    
+    private boolean isMemoryLimitExceeded(final GroupByHashAggregation aggregation) {
+        return memoryLimit > 0L && aggregation.getEstimatedSize() > memoryLimit;
+    }
+    
+    private GroupByHashAggregation createAggregation() {
+        return new GroupByHashAggregation(selectStatementContext.getGroupByContext().getItems(), selectStatementContext.getProjectionsContext().getAggregationProjections());
+    }
+    
+    private Object[] loadRow(final QueryResult queryResult, final int columnCount) throws SQLException {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        return result;
+    }
+    
+    private RowSpillFile[] createPartitions() throws IOException {
+        RowSpillFile[] result = new RowSpillFile[SPILL_PARTITION_COUNT];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = new RowSpillFile("group-by-partition");
+        }
+        return result;
+    }
+    
+    private Iterator<MemoryQueryResultRow> getMemoryRows(final GroupByHashAggregation aggregation) {
+        if (0 == aggregation.getGroupCount()) {
+            return GroupByEmptyResultUtils.getEmptyResultRows(selectStatementContext).iterator();
+        }
+        List<MemoryQueryResultRow> result = aggregation.getResultRows();
+        result.sort(rowComparator);
+        return result.iterator();
+    }
+    
+    private void addSpilledRun(final GroupByHashAggregation aggregation, final int columnCount) throws IOException {
+        if (0 == aggregation.getGroupCount()) {
+            return;
+        }
+        List<MemoryQueryResultRow> rows = aggregation.getResultRows();
+        rows.sort(rowComparator);
+        RowSpillFile file = new RowSpillFile("group-by-run");
+        SpilledSortedRun run = new SpilledSortedRun(file);
+        try {
+            for (MemoryQueryResultRow each : rows) {
+                file.write(toArray(each, columnCount));
+            }
+        } catch (final IOException ex) {
+            run.close();
+            throw ex;
+        }
+        if (run.next()) {
+            spilledRuns.offer(run);
+        } else {
+            run.close();
+        }
+    }
+    
+    private Object[] toArray(final MemoryQueryResultRow row, final int columnCount) {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = row.getCell(i + 1);
+        }
+        return result;
+    }
+    
+    private void closePartitions(final RowSpillFile[] partitions) throws IOException {
+        if (null == partitions) {
+            return;
+        }
+        for (RowSpillFile each : partitions) {
+            if (null != each) {
+                each.close();
+            }
+        }
+    }
+    
+    private void closeSpilledRuns() throws IOException {
+        IOException failure = null;
+        for (SpilledSortedRun each : spilledRuns) {
+            try {
+                each.close();
+            } catch (final IOException ex) {
+                failure = ex;
+            }
+        }
+        spilledRuns.clear();
+        if (null != failure) {
+            throw failure;
+        }
+    }
+    
+    private void closeSpilledRunsQuietly(final IOException cause) {
+        try {
+            closeSpilledRuns();
+        } catch (final IOException ex) {
+            cause.addSuppressed(ex);
+        }
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (memoryRows.hasNext()) {
+            currentRow = memoryRows.next();
+            return true;
+        }
+        return nextSpilledRow();
+    }
+    
+    private boolean nextSpilledRow() throws SQLException {
+        SpilledSortedRun run = spilledRuns.poll();
+        if (null == run) {
+            return false;
+        }
+        currentRow = run.getCurrentRow();
+        try {
+            if (run.next()) {
+                spilledRuns.offer(run);
+            } else {
+                run.close();
+            }
+        } catch (final IOException ex) {
+            closeSpilledRunsQuietly(ex);
+            throw new UnknownSQLException(ex);
+        }
+        return true;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        ShardingSpherePreconditions.checkNotContains(INVALID_MEMORY_TYPES, type, () -> new SQLFeatureNotSupportedException(String.format("Get value from `%s`", type.getName())));
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, @SuppressWarnings("UseOfObsoleteDateTimeApi") final Calendar calendar) throws SQLException {
+        return getValue(columnIndex, type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Get Character stream");
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        try {
+            closeSpilledRuns();
+        } catch (final IOException ex) {
+            throw new UnknownSQLException(ex);
+        }
+    }
+}
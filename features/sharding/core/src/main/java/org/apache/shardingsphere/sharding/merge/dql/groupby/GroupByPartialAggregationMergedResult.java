@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.generic.UnknownSQLException;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.hash.ColumnValueSource;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.hash.GroupByHashAggregation;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.hash.GroupByPartialHashAggregation;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Partial aggregation merged result for group by.
+ * 
+ * <p>The caller thread and at most as many tasks as available processors submitted to the merge executor claim query results one by one,
+ * so query results are aggregated concurrently and the caller thread finishes the work if the executor is busy.
+ * Each of them pre aggregates rows into its own partial aggregation of bounded group count, which is combined into the final aggregation when it is full,
+ * so memory scales with the count of distinct groups instead of the count of query results.</p>
+ */
+public final class GroupByPartialAggregationMergedResult implements MergedResult {
+    
+    private static final int MAX_PARTIAL_GROUP_COUNT = 4096;
+    
+    private static final Collection<Class<?>> INVALID_MEMORY_TYPES = new HashSet<>(Arrays.asList(Blob.class, Clob.class, Reader.class, InputStream.class, SQLXML.class));
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final Iterator<MemoryQueryResultRow> memoryRows;
+    
+    private MemoryQueryResultRow currentRow;
+    
+    private boolean wasNull;
+    
+    public GroupByPartialAggregationMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                                 final ShardingSphereSchema schema, final Executor executor) throws SQLException {
+        this.selectStatementContext = selectStatementContext;
+        memoryRows = merge(queryResults, schema, executor).iterator();
+    }
+    
+    private List<MemoryQueryResultRow> merge(final List<QueryResult> queryResults, final ShardingSphereSchema schema, final Executor executor) throws SQLException {
+        GroupByHashAggregation aggregation = aggregate(queryResults, executor);
+        if (0 == aggregation.getGroupCount()) {
+            return GroupByEmptyResultUtils.getEmptyResultRows(selectStatementContext);
+        }
+        List<Boolean> valueCaseSensitive = GroupByValueCaseSensitiveUtils.getValueCaseSensitive(queryResults.iterator().next(), selectStatementContext, schema);
+        List<MemoryQueryResultRow> result = aggregation.getResultRows();
+        result.sort(new GroupByRowComparator(selectStatementContext, valueCaseSensitive));
+        return result;
+    }
+    
+    private GroupByHashAggregation aggregate(final List<QueryResult> queryResults, final Executor executor) throws SQLException {
+        GroupByHashAggregation result = createAggregation();
+        int taskCount = Math.min(Runtime.getRuntime().availableProcessors(), queryResults.size());
+        AtomicInteger nextIndex = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(taskCount);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        int submittedTaskCount = 1;
+        try {
+            for (; submittedTaskCount < taskCount; submittedTaskCount++) {
+                executor.execute(() -> aggregate(queryResults, result, nextIndex, latch, failure));
+            }
+        } catch (final RejectedExecutionException ignored) {
+            // the caller thread aggregates query results not claimed by executor
+            for (int i = submittedTaskCount; i < taskCount; i++) {
+                latch.countDown();
+            }
+        }
+        aggregate(queryResults, result, nextIndex, latch, failure);
+        try {
+            latch.await();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, ex);
+        }
+        if (null != failure.get()) {
+            throwException(failure.get());
+        }
+        return result;
+    }
+    
+    private void aggregate(final List<QueryResult> queryResults, final GroupByHashAggregation aggregation,
+                           final AtomicInteger nextIndex, final CountDownLatch latch, final AtomicReference<Exception> failure) {
+        try {
+            GroupByPartialHashAggregation partial = new GroupByPartialHashAggregation(
+                    selectStatementContext.getGroupByContext().getItems(), selectStatementContext.getProjectionsContext().getAggregationProjections(), aggregation, MAX_PARTIAL_GROUP_COUNT);
+            int index;
+            while (null == failure.get() && (index = nextIndex.getAndIncrement()) < queryResults.size()) {
+                aggregate(queryResults.get(index), partial, failure);
+            }
+            partial.flush();
+        } catch (final SQLException | RuntimeException ex) {
+            failure.compareAndSet(null, ex);
+        } finally {
+            latch.countDown();
+        }
+    }
+    
+    private void aggregate(final QueryResult queryResult, final GroupByPartialHashAggregation partial, final AtomicReference<Exception> failure) throws SQLException {
+        int columnCount = queryResult.getMetaData().getColumnCount();
+        ColumnValueSource source = columnIndex -> queryResult.getValue(columnIndex, Object.class);
+        while (null == failure.get() && queryResult.next()) {
+            partial.aggregate(source, () -> loadRow(queryResult, columnCount));
+        }
+    }
+    
+    private Object[] loadRow(final QueryResult queryResult, final int columnCount) throws SQLException {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        return result;
+    }
+    
+    private GroupByHashAggregation createAggregation() {
+        return new GroupByHashAggregation(selectStatementContext.getGroupByContext().getItems(), selectStatementContext.getProjectionsContext().getAggregationProjections());
+    }
+    
+    private void throwException(final Exception exception) throws SQLException {
+        if (exception instanceof SQLException) {
+            throw (SQLException) exception;
+        }
+        if (exception instanceof RuntimeException) {
+            throw (RuntimeException) exception;
+        }
+        throw new UnknownSQLException(exception);
+    }
+    
+    @Override
+    public boolean next() {
+        if (memoryRows.hasNext()) {
+            currentRow = memoryRows.next();
+            return true;
+        }
+        return false;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        ShardingSpherePreconditions.checkNotContains(INVALID_MEMORY_TYPES, type, () -> new SQLFeatureNotSupportedException(String.format("Get value from `%s`", type.getName())));
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, @SuppressWarnings("UseOfObsoleteDateTimeApi") final Calendar calendar) throws SQLException {
+        return getValue(columnIndex, type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Get Character stream");
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+}
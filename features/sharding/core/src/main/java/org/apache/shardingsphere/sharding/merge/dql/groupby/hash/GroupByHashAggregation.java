@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.hash;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.exception.generic.UnknownSQLException;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.spill.BinaryRowCodec;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.spill.RowSizeEstimator;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.hash.accumulator.CombinableGroupByAccumulator;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.hash.accumulator.GroupByAccumulator;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.hash.accumulator.GroupByAccumulatorFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Group by hash aggregation.
+ * 
+ * <p>Group by values are encoded into compact bytes and mapped to group ID, aggregation states are kept in arrays indexed by group ID.
+ * Only the first row of each group is kept to fill the non aggregation columns.</p>
+ */
+public final class GroupByHashAggregation {
+    
+    private final Collection<OrderByItem> groupByItems;
+    
+    private final int[] aggregationColumnIndexes;
+    
+    private final GroupByAccumulator[] accumulators;
+    
+    private final GroupByKeyTable keyTable = new GroupByKeyTable();
+    
+    private final List<Object[]> rows = new ArrayList<>();
+    
+    private final KeyBuffer keyBuffer = new KeyBuffer();
+    
+    private final DataOutputStream keyOutput = new DataOutputStream(keyBuffer);
+    
+    private long rowsSize;
+    
+    private int keyHash;
+    
+    public GroupByHashAggregation(final Collection<OrderByItem> groupByItems, final Collection<AggregationProjection> aggregationProjections) {
+        this.groupByItems = groupByItems;
+        aggregationColumnIndexes = aggregationProjections.stream().mapToInt(AggregationProjection::getIndex).toArray();
+        accumulators = aggregationProjections.stream().map(GroupByAccumulatorFactory::create).toArray(GroupByAccumulator[]::new);
+    }
+    
+    /**
+     * Aggregate current row.
+     *
+     * @param source column value source of current row
+     * @param rowLoader row loader of current row, only called when current row is the first row of group
+     * @param groupCreatable whether new group can be created
+     * @return aggregated or not, false means group of current row does not exist and can not be created
+     * @throws SQLException SQL exception
+     */
+    public boolean aggregate(final ColumnValueSource source, final RowLoader rowLoader, final boolean groupCreatable) throws SQLException {
+        encodeKey(source);
+        int groupId = keyTable.find(keyBuffer.getBuffer(), keyBuffer.size(), keyHash);
+        if (groupId < 0) {
+            if (!groupCreatable) {
+                return false;
+            }
+            groupId = createGroup(keyBuffer.getBuffer(), keyBuffer.size(), keyHash, rowLoader.load());
+        }
+        for (GroupByAccumulator each : accumulators) {
+            each.accumulate(groupId, source);
+        }
+        return true;
+    }
+    
+    private void encodeKey(final ColumnValueSource source) throws SQLException {
+        keyBuffer.reset();
+        try {
+            for (OrderByItem each : groupByItems) {
+                BinaryRowCodec.writeValue(keyOutput, source.getValue(each.getIndex()));
+            }
+        } catch (final IOException ex) {
+            throw new UnknownSQLException(ex);
+        }
+        keyHash = GroupByKeyTable.hash(keyBuffer.getBuffer(), keyBuffer.size());
+    }
+    
+    /**
+     * Combine groups and aggregation states of partial aggregation, all accumulators must be {@link CombinableGroupByAccumulator}.
+     *
+     * @param partial partial aggregation of the same group by items and aggregation projections
+     */
+    public void combine(final GroupByHashAggregation partial) {
+        for (int partialGroupId = 0; partialGroupId < partial.rows.size(); partialGroupId++) {
+            byte[] key = partial.keyTable.getKey(partialGroupId);
+            int hash = partial.keyTable.getHash(partialGroupId);
+            int groupId = keyTable.find(key, key.length, hash);
+            if (groupId < 0) {
+                groupId = createGroup(key, key.length, hash, partial.rows.get(partialGroupId));
+            }
+            for (int i = 0; i < accumulators.length; i++) {
+                ((CombinableGroupByAccumulator) accumulators[i]).combine(groupId, (CombinableGroupByAccumulator) partial.accumulators[i], partialGroupId);
+            }
+        }
+    }
+    
+    private int createGroup(final byte[] key, final int length, final int hash, final Object[] row) {
+        int result = keyTable.add(key, length, hash);
+        rows.add(row);
+        rowsSize += RowSizeEstimator.estimate(row);
+        for (GroupByAccumulator each : accumulators) {
+            each.ensureCapacity(result + 1);
+        }
+        return result;
+    }
+    
+    /**
+     * Get hash of group by key of the last aggregated row.
+     *
+     * @return hash of group by key
+     */
+    public int getKeyHash() {
+        return keyHash;
+    }
+    
+    /**
+     * Get group count.
+     *
+     * @return group count
+     */
+    public int getGroupCount() {
+        return keyTable.size();
+    }
+    
+    /**
+     * Get estimated memory size in bytes.
+     *
+     * @return estimated memory size
+     */
+    public long getEstimatedSize() {
+        long result = keyTable.getEstimatedSize() + rowsSize;
+        for (GroupByAccumulator each : accumulators) {
+            result += (long) each.getEstimatedSizePerGroup() * rows.size();
+        }
+        return result;
+    }
+    
+    /**
+     * Get result rows, aggregation results are set into the first row of each group.
+     *
+     * @return result rows
+     */
+    public List<MemoryQueryResultRow> getResultRows() {
+        List<MemoryQueryResultRow> result = new ArrayList<>(rows.size());
+        for (int groupId = 0; groupId < rows.size(); groupId++) {
+            MemoryQueryResultRow row = new MemoryQueryResultRow(rows.get(groupId));
+            for (int i = 0; i < accumulators.length; i++) {
+                row.setCell(aggregationColumnIndexes[i], accumulators[i].getResult(groupId));
+            }
+            result.add(row);
+        }
+        return result;
+    }
+    
+    private static final class KeyBuffer extends ByteArrayOutputStream {
+        
+        private byte[] getBuffer() {
+            return buf;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.hash;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash table which maps encoded group by key to group ID.
+ */
+public final class GroupByKeyTable {
+    
+    private static final int INITIAL_CAPACITY = 1024;
+    
+    private static final int KEY_OVERHEAD_SIZE = 24;
+    
+    private int[] slots = new int[INITIAL_CAPACITY];
+    
+    private byte[][] keys = new byte[INITIAL_CAPACITY][];
+    
+    private int[] hashes = new int[INITIAL_CAPACITY];
+    
+    private int size;
+    
+    private long keysSize;
+    
+    /**
+     * Calculate hash of encoded key.
+     *
+     * @param key encoded key buffer
+     * @param length length of encoded key
+     * @return hash
+     */
+    public static int hash(final byte[] key, final int length) {
+        int result = 1;
+        for (int i = 0; i < length; i++) {
+            result = 31 * result + key[i];
+        }
+        return result ^ result >>> 16;
+    }
+    
+    /**
+     * Find group ID of encoded key.
+     *
+     * @param key encoded key buffer
+     * @param length length of encoded key
+     * @param hash hash of encoded key
+     * @return group ID, -1 if not found
+     */
+    public int find(final byte[] key, final int length, final int hash) {
+        int mask = slots.length - 1;
+        for (int slot = hash & mask; 0 != slots[slot]; slot = slot + 1 & mask) {
+            int groupId = slots[slot] - 1;
+            if (hashes[groupId] == hash && equals(keys[groupId], key, length)) {
+                return groupId;
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * Add encoded key which does not exist.
+     *
+     * @param key encoded key buffer
+     * @param length length of encoded key
+     * @param hash hash of encoded key
+     * @return new group ID
+     */
+    public int add(final byte[] key, final int length, final int hash) {
+        if (size >= keys.length) {
+            keys = Arrays.copyOf(keys, keys.length << 1);
+            hashes = Arrays.copyOf(hashes, hashes.length << 1);
+        }
+        int result = size++;
+        keys[result] = Arrays.copyOf(key, length);
+        hashes[result] = hash;
+        keysSize += length + KEY_OVERHEAD_SIZE;
+        if (size << 1 > slots.length) {
+            rehash(slots.length << 1);
+        } else {
+            putSlot(result);
+        }
+        return result;
+    }
+    
+    private void rehash(final int capacity) {
+        slots = new int[capacity];
+        for (int i = 0; i < size; i++) {
+            putSlot(i);
+        }
+    }
+    
+    private void putSlot(final int groupId) {
+        int mask = slots.length - 1;
+        int slot = hashes[groupId] & mask;
+        while (0 != slots[slot]) {
+            slot = slot + 1 & mask;
+        }
+        slots[slot] = groupId + 1;
+    }
+    
+    private boolean equals(final byte[] existedKey, final byte[] key, final int length) {
+        if (existedKey.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (existedKey[i] != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Get encoded key of group.
+     *
+     * @param groupId group ID
+     * @return encoded key
+     */
+    public byte[] getKey(final int groupId) {
+        return keys[groupId];
+    }
+    
+    /**
+     * Get hash of encoded key of group.
+     *
+     * @param groupId group ID
+     * @return hash
+     */
+    public int getHash(final int groupId) {
+        return hashes[groupId];
+    }
+    
+    /**
+     * Get group count.
+     *
+     * @return group count
+     */
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Get estimated memory size in bytes.
+     *
+     * @return estimated memory size
+     */
+    public long getEstimatedSize() {
+        return keysSize + slots.length * 4L + keys.length * 12L;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.hash;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+
+import java.sql.SQLException;
+import java.util.Collection;
+
+/**
+ * Group by partial hash aggregation.
+ *
+ * <p>Rows are pre aggregated into a partial aggregation of bounded group count. The partial aggregation is combined into the shared final aggregation
+ * and replaced by an empty one when it is full, so memory of partial aggregations does not grow with the count of groups.</p>
+ */
+public final class GroupByPartialHashAggregation {
+    
+    private final Collection<OrderByItem> groupByItems;
+    
+    private final Collection<AggregationProjection> aggregationProjections;
+    
+    private final GroupByHashAggregation finalAggregation;
+    
+    private final int maxGroupCount;
+    
+    private GroupByHashAggregation partial;
+    
+    public GroupByPartialHashAggregation(final Collection<OrderByItem> groupByItems, final Collection<AggregationProjection> aggregationProjections,
+                                         final GroupByHashAggregation finalAggregation, final int maxGroupCount) {
+        this.groupByItems = groupByItems;
+        this.aggregationProjections = aggregationProjections;
+        this.finalAggregation = finalAggregation;
+        this.maxGroupCount = maxGroupCount;
+        partial = new GroupByHashAggregation(groupByItems, aggregationProjections);
+    }
+    
+    /**
+     * Aggregate current row, and flush partial aggregation if it is full.
+     *
+     * @param source column value source of current row
+     * @param rowLoader row loader of current row, only called when current row is the first row of group in partial aggregation
+     * @throws SQLException SQL exception
+     */
+    public void aggregate(final ColumnValueSource source, final RowLoader rowLoader) throws SQLException {
+        partial.aggregate(source, rowLoader, true);
+        if (partial.getGroupCount() >= maxGroupCount) {
+            flush();
+        }
+    }
+    
+    /**
+     * Combine partial aggregation into final aggregation and start an empty partial aggregation.
+     */
+    public void flush() {
+        if (0 == partial.getGroupCount()) {
+            return;
+        }
+        synchronized (finalAggregation) {
+            finalAggregation.combine(partial);
+        }
+        partial = new GroupByHashAggregation(groupByItems, aggregationProjections);
+    }
+    
+    /**
+     * Get group count of partial aggregation.
+     *
+     * @return group count of partial aggregation
+     */
+    public int getGroupCount() {
+        return partial.getGroupCount();
+    }
+}
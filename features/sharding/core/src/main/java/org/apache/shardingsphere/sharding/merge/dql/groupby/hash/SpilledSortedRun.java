@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.hash;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.spill.RowSpillFile;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.io.IOException;
+
+/**
+ * Sorted run of rows which spilled to temporary file.
+ */
+@RequiredArgsConstructor
+public final class SpilledSortedRun implements AutoCloseable {
+    
+    private final RowSpillFile file;
+    
+    @Getter
+    private MemoryQueryResultRow currentRow;
+    
+    /**
+     * Move to next row.
+     *
+     * @return has next row or not
+     * @throws IOException IO exception
+     */
+    public boolean next() throws IOException {
+        Object[] row = file.read();
+        currentRow = null == row ? null : new MemoryQueryResultRow(row);
+        return null != row;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        file.close();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.hash.accumulator;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.hash.ColumnValueSource;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Accumulator which delegates to one aggregation unit per group, it is used for aggregations without typed state, such as DISTINCT and GROUP_CONCAT.
+ */
+@RequiredArgsConstructor
+public final class AggregationUnitAccumulator implements GroupByAccumulator {
+    
+    private final int[] columnIndexes;
+    
+    private final Supplier<AggregationUnit> aggregationUnitFactory;
+    
+    private AggregationUnit[] aggregationUnits = new AggregationUnit[0];
+    
+    @Override
+    public void ensureCapacity(final int groupCount) {
+        if (groupCount > aggregationUnits.length) {
+            aggregationUnits = Arrays.copyOf(aggregationUnits, Math.max(groupCount, aggregationUnits.length << 1));
+        }
+    }
+    
+    @Override
+    public void accumulate(final int groupId, final ColumnValueSource source) throws SQLException {
+        List<Comparable<?>> values = new ArrayList<>(columnIndexes.length);
+        for (int each : columnIndexes) {
+            Object value = source.getValue(each);
+            ShardingSpherePreconditions.checkState(null == value || value instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", value));
+            values.add((Comparable<?>) value);
+        }
+        if (null == aggregationUnits[groupId]) {
+            aggregationUnits[groupId] = aggregationUnitFactory.get();
+        }
+        aggregationUnits[groupId].merge(values);
+    }
+    
+    @Override
+    public Comparable<?> getResult(final int groupId) {
+        return aggregationUnits[groupId].getResult();
+    }
+    
+    @Override
+    public int getEstimatedSizePerGroup() {
+        return 128;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.hash.accumulator;
+
+import org.apache.shardingsphere.sharding.merge.dql.groupby.hash.ColumnValueSource;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.SQLException;
+
+/**
+ * Average accumulator, which accumulates derived count and sum.
+ */
+public final class AverageAccumulator implements CombinableGroupByAccumulator {
+    
+    private final int countColumnIndex;
+    
+    private final int sumColumnIndex;
+    
+    private final SumAccumulator countAccumulator;
+    
+    private final SumAccumulator sumAccumulator;
+    
+    public AverageAccumulator(final int countColumnIndex, final int sumColumnIndex) {
+        this.countColumnIndex = countColumnIndex;
+        this.sumColumnIndex = sumColumnIndex;
+        countAccumulator = new SumAccumulator(countColumnIndex);
+        sumAccumulator = new SumAccumulator(sumColumnIndex);
+    }
+    
+    @Override
+    public void ensureCapacity(final int groupCount) {
+        countAccumulator.ensureCapacity(groupCount);
+        sumAccumulator.ensureCapacity(groupCount);
+    }
+    
+    @Override
+    public void accumulate(final int groupId, final ColumnValueSource source) throws SQLException {
+        Object count = source.getValue(countColumnIndex);
+        Object sum = source.getValue(sumColumnIndex);
+        if (null == count || null == sum) {
+            return;
+        }
+        countAccumulator.add(groupId, count);
+        sumAccumulator.add(groupId, sum);
+    }
+    
+    @Override
+    public void combine(final int groupId, final CombinableGroupByAccumulator partial, final int partialGroupId) {
+        countAccumulator.combine(groupId, ((AverageAccumulator) partial).countAccumulator, partialGroupId);
+        sumAccumulator.combine(groupId, ((AverageAccumulator) partial).sumAccumulator, partialGroupId);
+    }
+    
+    @Override
+    public Comparable<?> getResult(final int groupId) {
+        BigDecimal count = countAccumulator.getResult(groupId);
+        if (null == count || BigDecimal.ZERO.compareTo(count) == 0) {
+            return count;
+        }
+        return sumAccumulator.getResult(groupId).divide(count, 4, RoundingMode.HALF_UP);
+    }
+    
+    @Override
+    public int getEstimatedSizePerGroup() {
+        return countAccumulator.getEstimatedSizePerGroup() + sumAccumulator.getEstimatedSizePerGroup();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.hash.accumulator;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.hash.ColumnValueSource;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Comparable accumulator for MAX and MIN.
+ */
+@RequiredArgsConstructor
+public final class ComparableAccumulator implements CombinableGroupByAccumulator {
+    
+    private final int columnIndex;
+    
+    private final boolean asc;
+    
+    private Comparable<?>[] results = new Comparable<?>[0];
+    
+    @Override
+    public void ensureCapacity(final int groupCount) {
+        if (groupCount > results.length) {
+            results = Arrays.copyOf(results, Math.max(groupCount, results.length << 1));
+        }
+    }
+    
+    @Override
+    public void accumulate(final int groupId, final ColumnValueSource source) throws SQLException {
+        Object value = source.getValue(columnIndex);
+        if (null == value) {
+            return;
+        }
+        ShardingSpherePreconditions.checkState(value instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", value));
+        accumulate(groupId, (Comparable<?>) value);
+    }
+    
+    @Override
+    public void combine(final int groupId, final CombinableGroupByAccumulator partial, final int partialGroupId) {
+        Comparable<?> value = ((ComparableAccumulator) partial).results[partialGroupId];
+        if (null != value) {
+            accumulate(groupId, value);
+        }
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void accumulate(final int groupId, final Comparable<?> value) {
+        if (null == results[groupId]) {
+            results[groupId] = value;
+            return;
+        }
+        int comparedValue = ((Comparable) value).compareTo(results[groupId]);
+        if (asc ? comparedValue < 0 : comparedValue > 0) {
+            results[groupId] = value;
+        }
+    }
+    
+    @Override
+    public Comparable<?> getResult(final int groupId) {
+        return results[groupId];
+    }
+    
+    @Override
+    public int getEstimatedSizePerGroup() {
+        return 32;
+    }
+}
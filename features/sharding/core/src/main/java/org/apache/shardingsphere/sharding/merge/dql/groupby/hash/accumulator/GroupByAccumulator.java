@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.hash.accumulator;
+
+import org.apache.shardingsphere.sharding.merge.dql.groupby.hash.ColumnValueSource;
+
+import java.sql.SQLException;
+
+/**
+ * Group by accumulator, which keeps aggregation state of all groups in arrays indexed by group ID.
+ */
+public interface GroupByAccumulator {
+    
+    /**
+     * Ensure capacity of aggregation state.
+     *
+     * @param groupCount group count
+     */
+    void ensureCapacity(int groupCount);
+    
+    /**
+     * Accumulate value of current row into group.
+     *
+     * @param groupId group ID
+     * @param source column value source of current row
+     * @throws SQLException SQL exception
+     */
+    void accumulate(int groupId, ColumnValueSource source) throws SQLException;
+    
+    /**
+     * Get aggregation result of group.
+     *
+     * @param groupId group ID
+     * @return aggregation result
+     */
+    Comparable<?> getResult(int groupId);
+    
+    /**
+     * Get estimated memory size in bytes of aggregation state for one group.
+     *
+     * @return estimated memory size
+     */
+    int getEstimatedSizePerGroup();
+}
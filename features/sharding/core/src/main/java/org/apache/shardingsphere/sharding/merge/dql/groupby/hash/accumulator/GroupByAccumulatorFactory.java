@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.hash.accumulator;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+
+import java.util.Collection;
+
+/**
+ * Group by accumulator factory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class GroupByAccumulatorFactory {
+    
+    /**
+     * Create group by accumulator.
+     *
+     * @param aggregationProjection aggregation projection
+     * @return created group by accumulator
+     */
+    public static GroupByAccumulator create(final AggregationProjection aggregationProjection) {
+        boolean isDistinct = aggregationProjection instanceof AggregationDistinctProjection;
+        int[] columnIndexes = getColumnIndexes(aggregationProjection);
+        switch (aggregationProjection.getType()) {
+            case MAX:
+                return new ComparableAccumulator(columnIndexes[0], false);
+            case MIN:
+                return new ComparableAccumulator(columnIndexes[0], true);
+            case SUM:
+            case COUNT:
+                if (!isDistinct) {
+                    return new SumAccumulator(columnIndexes[0]);
+                }
+                break;
+            case AVG:
+                if (!isDistinct && 2 == columnIndexes.length) {
+                    return new AverageAccumulator(columnIndexes[0], columnIndexes[1]);
+                }
+                break;
+            default:
+                break;
+        }
+        return new AggregationUnitAccumulator(columnIndexes, () -> AggregationUnitFactory.create(aggregationProjection.getType(), isDistinct, aggregationProjection.getSeparator().orElse(null)));
+    }
+    
+    /**
+     * Judge whether aggregation states of all aggregation projections can be combined from partial aggregations.
+     *
+     * @param aggregationProjections aggregation projections
+     * @return can be combined or not
+     */
+    public static boolean isCombinable(final Collection<AggregationProjection> aggregationProjections) {
+        return aggregationProjections.stream().allMatch(each -> create(each) instanceof CombinableGroupByAccumulator);
+    }
+    
+    private static int[] getColumnIndexes(final AggregationProjection aggregationProjection) {
+        if (aggregationProjection.getDerivedAggregationProjections().isEmpty()) {
+            return new int[]{aggregationProjection.getIndex()};
+        }
+        return aggregationProjection.getDerivedAggregationProjections().stream().mapToInt(AggregationProjection::getIndex).toArray();
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.hash.accumulator;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.hash.ColumnValueSource;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Sum accumulator for COUNT and SUM.
+ * 
+ * <p>Integral values are accumulated in long array, other values and overflowed sums are accumulated in BigDecimal array which is allocated lazily.</p>
+ */
+@RequiredArgsConstructor
+public final class SumAccumulator implements CombinableGroupByAccumulator {
+    
+    private final int columnIndex;
+    
+    private final BitSet accumulated = new BitSet();
+    
+    private long[] longSums = new long[0];
+    
+    private BigDecimal[] decimalSums;
+    
+    @Override
+    public void ensureCapacity(final int groupCount) {
+        if (groupCount > longSums.length) {
+            int capacity = Math.max(groupCount, longSums.length << 1);
+            longSums = Arrays.copyOf(longSums, capacity);
+            if (null != decimalSums) {
+                decimalSums = Arrays.copyOf(decimalSums, capacity);
+            }
+        }
+    }
+    
+    @Override
+    public void accumulate(final int groupId, final ColumnValueSource source) throws SQLException {
+        add(groupId, source.getValue(columnIndex));
+    }
+    
+    /**
+     * Add value into group.
+     *
+     * @param groupId group ID
+     * @param value value to be added
+     */
+    public void add(final int groupId, final Object value) {
+        if (null == value) {
+            return;
+        }
+        accumulated.set(groupId);
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            try {
+                longSums[groupId] = Math.addExact(longSums[groupId], ((Number) value).longValue());
+                return;
+            } catch (final ArithmeticException ignored) {
+                addDecimal(groupId, BigDecimal.valueOf(longSums[groupId]));
+                longSums[groupId] = 0L;
+            }
+        }
+        ShardingSpherePreconditions.checkState(value instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", value));
+        addDecimal(groupId, new BigDecimal(value.toString()));
+    }
+    
+    @Override
+    public void combine(final int groupId, final CombinableGroupByAccumulator partial, final int partialGroupId) {
+        SumAccumulator partialSum = (SumAccumulator) partial;
+        if (!partialSum.accumulated.get(partialGroupId)) {
+            return;
+        }
+        add(groupId, partialSum.longSums[partialGroupId]);
+        if (null != partialSum.decimalSums && null != partialSum.decimalSums[partialGroupId]) {
+            addDecimal(groupId, partialSum.decimalSums[partialGroupId]);
+        }
+    }
+    
+    private void addDecimal(final int groupId, final BigDecimal value) {
+        if (null == decimalSums) {
+            decimalSums = new BigDecimal[longSums.length];
+        }
+        decimalSums[groupId] = null == decimalSums[groupId] ? value : decimalSums[groupId].add(value);
+    }
+    
+    @Override
+    public BigDecimal getResult(final int groupId) {
+        if (!accumulated.get(groupId)) {
+            return null;
+        }
+        BigDecimal result = BigDecimal.valueOf(longSums[groupId]);
+        return null == decimalSums || null == decimalSums[groupId] ? result : decimalSums[groupId].add(result);
+    }
+    
+    @Override
+    public int getEstimatedSizePerGroup() {
+        return null == decimalSums ? 9 : 60;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.stream.StreamMergedResult;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Stream merged result for order by with loser tree.
+ * 
+ * <p>Each leaf of the tree is the order by value of one query result, internal nodes keep the loser of their sub tournament and node 0 keeps the overall winner.
+ * Advancing the winner replays only the path from its leaf to the root, which costs log2(n) comparisons per row.</p>
+ */
+public final class OrderByLoserTreeMergedResult extends StreamMergedResult {
+    
+    private final List<OrderByValue> orderByValues;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] tree;
+    
+    private boolean isFirstNext;
+    
+    public OrderByLoserTreeMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        Collection<OrderByItem> orderByItems = selectStatementContext.getOrderByContext().getItems();
+        orderByValues = new ArrayList<>(queryResults.size());
+        for (QueryResult each : queryResults) {
+            OrderByValue orderByValue = new OrderByValue(each, orderByItems, selectStatementContext, schema);
+            if (orderByValue.next()) {
+                orderByValues.add(orderByValue);
+            }
+        }
+        exhausted = new boolean[orderByValues.size()];
+        tree = new int[orderByValues.size()];
+        if (orderByValues.isEmpty()) {
+            setCurrentQueryResult(queryResults.get(0));
+        } else {
+            tree[0] = build(1);
+            setCurrentQueryResult(orderByValues.get(tree[0]).getQueryResult());
+        }
+        isFirstNext = true;
+    }
+    
+    private int build(final int node) {
+        if (node >= tree.length) {
+            return node - tree.length;
+        }
+        int left = build(node * 2);
+        int right = build(node * 2 + 1);
+        if (beats(left, right)) {
+            tree[node] = right;
+            return left;
+        }
+        tree[node] = left;
+        return right;
+    }
+    
+    private boolean beats(final int leaf, final int otherLeaf) {
+        if (exhausted[leaf]) {
+            return false;
+        }
+        if (exhausted[otherLeaf]) {
+            return true;
+        }
+        int result = orderByValues.get(leaf).compareTo(orderByValues.get(otherLeaf));
+        return result < 0 || 0 == result && leaf < otherLeaf;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (orderByValues.isEmpty()) {
+            return false;
+        }
+        if (isFirstNext) {
+            isFirstNext = false;
+            return true;
+        }
+        int winner = tree[0];
+        if (exhausted[winner]) {
+            return false;
+        }
+        exhausted[winner] = !orderByValues.get(winner).next();
+        replay(winner);
+        if (exhausted[tree[0]]) {
+            return false;
+        }
+        setCurrentQueryResult(orderByValues.get(tree[0]).getQueryResult());
+        return true;
+    }
+    
+    private void replay(final int leaf) {
+        int winner = leaf;
+        for (int node = (leaf + tree.length) / 2; node > 0; node /= 2) {
+            if (beats(tree[node], winner)) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+}
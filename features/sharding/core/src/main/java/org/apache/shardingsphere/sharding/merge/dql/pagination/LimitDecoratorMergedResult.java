@@ -41,7 +41,7 @@ public final class LimitDecoratorMergedResult extends DecoratorMergedResult {
     }
     
     private boolean skipOffset() throws SQLException {
-        for (int i = 0; i < paginationContext.getActualOffset(); i++) {
+        for (int i = 0; i < paginationContext.getMergedOffset(); i++) {
             if (!getMergedResult().next()) {
                 return true;
             }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sharding.rewrite.context;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContextDecorator;
 import org.apache.shardingsphere.infra.rewrite.parameter.rewriter.ParameterRewriter;
@@ -27,8 +28,11 @@ import org.apache.shardingsphere.infra.rewrite.parameter.rewriter.ParameterRewri
 import org.apache.shardingsphere.infra.rewrite.sql.token.common.generator.builder.SQLTokenGeneratorBuilder;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.sharding.constant.ShardingOrder;
+import org.apache.shardingsphere.sharding.rewrite.pagination.PaginationSeekBoundary;
+import org.apache.shardingsphere.sharding.rewrite.pagination.PaginationSeekEngine;
 import org.apache.shardingsphere.sharding.rewrite.parameter.ShardingParameterRewritersRegistry;
 import org.apache.shardingsphere.sharding.rewrite.token.ShardingTokenGenerateBuilder;
+import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.ShardingPaginationSeekTokenGenerator;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.SimpleTableSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.attribute.type.CursorSQLStatementAttribute;
@@ -36,6 +40,8 @@ import org.apache.shardingsphere.sql.parser.statement.core.statement.type.ddl.in
 import org.apache.shardingsphere.sql.parser.statement.core.statement.type.ddl.index.DropIndexStatement;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
 
 /**
  * SQL rewrite context decorator for sharding.
@@ -49,12 +55,15 @@ public final class ShardingSQLRewriteContextDecorator implements SQLRewriteConte
         if (!isAlterOrDropIndexStatement(sqlStatementContext) && !isCursorContextAvailableStatement(sqlStatementContext) && !containsShardingTable(rule, sqlStatementContext)) {
             return;
         }
+        Optional<PaginationSeekBoundary> paginationSeekBoundary = new PaginationSeekEngine(rule, routeContext).seek(sqlRewriteContext,
+                props.<Long>getValue(ConfigurationPropertyKey.PAGINATION_SEEK_OFFSET_THRESHOLD), props.<Integer>getValue(ConfigurationPropertyKey.PAGINATION_SEEK_PROBE_TIMEOUT_SECONDS));
         if (!sqlRewriteContext.getParameters().isEmpty()) {
             Collection<ParameterRewriter> parameterRewriters = new ParameterRewritersBuilder(sqlStatementContext).build(new ShardingParameterRewritersRegistry(routeContext));
             rewriteParameters(sqlRewriteContext, parameterRewriters);
         }
         SQLTokenGeneratorBuilder sqlTokenGeneratorBuilder = new ShardingTokenGenerateBuilder(rule, routeContext, sqlStatementContext);
         sqlRewriteContext.addSQLTokenGenerators(sqlTokenGeneratorBuilder.getSQLTokenGenerators());
+        paginationSeekBoundary.ifPresent(optional -> sqlRewriteContext.addSQLTokenGenerators(Collections.singleton(new ShardingPaginationSeekTokenGenerator(optional))));
     }
     
     private boolean isAlterOrDropIndexStatement(final SQLStatementContext sqlStatementContext) {
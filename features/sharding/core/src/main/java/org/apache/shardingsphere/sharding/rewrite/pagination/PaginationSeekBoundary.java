@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.pagination;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+/**
+ * Pagination seek boundary.
+ * 
+ * <p>Boundary value is the order by value of the first row to return, every route unit only fetches rows from the boundary value,
+ * and the merged result skips rows which have the same order by value as the boundary value but are ranked before the offset.</p>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class PaginationSeekBoundary {
+    
+    private final String columnName;
+    
+    private final OrderDirection orderDirection;
+    
+    private final BigDecimal value;
+    
+    private final long skippedRowCount;
+    
+    /**
+     * Find pagination seek boundary.
+     *
+     * @param columnName order by column name
+     * @param orderDirection order direction
+     * @param sortedValues sorted order by values of each route unit
+     * @param offset offset of first row to return
+     * @return found pagination seek boundary, empty if there are not more rows than offset
+     */
+    public static Optional<PaginationSeekBoundary> find(final String columnName, final OrderDirection orderDirection, final List<List<BigDecimal>> sortedValues, final long offset) {
+        Comparator<BigDecimal> comparator = OrderDirection.ASC == orderDirection ? Comparator.naturalOrder() : Comparator.reverseOrder();
+        PriorityQueue<PeekingIterator> queue = new PriorityQueue<>(Math.max(1, sortedValues.size()), (o1, o2) -> comparator.compare(o1.getCurrent(), o2.getCurrent()));
+        for (List<BigDecimal> each : sortedValues) {
+            if (!each.isEmpty()) {
+                queue.add(new PeekingIterator(each.iterator()));
+            }
+        }
+        BigDecimal previousValue = null;
+        long sameValueCount = 0L;
+        for (long position = 0L; !queue.isEmpty(); position++) {
+            PeekingIterator iterator = queue.poll();
+            BigDecimal value = iterator.getCurrent();
+            sameValueCount = null != previousValue && 0 == previousValue.compareTo(value) ? sameValueCount + 1L : 0L;
+            if (position == offset) {
+                return Optional.of(new PaginationSeekBoundary(columnName, orderDirection, value, sameValueCount));
+            }
+            previousValue = value;
+            if (iterator.next()) {
+                queue.add(iterator);
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private static final class PeekingIterator {
+        
+        private final Iterator<BigDecimal> iterator;
+        
+        @Getter
+        private BigDecimal current;
+        
+        PeekingIterator(final Iterator<BigDecimal> iterator) {
+            this.iterator = iterator;
+            current = iterator.next();
+        }
+        
+        boolean next() {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            current = iterator.next();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.pagination;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByContext;
+import org.apache.shardingsphere.infra.binder.context.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.Projection;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContextDecorator;
+import org.apache.shardingsphere.infra.rewrite.sql.impl.RouteSQLBuilder;
+import org.apache.shardingsphere.infra.rewrite.sql.token.common.generator.generic.RemoveTokenGenerator;
+import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.SQLToken;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.session.connection.probe.ProbeQueryExecutor;
+import org.apache.shardingsphere.infra.spi.type.ordered.OrderedSPILoader;
+import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.ShardingTableTokenGenerator;
+import org.apache.shardingsphere.sharding.rewrite.token.pojo.PaginationSeekSubstituteToken;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.TableSourceType;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.ColumnOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.OrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.pagination.limit.LimitSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.ParameterMarkerSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.bound.ColumnSegmentBoundInfo;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.value.identifier.IdentifierValue;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Pagination seek engine.
+ * 
+ * <p>For deep limit pagination ordered by one not null exact numeric column, every route unit is probed with the order by column only,
+ * the order by value of the first row to return is found by merging probed values, then every route unit only fetches rows from that value.
+ * Probes run with connections of session by probe query executor of session, and only for dialects supporting LIMIT clause, statements in transaction are never seeked.</p>
+ */
+public final class PaginationSeekEngine {
+    
+    private static final Collection<String> LIMIT_DATABASE_TYPES = Arrays.asList("MySQL", "MariaDB", "PostgreSQL", "openGauss", "H2");
+    
+    private static final Collection<Integer> EXACT_NUMERIC_DATA_TYPES = Arrays.asList(Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT, Types.DECIMAL, Types.NUMERIC);
+    
+    private final ShardingRule rule;
+    
+    private final RouteContext routeContext;
+    
+    private final PaginationSeekProbeExecutor probeExecutor;
+    
+    public PaginationSeekEngine(final ShardingRule rule, final RouteContext routeContext) {
+        this(rule, routeContext, new PaginationSeekProbeExecutor());
+    }
+    
+    PaginationSeekEngine(final ShardingRule rule, final RouteContext routeContext, final PaginationSeekProbeExecutor probeExecutor) {
+        this.rule = rule;
+        this.routeContext = routeContext;
+        this.probeExecutor = probeExecutor;
+    }
+    
+    /**
+     * Seek pagination boundary and apply seek offset to pagination context.
+     *
+     * @param sqlRewriteContext SQL rewrite context
+     * @param offsetThreshold min offset to seek, never seek if not positive
+     * @param probeTimeoutSeconds query timeout of probe in seconds
+     * @return pagination seek boundary, empty if not seeked
+     */
+    public Optional<PaginationSeekBoundary> seek(final SQLRewriteContext sqlRewriteContext, final long offsetThreshold, final int probeTimeoutSeconds) {
+        if (offsetThreshold <= 0L || routeContext.getRouteUnits().size() < 2 || !(sqlRewriteContext.getSqlStatementContext() instanceof SelectStatementContext)) {
+            return Optional.empty();
+        }
+        SelectStatementContext selectStatementContext = (SelectStatementContext) sqlRewriteContext.getSqlStatementContext();
+        PaginationContext paginationContext = selectStatementContext.getPaginationContext();
+        if (!isSeekableStatement(selectStatementContext, offsetThreshold) || !isOutOfTransaction(sqlRewriteContext.getConnectionContext()) || !isOnlyShardingRewrite(sqlRewriteContext.getDatabase())
+                || !isLimitDialect(selectStatementContext.getSqlStatement().getDatabaseType(), sqlRewriteContext.getDatabase())) {
+            return Optional.empty();
+        }
+        Optional<ProbeQueryExecutor> probeQueryExecutor = sqlRewriteContext.getConnectionContext().getProbeQueryExecutor();
+        if (!probeQueryExecutor.isPresent()) {
+            return Optional.empty();
+        }
+        OrderByItemSegment orderByItem = selectStatementContext.getOrderByContext().getItems().iterator().next().getSegment();
+        ColumnSegment column = ((ColumnOrderByItemSegment) orderByItem).getColumn();
+        if (!isSeekableColumn(selectStatementContext, sqlRewriteContext.getDatabase(), column)) {
+            return Optional.empty();
+        }
+        String columnName = column.getIdentifier().getValueWithQuoteCharacters();
+        Collection<ExecutionUnit> probeExecutionUnits = createProbeExecutionUnits(sqlRewriteContext, selectStatementContext, columnName, paginationContext.getActualOffset() + 1L);
+        Optional<PaginationSeekBoundary> result = probeExecutor.execute(probeQueryExecutor.get(), sqlRewriteContext.getDatabase().getName(), probeExecutionUnits, probeTimeoutSeconds)
+                .flatMap(optional -> PaginationSeekBoundary.find(columnName, orderByItem.getOrderDirection(), optional, paginationContext.getActualOffset()));
+        result.ifPresent(optional -> paginationContext.applySeekOffset(optional.getSkippedRowCount()));
+        return result;
+    }
+    
+    private boolean isSeekableStatement(final SelectStatementContext selectStatementContext, final long offsetThreshold) {
+        PaginationContext paginationContext = selectStatementContext.getPaginationContext();
+        SelectStatement selectStatement = selectStatementContext.getSqlStatement();
+        if (!selectStatement.getLimit().isPresent() || !paginationContext.getActualRowCount().isPresent() || paginationContext.getActualOffset() < offsetThreshold) {
+            return false;
+        }
+        if (selectStatementContext.isContainsSubquery() || selectStatementContext.isContainsJoinQuery() || selectStatementContext.isContainsCombine() || selectStatementContext.isContainsHaving()) {
+            return false;
+        }
+        if (!selectStatementContext.getGroupByContext().getItems().isEmpty() || !selectStatementContext.getProjectionsContext().getAggregationProjections().isEmpty()
+                || selectStatementContext.getProjectionsContext().isDistinctRow()) {
+            return false;
+        }
+        if (selectStatement.getLock().isPresent() || selectStatement.getWindow().isPresent() || 1 != selectStatementContext.getTablesContext().getSimpleTables().size()) {
+            return false;
+        }
+        OrderByContext orderByContext = selectStatementContext.getOrderByContext();
+        return !orderByContext.isGenerated() && 1 == orderByContext.getItems().size() && selectStatement.getOrderBy().isPresent()
+                && orderByContext.getItems().iterator().next().getSegment() instanceof ColumnOrderByItemSegment;
+    }
+    
+    private boolean isOutOfTransaction(final ConnectionContext connectionContext) {
+        return null != connectionContext && !connectionContext.getTransactionContext().isInTransaction();
+    }
+    
+    private boolean isOnlyShardingRewrite(final ShardingSphereDatabase database) {
+        return 1 == OrderedSPILoader.getServices(SQLRewriteContextDecorator.class, database.getRuleMetaData().getRules()).size();
+    }
+    
+    private boolean isLimitDialect(final DatabaseType databaseType, final ShardingSphereDatabase database) {
+        if (!LIMIT_DATABASE_TYPES.contains(databaseType.getType())) {
+            return false;
+        }
+        Map<String, StorageUnit> storageUnits = database.getResourceMetaData().getStorageUnits();
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            StorageUnit storageUnit = storageUnits.get(each.getDataSourceMapper().getActualName());
+            if (null == storageUnit || !LIMIT_DATABASE_TYPES.contains(storageUnit.getStorageType().getType())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isSeekableColumn(final SelectStatementContext selectStatementContext, final ShardingSphereDatabase database, final ColumnSegment column) {
+        ColumnSegmentBoundInfo boundInfo = column.getColumnBoundInfo();
+        String columnName = column.getIdentifier().getValue();
+        if (TableSourceType.PHYSICAL_TABLE != boundInfo.getTableSourceType() || !columnName.equalsIgnoreCase(boundInfo.getOriginalColumn().getValue())
+                || !rule.isShardingTable(boundInfo.getOriginalTable().getValue()) || isProjectionAlias(selectStatementContext, columnName)) {
+            return false;
+        }
+        IdentifierValue schemaName = boundInfo.getOriginalSchema();
+        if (null == schemaName || !database.containsSchema(schemaName.getValue())) {
+            return false;
+        }
+        ShardingSphereSchema schema = database.getSchema(schemaName.getValue());
+        if (!schema.containsTable(boundInfo.getOriginalTable().getValue())) {
+            return false;
+        }
+        ShardingSphereTable table = schema.getTable(boundInfo.getOriginalTable().getValue());
+        if (!table.containsColumn(boundInfo.getOriginalColumn().getValue())) {
+            return false;
+        }
+        ShardingSphereColumn columnMetaData = table.getColumn(boundInfo.getOriginalColumn().getValue());
+        return (!columnMetaData.isNullable() || columnMetaData.isPrimaryKey()) && EXACT_NUMERIC_DATA_TYPES.contains(columnMetaData.getDataType());
+    }
+    
+    private boolean isProjectionAlias(final SelectStatementContext selectStatementContext, final String columnName) {
+        for (Projection each : selectStatementContext.getProjectionsContext().getProjections()) {
+            if (each.getAlias().map(optional -> columnName.equalsIgnoreCase(optional.getValue())).orElse(false)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private Collection<ExecutionUnit> createProbeExecutionUnits(final SQLRewriteContext sqlRewriteContext, final SelectStatementContext selectStatementContext,
+                                                                final String columnName, final long probeRowCount) {
+        SelectStatement selectStatement = selectStatementContext.getSqlStatement();
+        ProjectionsSegment projections = selectStatement.getProjections();
+        LimitSegment limit = selectStatement.getLimit().get();
+        List<SQLToken> sqlTokens = new LinkedList<>();
+        sqlTokens.add(new PaginationSeekSubstituteToken(projections.getStartIndex(), projections.getStopIndex(), columnName));
+        sqlTokens.add(new PaginationSeekSubstituteToken(limit.getStartIndex(), limit.getStopIndex(), "LIMIT " + probeRowCount));
+        RemoveTokenGenerator removeTokenGenerator = new RemoveTokenGenerator();
+        if (removeTokenGenerator.isGenerateSQLToken(selectStatementContext)) {
+            sqlTokens.addAll(removeTokenGenerator.generateSQLTokens(selectStatementContext));
+        }
+        ShardingTableTokenGenerator tableTokenGenerator = new ShardingTableTokenGenerator(rule);
+        tableTokenGenerator.setRouteContext(routeContext);
+        if (tableTokenGenerator.isGenerateSQLToken(selectStatementContext)) {
+            sqlTokens.addAll(tableTokenGenerator.generateSQLTokens(selectStatementContext));
+        }
+        List<Object> params = getProbeParameters(selectStatement, sqlRewriteContext.getParameters(), projections, limit);
+        Collection<ExecutionUnit> result = new LinkedList<>();
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            String sql = new RouteSQLBuilder(sqlRewriteContext.getSql(), new ArrayList<>(sqlTokens), each).toSQL();
+            result.add(new ExecutionUnit(each.getDataSourceMapper().getActualName(), new SQLUnit(sql, params)));
+        }
+        return result;
+    }
+    
+    private List<Object> getProbeParameters(final SelectStatement selectStatement, final List<Object> params, final ProjectionsSegment projections, final LimitSegment limit) {
+        return selectStatement.getParameterMarkers().stream().filter(each -> !isContained(each, projections.getStartIndex(), projections.getStopIndex())
+                && !isContained(each, limit.getStartIndex(), limit.getStopIndex())).sorted(Comparator.comparingInt(ParameterMarkerSegment::getStartIndex))
+                .map(each -> params.get(each.getParameterIndex())).collect(Collectors.toList());
+    }
+    
+    private boolean isContained(final ParameterMarkerSegment parameterMarker, final int startIndex, final int stopIndex) {
+        return parameterMarker.getStartIndex() >= startIndex && parameterMarker.getStopIndex() <= stopIndex;
+    }
+}
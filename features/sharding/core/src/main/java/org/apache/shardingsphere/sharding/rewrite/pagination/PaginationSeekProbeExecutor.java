@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.pagination;
+
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.session.connection.probe.ProbeQuery;
+import org.apache.shardingsphere.infra.session.connection.probe.ProbeQueryExecutor;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Pagination seek probe executor.
+ * 
+ * <p>Probe SQL of each route unit only selects the order by column, probes are executed by probe query executor of session with the query timeout.</p>
+ */
+public final class PaginationSeekProbeExecutor {
+    
+    /**
+     * Execute probe SQLs.
+     *
+     * @param probeQueryExecutor probe query executor of session
+     * @param databaseName database name
+     * @param executionUnits execution units of probe SQLs
+     * @param queryTimeoutSeconds query timeout in seconds
+     * @return sorted order by values of each execution unit, empty if any probe failed or any order by value is not an exact number
+     */
+    public Optional<List<List<BigDecimal>>> execute(final ProbeQueryExecutor probeQueryExecutor, final String databaseName, final Collection<ExecutionUnit> executionUnits,
+                                                    final int queryTimeoutSeconds) {
+        List<ProbeQuery> probeQueries = new ArrayList<>(executionUnits.size());
+        for (ExecutionUnit each : executionUnits) {
+            probeQueries.add(new ProbeQuery(each.getDataSourceName(), each.getSqlUnit().getSql(), each.getSqlUnit().getParameters()));
+        }
+        List<List<Object>> probedValues;
+        try {
+            probedValues = probeQueryExecutor.execute(databaseName, probeQueries, queryTimeoutSeconds);
+        } catch (final SQLException ignored) {
+            return Optional.empty();
+        }
+        List<List<BigDecimal>> result = new ArrayList<>(probedValues.size());
+        for (List<Object> each : probedValues) {
+            Optional<List<BigDecimal>> values = toExactNumbers(each);
+            if (!values.isPresent()) {
+                return Optional.empty();
+            }
+            result.add(values.get());
+        }
+        return Optional.of(result);
+    }
+    
+    private Optional<List<BigDecimal>> toExactNumbers(final List<Object> values) {
+        List<BigDecimal> result = new ArrayList<>(values.size());
+        for (Object each : values) {
+            Optional<BigDecimal> value = toExactNumber(each);
+            if (!value.isPresent()) {
+                return Optional.empty();
+            }
+            result.add(value.get());
+        }
+        return Optional.of(result);
+    }
+    
+    private Optional<BigDecimal> toExactNumber(final Object value) {
+        if (value instanceof BigDecimal) {
+            return Optional.of((BigDecimal) value);
+        }
+        if (value instanceof BigInteger) {
+            return Optional.of(new BigDecimal((BigInteger) value));
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return Optional.of(BigDecimal.valueOf(((Number) value).longValue()));
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.token.generator.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.rewrite.sql.token.common.generator.CollectionSQLTokenGenerator;
+import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.SQLToken;
+import org.apache.shardingsphere.sharding.rewrite.pagination.PaginationSeekBoundary;
+import org.apache.shardingsphere.sharding.rewrite.token.pojo.PaginationSeekSubstituteToken;
+import org.apache.shardingsphere.sharding.rewrite.token.pojo.PaginationSeekToken;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.predicate.WhereSegment;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Sharding pagination seek token generator.
+ */
+@RequiredArgsConstructor
+public final class ShardingPaginationSeekTokenGenerator implements CollectionSQLTokenGenerator<SelectStatementContext> {
+    
+    private static final String WHERE_KEYWORD = "WHERE";
+    
+    private final PaginationSeekBoundary boundary;
+    
+    @Override
+    public boolean isGenerateSQLToken(final SQLStatementContext sqlStatementContext) {
+        return sqlStatementContext instanceof SelectStatementContext && ((SelectStatementContext) sqlStatementContext).getPaginationContext().isSeekOffsetApplied()
+                && ((SelectStatementContext) sqlStatementContext).getSqlStatement().getOrderBy().isPresent();
+    }
+    
+    @Override
+    public Collection<SQLToken> generateSQLTokens(final SelectStatementContext sqlStatementContext) {
+        String condition = boundary.getColumnName() + (OrderDirection.ASC == boundary.getOrderDirection() ? " >= " : " <= ") + boundary.getValue().toPlainString();
+        Optional<WhereSegment> where = sqlStatementContext.getSqlStatement().getWhere();
+        if (where.isPresent()) {
+            int whereKeywordStopIndex = where.get().getStartIndex() + WHERE_KEYWORD.length() - 1;
+            return Arrays.asList(new PaginationSeekSubstituteToken(where.get().getStartIndex(), whereKeywordStopIndex, WHERE_KEYWORD + " ("),
+                    new PaginationSeekToken(where.get().getStopIndex() + 1, ") AND " + condition));
+        }
+        return Collections.singleton(new PaginationSeekToken(sqlStatementContext.getSqlStatement().getOrderBy().get().getStartIndex(), WHERE_KEYWORD + " " + condition + " "));
+    }
+}
@@ -96,6 +96,8 @@ public final class ShardingRule implements DatabaseRule {
     
     private final Map<String, ShardingTable> shardingTables = new CaseInsensitiveMap<>();
     
+    private final Map<String, ShardingTable> actualTableShardingTables;
+    
     private final Map<String, BindingTableRule> bindingTableRules = new CaseInsensitiveMap<>();
     
     private final ShardingStrategyConfiguration defaultDatabaseShardingStrategyConfig;
@@ -123,6 +125,7 @@ public final class ShardingRule implements DatabaseRule {
         ruleConfig.getAuditors().forEach((key, value) -> auditors.put(key, TypedSPILoader.getService(ShardingAuditAlgorithm.class, value.getType(), value.getProps())));
         shardingTables.putAll(createShardingTables(ruleConfig.getTables(), ruleConfig.getDefaultKeyGenerateStrategy()));
         shardingTables.putAll(createShardingAutoTables(ruleConfig.getAutoTables(), ruleConfig.getDefaultKeyGenerateStrategy()));
+        actualTableShardingTables = createActualTableShardingTables(shardingTables.values());
         bindingTableRules.putAll(createBindingTableRules(ruleConfig.getBindingTableGroups()));
         defaultDatabaseShardingStrategyConfig = createDefaultDatabaseShardingStrategyConfiguration(ruleConfig);
         defaultTableShardingStrategyConfig = createDefaultTableShardingStrategyConfiguration(ruleConfig);
@@ -140,11 +143,21 @@ public final class ShardingRule implements DatabaseRule {
         // TODO check sharding rule configuration according to aggregated data sources
         Map<String, DataSource> aggregatedDataSources = new RuleMetaData(builtRules).findAttribute(AggregatedDataSourceRuleAttribute.class)
                 .map(AggregatedDataSourceRuleAttribute::getAggregatedDataSources).orElseGet(() -> PhysicalDataSourceAggregator.getAggregatedDataSources(dataSources, builtRules));
-        attributes = new RuleAttributes(new ShardingDataNodeRuleAttribute(shardingTables), new ShardingTableNamesRuleAttribute(shardingTables.values()),
+        attributes = new RuleAttributes(new ShardingDataNodeRuleAttribute(shardingTables, actualTableShardingTables), new ShardingTableNamesRuleAttribute(shardingTables.values()),
                 new AggregatedDataSourceRuleAttribute(aggregatedDataSources));
         shardingRuleChecker.check(ruleConfig);
     }
     
+    private Map<String, ShardingTable> createActualTableShardingTables(final Collection<ShardingTable> shardingTables) {
+        Map<String, ShardingTable> result = new CaseInsensitiveMap<>();
+        for (ShardingTable each : shardingTables) {
+            for (DataNode actualDataNode : each.getActualDataNodes()) {
+                result.putIfAbsent(actualDataNode.getTableName(), each);
+            }
+        }
+        return result;
+    }
+    
     private ShardingStrategyConfiguration createDefaultDatabaseShardingStrategyConfiguration(final ShardingRuleConfiguration ruleConfig) {
         Optional.ofNullable(ruleConfig.getDefaultDatabaseShardingStrategy()).ifPresent(optional -> checkManualShardingAlgorithm(optional.getShardingAlgorithmName(), "default"));
         return null == ruleConfig.getDefaultDatabaseShardingStrategy() ? new NoneShardingStrategyConfiguration() : ruleConfig.getDefaultDatabaseShardingStrategy();
@@ -296,12 +309,7 @@ public final class ShardingRule implements DatabaseRule {
      * @return sharding table
      */
     public Optional<ShardingTable> findShardingTableByActualTable(final String actualTableName) {
-        for (ShardingTable each : shardingTables.values()) {
-            if (each.isExisted(actualTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.empty();
+        return Strings.isNullOrEmpty(actualTableName) ? Optional.empty() : Optional.ofNullable(actualTableShardingTables.get(actualTableName));
     }
     
     /**
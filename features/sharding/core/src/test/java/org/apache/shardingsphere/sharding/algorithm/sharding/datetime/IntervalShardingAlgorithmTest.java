@@ -43,6 +43,7 @@ import java.time.YearMonth;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.time.temporal.UnsupportedTemporalTypeException;
 import java.util.Collection;
 import java.util.Date;
@@ -53,6 +54,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class IntervalShardingAlgorithmTest {
     
@@ -319,6 +321,36 @@ class IntervalShardingAlgorithmTest {
         assertThat(actualAsString.size(), is(7));
     }
     
+    @Test
+    void assertRangeDoShardingWithTenThousandDailyTables() {
+        LocalDate lower = LocalDate.of(2000, 1, 1);
+        IntervalShardingAlgorithm algorithm = createAlgorithm("yyyy-MM-dd", "2000-01-01", lower.plusDays(9999L).toString(), "yyyyMMdd", 1, "Days");
+        Collection<String> availableTargetNames = new LinkedList<>();
+        for (int i = 0; i < 10000; i++) {
+            availableTargetNames.add(String.format("t_order_%s", lower.plusDays(i).format(DateTimeFormatter.ofPattern("yyyyMMdd"))));
+        }
+        for (int i = 0; i < 1000; i++) {
+            LocalDate rangeLower = lower.plusDays(i * 9L);
+            Collection<String> actual = algorithm.doSharding(availableTargetNames, createShardingValue(rangeLower.toString(), rangeLower.plusDays(6L).toString()));
+            assertThat(actual.size(), is(7));
+            assertTrue(actual.contains(String.format("t_order_%s", rangeLower.format(DateTimeFormatter.ofPattern("yyyyMMdd")))));
+        }
+        assertThat(algorithm.doSharding(availableTargetNames, createShardingValue("2010-01-01", "2099-12-31")).size(), is(10000 - (int) ChronoUnit.DAYS.between(lower, LocalDate.of(2010, 1, 1))));
+        assertTrue(algorithm.doSharding(availableTargetNames, createShardingValue("1990-01-01", "1999-12-31")).isEmpty());
+        assertTrue(algorithm.doSharding(availableTargetNames, createShardingValue("2030-01-01", "2030-12-31")).isEmpty());
+    }
+    
+    @Test
+    void assertDoShardingAfterAvailableTargetNamesChanged() {
+        IntervalShardingAlgorithm algorithm = createAlgorithm("yyyy-MM-dd", "2021-06-01", "2021-06-30", "yyyyMMdd", 1, "Days");
+        Collection<String> availableTargetNames = new LinkedList<>();
+        availableTargetNames.add("t_order_20210601");
+        assertThat(algorithm.doSharding(availableTargetNames, createShardingValue("2021-06-01", "2021-06-02")).size(), is(1));
+        availableTargetNames.add("t_order_20210602");
+        assertThat(algorithm.doSharding(availableTargetNames, createShardingValue("2021-06-01", "2021-06-02")).size(), is(2));
+        assertThat(algorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2021-06-02")), is("t_order_20210602"));
+    }
+    
     private IntervalShardingAlgorithm createAlgorithm(final String datetimePattern, final String datetimeLower,
                                                       final String datetimeUpper, final String shardingSuffixPattern,
                                                       final Integer datetimeIntervalAmount, final String datetimeIntervalUnit) {
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.sharding.cache.route.plan;
+
+import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class ShardingRoutePlanCacheTest {
+    
+    @Test
+    void assertPutAndGetRoutePlan() {
+        ShardingRoutePlanCache cache = new ShardingRoutePlanCache(new ShardingCacheOptionsConfiguration(true, 1, 1));
+        assertFalse(cache.get("select name from t where id = ?").isPresent());
+        ShardingRoutePlan routePlan = mock(ShardingRoutePlan.class);
+        cache.put("select name from t where id = ?", new ShardingRoutePlanCacheValue(routePlan));
+        assertThat(cache.get("select name from t where id = ?").flatMap(ShardingRoutePlanCacheValue::getRoutePlan).orElse(null), is(routePlan));
+    }
+    
+    @Test
+    void assertPutAndGetUncompilable() {
+        ShardingRoutePlanCache cache = new ShardingRoutePlanCache(new ShardingCacheOptionsConfiguration(true, 1, 1));
+        cache.put("select name from t where id in (select id from t)", new ShardingRoutePlanCacheValue(null));
+        assertTrue(cache.get("select name from t where id in (select id from t)").isPresent());
+        assertFalse(cache.get("select name from t where id in (select id from t)").flatMap(ShardingRoutePlanCacheValue::getRoutePlan).isPresent());
+    }
+    
+    @Test
+    void assertRecordRoutes() {
+        ShardingRoutePlanCache cache = new ShardingRoutePlanCache(new ShardingCacheOptionsConfiguration(true, 1, 1));
+        cache.recordHit(10L);
+        cache.recordHit(20L);
+        cache.recordMiss();
+        assertThat(cache.getHitCount(), is(2L));
+        assertThat(cache.getMissCount(), is(1L));
+        assertThat(cache.getRouteNanos(), is(30L));
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.route.plan;
+
+import org.apache.groovy.util.Maps;
+import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstance;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
+import org.apache.shardingsphere.parser.config.SQLParserRuleConfiguration;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheConfiguration;
+import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingAutoTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.route.engine.ShardingSQLRouter;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.test.infra.fixture.jdbc.MockedDataSource;
+import org.apache.shardingsphere.timeservice.config.TimestampServiceRuleConfiguration;
+import org.apache.shardingsphere.timeservice.core.rule.TimestampServiceRule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ShardingRoutePlanCompilerTest {
+    
+    private static final String DATABASE_NAME = "sharding_db";
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "PostgreSQL");
+    
+    private final ConfigurationProperties props = new ConfigurationProperties(new Properties());
+    
+    private final Collection<String> tableNames = Collections.singleton("t_warehouse");
+    
+    private ShardingRule shardingRule;
+    
+    private RuleMetaData globalRuleMetaData;
+    
+    private ShardingSphereDatabase database;
+    
+    @BeforeEach
+    void setUp() {
+        shardingRule = createShardingRule();
+        TimestampServiceRule timestampServiceRule = new TimestampServiceRule(new TimestampServiceRuleConfiguration("System", new Properties()));
+        globalRuleMetaData = new RuleMetaData(Collections.singleton(timestampServiceRule));
+        database = createDatabase(timestampServiceRule);
+    }
+    
+    private ShardingRule createShardingRule() {
+        ShardingRuleConfiguration ruleConfig = new ShardingRuleConfiguration();
+        ruleConfig.getShardingAlgorithms().put("mod", new AlgorithmConfiguration("MOD", PropertiesBuilder.build(new Property("sharding-count", "4"))));
+        ShardingAutoTableRuleConfiguration warehouse = new ShardingAutoTableRuleConfiguration("t_warehouse", "ds_${0..1}");
+        warehouse.setShardingStrategy(new StandardShardingStrategyConfiguration("id", "mod"));
+        ruleConfig.getAutoTables().add(warehouse);
+        ruleConfig.setShardingCache(new ShardingCacheConfiguration(100, new ShardingCacheOptionsConfiguration(true, 16, 128)));
+        ComputeNodeInstanceContext instanceContext = new ComputeNodeInstanceContext(mock(ComputeNodeInstance.class), null, null);
+        instanceContext.init(props -> 0);
+        return new ShardingRule(ruleConfig, Maps.of("ds_0", new MockedDataSource(), "ds_1", new MockedDataSource()), instanceContext, Collections.emptyList());
+    }
+    
+    private ShardingSphereDatabase createDatabase(final TimestampServiceRule timestampServiceRule) {
+        ShardingSphereSchema schema = new ShardingSphereSchema("public");
+        schema.putTable(new ShardingSphereTable("t_warehouse", Arrays.asList(
+                new ShardingSphereColumn("id", Types.INTEGER, true, false, false, true, false, false),
+                new ShardingSphereColumn("warehouse_name", Types.VARCHAR, false, false, false, true, false, false)),
+                Collections.emptyList(), Collections.emptyList()));
+        return new ShardingSphereDatabase(DATABASE_NAME, databaseType,
+                new ResourceMetaData(Collections.emptyMap()), new RuleMetaData(Arrays.asList(shardingRule, timestampServiceRule)), Collections.singleton(schema));
+    }
+    
+    @Test
+    void assertCompilePointQuery() {
+        QueryContext queryContext = createQueryContext("select * from t_warehouse where id = ?", Collections.singletonList(1));
+        RouteContext routeContext = createRouteContext(queryContext);
+        Optional<ShardingRoutePlan> actual = new ShardingRoutePlanCompiler(shardingRule).compile(queryContext, globalRuleMetaData, database, tableNames, routeContext, props);
+        assertTrue(actual.isPresent());
+        for (int i = 0; i < 8; i++) {
+            QueryContext otherQueryContext = createQueryContext("select * from t_warehouse where id = ?", Collections.singletonList(i));
+            RouteContext expected = createRouteContext(otherQueryContext);
+            Optional<RouteContext> actualRouteContext = actual.get().route(otherQueryContext.getParameters(), props);
+            assertTrue(actualRouteContext.isPresent());
+            assertThat(actualRouteContext.get().getRouteUnits(), is(expected.getRouteUnits()));
+            assertThat(actualRouteContext.get().getOriginalDataNodes(), is(expected.getOriginalDataNodes()));
+        }
+    }
+    
+    @Test
+    void assertRouteWithMismatchedParameterType() {
+        QueryContext queryContext = createQueryContext("select * from t_warehouse where id = ?", Collections.singletonList(1));
+        Optional<ShardingRoutePlan> actual = new ShardingRoutePlanCompiler(shardingRule).compile(queryContext, globalRuleMetaData, database, tableNames, createRouteContext(queryContext), props);
+        assertTrue(actual.isPresent());
+        assertFalse(actual.get().route(Collections.singletonList(1L), props).isPresent());
+        assertFalse(actual.get().route(Collections.singletonList(null), props).isPresent());
+        assertFalse(actual.get().route(Collections.emptyList(), props).isPresent());
+    }
+    
+    @Test
+    void assertCompileLiteralPointQuery() {
+        QueryContext queryContext = createQueryContext("select * from t_warehouse where id = 5 and warehouse_name = ?", Collections.singletonList("foo"));
+        Optional<ShardingRoutePlan> actual = new ShardingRoutePlanCompiler(shardingRule).compile(queryContext, globalRuleMetaData, database, tableNames, createRouteContext(queryContext), props);
+        assertTrue(actual.isPresent());
+        Optional<RouteContext> actualRouteContext = actual.get().route(Collections.singletonList("bar"), props);
+        assertTrue(actualRouteContext.isPresent());
+        assertThat(actualRouteContext.get().getOriginalDataNodes(), is(Collections.singletonList(Collections.singletonList(new DataNode("ds_1", "t_warehouse_1")))));
+        assertThat(actualRouteContext.get().getRouteUnits(),
+                is(Collections.singleton(new RouteUnit(new RouteMapper("ds_1", "ds_1"), Collections.singleton(new RouteMapper("t_warehouse", "t_warehouse_1"))))));
+    }
+    
+    @Test
+    void assertCompileNotPointQuery() {
+        assertNotCompilable("select * from t_warehouse where id in (?, ?)", Arrays.asList(1, 2));
+        assertNotCompilable("select * from t_warehouse where id between ? and ?", Arrays.asList(1, 2));
+        assertNotCompilable("select * from t_warehouse where warehouse_name = ?", Collections.singletonList("foo"));
+        assertNotCompilable("select * from t_warehouse where id = (select max(id) from t_warehouse)", Collections.emptyList());
+    }
+    
+    private void assertNotCompilable(final String sql, final List<Object> params) {
+        QueryContext queryContext = createQueryContext(sql, params);
+        assertFalse(new ShardingRoutePlanCompiler(shardingRule).compile(queryContext, globalRuleMetaData, database, tableNames, createRouteContext(queryContext), props).isPresent());
+    }
+    
+    @Test
+    void assertRouteByCachedPlan() {
+        ShardingRoutePlanCache routePlanCache = shardingRule.getShardingCache().getRoutePlanCache();
+        RouteContext first = new ShardingSQLRouter().createRouteContext(
+                createQueryContext("select * from t_warehouse where id = ?", Collections.singletonList(1)), globalRuleMetaData, database, shardingRule, tableNames, props);
+        assertThat(routePlanCache.getMissCount(), is(1L));
+        assertThat(routePlanCache.getHitCount(), is(0L));
+        assertTrue(routePlanCache.get("select * from t_warehouse where id = ?").flatMap(ShardingRoutePlanCacheValue::getRoutePlan).isPresent());
+        RouteContext second = new ShardingSQLRouter().createRouteContext(
+                createQueryContext("select * from t_warehouse where id = ?", Collections.singletonList(6)), globalRuleMetaData, database, shardingRule, tableNames, props);
+        assertThat(routePlanCache.getMissCount(), is(1L));
+        assertThat(routePlanCache.getHitCount(), is(1L));
+        assertThat(first.getOriginalDataNodes(), is(Collections.singletonList(Collections.singletonList(new DataNode("ds_1", "t_warehouse_1")))));
+        assertThat(second.getOriginalDataNodes(), is(Collections.singletonList(Collections.singletonList(new DataNode("ds_0", "t_warehouse_2")))));
+    }
+    
+    private RouteContext createRouteContext(final QueryContext queryContext) {
+        return new ShardingSQLRouter().createRouteContext(queryContext, globalRuleMetaData, database, createShardingRuleWithoutCache(), tableNames, props);
+    }
+    
+    private ShardingRule createShardingRuleWithoutCache() {
+        ShardingRuleConfiguration ruleConfig = new ShardingRuleConfiguration();
+        ruleConfig.getShardingAlgorithms().putAll(shardingRule.getConfiguration().getShardingAlgorithms());
+        ruleConfig.getAutoTables().addAll(shardingRule.getConfiguration().getAutoTables());
+        ComputeNodeInstanceContext instanceContext = new ComputeNodeInstanceContext(mock(ComputeNodeInstance.class), null, null);
+        instanceContext.init(props -> 0);
+        return new ShardingRule(ruleConfig, Maps.of("ds_0", new MockedDataSource(), "ds_1", new MockedDataSource()), instanceContext, Collections.emptyList());
+    }
+    
+    private QueryContext createQueryContext(final String sql, final List<Object> params) {
+        SQLStatementContext sqlStatementContext = new SQLBindEngine(
+                new ShardingSphereMetaData(Collections.singleton(database), mock(ResourceMetaData.class), mock(RuleMetaData.class), mock(ConfigurationProperties.class)),
+                DATABASE_NAME, new HintValueContext()).bind(parse(sql));
+        return new QueryContext(sqlStatementContext, sql, params, new HintValueContext(), mockConnectionContext(), mock(ShardingSphereMetaData.class));
+    }
+    
+    private ConnectionContext mockConnectionContext() {
+        ConnectionContext result = mock(ConnectionContext.class);
+        when(result.getCurrentDatabaseName()).thenReturn(Optional.of(DATABASE_NAME));
+        return result;
+    }
+    
+    private SQLStatement parse(final String sql) {
+        SQLParserRule sqlParserRule = new SQLParserRule(new SQLParserRuleConfiguration(new CacheOption(0, 0L), new CacheOption(0, 0L)));
+        return sqlParserRule.getSQLParserEngine(databaseType).parse(sql, false);
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.AggregationProjectionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.GroupBySegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.SelectStatement;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GroupByHashMergedResultTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "SQL92");
+    
+    @Test
+    void assertNextForResultSetsAllEmpty() throws SQLException {
+        MergedResult actual = merge(1024L * 1024L, createQueryResult(), createQueryResult());
+        assertThat(actual, instanceOf(GroupByHashMergedResult.class));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextInMemory() throws SQLException {
+        assertMergedResult(merge(1024L * 1024L,
+                createQueryResult(new Object[]{20, 0, 2, 2, 20}), createQueryResult(), createQueryResult(new Object[]{20, 0, 2, 2, 20}, new Object[]{30, 0, 3, 3, 30})));
+    }
+    
+    @Test
+    void assertNextWithSpill() throws SQLException {
+        assertMergedResult(merge(1L, createQueryResult(new Object[]{20, 0, 2, 2, 20}), createQueryResult(), createQueryResult(new Object[]{20, 0, 2, 2, 20}, new Object[]{30, 0, 3, 3, 30})));
+    }
+    
+    @Test
+    void assertNextWithSpillManyGroups() throws SQLException {
+        Object[][] rows = new Object[1000][];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = new Object[]{1L, 0, i % 100, 1L, (long) i};
+        }
+        assertManyGroupsMergedResult(merge(1024L, createQueryResult(rows), createQueryResult(rows)));
+    }
+    
+    @Test
+    void assertNextWithRecursiveSpill() throws SQLException, IOException {
+        Object[][] rows = new Object[1000][];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = new Object[]{1L, 0, i % 100, 1L, (long) i};
+        }
+        long originalPartitionFileCount = countSpillFiles("shardingsphere-group-by-partition-");
+        assertManyGroupsMergedResult(merge(1L, createQueryResult(rows), createQueryResult(rows)));
+        assertThat(countSpillFiles("shardingsphere-group-by-partition-"), is(originalPartitionFileCount));
+    }
+    
+    @Test
+    void assertCloseBeforeAllSpilledRowsRead() throws SQLException, IOException {
+        Object[][] rows = new Object[1000][];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = new Object[]{1L, 0, i % 100, 1L, (long) i};
+        }
+        long originalRunFileCount = countSpillFiles("shardingsphere-group-by-run-");
+        MergedResult actual = merge(1024L, createQueryResult(rows), createQueryResult(rows));
+        assertTrue(actual.next());
+        assertTrue(countSpillFiles("shardingsphere-group-by-run-") > originalRunFileCount);
+        actual.close();
+        assertThat(countSpillFiles("shardingsphere-group-by-run-"), is(originalRunFileCount));
+        actual.close();
+    }
+    
+    @Test
+    void assertMergeWithUnencodableColumn() throws SQLException {
+        MergedResult actual = merge(1L, createQueryResult(Types.JAVA_OBJECT, new Object[]{20, 0, 2, 2, 20}), createQueryResult(Types.JAVA_OBJECT, new Object[]{30, 0, 3, 3, 30}));
+        assertThat(actual, instanceOf(GroupByMemoryMergedResult.class));
+    }
+    
+    private long countSpillFiles(final String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(Paths.get(System.getProperty("java.io.tmpdir")))) {
+            return files.filter(each -> each.getFileName().toString().startsWith(prefix)).count();
+        }
+    }
+    
+    private void assertMergedResult(final MergedResult actual) throws SQLException {
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(30)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat(actual.getValue(3, Object.class), is(3));
+        assertThat(actual.getValue(4, Object.class), is(new BigDecimal(3)));
+        assertThat(actual.getValue(5, Object.class), is(new BigDecimal(30)));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(40)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat(actual.getValue(3, Object.class), is(2));
+        assertThat(actual.getValue(4, Object.class), is(new BigDecimal(4)));
+        assertThat(actual.getValue(5, Object.class), is(new BigDecimal(40)));
+        assertFalse(actual.next());
+    }
+    
+    private void assertManyGroupsMergedResult(final MergedResult actual) throws SQLException {
+        for (int i = 99; i >= 0; i--) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(new BigDecimal(20)));
+            assertThat(actual.getValue(3, Object.class), is(i));
+            assertThat(actual.getValue(4, Object.class), is(new BigDecimal(20)));
+            assertThat(actual.getValue(5, Object.class), is(new BigDecimal(2 * (4500 + 10 * i))));
+        }
+        assertFalse(actual.next());
+    }
+    
+    private MergedResult merge(final long memoryLimit, final QueryResult... queryResults) throws SQLException {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("db_schema");
+        ConfigurationProperties props = new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.GROUP_BY_MERGE_MEMORY_LIMIT.getKey(), String.valueOf(memoryLimit))));
+        return new ShardingDQLResultMerger(databaseType, props).merge(Arrays.asList(queryResults), createSelectStatementContext(), database, mock(ConnectionContext.class));
+    }
+    
+    private QueryResult createQueryResult(final Object[]... rows) {
+        return createQueryResult(Types.INTEGER, rows);
+    }
+    
+    private QueryResult createQueryResult(final int groupByColumnType, final Object[]... rows) {
+        List<RawQueryResultColumnMetaData> columns = Arrays.asList(createColumnMetaData("COUNT(*)", Types.INTEGER), createColumnMetaData("AVG(num)", Types.INTEGER),
+                createColumnMetaData("id", groupByColumnType), createColumnMetaData("AVG_DERIVED_COUNT_0", Types.INTEGER), createColumnMetaData("AVG_DERIVED_SUM_0", Types.INTEGER));
+        List<MemoryQueryResultDataRow> dataRows = new LinkedList<>();
+        for (Object[] each : rows) {
+            dataRows.add(new MemoryQueryResultDataRow(Arrays.asList(each)));
+        }
+        return new RawMemoryQueryResult(new RawQueryResultMetaData(columns), dataRows);
+    }
+    
+    private RawQueryResultColumnMetaData createColumnMetaData(final String label, final int columnType) {
+        return new RawQueryResultColumnMetaData("", label, label, columnType, "INTEGER", 11, 0);
+    }
+    
+    private SelectStatementContext createSelectStatementContext() {
+        SelectStatement selectStatement = new SelectStatement(databaseType);
+        ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.COUNT, "COUNT(*)"));
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.AVG, "AVG(num)"));
+        selectStatement.setProjections(projectionsSegment);
+        selectStatement.setGroupBy(new GroupBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, NullsOrderType.FIRST))));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.DESC, NullsOrderType.FIRST))));
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("foo_db");
+        return new SelectStatementContext(selectStatement, new ShardingSphereMetaData(Collections.singleton(database), mock(), mock(), mock()), "foo_db", Collections.emptyList());
+    }
+}
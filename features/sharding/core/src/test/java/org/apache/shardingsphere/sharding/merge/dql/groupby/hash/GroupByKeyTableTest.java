@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.hash;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class GroupByKeyTableTest {
+    
+    @Test
+    void assertFindAndAdd() {
+        GroupByKeyTable keyTable = new GroupByKeyTable();
+        for (int i = 0; i < 5000; i++) {
+            byte[] key = ("key_" + i).getBytes(StandardCharsets.UTF_8);
+            int hash = GroupByKeyTable.hash(key, key.length);
+            assertThat(keyTable.find(key, key.length, hash), is(-1));
+            assertThat(keyTable.add(key, key.length, hash), is(i));
+        }
+        assertThat(keyTable.size(), is(5000));
+        for (int i = 0; i < 5000; i++) {
+            byte[] key = ("key_" + i + "_suffix").getBytes(StandardCharsets.UTF_8);
+            int length = key.length - "_suffix".length();
+            assertThat(keyTable.find(key, length, GroupByKeyTable.hash(key, length)), is(i));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.hash;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.IndexOrderByItemSegment;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GroupByPartialHashAggregationTest {
+    
+    @Test
+    void assertAggregateWithinMaxGroupCount() throws SQLException {
+        OrderByItem groupByItem = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, NullsOrderType.FIRST));
+        groupByItem.setIndex(1);
+        Collection<OrderByItem> groupByItems = Collections.singleton(groupByItem);
+        GroupByHashAggregation finalAggregation = new GroupByHashAggregation(groupByItems, Collections.emptyList());
+        GroupByPartialHashAggregation actual = new GroupByPartialHashAggregation(groupByItems, Collections.emptyList(), finalAggregation, 2);
+        for (int i = 0; i < 10; i++) {
+            int value = i % 5;
+            actual.aggregate(columnIndex -> value, () -> new Object[]{value});
+            assertTrue(actual.getGroupCount() < 2);
+        }
+        actual.flush();
+        assertThat(actual.getGroupCount(), is(0));
+        assertThat(finalAggregation.getGroupCount(), is(5));
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.hash.accumulator;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class SumAccumulatorTest {
+    
+    @Test
+    void assertAccumulateIntegralValues() throws SQLException {
+        SumAccumulator accumulator = new SumAccumulator(1);
+        accumulator.ensureCapacity(2);
+        accumulator.accumulate(0, columnIndex -> 1);
+        accumulator.accumulate(0, columnIndex -> 2L);
+        accumulator.accumulate(0, columnIndex -> null);
+        assertThat(accumulator.getResult(0), is(new BigDecimal("3")));
+        assertNull(accumulator.getResult(1));
+    }
+    
+    @Test
+    void assertAccumulateDecimalValues() throws SQLException {
+        SumAccumulator accumulator = new SumAccumulator(1);
+        accumulator.ensureCapacity(1);
+        accumulator.accumulate(0, columnIndex -> 1);
+        accumulator.accumulate(0, columnIndex -> new BigDecimal("1.50"));
+        assertThat(accumulator.getResult(0), is(new BigDecimal("2.50")));
+    }
+    
+    @Test
+    void assertAccumulateOverflowedValues() throws SQLException {
+        SumAccumulator accumulator = new SumAccumulator(1);
+        accumulator.ensureCapacity(1);
+        accumulator.accumulate(0, columnIndex -> Long.MAX_VALUE);
+        accumulator.accumulate(0, columnIndex -> Long.MAX_VALUE);
+        accumulator.accumulate(0, columnIndex -> 2);
+        assertThat(accumulator.getResult(0), is(BigDecimal.valueOf(Long.MAX_VALUE).multiply(BigDecimal.valueOf(2L)).add(BigDecimal.valueOf(2L))));
+    }
+    
+    @Test
+    void assertCombine() throws SQLException {
+        SumAccumulator accumulator = new SumAccumulator(1);
+        accumulator.ensureCapacity(2);
+        accumulator.accumulate(0, columnIndex -> 1);
+        SumAccumulator partial = new SumAccumulator(1);
+        partial.ensureCapacity(3);
+        partial.accumulate(1, columnIndex -> 2L);
+        partial.accumulate(1, columnIndex -> new BigDecimal("1.50"));
+        accumulator.combine(0, partial, 1);
+        accumulator.combine(1, partial, 2);
+        assertThat(accumulator.getResult(0), is(new BigDecimal("4.50")));
+        assertNull(accumulator.getResult(1));
+    }
+}
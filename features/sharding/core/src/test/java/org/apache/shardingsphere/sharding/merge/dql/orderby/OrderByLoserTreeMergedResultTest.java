@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.SelectStatement;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OrderByLoserTreeMergedResultTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "SQL92");
+    
+    @Test
+    void assertNextForResultSetsAllEmpty() throws SQLException {
+        List<List<Object[]>> shardRows = new ArrayList<>(16);
+        for (int i = 0; i < 16; i++) {
+            shardRows.add(Collections.emptyList());
+        }
+        MergedResult actual = merge(createSelectStatementContext(OrderDirection.ASC), shardRows);
+        assertThat(actual, instanceOf(OrderByLoserTreeMergedResult.class));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextForSomeResultSetsEmpty() throws SQLException {
+        List<List<Object[]>> shardRows = new ArrayList<>(16);
+        for (int i = 0; i < 16; i++) {
+            shardRows.add(Collections.emptyList());
+        }
+        shardRows.set(3, Arrays.asList(new Object[]{1, "a"}, new Object[]{3, "a"}));
+        shardRows.set(9, Collections.singletonList(new Object[]{2, "a"}));
+        shardRows.set(15, Arrays.asList(new Object[]{null, "a"}, new Object[]{3, "b"}));
+        MergedResult actual = merge(createSelectStatementContext(OrderDirection.ASC), shardRows);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) null));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(1));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(2));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(3));
+        assertThat(actual.getValue(2, Object.class), is("a"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(3));
+        assertThat(actual.getValue(2, Object.class), is("b"));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextWithSingleResultSet() throws SQLException {
+        SelectStatementContext selectStatementContext = createSelectStatementContext(OrderDirection.ASC);
+        merge(selectStatementContext, Collections.singletonList(Collections.emptyList()));
+        MergedResult actual = new OrderByLoserTreeMergedResult(
+                Collections.singletonList(createQueryResult(Arrays.asList(new Object[]{1, "a"}, new Object[]{2, "a"}))), selectStatementContext, mock(ShardingSphereSchema.class));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(1));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(2));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextSameAsPriorityQueueWithAscending() throws SQLException {
+        assertNextSameAsPriorityQueue(OrderDirection.ASC, 257);
+    }
+    
+    @Test
+    void assertNextSameAsPriorityQueueWithDescending() throws SQLException {
+        assertNextSameAsPriorityQueue(OrderDirection.DESC, 300);
+    }
+    
+    private void assertNextSameAsPriorityQueue(final OrderDirection orderDirection, final int shardCount) throws SQLException {
+        Random random = new Random(shardCount);
+        List<List<Object[]>> shardRows = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            int rowCount = random.nextInt(20);
+            List<Object[]> rows = new ArrayList<>(rowCount);
+            int value = OrderDirection.ASC == orderDirection ? 0 : 1000;
+            for (int j = 0; j < rowCount; j++) {
+                value += OrderDirection.ASC == orderDirection ? random.nextInt(5) : -random.nextInt(5);
+                rows.add(new Object[]{value, "shard_" + i});
+            }
+            shardRows.add(rows);
+        }
+        SelectStatementContext selectStatementContext = createSelectStatementContext(orderDirection);
+        MergedResult actual = merge(selectStatementContext, shardRows);
+        assertThat(actual, instanceOf(OrderByLoserTreeMergedResult.class));
+        MergedResult expected = new OrderByStreamMergedResult(createQueryResults(shardRows), selectStatementContext, mock(ShardingSphereSchema.class));
+        int rowCount = 0;
+        while (expected.next()) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(expected.getValue(1, Object.class)));
+            assertThat(actual.getValue(2, Object.class), is(expected.getValue(2, Object.class)));
+            rowCount++;
+        }
+        assertFalse(actual.next());
+        assertThat(rowCount, is(shardRows.stream().mapToInt(List::size).sum()));
+    }
+    
+    private MergedResult merge(final SelectStatementContext selectStatementContext, final List<List<Object[]>> shardRows) throws SQLException {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("foo_db");
+        return new ShardingDQLResultMerger(databaseType).merge(createQueryResults(shardRows), selectStatementContext, database, mock(ConnectionContext.class));
+    }
+    
+    private List<QueryResult> createQueryResults(final List<List<Object[]>> shardRows) {
+        List<QueryResult> result = new ArrayList<>(shardRows.size());
+        for (List<Object[]> each : shardRows) {
+            result.add(createQueryResult(each));
+        }
+        return result;
+    }
+    
+    private QueryResult createQueryResult(final List<Object[]> rows) {
+        List<RawQueryResultColumnMetaData> columns = Arrays.asList(
+                new RawQueryResultColumnMetaData("", "col1", "col1", Types.INTEGER, "INTEGER", 11, 0), new RawQueryResultColumnMetaData("", "col2", "col2", Types.VARCHAR, "VARCHAR", 20, 0));
+        List<MemoryQueryResultDataRow> dataRows = new LinkedList<>();
+        for (Object[] each : rows) {
+            dataRows.add(new MemoryQueryResultDataRow(Arrays.asList(each)));
+        }
+        return new RawMemoryQueryResult(new RawQueryResultMetaData(columns), dataRows);
+    }
+    
+    private SelectStatementContext createSelectStatementContext(final OrderDirection orderDirection) {
+        SelectStatement selectStatement = new SelectStatement(databaseType);
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Arrays.asList(
+                new IndexOrderByItemSegment(0, 0, 1, orderDirection, NullsOrderType.FIRST), new IndexOrderByItemSegment(0, 0, 2, OrderDirection.ASC, NullsOrderType.FIRST))));
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("foo_db");
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(
+                Collections.singleton(database), mock(ResourceMetaData.class), mock(RuleMetaData.class), mock(ConfigurationProperties.class));
+        return new SelectStatementContext(selectStatement, metaData, "foo_db", Collections.emptyList());
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.pagination;
+
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PaginationSeekBoundaryTest {
+    
+    @Test
+    void assertFindWithAscendingOrder() {
+        Optional<PaginationSeekBoundary> actual = PaginationSeekBoundary.find("id", OrderDirection.ASC, Arrays.asList(values(1, 4, 7), values(2, 5, 8), values(3, 6, 9)), 4L);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getColumnName(), is("id"));
+        assertThat(actual.get().getValue(), is(BigDecimal.valueOf(5L)));
+        assertThat(actual.get().getSkippedRowCount(), is(0L));
+    }
+    
+    @Test
+    void assertFindWithDescendingOrder() {
+        Optional<PaginationSeekBoundary> actual = PaginationSeekBoundary.find("id", OrderDirection.DESC, Arrays.asList(values(9, 6, 3), values(8, 5, 2), values(7, 4, 1)), 2L);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getOrderDirection(), is(OrderDirection.DESC));
+        assertThat(actual.get().getValue(), is(BigDecimal.valueOf(7L)));
+        assertThat(actual.get().getSkippedRowCount(), is(0L));
+    }
+    
+    @Test
+    void assertFindWithDuplicatedValues() {
+        Optional<PaginationSeekBoundary> actual = PaginationSeekBoundary.find("id", OrderDirection.ASC, Arrays.asList(values(1, 3, 3, 3), values(3, 3, 4), Collections.emptyList()), 4L);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getValue(), is(BigDecimal.valueOf(3L)));
+        assertThat(actual.get().getSkippedRowCount(), is(3L));
+    }
+    
+    @Test
+    void assertFindWithoutEnoughValues() {
+        assertFalse(PaginationSeekBoundary.find("id", OrderDirection.ASC, Arrays.asList(values(1, 2), values(3)), 3L).isPresent());
+    }
+    
+    private List<BigDecimal> values(final long... values) {
+        return Arrays.stream(values).mapToObj(BigDecimal::valueOf).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.pagination;
+
+import org.apache.groovy.util.Maps;
+import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
+import org.apache.shardingsphere.infra.binder.context.aware.ParameterAware;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstance;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.rewrite.sql.impl.RouteSQLBuilder;
+import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.SQLToken;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.session.connection.probe.ProbeQueryExecutor;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
+import org.apache.shardingsphere.parser.config.SQLParserRuleConfiguration;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingAutoTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.ShardingPaginationSeekTokenGenerator;
+import org.apache.shardingsphere.sharding.route.engine.ShardingSQLRouter;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.test.infra.fixture.jdbc.MockedDataSource;
+import org.apache.shardingsphere.timeservice.config.TimestampServiceRuleConfiguration;
+import org.apache.shardingsphere.timeservice.core.rule.TimestampServiceRule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PaginationSeekEngineTest {
+    
+    private static final String DATABASE_NAME = "sharding_db";
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+    
+    private final ConfigurationProperties props = new ConfigurationProperties(new Properties());
+    
+    private final PaginationSeekProbeExecutor probeExecutor = mock(PaginationSeekProbeExecutor.class);
+    
+    private final StorageUnit storageUnit = mock(StorageUnit.class);
+    
+    private ShardingRule shardingRule;
+    
+    private ShardingSphereDatabase database;
+    
+    @BeforeEach
+    void setUp() {
+        shardingRule = createShardingRule();
+        database = createDatabase();
+    }
+    
+    private ShardingRule createShardingRule() {
+        ShardingRuleConfiguration ruleConfig = new ShardingRuleConfiguration();
+        ruleConfig.getShardingAlgorithms().put("mod", new AlgorithmConfiguration("MOD", PropertiesBuilder.build(new Property("sharding-count", "4"))));
+        ShardingAutoTableRuleConfiguration orderTableRuleConfig = new ShardingAutoTableRuleConfiguration("t_order", "ds_${0..1}");
+        orderTableRuleConfig.setShardingStrategy(new StandardShardingStrategyConfiguration("order_id", "mod"));
+        ruleConfig.getAutoTables().add(orderTableRuleConfig);
+        ComputeNodeInstanceContext instanceContext = new ComputeNodeInstanceContext(mock(ComputeNodeInstance.class), null, null);
+        instanceContext.init(props -> 0);
+        return new ShardingRule(ruleConfig, Maps.of("ds_0", new MockedDataSource(), "ds_1", new MockedDataSource()), instanceContext, Collections.emptyList());
+    }
+    
+    private ShardingSphereDatabase createDatabase() {
+        ShardingSphereSchema schema = new ShardingSphereSchema(DATABASE_NAME);
+        schema.putTable(new ShardingSphereTable("t_order", Arrays.asList(
+                new ShardingSphereColumn("order_id", Types.BIGINT, true, false, false, true, false, false),
+                new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true, false, true),
+                new ShardingSphereColumn("status", Types.VARCHAR, false, false, false, true, false, false)),
+                Collections.emptyList(), Collections.emptyList()));
+        ResourceMetaData resourceMetaData = mock(ResourceMetaData.class);
+        when(storageUnit.getStorageType()).thenReturn(databaseType);
+        when(resourceMetaData.getStorageUnits()).thenReturn(Maps.of("ds_0", storageUnit, "ds_1", storageUnit));
+        return new ShardingSphereDatabase(DATABASE_NAME, databaseType, resourceMetaData, new RuleMetaData(Collections.singleton(shardingRule)), Collections.singleton(schema));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertSeekWithWhere() {
+        when(probeExecutor.execute(any(), any(), any(), anyInt())).thenReturn(Optional.of(Arrays.asList(values(0, 4, 8), values(1, 5, 9), values(2, 6), values(3, 7))));
+        String sql = "SELECT order_id, status FROM t_order WHERE user_id = ? ORDER BY order_id LIMIT ?, ?";
+        SQLRewriteContext sqlRewriteContext = createSQLRewriteContext(sql, Arrays.asList(10, 5, 2));
+        RouteContext routeContext = createRouteContext(sqlRewriteContext);
+        Optional<PaginationSeekBoundary> actual = new PaginationSeekEngine(shardingRule, routeContext, probeExecutor).seek(sqlRewriteContext, 5L, 3);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getValue(), is(BigDecimal.valueOf(5L)));
+        ArgumentCaptor<Collection<ExecutionUnit>> executionUnits = ArgumentCaptor.forClass(Collection.class);
+        verify(probeExecutor).execute(any(), any(), executionUnits.capture(), anyInt());
+        assertThat(executionUnits.getValue().size(), is(4));
+        ExecutionUnit firstExecutionUnit = executionUnits.getValue().iterator().next();
+        assertThat(firstExecutionUnit.getDataSourceName(), is("ds_0"));
+        assertThat(firstExecutionUnit.getSqlUnit().getSql(), is("SELECT order_id FROM t_order_0 WHERE user_id = ? ORDER BY order_id LIMIT 6"));
+        assertThat(firstExecutionUnit.getSqlUnit().getParameters(), is(Collections.singletonList(10)));
+        SelectStatementContext selectStatementContext = (SelectStatementContext) sqlRewriteContext.getSqlStatementContext();
+        assertThat(selectStatementContext.getPaginationContext().getMergedOffset(), is(0L));
+        assertThat(selectStatementContext.getPaginationContext().getRevisedRowCount(selectStatementContext), is(2L));
+        assertThat(rewriteSeekCondition(sql, selectStatementContext, actual.get(), routeContext),
+                is("SELECT order_id, status FROM t_order WHERE ( user_id = ?) AND order_id >= 5 ORDER BY order_id LIMIT ?, ?"));
+    }
+    
+    @Test
+    void assertSeekWithoutWhere() {
+        when(probeExecutor.execute(any(), any(), any(), anyInt())).thenReturn(Optional.of(Arrays.asList(values(9, 9, 8), values(9, 7), values(9, 6), values(5))));
+        String sql = "SELECT * FROM t_order ORDER BY order_id DESC LIMIT 2, 10";
+        SQLRewriteContext sqlRewriteContext = createSQLRewriteContext(sql, Collections.emptyList());
+        RouteContext routeContext = createRouteContext(sqlRewriteContext);
+        Optional<PaginationSeekBoundary> actual = new PaginationSeekEngine(shardingRule, routeContext, probeExecutor).seek(sqlRewriteContext, 1L, 3);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getValue(), is(BigDecimal.valueOf(9L)));
+        assertThat(actual.get().getSkippedRowCount(), is(2L));
+        SelectStatementContext selectStatementContext = (SelectStatementContext) sqlRewriteContext.getSqlStatementContext();
+        assertThat(selectStatementContext.getPaginationContext().getMergedOffset(), is(2L));
+        assertThat(selectStatementContext.getPaginationContext().getRevisedRowCount(selectStatementContext), is(12L));
+        assertThat(rewriteSeekCondition(sql, selectStatementContext, actual.get(), routeContext), is("SELECT * FROM t_order WHERE order_id <= 9 ORDER BY order_id DESC LIMIT 2, 10"));
+    }
+    
+    @Test
+    void assertNotSeek() {
+        assertNotSeek("SELECT * FROM t_order ORDER BY order_id LIMIT 1, 10", 5L);
+        assertNotSeek("SELECT * FROM t_order ORDER BY user_id LIMIT 10, 10", 5L);
+        assertNotSeek("SELECT * FROM t_order ORDER BY status LIMIT 10, 10", 5L);
+        assertNotSeek("SELECT * FROM t_order ORDER BY order_id, status LIMIT 10, 10", 5L);
+        assertNotSeek("SELECT order_id, COUNT(*) FROM t_order GROUP BY order_id ORDER BY order_id LIMIT 10, 10", 5L);
+        assertNotSeek("SELECT DISTINCT order_id FROM t_order ORDER BY order_id LIMIT 10, 10", 5L);
+        assertNotSeek("SELECT * FROM t_order LIMIT 10, 10", 5L);
+        assertNotSeek("SELECT * FROM t_order ORDER BY order_id LIMIT 10, 10", 0L);
+        SQLRewriteContext sqlRewriteContext = createSQLRewriteContext("SELECT * FROM t_order ORDER BY order_id LIMIT 10, 10", Collections.emptyList());
+        sqlRewriteContext.getConnectionContext().setProbeQueryExecutor(null);
+        assertFalse(new PaginationSeekEngine(shardingRule, createRouteContext(sqlRewriteContext), probeExecutor).seek(sqlRewriteContext, 5L, 3).isPresent());
+        verify(probeExecutor, never()).execute(any(), any(), any(), anyInt());
+    }
+    
+    @Test
+    void assertNotSeekWithoutLimitDialectStorageUnit() {
+        DatabaseType storageType = mock(DatabaseType.class);
+        when(storageType.getType()).thenReturn("SQLServer");
+        when(storageUnit.getStorageType()).thenReturn(storageType);
+        assertNotSeek("SELECT * FROM t_order ORDER BY order_id LIMIT 10, 10", 5L);
+        verify(probeExecutor, never()).execute(any(), any(), any(), anyInt());
+    }
+    
+    private void assertNotSeek(final String sql, final long offsetThreshold) {
+        SQLRewriteContext sqlRewriteContext = createSQLRewriteContext(sql, Collections.emptyList());
+        assertFalse(new PaginationSeekEngine(shardingRule, createRouteContext(sqlRewriteContext), probeExecutor).seek(sqlRewriteContext, offsetThreshold, 3).isPresent());
+        assertFalse(((SelectStatementContext) sqlRewriteContext.getSqlStatementContext()).getPaginationContext().isSeekOffsetApplied());
+    }
+    
+    @Test
+    void assertNotSeekWithoutEnoughRows() {
+        when(probeExecutor.execute(any(), any(), any(), anyInt())).thenReturn(Optional.of(Arrays.asList(values(0), values(1), values(2), values(3))));
+        SQLRewriteContext sqlRewriteContext = createSQLRewriteContext("SELECT * FROM t_order ORDER BY order_id LIMIT 10, 10", Collections.emptyList());
+        assertFalse(new PaginationSeekEngine(shardingRule, createRouteContext(sqlRewriteContext), probeExecutor).seek(sqlRewriteContext, 5L, 3).isPresent());
+        assertFalse(((SelectStatementContext) sqlRewriteContext.getSqlStatementContext()).getPaginationContext().isSeekOffsetApplied());
+    }
+    
+    private String rewriteSeekCondition(final String sql, final SelectStatementContext selectStatementContext, final PaginationSeekBoundary boundary, final RouteContext routeContext) {
+        ShardingPaginationSeekTokenGenerator generator = new ShardingPaginationSeekTokenGenerator(boundary);
+        assertTrue(generator.isGenerateSQLToken(selectStatementContext));
+        List<SQLToken> sqlTokens = new ArrayList<>(generator.generateSQLTokens(selectStatementContext));
+        return new RouteSQLBuilder(sql, sqlTokens, routeContext.getRouteUnits().iterator().next()).toSQL();
+    }
+    
+    private SQLRewriteContext createSQLRewriteContext(final String sql, final List<Object> params) {
+        SQLParserRule sqlParserRule = new SQLParserRule(new SQLParserRuleConfiguration(new CacheOption(0, 0L), new CacheOption(0, 0L)));
+        SQLStatementContext sqlStatementContext = new SQLBindEngine(
+                new ShardingSphereMetaData(Collections.singleton(database), mock(ResourceMetaData.class), mock(RuleMetaData.class), mock(ConfigurationProperties.class)),
+                DATABASE_NAME, new HintValueContext()).bind(sqlParserRule.getSQLParserEngine(databaseType).parse(sql, false));
+        ((ParameterAware) sqlStatementContext).bindParameters(params);
+        ConnectionContext connectionContext = new ConnectionContext(Collections::emptyList);
+        connectionContext.setCurrentDatabaseName(DATABASE_NAME);
+        connectionContext.setProbeQueryExecutor(mock(ProbeQueryExecutor.class));
+        return new SQLRewriteContext(database, new QueryContext(sqlStatementContext, sql, params, new HintValueContext(), connectionContext, mock(ShardingSphereMetaData.class)));
+    }
+    
+    private RouteContext createRouteContext(final SQLRewriteContext sqlRewriteContext) {
+        QueryContext queryContext = new QueryContext(sqlRewriteContext.getSqlStatementContext(), sqlRewriteContext.getSql(), sqlRewriteContext.getParameters(),
+                new HintValueContext(), sqlRewriteContext.getConnectionContext(), mock(ShardingSphereMetaData.class));
+        RuleMetaData globalRuleMetaData = new RuleMetaData(Collections.singleton(new TimestampServiceRule(new TimestampServiceRuleConfiguration("System", new Properties()))));
+        return new ShardingSQLRouter().createRouteContext(queryContext, globalRuleMetaData, database, shardingRule, Collections.singleton("t_order"), props);
+    }
+    
+    private List<BigDecimal> values(final long... values) {
+        return Arrays.stream(values).mapToObj(BigDecimal::valueOf).collect(Collectors.toList());
+    }
+}
@@ -235,6 +235,13 @@ class ShardingRuleTest {
         assertTrue(createMaximumShardingRule().findShardingTableByActualTable("table_0").isPresent());
     }
     
+    @Test
+    void assertFindTableRuleByActualTableIgnoreCase() {
+        Optional<ShardingTable> actual = createMaximumShardingRule().findShardingTableByActualTable("SUB_TABLE_1");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getLogicTable(), is("SUB_LOGIC_TABLE"));
+    }
+    
     @Test
     void assertNotFindTableRuleByActualTable() {
         assertFalse(createMaximumShardingRule().findShardingTableByActualTable("table_3").isPresent());
@@ -19,6 +19,10 @@ package org.apache.shardingsphere.infra.algorithm.cryptographic.spi;
 
 import org.apache.shardingsphere.infra.algorithm.core.ShardingSphereAlgorithm;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Cryptographic algorithm.
  */
@@ -39,4 +43,32 @@ public interface CryptographicAlgorithm extends ShardingSphereAlgorithm {
      * @return plain value
      */
     Object decrypt(Object cipherValue);
+    
+    /**
+     * Encrypt values in batch.
+     *
+     * @param plainValues plain values
+     * @return cipher values in the same order of plain values
+     */
+    default List<Object> batchEncrypt(final Collection<?> plainValues) {
+        List<Object> result = new ArrayList<>(plainValues.size());
+        for (Object each : plainValues) {
+            result.add(encrypt(each));
+        }
+        return result;
+    }
+    
+    /**
+     * Decrypt values in batch.
+     *
+     * @param cipherValues cipher values
+     * @return plain values in the same order of cipher values
+     */
+    default List<Object> batchDecrypt(final Collection<?> cipherValues) {
+        List<Object> result = new ArrayList<>(cipherValues.size());
+        for (Object each : cipherValues) {
+            result.add(decrypt(each));
+        }
+        return result;
+    }
 }
@@ -27,30 +27,59 @@ import javax.crypto.Cipher;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
 import java.util.Properties;
 
 /**
  * AES cryptographic algorithm.
+ * 
+ * <p>Ciphers are initialized once per thread and reused, because {@link Cipher} is not thread-safe and it is reset to the initialized state after every {@code doFinal}.</p>
  */
 public final class AESCryptographicAlgorithm implements CryptographicAlgorithm {
     
-    private CryptographicPropertiesProvider propsProvider;
+    private SecretKeySpec secretKeySpec;
+    
+    private ThreadLocal<Cipher> encryptCipher;
+    
+    private ThreadLocal<Cipher> decryptCipher;
     
     @Override
     public void init(final Properties props) {
-        propsProvider = TypedSPILoader.getService(CryptographicPropertiesProvider.class, "DEFAULT", props);
+        CryptographicPropertiesProvider propsProvider = TypedSPILoader.getService(CryptographicPropertiesProvider.class, "DEFAULT", props);
+        secretKeySpec = new SecretKeySpec(propsProvider.getSecretKey(), getType());
+        encryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.ENCRYPT_MODE));
+        decryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.DECRYPT_MODE));
     }
     
     @HighFrequencyInvocation
-    @SneakyThrows(GeneralSecurityException.class)
     @Override
     public String encrypt(final Object plainValue) {
-        if (null == plainValue) {
-            return null;
+        return null == plainValue ? null : encrypt(encryptCipher.get(), plainValue);
+    }
+    
+    @HighFrequencyInvocation
+    @Override
+    public List<Object> batchEncrypt(final Collection<?> plainValues) {
+        List<Object> result = new ArrayList<>(plainValues.size());
+        Cipher cipher = encryptCipher.get();
+        for (Object each : plainValues) {
+            result.add(null == each ? null : encrypt(cipher, each));
+        }
+        return result;
+    }
+    
+    @HighFrequencyInvocation
+    @SneakyThrows(GeneralSecurityException.class)
+    private String encrypt(final Cipher cipher, final Object plainValue) {
+        try {
+            return encode(cipher.doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8)));
+        } catch (final GeneralSecurityException ex) {
+            encryptCipher.remove();
+            throw ex;
         }
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
-        return encode(result);
     }
     
     @HighFrequencyInvocation
@@ -59,14 +88,31 @@ public final class AESCryptographicAlgorithm implements CryptographicAlgorithm {
     }
     
     @HighFrequencyInvocation
-    @SneakyThrows(GeneralSecurityException.class)
     @Override
     public Object decrypt(final Object cipherValue) {
-        if (null == cipherValue) {
-            return null;
+        return null == cipherValue ? null : decrypt(decryptCipher.get(), cipherValue);
+    }
+    
+    @HighFrequencyInvocation
+    @Override
+    public List<Object> batchDecrypt(final Collection<?> cipherValues) {
+        List<Object> result = new ArrayList<>(cipherValues.size());
+        Cipher cipher = decryptCipher.get();
+        for (Object each : cipherValues) {
+            result.add(null == each ? null : decrypt(cipher, each));
+        }
+        return result;
+    }
+    
+    @HighFrequencyInvocation
+    @SneakyThrows(GeneralSecurityException.class)
+    private String decrypt(final Cipher cipher, final Object cipherValue) {
+        try {
+            return new String(cipher.doFinal(decode(cipherValue.toString().trim())), StandardCharsets.UTF_8);
+        } catch (final GeneralSecurityException ex) {
+            decryptCipher.remove();
+            throw ex;
         }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(decode(cipherValue.toString().trim()));
-        return new String(result, StandardCharsets.UTF_8);
     }
     
     @HighFrequencyInvocation
@@ -74,10 +120,10 @@ public final class AESCryptographicAlgorithm implements CryptographicAlgorithm {
         return Base64.getDecoder().decode(value);
     }
     
-    @HighFrequencyInvocation
-    private Cipher getCipher(final int decryptMode) throws GeneralSecurityException {
+    @SneakyThrows(GeneralSecurityException.class)
+    private Cipher createCipher(final int cipherMode) {
         Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(propsProvider.getSecretKey(), getType()));
+        result.init(cipherMode, secretKeySpec);
         return result;
     }
     
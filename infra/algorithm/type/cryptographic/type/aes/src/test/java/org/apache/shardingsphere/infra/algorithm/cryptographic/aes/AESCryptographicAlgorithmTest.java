@@ -25,10 +25,21 @@ import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class AESCryptographicAlgorithmTest {
     
@@ -75,4 +86,37 @@ class AESCryptographicAlgorithmTest {
     void assertDecryptNullValue() {
         assertNull(cryptographicAlgorithm.decrypt(null));
     }
+    
+    @Test
+    void assertDecryptAfterInvalidCipherValue() {
+        assertThrows(GeneralSecurityException.class, () -> cryptographicAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPG"));
+        assertThat(cryptographicAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA=="), is("test"));
+    }
+    
+    @Test
+    void assertBatchEncrypt() {
+        assertThat(cryptographicAlgorithm.batchEncrypt(Arrays.asList("test", null, "test")), is(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", null, "dSpPiyENQGDUXMKFMJPGWA==")));
+    }
+    
+    @Test
+    void assertBatchDecrypt() {
+        assertThat(cryptographicAlgorithm.batchDecrypt(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", null, "dSpPiyENQGDUXMKFMJPGWA==")), is(Arrays.asList("test", null, "test")));
+    }
+    
+    @Test
+    void assertEncryptAndDecryptConcurrently() throws InterruptedException, ExecutionException {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            Collection<Future<Boolean>> futures = new LinkedList<>();
+            for (int i = 0; i < 16; i++) {
+                String plainValue = "value_" + i;
+                futures.add(executorService.submit(() -> IntStream.range(0, 100).allMatch(each -> plainValue.equals(cryptographicAlgorithm.decrypt(cryptographicAlgorithm.encrypt(plainValue))))));
+            }
+            for (Future<Boolean> each : futures) {
+                assertTrue(each.get());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
 }
@@ -31,8 +31,10 @@ import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContextAware;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -48,6 +50,10 @@ import java.util.concurrent.atomic.AtomicReference;
  *     10 bits worker process id.
  *     12 bits auto increment offset in one millis
  * </pre>
+ * 
+ * <p>If batch reservation is enabled, one batch of keys reserves a contiguous range of sequence values of the same millis with one CAS instead of one lock per key,
+ * and if prefetch block size is configured, every thread additionally reserves one block of keys in advance and serves single key requests from it.
+ * Keys served from prefetched blocks are unique but not monotonic across threads.</p>
  */
 public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm, ComputeNodeInstanceContextAware {
     
@@ -57,6 +63,10 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private static final String MAX_TOLERATE_TIME_DIFFERENCE_MILLIS_KEY = "max-tolerate-time-difference-milliseconds";
     
+    private static final String BATCH_RESERVATION_ENABLED_KEY = "batch-reservation-enabled";
+    
+    private static final String PREFETCH_BLOCK_SIZE_KEY = "prefetch-block-size";
+    
     private static final long SEQUENCE_BITS = 12L;
     
     private static final long WORKER_ID_BITS = 10L;
@@ -67,6 +77,10 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private static final long TIMESTAMP_LEFT_SHIFT_BITS = WORKER_ID_LEFT_SHIFT_BITS + WORKER_ID_BITS;
     
+    private static final long RESERVED_SEQUENCE_BITS = SEQUENCE_BITS + 1L;
+    
+    private static final long RESERVED_SEQUENCE_MASK = (1L << RESERVED_SEQUENCE_BITS) - 1L;
+    
     private static final int DEFAULT_VIBRATION_VALUE = 1;
     
     private static final int MAX_TOLERATE_TIME_DIFFERENCE_MILLIS = 10;
@@ -84,12 +98,20 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private final AtomicLong lastMillis = new AtomicLong();
     
+    private final AtomicLong reservation = new AtomicLong();
+    
+    private final ThreadLocal<PrefetchedKeyBlock> prefetchedKeyBlock = ThreadLocal.withInitial(PrefetchedKeyBlock::new);
+    
     private Properties props;
     
     private int maxVibrationOffset;
     
     private int maxTolerateTimeDifferenceMillis;
     
+    private boolean batchReservationEnabled;
+    
+    private int prefetchBlockSize;
+    
     static {
         EPOCH = LocalDateTime.of(2016, 11, 1, 0, 0, 0).toInstant(ZoneId.systemDefault().getRules().getOffset(Instant.now())).toEpochMilli();
     }
@@ -99,6 +121,8 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
         this.props = props;
         maxVibrationOffset = getMaxVibrationOffset(props);
         maxTolerateTimeDifferenceMillis = getMaxTolerateTimeDifferenceMillis(props);
+        prefetchBlockSize = getPrefetchBlockSize(props);
+        batchReservationEnabled = prefetchBlockSize > 0 || Boolean.parseBoolean(props.getOrDefault(BATCH_RESERVATION_ENABLED_KEY, Boolean.FALSE).toString());
     }
     
     private int getMaxVibrationOffset(final Properties props) {
@@ -113,6 +137,12 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
         return result;
     }
     
+    private int getPrefetchBlockSize(final Properties props) {
+        int result = Integer.parseInt(props.getOrDefault(PREFETCH_BLOCK_SIZE_KEY, 0).toString());
+        ShardingSpherePreconditions.checkState(result >= 0 && result <= SEQUENCE_MASK + 1L, () -> new AlgorithmInitializationException(this, "Illegal prefetch block size."));
+        return result;
+    }
+    
     @Override
     public void setComputeNodeInstanceContext(final ComputeNodeInstanceContext computeNodeInstanceContext) {
         this.computeNodeInstanceContext.set(computeNodeInstanceContext);
@@ -124,6 +154,14 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     @HighFrequencyInvocation
     @Override
     public Collection<Long> generateKeys(final AlgorithmSQLContext context, final int keyGenerateCount) {
+        if (prefetchBlockSize > 0) {
+            return prefetchedKeyBlock.get().take(keyGenerateCount);
+        }
+        if (batchReservationEnabled) {
+            List<Long> result = new ArrayList<>(keyGenerateCount);
+            reserveKeys(keyGenerateCount, result);
+            return result;
+        }
         Collection<Long> result = new LinkedList<>();
         for (int index = 0; index < keyGenerateCount; index++) {
             result.add(generateKey());
@@ -150,6 +188,52 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
         return ((currentMillis - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | ((long) getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS) | sequence.get();
     }
     
+    /**
+     * Reserve keys, the state of reservation is millis shifted left by reserved sequence bits with the next sequence to reserve,
+     * clock is read once for every reservation attempt and every attempt reserves all remaining sequence values of one millis at most.
+     *
+     * @param keyGenerateCount key generate count
+     * @param result reserved keys
+     */
+    @HighFrequencyInvocation
+    @SneakyThrows(InterruptedException.class)
+    private void reserveKeys(final int keyGenerateCount, final List<Long> result) {
+        long workerIdBits = (long) getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS;
+        int remaining = keyGenerateCount;
+        while (remaining > 0) {
+            long currentReservation = reservation.get();
+            long reservedMillis = currentReservation >>> RESERVED_SEQUENCE_BITS;
+            long currentMillis = timeService.getCurrentMillis();
+            if (currentMillis < reservedMillis) {
+                long timeDifferenceMillis = reservedMillis - currentMillis;
+                ShardingSpherePreconditions.checkState(timeDifferenceMillis < maxTolerateTimeDifferenceMillis,
+                        () -> new AlgorithmExecuteException(this, "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds.", reservedMillis, currentMillis));
+                Thread.sleep(timeDifferenceMillis);
+                continue;
+            }
+            long startSequence;
+            if (currentMillis == reservedMillis) {
+                startSequence = currentReservation & RESERVED_SEQUENCE_MASK;
+                if (startSequence > SEQUENCE_MASK) {
+                    waitUntilNextTime(currentMillis);
+                    continue;
+                }
+            } else {
+                vibrateSequenceOffset();
+                startSequence = sequenceOffset.get();
+            }
+            long reservedCount = Math.min(remaining, SEQUENCE_MASK + 1L - startSequence);
+            if (!reservation.compareAndSet(currentReservation, currentMillis << RESERVED_SEQUENCE_BITS | startSequence + reservedCount)) {
+                continue;
+            }
+            long timestampBits = (currentMillis - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS | workerIdBits;
+            for (long each = startSequence; each < startSequence + reservedCount; each++) {
+                result.add(timestampBits | each);
+            }
+            remaining -= (int) reservedCount;
+        }
+    }
+    
     @SneakyThrows(InterruptedException.class)
     private boolean waitTolerateTimeDifferenceIfNeed(final long currentMillis) {
         if (lastMillis.get() <= currentMillis) {
@@ -182,6 +266,28 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
         return null == computeNodeInstanceContext.get() ? DEFAULT_WORKER_ID : computeNodeInstanceContext.get().getWorkerId();
     }
     
+    private final class PrefetchedKeyBlock {
+        
+        private final List<Long> keys = new ArrayList<>(prefetchBlockSize);
+        
+        private int nextIndex;
+        
+        private List<Long> take(final int keyGenerateCount) {
+            List<Long> result = new ArrayList<>(keyGenerateCount);
+            while (result.size() < keyGenerateCount) {
+                if (nextIndex == keys.size()) {
+                    keys.clear();
+                    nextIndex = 0;
+                    reserveKeys(prefetchBlockSize, keys);
+                }
+                int count = Math.min(keyGenerateCount - result.size(), keys.size() - nextIndex);
+                result.addAll(keys.subList(nextIndex, nextIndex + count));
+                nextIndex += count;
+            }
+            return result;
+        }
+    }
+    
     @Override
     public String getType() {
         return "SNOWFLAKE";
@@ -37,12 +37,14 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -182,6 +184,72 @@ class SnowflakeKeyGenerateAlgorithmTest {
         assertThat(actual, is(expected));
     }
     
+    @Test
+    void assertGenerateKeysWithBatchReservationInSameMillisecond() {
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(1));
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(
+                KeyGenerateAlgorithm.class, "SNOWFLAKE", PropertiesBuilder.build(new Property("batch-reservation-enabled", Boolean.TRUE.toString())));
+        ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(INSTANCE);
+        assertThat(new ArrayList<>(algorithm.generateKeys(mock(AlgorithmSQLContext.class), 5)), is(Arrays.<Comparable<?>>asList(0L, 1L, 2L, 3L, 4L)));
+    }
+    
+    @Test
+    void assertGenerateKeysWithBatchReservationBeyondMaxSequencePerMilliSecond() {
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(2));
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(
+                KeyGenerateAlgorithm.class, "SNOWFLAKE", PropertiesBuilder.build(new Property("batch-reservation-enabled", Boolean.TRUE.toString())));
+        ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(INSTANCE);
+        List<Comparable<?>> actual = new ArrayList<>(algorithm.generateKeys(mock(AlgorithmSQLContext.class), (1 << DEFAULT_SEQUENCE_BITS) + 1));
+        assertThat(actual.get(0), is(0L));
+        assertThat(actual.get((1 << DEFAULT_SEQUENCE_BITS) - 1), is((1L << DEFAULT_SEQUENCE_BITS) - 1L));
+        assertThat(actual.get(1 << DEFAULT_SEQUENCE_BITS), is(4194305L));
+    }
+    
+    @Test
+    void assertGenerateKeysWithBatchReservationAndClockCallBackBeyondTolerateTime() {
+        TimeService timeService = new FixedTimeService(1);
+        SnowflakeKeyGenerateAlgorithm.setTimeService(timeService);
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE",
+                PropertiesBuilder.build(new Property("batch-reservation-enabled", Boolean.TRUE.toString()), new Property("max-tolerate-time-difference-milliseconds", "0")));
+        ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(INSTANCE);
+        setReservation(algorithm, (timeService.getCurrentMillis() + 2L) << (DEFAULT_SEQUENCE_BITS + 1L));
+        assertThrows(AlgorithmExecuteException.class, () -> batchGenerate(algorithm));
+    }
+    
+    @Test
+    void assertGenerateKeysWithPrefetchBlockAndMultipleThreads() throws ExecutionException, InterruptedException {
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService());
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE", PropertiesBuilder.build(new Property("prefetch-block-size", "100")));
+        ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(INSTANCE);
+        int threadNumber = Runtime.getRuntime().availableProcessors() * 2;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        int taskNumber = threadNumber * 4;
+        int keyNumberPerTask = 1000;
+        Collection<Future<Collection<Comparable<?>>>> futures = new LinkedList<>();
+        for (int i = 0; i < taskNumber; i++) {
+            futures.add(executor.submit(() -> {
+                Collection<Comparable<?>> result = new LinkedList<>();
+                for (int j = 0; j < keyNumberPerTask; j += 3) {
+                    result.addAll(algorithm.generateKeys(mock(AlgorithmSQLContext.class), Math.min(3, keyNumberPerTask - j)));
+                }
+                return result;
+            }));
+        }
+        Set<Comparable<?>> actual = new HashSet<>(taskNumber * keyNumberPerTask, 1F);
+        for (Future<Collection<Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(taskNumber * keyNumberPerTask));
+    }
+    
+    @Test
+    void assertSetPrefetchBlockSizeFailureWhenOutOfRange() {
+        assertThrows(AlgorithmInitializationException.class,
+                () -> TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE", PropertiesBuilder.build(new Property("prefetch-block-size", "4097")))
+                        .generateKeys(mock(AlgorithmSQLContext.class), 1));
+    }
+    
     @SneakyThrows(ReflectiveOperationException.class)
     private void setLastMillis(final KeyGenerateAlgorithm algorithm, final Number value) {
         Plugins.getMemberAccessor().set(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("lastMillis"), algorithm, new AtomicLong(value.longValue()));
@@ -192,6 +260,11 @@ class SnowflakeKeyGenerateAlgorithmTest {
         Plugins.getMemberAccessor().set(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("sequence"), algorithm, new AtomicLong(value.longValue()));
     }
     
+    @SneakyThrows(ReflectiveOperationException.class)
+    private void setReservation(final KeyGenerateAlgorithm algorithm, final Number value) {
+        Plugins.getMemberAccessor().set(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("reservation"), algorithm, new AtomicLong(value.longValue()));
+    }
+    
     @Test
     void assertSetMaxVibrationOffsetFailureWhenNegative() {
         assertThrows(AlgorithmInitializationException.class,
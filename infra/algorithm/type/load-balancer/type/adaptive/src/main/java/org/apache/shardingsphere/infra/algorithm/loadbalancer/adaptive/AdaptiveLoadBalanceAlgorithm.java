@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.adaptive;
+
+import lombok.Setter;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.spi.LoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.spi.LoadBalanceDatabaseAware;
+import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adaptive load balance algorithm.
+ * 
+ * <p>Pick two random targets and route to the one with lower load, the load of target is the average response time multiplies active requests plus one,
+ * targets without recorded response time are preferred to be probed,
+ * active requests and response time of targets in the logic database are recorded by {@link AdaptiveLoadBalanceSQLExecutionHook} when SQL executed.
+ * Statistics of the logic database are removed when the algorithm is closed with its rule, so dropped storage units are not kept,
+ * and targets of the rebuilt rule are registered again when they are balanced.</p>
+ */
+public final class AdaptiveLoadBalanceAlgorithm implements LoadBalanceAlgorithm, LoadBalanceDatabaseAware, AutoCloseable {
+    
+    private static final String DECAY_TIME_MILLISECONDS_KEY = "decay-time-milliseconds";
+    
+    private static final long DEFAULT_DECAY_TIME_MILLISECONDS = 10000L;
+    
+    private long decayNanos;
+    
+    @Setter
+    private String databaseName;
+    
+    @Override
+    public void init(final Properties props) {
+        long decayTimeMillis = getDecayTimeMillis(props);
+        ShardingSpherePreconditions.checkState(decayTimeMillis > 0L, () -> new AlgorithmInitializationException(this, "Decay time milliseconds should be positive."));
+        decayNanos = TimeUnit.MILLISECONDS.toNanos(decayTimeMillis);
+    }
+    
+    private long getDecayTimeMillis(final Properties props) {
+        String value = props.getProperty(DECAY_TIME_MILLISECONDS_KEY, String.valueOf(DEFAULT_DECAY_TIME_MILLISECONDS));
+        try {
+            return Long.parseLong(value);
+        } catch (final NumberFormatException ex) {
+            throw new AlgorithmInitializationException(this, "Decay time milliseconds `%s` should be number.", value);
+        }
+    }
+    
+    @HighFrequencyInvocation
+    @Override
+    public String getTargetName(final String groupName, final List<String> availableTargetNames) {
+        int size = availableTargetNames.size();
+        if (1 == size) {
+            return availableTargetNames.get(0);
+        }
+        int firstIndex = ThreadLocalRandom.current().nextInt(size);
+        int secondIndex = ThreadLocalRandom.current().nextInt(size - 1);
+        if (secondIndex >= firstIndex) {
+            secondIndex++;
+        }
+        String firstTargetName = availableTargetNames.get(firstIndex);
+        String secondTargetName = availableTargetNames.get(secondIndex);
+        return getLoad(secondTargetName) < getLoad(firstTargetName) ? secondTargetName : firstTargetName;
+    }
+    
+    @HighFrequencyInvocation
+    private double getLoad(final String targetName) {
+        TargetStatistics targetStatistics = TargetStatisticsRegistry.get(databaseName, targetName);
+        return (targetStatistics.getAverageResponseNanos(decayNanos) + 1D) * (targetStatistics.getActiveRequests() + 1);
+    }
+    
+    @Override
+    public void close() {
+        TargetStatisticsRegistry.remove(databaseName);
+    }
+    
+    @Override
+    public String getType() {
+        return "ADAPTIVE";
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.adaptive;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Target statistics, including active requests and exponentially weighted moving average of response time.
+ */
+public final class TargetStatistics {
+    
+    private static final int EWMA_WEIGHT_SHIFT = 3;
+    
+    private final AtomicInteger activeRequests = new AtomicInteger();
+    
+    private long averageResponseNanos;
+    
+    private long lastUpdateNanos;
+    
+    /**
+     * Start request.
+     */
+    public void start() {
+        activeRequests.incrementAndGet();
+    }
+    
+    /**
+     * Finish request.
+     *
+     * @param responseNanos response time in nanoseconds
+     */
+    public void finish(final long responseNanos) {
+        activeRequests.decrementAndGet();
+        synchronized (this) {
+            averageResponseNanos = 0L == lastUpdateNanos ? responseNanos : averageResponseNanos + ((responseNanos - averageResponseNanos) >> EWMA_WEIGHT_SHIFT);
+            lastUpdateNanos = System.nanoTime();
+        }
+    }
+    
+    /**
+     * Get active requests.
+     *
+     * @return active requests
+     */
+    public int getActiveRequests() {
+        return Math.max(activeRequests.get(), 0);
+    }
+    
+    /**
+     * Get average response time, which decays exponentially towards zero if no request finished for a while, so that targets avoided once can be probed again.
+     *
+     * @param decayNanos decay time in nanoseconds
+     * @return average response time in nanoseconds
+     */
+    public synchronized double getAverageResponseNanos(final long decayNanos) {
+        if (0L == lastUpdateNanos) {
+            return 0D;
+        }
+        return averageResponseNanos * Math.exp(-(double) (System.nanoTime() - lastUpdateNanos) / decayNanos);
+    }
+}
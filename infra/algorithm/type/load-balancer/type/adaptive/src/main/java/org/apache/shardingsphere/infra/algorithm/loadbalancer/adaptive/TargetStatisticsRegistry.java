@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.adaptive;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Target statistics registry, statistics of targets are keyed by logic database name and target name, which is the storage unit name in SQL execution.
+ * 
+ * <p>Statistics are registered only by {@link AdaptiveLoadBalanceAlgorithm} when it balances targets, so SQL executed on storage units without adaptive load balancer is not recorded.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TargetStatisticsRegistry {
+    
+    private static final Map<TargetKey, TargetStatistics> STATISTICS = new ConcurrentHashMap<>();
+    
+    /**
+     * Get or register target statistics.
+     *
+     * @param databaseName database name
+     * @param targetName target name
+     * @return target statistics
+     */
+    public static TargetStatistics get(final String databaseName, final String targetName) {
+        TargetKey key = new TargetKey(databaseName, targetName);
+        TargetStatistics result = STATISTICS.get(key);
+        return null == result ? STATISTICS.computeIfAbsent(key, unused -> new TargetStatistics()) : result;
+    }
+    
+    /**
+     * Find registered target statistics.
+     *
+     * @param databaseName database name
+     * @param targetName target name
+     * @return found target statistics
+     */
+    public static Optional<TargetStatistics> find(final String databaseName, final String targetName) {
+        return STATISTICS.isEmpty() ? Optional.empty() : Optional.ofNullable(STATISTICS.get(new TargetKey(databaseName, targetName)));
+    }
+    
+    /**
+     * Remove statistics of all targets of logic database.
+     *
+     * @param databaseName database name
+     */
+    public static void remove(final String databaseName) {
+        STATISTICS.keySet().removeIf(each -> Objects.equals(databaseName, each.databaseName));
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class TargetKey {
+        
+        private final String databaseName;
+        
+        private final String targetName;
+    }
+}
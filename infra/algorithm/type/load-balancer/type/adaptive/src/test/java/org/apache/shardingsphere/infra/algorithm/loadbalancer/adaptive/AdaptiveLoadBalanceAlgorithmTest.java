@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.adaptive;
+
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.spi.LoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.spi.LoadBalanceDatabaseAware;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveLoadBalanceAlgorithmTest {
+    
+    @Test
+    void assertInitFailedWithInvalidDecayTime() {
+        assertThrows(AlgorithmInitializationException.class, () -> TypedSPILoader.getService(LoadBalanceAlgorithm.class, "ADAPTIVE", PropertiesBuilder.build(new Property("decay-time-milliseconds", "a"))));
+        assertThrows(AlgorithmInitializationException.class, () -> TypedSPILoader.getService(LoadBalanceAlgorithm.class, "ADAPTIVE", PropertiesBuilder.build(new Property("decay-time-milliseconds", "0"))));
+    }
+    
+    @Test
+    void assertGetSingleAvailableTarget() {
+        LoadBalanceAlgorithm loadBalanceAlgorithm = TypedSPILoader.getService(LoadBalanceAlgorithm.class, "ADAPTIVE", new Properties());
+        assertThat(loadBalanceAlgorithm.getTargetName("ds", Collections.singletonList("single_read_ds")), is("single_read_ds"));
+    }
+    
+    @Test
+    void assertGetTargetWithLowerResponseTime() {
+        LoadBalanceAlgorithm loadBalanceAlgorithm = TypedSPILoader.getService(LoadBalanceAlgorithm.class, "ADAPTIVE", new Properties());
+        ((LoadBalanceDatabaseAware) loadBalanceAlgorithm).setDatabaseName("foo_db");
+        TargetStatisticsRegistry.get("foo_db", "slow_read_ds").finish(TimeUnit.MILLISECONDS.toNanos(100L));
+        TargetStatisticsRegistry.get("foo_db", "fast_read_ds").finish(TimeUnit.MILLISECONDS.toNanos(1L));
+        List<String> availableTargetNames = Arrays.asList("slow_read_ds", "fast_read_ds");
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getTargetName("ds", availableTargetNames), is("fast_read_ds"));
+        }
+    }
+    
+    @Test
+    void assertGetTargetWithLessActiveRequests() {
+        LoadBalanceAlgorithm loadBalanceAlgorithm = TypedSPILoader.getService(LoadBalanceAlgorithm.class, "ADAPTIVE", new Properties());
+        ((LoadBalanceDatabaseAware) loadBalanceAlgorithm).setDatabaseName("foo_db");
+        TargetStatisticsRegistry.get("foo_db", "busy_read_ds").start();
+        List<String> availableTargetNames = Arrays.asList("busy_read_ds", "idle_read_ds");
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getTargetName("ds", availableTargetNames), is("idle_read_ds"));
+        }
+    }
+    
+    @Test
+    void assertGetTargetWithStatisticsOfOtherDatabase() {
+        LoadBalanceAlgorithm loadBalanceAlgorithm = TypedSPILoader.getService(LoadBalanceAlgorithm.class, "ADAPTIVE", new Properties());
+        ((LoadBalanceDatabaseAware) loadBalanceAlgorithm).setDatabaseName("foo_db");
+        TargetStatisticsRegistry.get("bar_db", "shared_read_ds_0").start();
+        TargetStatisticsRegistry.get("foo_db", "shared_read_ds_1").start();
+        List<String> availableTargetNames = Arrays.asList("shared_read_ds_0", "shared_read_ds_1");
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getTargetName("ds", availableTargetNames), is("shared_read_ds_0"));
+        }
+    }
+    
+    @Test
+    void assertClose() {
+        LoadBalanceAlgorithm loadBalanceAlgorithm = TypedSPILoader.getService(LoadBalanceAlgorithm.class, "ADAPTIVE", new Properties());
+        ((LoadBalanceDatabaseAware) loadBalanceAlgorithm).setDatabaseName("closed_db");
+        loadBalanceAlgorithm.getTargetName("ds", Arrays.asList("closed_read_ds_0", "closed_read_ds_1"));
+        TargetStatisticsRegistry.get("other_db", "closed_read_ds_0");
+        ((AdaptiveLoadBalanceAlgorithm) loadBalanceAlgorithm).close();
+        assertFalse(TargetStatisticsRegistry.find("closed_db", "closed_read_ds_0").isPresent());
+        assertFalse(TargetStatisticsRegistry.find("closed_db", "closed_read_ds_1").isPresent());
+        assertTrue(TargetStatisticsRegistry.find("other_db", "closed_read_ds_0").isPresent());
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.adaptive;
+
+import org.apache.shardingsphere.infra.database.core.connector.ConnectionProperties;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+
+class AdaptiveLoadBalanceSQLExecutionHookTest {
+    
+    @Test
+    void assertFinishSuccess() {
+        TargetStatisticsRegistry.get("foo_db", "success_ds");
+        AdaptiveLoadBalanceSQLExecutionHook hook = new AdaptiveLoadBalanceSQLExecutionHook();
+        hook.start("foo_db", "success_ds", "SELECT 1", Collections.emptyList(), mock(ConnectionProperties.class), true);
+        assertThat(TargetStatisticsRegistry.get("foo_db", "success_ds").getActiveRequests(), is(1));
+        hook.finishSuccess();
+        assertThat(TargetStatisticsRegistry.get("foo_db", "success_ds").getActiveRequests(), is(0));
+        assertThat(TargetStatisticsRegistry.get("foo_db", "success_ds").getAverageResponseNanos(Long.MAX_VALUE) > 0D, is(true));
+    }
+    
+    @Test
+    void assertFinishFailureOnlyOnce() {
+        TargetStatisticsRegistry.get("foo_db", "failure_ds").start();
+        AdaptiveLoadBalanceSQLExecutionHook hook = new AdaptiveLoadBalanceSQLExecutionHook();
+        hook.start("foo_db", "failure_ds", "SELECT 1", Collections.emptyList(), mock(ConnectionProperties.class), true);
+        hook.finishFailure(new SQLException(""));
+        hook.finishFailure(new SQLException(""));
+        assertThat(TargetStatisticsRegistry.get("foo_db", "failure_ds").getActiveRequests(), is(1));
+    }
+    
+    @Test
+    void assertStartWithUnregisteredTarget() {
+        AdaptiveLoadBalanceSQLExecutionHook hook = new AdaptiveLoadBalanceSQLExecutionHook();
+        hook.start("foo_db", "unregistered_ds", "SELECT 1", Collections.emptyList(), mock(ConnectionProperties.class), true);
+        hook.finishSuccess();
+        assertFalse(TargetStatisticsRegistry.find("foo_db", "unregistered_ds").isPresent());
+    }
+}
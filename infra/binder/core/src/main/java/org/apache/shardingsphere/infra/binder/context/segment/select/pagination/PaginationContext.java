@@ -44,6 +44,8 @@ public final class PaginationContext {
     
     private final Long actualRowCount;
     
+    private Long seekOffset;
+    
     public PaginationContext(final PaginationValueSegment offsetSegment, final PaginationValueSegment rowCountSegment, final List<Object> params) {
         hasPagination = null != offsetSegment || null != rowCountSegment;
         this.offsetSegment = offsetSegment;
@@ -139,6 +141,36 @@ public final class PaginationContext {
         return 0L;
     }
     
+    /**
+     * Apply seek offset.
+     * 
+     * <p>Seek offset is used after every route unit has been filtered by the seek boundary of the order by column,
+     * it is the count of rows which should be still skipped from the merged result.</p>
+     *
+     * @param seekOffset seek offset
+     */
+    public void applySeekOffset(final long seekOffset) {
+        this.seekOffset = seekOffset;
+    }
+    
+    /**
+     * Judge whether seek offset is applied.
+     *
+     * @return seek offset is applied or not
+     */
+    public boolean isSeekOffsetApplied() {
+        return null != seekOffset;
+    }
+    
+    /**
+     * Get merged offset.
+     *
+     * @return count of rows to skip from merged result
+     */
+    public long getMergedOffset() {
+        return null == seekOffset ? getActualOffset() : seekOffset;
+    }
+    
     /**
      * Get revised row count.
      *
@@ -149,6 +181,9 @@ public final class PaginationContext {
         if (isMaxRowCount(selectStatementContext)) {
             return Integer.MAX_VALUE;
         }
+        if (null != seekOffset && null != actualRowCount) {
+            return seekOffset + actualRowCount;
+        }
         return rowCountSegment instanceof LimitValueSegment ? actualOffset + actualRowCount : actualRowCount;
     }
     
@@ -40,6 +40,7 @@ import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -143,6 +144,27 @@ class PaginationContextTest {
         assertThat(new PaginationContext(getOffsetSegment(), getRowCountSegment(), getParameters()).getRevisedRowCount(selectStatementContext), is(50L));
     }
     
+    @Test
+    void assertGetMergedOffsetWithoutSeekOffset() {
+        PaginationContext paginationContext = new PaginationContext(getOffsetSegment(), getRowCountSegment(), getParameters());
+        assertFalse(paginationContext.isSeekOffsetApplied());
+        assertThat(paginationContext.getMergedOffset(), is(30L));
+    }
+    
+    @Test
+    void assertGetRevisedRowCountWithSeekOffset() {
+        SelectStatement selectStatement = new SelectStatement(databaseType);
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        ShardingSphereDatabase database = new ShardingSphereDatabase("foo_db", mock(), mock(), mock(), Collections.emptyList());
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(Collections.singleton(database), mock(), mock(), mock());
+        SelectStatementContext selectStatementContext = new SelectStatementContext(selectStatement, metaData, "foo_db", Collections.emptyList());
+        PaginationContext paginationContext = new PaginationContext(getOffsetSegment(), getRowCountSegment(), getParameters());
+        paginationContext.applySeekOffset(2L);
+        assertTrue(paginationContext.isSeekOffsetApplied());
+        assertThat(paginationContext.getMergedOffset(), is(2L));
+        assertThat(paginationContext.getRevisedRowCount(selectStatementContext), is(22L));
+    }
+    
     @Test
     void assertGetRevisedRowCountWithMax() {
         SelectStatement selectStatement = new SelectStatement(databaseType);
@@ -48,11 +48,44 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * The thread mode of worker group to execute SQL.
+     */
+    KERNEL_EXECUTOR_MODE("kernel-executor-mode", KernelExecutorMode.PLATFORM.name(), KernelExecutorMode.class, true),
+    
     /**
      * Max opened connection size for each query.
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max-connections-size-per-query", String.valueOf(1), int.class, false),
     
+    /**
+     * Memory limit in bytes of group by merging, rows of new groups spill to temporary files when exceeded.
+     * The default value is 0, which means merge all groups in memory.
+     */
+    GROUP_BY_MERGE_MEMORY_LIMIT("group-by-merge-memory-limit", String.valueOf(0L), long.class, false),
+    
+    /**
+     * Memory limit in bytes of one query result loaded in connection strictly mode, rows spill to temporary file when exceeded.
+     * The default value is 0, which means load all rows in memory.
+     */
+    QUERY_RESULT_MEMORY_LIMIT("query-result-memory-limit", String.valueOf(0L), long.class, false),
+    
+    /**
+     * Whether merge group by results which can not be stream merged by concurrent partial aggregation of each query result.
+     */
+    GROUP_BY_MERGE_PARTIAL_AGGREGATION_ENABLED("group-by-merge-partial-aggregation-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Min offset of sharding limit pagination which seeks the boundary value of the order by column on every route unit before fetching rows.
+     * The default value is 0, which means never seek.
+     */
+    PAGINATION_SEEK_OFFSET_THRESHOLD("pagination-seek-offset-threshold", String.valueOf(0L), long.class, false),
+    
+    /**
+     * Query timeout in seconds of each probe of sharding limit pagination seek.
+     */
+    PAGINATION_SEEK_PROBE_TIMEOUT_SECONDS("pagination-seek-probe-timeout-seconds", String.valueOf(3), int.class, false),
+    
     /**
      * Whether validate table metadata consistency when application startup or updated.
      */
@@ -63,6 +96,33 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     LOAD_TABLE_METADATA_BATCH_SIZE("load-table-metadata-batch-size", String.valueOf(1000), int.class, false),
     
+    /**
+     * Meta data snapshot path.
+     * Tables and rule configurations loaded from repository are saved as local snapshot in the path, and reused instead of fetching and parsing contents when the compute node restarts if their revisions in repository are not changed.
+     * The default value is blank, which means no snapshot.
+     */
+    META_DATA_SNAPSHOT_PATH("meta-data-snapshot-path", "", String.class, true),
+    
+    /**
+     * Whether execute all table scans of federated query concurrently with kernel executor when the first scan is enumerated.
+     */
+    SQL_FEDERATION_ASYNC_SCAN_ENABLED("sql-federation-async-scan-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Number of rows of encrypted query result prefetched and decrypted in parallel at a time, 0 means decrypting row by row.
+     */
+    ENCRYPT_DECRYPT_WINDOW_SIZE("encrypt-decrypt-window-size", String.valueOf(0), int.class, false),
+    
+    /**
+     * Max replication lag in milliseconds of replicas which readwrite-splitting reads are routed to, less than 0 means replication lag is ignored.
+     */
+    READWRITE_SPLITTING_MAX_REPLICATION_LAG_MILLISECONDS("readwrite-splitting-max-replication-lag-milliseconds", String.valueOf(-1L), long.class, false),
+    
+    /**
+     * Interval in milliseconds to probe replication lag of replicas for readwrite-splitting.
+     */
+    READWRITE_SPLITTING_REPLICATION_LAG_PROBE_INTERVAL_MILLISECONDS("readwrite-splitting-replication-lag-probe-interval-milliseconds", String.valueOf(1000L), long.class, false),
+    
     /**
      * Frontend database protocol for ShardingSphere-Proxy.
      */
@@ -27,12 +27,12 @@ import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.datanode.DataNodes;
+import org.apache.shardingsphere.infra.datasource.pool.props.domain.DataSourcePoolProperties;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.kernel.metadata.datanode.UnsupportedActualDataNodeStructureException;
 import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilderMaterial;
 
-import javax.sql.DataSource;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
@@ -82,19 +82,33 @@ public final class SchemaMetaDataUtils {
     private static Collection<MetaDataLoaderMaterial> buildMaterials(final GenericSchemaBuilderMaterial material, final String dataSourceName, final Collection<String> actualTableNames,
                                                                      final DatabaseType storageType, final String defaultSchemaName, final int loadTableMetadataBatchSize) {
         Collection<MetaDataLoaderMaterial> result = new LinkedList<>();
-        DataSource dataSource = getDataSource(material, dataSourceName);
+        StorageUnit storageUnit = getStorageUnit(material, dataSourceName);
+        int maxConcurrentLoads = getMaxConcurrentLoads(storageUnit);
         for (List<String> each : Lists.partition(new ArrayList<>(actualTableNames), loadTableMetadataBatchSize)) {
-            result.add(new MetaDataLoaderMaterial(each, dataSourceName, dataSource, storageType, defaultSchemaName));
+            result.add(new MetaDataLoaderMaterial(each, dataSourceName, storageUnit.getDataSource(), storageType, defaultSchemaName, maxConcurrentLoads));
         }
         return result;
     }
     
+    private static int getMaxConcurrentLoads(final StorageUnit storageUnit) {
+        DataSourcePoolProperties dataSourcePoolProps = storageUnit.getDataSourcePoolProperties();
+        Object maxPoolSize = null == dataSourcePoolProps ? null : dataSourcePoolProps.getPoolPropertySynonyms().getStandardProperties().get("maxPoolSize");
+        if (null == maxPoolSize) {
+            return MetaDataLoaderMaterial.DEFAULT_MAX_CONCURRENT_LOADS;
+        }
+        try {
+            return Math.max(1, Integer.parseInt(maxPoolSize.toString()) / 2);
+        } catch (final NumberFormatException ignored) {
+            return MetaDataLoaderMaterial.DEFAULT_MAX_CONCURRENT_LOADS;
+        }
+    }
+    
     private static String getDefaultSchemaNameByStorageType(final DatabaseType storageType, final String databaseName) {
         return new DatabaseTypeRegistry(storageType).getDefaultSchemaName(databaseName);
     }
     
-    private static DataSource getDataSource(final GenericSchemaBuilderMaterial material, final String dataSourceName) {
-        return material.getStorageUnits().get(dataSourceName.contains(".") ? dataSourceName.split("\\.")[0] : dataSourceName).getDataSource();
+    private static StorageUnit getStorageUnit(final GenericSchemaBuilderMaterial material, final String dataSourceName) {
+        return material.getStorageUnits().get(dataSourceName.contains(".") ? dataSourceName.split("\\.")[0] : dataSourceName);
     }
     
     private static void checkDataSourceTypeIncludeInstanceAndSetDatabaseTableMap(final Collection<DatabaseType> notSupportThreeTierStructureStorageTypes, final DataNodes dataNodes,
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataLoaderMaterial;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.datasource.pool.props.domain.DataSourcePoolProperties;
 import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilderMaterial;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
@@ -67,6 +68,8 @@ class SchemaMetaDataUtilsTest {
         MetaDataLoaderMaterial secondMaterial = iterator.next();
         assertThat(secondMaterial.getDefaultSchemaName(), is("sharding_db"));
         assertThat(secondMaterial.getActualTableNames(), is(Collections.singletonList("t_order_1")));
+        assertThat(firstMaterial.getMaxConcurrentLoads(), is(MetaDataLoaderMaterial.DEFAULT_MAX_CONCURRENT_LOADS));
+        assertThat(secondMaterial.getMaxConcurrentLoads(), is(5));
     }
     
     @Test
@@ -109,6 +112,25 @@ class SchemaMetaDataUtilsTest {
         assertThat(firstMaterial.getActualTableNames(), is(Collections.singletonList("t_single")));
     }
     
+    @Test
+    void assertGetSchemaMetaDataLoaderMaterialsWithoutMaxPoolSize() {
+        ShardingSphereRule rule = mock(ShardingSphereRule.class);
+        DataNodeRuleAttribute ruleAttribute = mock(DataNodeRuleAttribute.class);
+        when(ruleAttribute.getDataNodesByTableName("t_order")).thenReturn(Collections.singletonList(new DataNode("ds_0.t_order_0")));
+        when(rule.getAttributes()).thenReturn(new RuleAttributes(ruleAttribute));
+        ConfigurationProperties props = mock(ConfigurationProperties.class);
+        when(props.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED)).thenReturn(true);
+        when(props.getValue(ConfigurationPropertyKey.LOAD_TABLE_METADATA_BATCH_SIZE)).thenReturn(100);
+        StorageUnit storageUnit = mock(StorageUnit.class);
+        when(storageUnit.getStorageType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        when(storageUnit.getDataSource()).thenReturn(new MockedDataSource());
+        when(storageUnit.getDataSourcePoolProperties()).thenReturn(new DataSourcePoolProperties(MockedDataSource.class.getName(), Collections.singletonMap("url", "jdbc:mock://127.0.0.1/foo_ds")));
+        GenericSchemaBuilderMaterial material = new GenericSchemaBuilderMaterial(Collections.singletonMap("ds_0", storageUnit), Collections.singleton(rule), props, "sharding_db");
+        Collection<MetaDataLoaderMaterial> actual = SchemaMetaDataUtils.getMetaDataLoaderMaterials(Collections.singleton("t_order"), material);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next().getMaxConcurrentLoads(), is(MetaDataLoaderMaterial.DEFAULT_MAX_CONCURRENT_LOADS));
+    }
+    
     private Collection<DataNode> mockShardingDataNodes() {
         return Arrays.asList(new DataNode("ds_0.t_order_0"), new DataNode("ds_1.t_order_1"));
     }
@@ -130,6 +152,7 @@ class SchemaMetaDataUtilsTest {
         StorageUnit storageUnit2 = mock(StorageUnit.class);
         when(storageUnit2.getStorageType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
         when(storageUnit2.getDataSource()).thenReturn(new MockedDataSource());
+        when(storageUnit2.getDataSourcePoolProperties()).thenReturn(new DataSourcePoolProperties(MockedDataSource.class.getName(), Collections.singletonMap("maxPoolSize", 10)));
         result.put("ds_1", storageUnit2);
         return result;
     }
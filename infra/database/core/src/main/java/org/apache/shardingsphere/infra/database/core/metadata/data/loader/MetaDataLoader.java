@@ -28,27 +28,38 @@ import org.apache.shardingsphere.infra.database.core.metadata.database.datatype.
 import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Meta data loader.
+ * 
+ * <p>Materials of one storage unit are loaded by at most as many tasks as the max concurrent loads of the materials, which is derived from the max pool size of the storage unit,
+ * so one storage unit can not use up the connections of its pool or all threads of the loader.</p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 @Slf4j
 public final class MetaDataLoader {
     
-    private static final ExecutorService EXECUTOR_SERVICE = new ThreadPoolExecutor(Runtime.getRuntime().availableProcessors() * 2, Runtime.getRuntime().availableProcessors() * 2,
+    private static final int EXECUTOR_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+    
+    private static final ExecutorService EXECUTOR_SERVICE = new ThreadPoolExecutor(EXECUTOR_SIZE, EXECUTOR_SIZE,
             0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-SchemaMetaDataLoaderEngine-%d").build());
     
     /**
@@ -59,15 +70,26 @@ public final class MetaDataLoader {
      * @throws SQLException SQL exception
      */
     public static Map<String, SchemaMetaData> load(final Collection<MetaDataLoaderMaterial> materials) throws SQLException {
-        Map<String, SchemaMetaData> result = new LinkedHashMap<>(materials.size(), 1F);
-        Collection<Future<Collection<SchemaMetaData>>> futures = new LinkedList<>();
-        for (MetaDataLoaderMaterial each : materials) {
-            DataTypeRegistry.load(each.getDataSource(), each.getStorageType().getType());
-            futures.add(EXECUTOR_SERVICE.submit(() -> load(each)));
+        long startTimeMillis = System.currentTimeMillis();
+        List<MetaDataLoaderMaterial> materialList = new ArrayList<>(materials);
+        Map<String, Queue<Integer>> storageUnitMaterialIndexes = new LinkedHashMap<>();
+        for (int i = 0; i < materialList.size(); i++) {
+            MetaDataLoaderMaterial material = materialList.get(i);
+            DataTypeRegistry.load(material.getDataSource(), material.getStorageType().getType());
+            storageUnitMaterialIndexes.computeIfAbsent(material.getStorageUnitName(), key -> new ConcurrentLinkedQueue<>()).add(i);
+        }
+        AtomicReferenceArray<Collection<SchemaMetaData>> loadedSchemaMetaData = new AtomicReferenceArray<>(materialList.size());
+        AtomicInteger loadedMaterialCount = new AtomicInteger();
+        Collection<Future<Void>> futures = new LinkedList<>();
+        for (Queue<Integer> each : storageUnitMaterialIndexes.values()) {
+            int maxConcurrentLoads = materialList.get(each.element()).getMaxConcurrentLoads();
+            for (int i = 0; i < Math.min(maxConcurrentLoads, each.size()); i++) {
+                futures.add(EXECUTOR_SERVICE.submit(() -> load(materialList, each, loadedSchemaMetaData, loadedMaterialCount)));
+            }
         }
         try {
-            for (Future<Collection<SchemaMetaData>> each : futures) {
-                merge(result, each.get());
+            for (Future<Void> each : futures) {
+                each.get();
             }
         } catch (final InterruptedException ex) {
             Thread.currentThread().interrupt();
@@ -77,9 +99,28 @@ public final class MetaDataLoader {
             }
             throw new SQLException(ex);
         }
+        Map<String, SchemaMetaData> result = new LinkedHashMap<>(materials.size(), 1F);
+        for (int i = 0; i < loadedSchemaMetaData.length(); i++) {
+            Optional.ofNullable(loadedSchemaMetaData.get(i)).ifPresent(optional -> merge(result, optional));
+        }
+        log.debug("Load meta data of {} tables from {} storage units in {} ms.",
+                materialList.stream().mapToInt(each -> each.getActualTableNames().size()).sum(), storageUnitMaterialIndexes.size(), System.currentTimeMillis() - startTimeMillis);
         return result;
     }
     
+    private static Void load(final List<MetaDataLoaderMaterial> materials, final Queue<Integer> materialIndexes,
+                             final AtomicReferenceArray<Collection<SchemaMetaData>> loadedSchemaMetaData, final AtomicInteger loadedMaterialCount) throws SQLException {
+        Integer index;
+        while (null != (index = materialIndexes.poll())) {
+            MetaDataLoaderMaterial material = materials.get(index);
+            long startTimeMillis = System.currentTimeMillis();
+            loadedSchemaMetaData.set(index, load(material));
+            log.debug("Load meta data of {} tables from storage unit `{}` in {} ms, progress: {}/{}.", material.getActualTableNames().size(), material.getStorageUnitName(),
+                    System.currentTimeMillis() - startTimeMillis, loadedMaterialCount.incrementAndGet(), materials.size());
+        }
+        return null;
+    }
+    
     private static Collection<SchemaMetaData> load(final MetaDataLoaderMaterial material) throws SQLException {
         Optional<DialectMetaDataLoader> dialectLoader = DatabaseTypedSPILoader.findService(DialectMetaDataLoader.class, material.getStorageType());
         if (dialectLoader.isPresent()) {
@@ -94,8 +135,10 @@ public final class MetaDataLoader {
     
     private static Collection<SchemaMetaData> loadByDefault(final MetaDataLoaderMaterial material) throws SQLException {
         Collection<TableMetaData> tableMetaData = new LinkedList<>();
-        for (String each : material.getActualTableNames()) {
-            TableMetaDataLoader.load(material.getDataSource(), each, material.getStorageType()).ifPresent(tableMetaData::add);
+        try (MetaDataLoaderConnection connection = new MetaDataLoaderConnection(material.getStorageType(), material.getDataSource().getConnection())) {
+            for (String each : material.getActualTableNames()) {
+                TableMetaDataLoader.load(connection, each, material.getStorageType()).ifPresent(tableMetaData::add);
+            }
         }
         return Collections.singleton(new SchemaMetaData(material.getDefaultSchemaName(), tableMetaData));
     }
@@ -31,6 +31,8 @@ import java.util.Collection;
 @Getter
 public final class MetaDataLoaderMaterial {
     
+    public static final int DEFAULT_MAX_CONCURRENT_LOADS = Runtime.getRuntime().availableProcessors() * 2;
+    
     private final Collection<String> actualTableNames;
     
     private final String storageUnitName;
@@ -40,4 +42,11 @@ public final class MetaDataLoaderMaterial {
     private final DatabaseType storageType;
     
     private final String defaultSchemaName;
+    
+    private final int maxConcurrentLoads;
+    
+    public MetaDataLoaderMaterial(final Collection<String> actualTableNames, final String storageUnitName, final DataSource dataSource, final DatabaseType storageType,
+                                  final String defaultSchemaName) {
+        this(actualTableNames, storageUnitName, dataSource, storageType, defaultSchemaName, DEFAULT_MAX_CONCURRENT_LOADS);
+    }
 }
@@ -35,21 +35,28 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import javax.sql.DataSource;
+import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -140,4 +147,20 @@ class TableMetaDataLoaderTest {
         assertTrue(actual.containsKey("sharding_db"));
         assertTrue(actual.get("sharding_db").getTables().isEmpty());
     }
+    
+    @Test
+    void assertLoadWithMultipleMaterials() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getMetaData().getTables(any(), any(), anyString(), any())).thenReturn(mock(ResultSet.class));
+        Collection<MetaDataLoaderMaterial> materials = new LinkedList<>();
+        for (int i = 0; i < 20; i++) {
+            materials.add(new MetaDataLoaderMaterial(Arrays.asList("foo_tbl_" + i, "bar_tbl_" + i), 0 == i % 2 ? "foo_ds" : "bar_ds", dataSource, databaseType, "sharding_db"));
+        }
+        Map<String, SchemaMetaData> actual = MetaDataLoader.load(materials);
+        assertTrue(actual.get("sharding_db").getTables().isEmpty());
+        verify(dataSource, times(40)).getConnection();
+        verify(connection.getMetaData(), times(40)).getTables(any(), any(), anyString(), any());
+    }
 }
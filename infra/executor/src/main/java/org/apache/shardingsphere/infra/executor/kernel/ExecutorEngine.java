@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.executor.kernel;
 
 import lombok.Getter;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.config.props.KernelExecutorMode;
 import org.apache.shardingsphere.infra.exception.generic.UnknownSQLException;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
@@ -28,11 +29,18 @@ import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceMan
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Executor engine.
@@ -43,8 +51,8 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private final ExecutorServiceManager executorServiceManager;
     
-    private ExecutorEngine(final int executorSize) {
-        executorServiceManager = new ExecutorServiceManager(executorSize);
+    private ExecutorEngine(final int executorSize, final KernelExecutorMode executorMode) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, executorMode);
     }
     
     /**
@@ -54,7 +62,18 @@ public final class ExecutorEngine implements AutoCloseable {
      * @return created executor engine
      */
     public static ExecutorEngine createExecutorEngineWithSize(final int executorSize) {
-        return new ExecutorEngine(executorSize);
+        return new ExecutorEngine(executorSize, KernelExecutorMode.PLATFORM);
+    }
+    
+    /**
+     * Create executor engine with executor size and executor mode.
+     *
+     * @param executorSize executor size, ignored if executor mode is virtual
+     * @param executorMode executor mode
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngine(final int executorSize, final KernelExecutorMode executorMode) {
+        return new ExecutorEngine(executorSize, executorMode);
     }
     
     /**
@@ -91,40 +110,88 @@ public final class ExecutorEngine implements AutoCloseable {
     private <I, O> List<O> parallelExecute(final Iterator<ExecutionGroup<I>> executionGroups, final String processId, final ExecutorCallback<I, O> firstCallback,
                                            final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
-        Collection<Future<Collection<O>>> restResultFutures = asyncExecute(executionGroups, processId, callback);
-        return getGroupResults(syncExecute(firstInputs, processId, null == firstCallback ? callback : firstCallback), restResultFutures);
+        ExecutorCallback<I, O> trunkCallback = null == firstCallback ? callback : firstCallback;
+        AtomicBoolean trunkCancelled = new AtomicBoolean(false);
+        CompletionService<Collection<O>> completionService = new ExecutorCompletionService<>(executorServiceManager.getExecutorService());
+        Map<Future<Collection<O>>, ExecutionGroup<I>> restResultFutures = asyncExecute(executionGroups, processId, callback, completionService, () -> {
+            if (trunkCancelled.compareAndSet(false, true)) {
+                trunkCallback.cancel(firstInputs.getInputs());
+            }
+        });
+        Collection<O> firstResults;
+        try {
+            firstResults = syncExecute(firstInputs, processId, trunkCallback);
+        } catch (final SQLException | RuntimeException ex) {
+            if (!trunkCancelled.get()) {
+                cancel(restResultFutures, callback);
+                throw ex;
+            }
+            firstResults = Collections.emptyList();
+        }
+        return getGroupResults(firstResults, completionService, restResultFutures, callback);
     }
     
     private <I, O> Collection<O> syncExecute(final ExecutionGroup<I> executionGroup, final String processId, final ExecutorCallback<I, O> callback) throws SQLException {
         return callback.execute(executionGroup.getInputs(), true, processId);
     }
     
-    private <I, O> Collection<Future<Collection<O>>> asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups, final String processId, final ExecutorCallback<I, O> callback) {
-        Collection<Future<Collection<O>>> result = new LinkedList<>();
+    private <I, O> Map<Future<Collection<O>>, ExecutionGroup<I>> asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups, final String processId, final ExecutorCallback<I, O> callback,
+                                                                            final CompletionService<Collection<O>> completionService, final Runnable failureListener) {
+        Map<Future<Collection<O>>, ExecutionGroup<I>> result = new LinkedHashMap<>();
         while (executionGroups.hasNext()) {
-            result.add(asyncExecute(executionGroups.next(), processId, callback));
+            ExecutionGroup<I> each = executionGroups.next();
+            result.put(asyncExecute(each, processId, callback, completionService, failureListener), each);
         }
         return result;
     }
     
-    private <I, O> Future<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final String processId, final ExecutorCallback<I, O> callback) {
-        return executorServiceManager.getExecutorService().submit(() -> callback.execute(executionGroup.getInputs(), false, processId));
+    private <I, O> Future<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final String processId, final ExecutorCallback<I, O> callback,
+                                                      final CompletionService<Collection<O>> completionService, final Runnable failureListener) {
+        return completionService.submit(() -> {
+            try {
+                return callback.execute(executionGroup.getInputs(), false, processId);
+            } catch (final SQLException | RuntimeException ex) {
+                failureListener.run();
+                throw ex;
+            }
+        });
     }
     
-    private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<Future<Collection<O>>> restFutures) throws SQLException {
-        List<O> result = new LinkedList<>(firstResults);
-        for (Future<Collection<O>> each : restFutures) {
+    private <I, O> List<O> getGroupResults(final Collection<O> firstResults, final CompletionService<Collection<O>> completionService,
+                                           final Map<Future<Collection<O>>, ExecutionGroup<I>> restFutures, final ExecutorCallback<I, O> callback) throws SQLException {
+        Map<Future<Collection<O>>, Collection<O>> restResults = new HashMap<>(restFutures.size(), 1F);
+        while (restResults.size() < restFutures.size()) {
             try {
-                result.addAll(each.get());
+                Future<Collection<O>> completedFuture = completionService.take();
+                restResults.put(completedFuture, completedFuture.get());
             } catch (final InterruptedException ex) {
                 Thread.currentThread().interrupt();
+                cancel(restFutures, callback);
+                break;
             } catch (final ExecutionException ex) {
+                cancel(restFutures, callback);
                 return throwException(ex);
             }
         }
+        List<O> result = new LinkedList<>(firstResults);
+        for (Future<Collection<O>> each : restFutures.keySet()) {
+            Collection<O> restResult = restResults.get(each);
+            if (null != restResult) {
+                result.addAll(restResult);
+            }
+        }
         return result;
     }
     
+    private <I, O> void cancel(final Map<Future<Collection<O>>, ExecutionGroup<I>> futures, final ExecutorCallback<I, O> callback) {
+        for (Entry<Future<Collection<O>>, ExecutionGroup<I>> entry : futures.entrySet()) {
+            if (!entry.getKey().isDone()) {
+                entry.getKey().cancel(false);
+                callback.cancel(entry.getValue().getInputs());
+            }
+        }
+    }
+    
     private <O> List<O> throwException(final Exception exception) throws SQLException {
         if (exception.getCause() instanceof SQLException) {
             throw (SQLException) exception.getCause();
@@ -38,4 +38,12 @@ public interface ExecutorCallback<I, O> {
      * @throws SQLException throw when execute failure
      */
     Collection<O> execute(Collection<I> inputs, boolean isTrunkThread, String processId) throws SQLException;
+    
+    /**
+     * Cancel execution of inputs which may be still running in other thread.
+     *
+     * @param inputs input values
+     */
+    default void cancel(Collection<I> inputs) {
+    }
 }
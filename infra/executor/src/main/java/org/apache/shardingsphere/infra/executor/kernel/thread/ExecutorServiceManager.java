@@ -19,7 +19,10 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import com.alibaba.ttl.threadpool.TtlExecutors;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.props.KernelExecutorMode;
 
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -29,6 +32,7 @@ import java.util.concurrent.TimeUnit;
  * Executor service manager.
  */
 @Getter
+@Slf4j
 public final class ExecutorServiceManager {
     
     private static final String DEFAULT_NAME_FORMAT = "%d";
@@ -41,11 +45,30 @@ public final class ExecutorServiceManager {
         this(executorSize, DEFAULT_NAME_FORMAT);
     }
     
+    public ExecutorServiceManager(final int executorSize, final KernelExecutorMode executorMode) {
+        this(executorSize, DEFAULT_NAME_FORMAT, executorMode);
+    }
+    
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = TtlExecutors.getTtlExecutorService(getExecutorService(executorSize, nameFormat));
+        this(executorSize, nameFormat, KernelExecutorMode.PLATFORM);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final KernelExecutorMode executorMode) {
+        executorService = TtlExecutors.getTtlExecutorService(getExecutorService(executorSize, nameFormat, executorMode));
+    }
+    
+    private ExecutorService getExecutorService(final int executorSize, final String nameFormat, final KernelExecutorMode executorMode) {
+        if (KernelExecutorMode.VIRTUAL == executorMode) {
+            Optional<ExecutorService> virtualThreadExecutorService = VirtualThreadExecutorServiceCreator.create(nameFormat);
+            if (virtualThreadExecutorService.isPresent()) {
+                return virtualThreadExecutorService.get();
+            }
+            log.warn("Virtual thread is not supported by current JDK, fall back to platform thread executor.");
+        }
+        return getPlatformThreadExecutorService(executorSize, nameFormat);
     }
     
-    private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
+    private ExecutorService getPlatformThreadExecutorService(final int executorSize, final String nameFormat) {
         ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build(nameFormat);
         return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
     }
@@ -40,4 +40,15 @@ public final class ExecutorThreadFactoryBuilder {
     public static ThreadFactory build(final String nameFormat) {
         return new ThreadFactoryBuilder().setDaemon(true).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build();
     }
+    
+    /**
+     * Build thread factory with thread name format and backing thread factory.
+     *
+     * @param nameFormat thread name format
+     * @param backingThreadFactory backing thread factory
+     * @return thread factory
+     */
+    public static ThreadFactory build(final String nameFormat, final ThreadFactory backingThreadFactory) {
+        return new ThreadFactoryBuilder().setThreadFactory(backingThreadFactory).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build();
+    }
 }
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Virtual thread executor service creator.
+ * 
+ * <p>Virtual thread is resolved by reflection, because the project still compiles with JDK 8.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VirtualThreadExecutorServiceCreator {
+    
+    private static final Method OF_VIRTUAL_METHOD = findMethod(Thread.class, "ofVirtual");
+    
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR_METHOD = findMethod(Executors.class, "newThreadPerTaskExecutor", ThreadFactory.class);
+    
+    private static Method findMethod(final Class<?> clazz, final String methodName, final Class<?>... parameterTypes) {
+        try {
+            return clazz.getMethod(methodName, parameterTypes);
+        } catch (final NoSuchMethodException ignored) {
+            return null;
+        }
+    }
+    
+    /**
+     * Judge whether virtual thread is supported by current JDK.
+     *
+     * @return is supported or not
+     */
+    public static boolean isSupported() {
+        return null != OF_VIRTUAL_METHOD && null != NEW_THREAD_PER_TASK_EXECUTOR_METHOD;
+    }
+    
+    /**
+     * Create executor service which starts a new virtual thread for each task.
+     *
+     * @param nameFormat thread name format
+     * @return created executor service, empty if virtual thread is not supported
+     */
+    public static Optional<ExecutorService> create(final String nameFormat) {
+        if (!isSupported()) {
+            return Optional.empty();
+        }
+        try {
+            Object virtualThreadBuilder = OF_VIRTUAL_METHOD.invoke(null);
+            ThreadFactory virtualThreadFactory = (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(virtualThreadBuilder);
+            return Optional.of((ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR_METHOD.invoke(null, ExecutorThreadFactoryBuilder.build(nameFormat, virtualThreadFactory)));
+        } catch (final ReflectiveOperationException ignored) {
+            return Optional.empty();
+        }
+    }
+}
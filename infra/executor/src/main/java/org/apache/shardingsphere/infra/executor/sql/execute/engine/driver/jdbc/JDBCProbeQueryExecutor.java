@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DatabaseConnectionManager;
+import org.apache.shardingsphere.infra.session.connection.probe.ProbeQuery;
+import org.apache.shardingsphere.infra.session.connection.probe.ProbeQueryExecutor;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * JDBC probe query executor.
+ * 
+ * <p>Probe queries of the same data source are executed one by one with the first connection of session on that data source,
+ * probe queries of different data sources are executed in parallel by executor engine.</p>
+ */
+@RequiredArgsConstructor
+public final class JDBCProbeQueryExecutor implements ProbeQueryExecutor {
+    
+    private final ExecutorEngine executorEngine;
+    
+    private final DatabaseConnectionManager<Connection> databaseConnectionManager;
+    
+    private final String processId;
+    
+    @Override
+    public List<List<Object>> execute(final String databaseName, final List<ProbeQuery> probeQueries, final int queryTimeoutSeconds) throws SQLException {
+        Map<String, List<ProbeQueryUnit>> probeQueryUnits = new LinkedHashMap<>();
+        for (int i = 0; i < probeQueries.size(); i++) {
+            ProbeQuery probeQuery = probeQueries.get(i);
+            probeQueryUnits.computeIfAbsent(probeQuery.getDataSourceName(), key -> new LinkedList<>()).add(new ProbeQueryUnit(i, probeQuery));
+        }
+        Collection<ExecutionGroup<ProbeQueryUnit>> inputGroups = new LinkedList<>();
+        for (Entry<String, List<ProbeQueryUnit>> entry : probeQueryUnits.entrySet()) {
+            Connection connection = databaseConnectionManager.getConnections(databaseName, entry.getKey(), 0, 1, ConnectionMode.CONNECTION_STRICTLY).get(0);
+            entry.getValue().forEach(each -> each.connection = connection);
+            inputGroups.add(new ExecutionGroup<>(entry.getValue()));
+        }
+        List<ProbeQueryUnit> executedUnits = executorEngine.execute(
+                new ExecutionGroupContext<>(inputGroups, new ExecutionGroupReportContext(processId, databaseName)), null, new ProbeQueryExecutorCallback(queryTimeoutSeconds), false);
+        List<List<Object>> result = new ArrayList<>(Collections.nCopies(probeQueries.size(), null));
+        for (ProbeQueryUnit each : executedUnits) {
+            result.set(each.index, each.values);
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ProbeQueryUnit {
+        
+        private final int index;
+        
+        private final ProbeQuery probeQuery;
+        
+        private Connection connection;
+        
+        private List<Object> values;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ProbeQueryExecutorCallback implements ExecutorCallback<ProbeQueryUnit, ProbeQueryUnit> {
+        
+        private final int queryTimeoutSeconds;
+        
+        @Override
+        public Collection<ProbeQueryUnit> execute(final Collection<ProbeQueryUnit> inputs, final boolean isTrunkThread, final String processId) throws SQLException {
+            for (ProbeQueryUnit each : inputs) {
+                each.values = execute(each.connection, each.probeQuery);
+            }
+            return inputs;
+        }
+        
+        private List<Object> execute(final Connection connection, final ProbeQuery probeQuery) throws SQLException {
+            List<Object> result = new LinkedList<>();
+            try (PreparedStatement preparedStatement = connection.prepareStatement(probeQuery.getSql())) {
+                preparedStatement.setQueryTimeout(queryTimeoutSeconds);
+                List<Object> params = probeQuery.getParameters();
+                for (int i = 0; i < params.size(); i++) {
+                    preparedStatement.setObject(i + 1, params.get(i));
+                }
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        result.add(resultSet.getObject(1));
+                    }
+                }
+            }
+            return result;
+        }
+    }
+}
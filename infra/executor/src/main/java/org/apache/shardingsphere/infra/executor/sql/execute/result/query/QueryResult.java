@@ -102,4 +102,7 @@ public interface QueryResult extends ExecuteResult, AutoCloseable {
     default Optional<ResultSet> getJDBCResultSet() {
         return Optional.empty();
     }
+    
+    @Override
+    void close() throws SQLException;
 }
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory;
+
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.exception.generic.UnknownSQLException;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.AbstractMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.spill.SpillableQueryResultDataRows;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * JDBC query result for memory loading with memory limit.
+ * 
+ * <p>Rows exceeding memory limit spill to temporary file, so that the loaded result set does not hold the heap regardless of result size.</p>
+ */
+public final class JDBCSpillableMemoryQueryResult extends AbstractMemoryQueryResult {
+    
+    private final SpillableQueryResultDataRows rows;
+    
+    private final ResultSet jdbcResultSet;
+    
+    public JDBCSpillableMemoryQueryResult(final ResultSet resultSet, final DatabaseType databaseType, final long memoryLimit) throws SQLException {
+        this(resultSet, databaseType, memoryLimit, false);
+    }
+    
+    public JDBCSpillableMemoryQueryResult(final ResultSet resultSet, final DatabaseType databaseType, final long memoryLimit, final boolean containsJDBCResultSet) throws SQLException {
+        this(new JDBCQueryResultMetaData(resultSet.getMetaData()), new QueryResultDataRowLoader(databaseType).load(resultSet.getMetaData().getColumnCount(), resultSet, memoryLimit),
+                containsJDBCResultSet ? resultSet : null);
+    }
+    
+    private JDBCSpillableMemoryQueryResult(final QueryResultMetaData metaData, final SpillableQueryResultDataRows rows, final ResultSet jdbcResultSet) {
+        super(metaData, rows, rows.size());
+        this.rows = rows;
+        this.jdbcResultSet = jdbcResultSet;
+    }
+    
+    /**
+     * Judge whether rows are spilled.
+     *
+     * @return rows are spilled or not
+     */
+    public boolean isSpilled() {
+        return rows.isSpilled();
+    }
+    
+    @Override
+    public Optional<ResultSet> getJDBCResultSet() {
+        return Optional.ofNullable(jdbcResultSet);
+    }
+    
+    @Override
+    public void close() {
+        try {
+            rows.close();
+        } catch (final IOException ex) {
+            throw new UnknownSQLException(ex);
+        }
+    }
+}
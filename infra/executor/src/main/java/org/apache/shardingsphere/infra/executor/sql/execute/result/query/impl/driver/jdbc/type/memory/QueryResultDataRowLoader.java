@@ -19,9 +19,14 @@ package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.d
 
 import org.apache.shardingsphere.infra.database.core.resultset.ResultSetMapper;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.exception.generic.UnknownSQLException;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.spill.BinaryRowCodec;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.spill.SpillableQueryResultDataRows;
 
+import java.io.IOException;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -59,4 +64,51 @@ public final class QueryResultDataRowLoader {
         }
         return result;
     }
+    
+    /**
+     * Load query result data row with memory limit, rows spill to temporary file when memory limit exceeded.
+     * Rows of result containing LOB, array or driver specific columns never spill, because their values may not be serializable or may be bound to the connection.
+     *
+     * @param columnCount column count
+     * @param resultSet result set
+     * @param memoryLimit memory limit in bytes
+     * @return spillable query result data rows
+     * @throws SQLException SQL exception
+     */
+    public SpillableQueryResultDataRows load(final int columnCount, final ResultSet resultSet, final long memoryLimit) throws SQLException {
+        SpillableQueryResultDataRows result = new SpillableQueryResultDataRows("query-result", isSpillable(columnCount, resultSet.getMetaData()) ? memoryLimit : Long.MAX_VALUE);
+        try {
+            while (resultSet.next()) {
+                Object[] row = new Object[columnCount];
+                for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+                    Object rowValue = resultSetMapper.load(resultSet, columnIndex);
+                    row[columnIndex - 1] = resultSet.wasNull() ? null : rowValue;
+                }
+                result.add(row);
+            }
+        } catch (final SQLException ex) {
+            closeQuietly(result);
+            throw ex;
+        } catch (final IOException ex) {
+            closeQuietly(result);
+            throw new UnknownSQLException(ex);
+        }
+        return result;
+    }
+    
+    private boolean isSpillable(final int columnCount, final ResultSetMetaData metaData) throws SQLException {
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            if (!BinaryRowCodec.isEncodable(metaData.getColumnType(columnIndex))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private void closeQuietly(final SpillableQueryResultDataRows rows) {
+        try {
+            rows.close();
+        } catch (final IOException ignored) {
+        }
+    }
 }
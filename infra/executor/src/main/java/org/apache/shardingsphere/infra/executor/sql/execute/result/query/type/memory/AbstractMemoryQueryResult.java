@@ -55,9 +55,13 @@ public abstract class AbstractMemoryQueryResult implements QueryResult {
     private boolean wasNull;
     
     protected AbstractMemoryQueryResult(final QueryResultMetaData metaData, final Collection<MemoryQueryResultDataRow> rows) {
+        this(metaData, rows.iterator(), rows.size());
+    }
+    
+    protected AbstractMemoryQueryResult(final QueryResultMetaData metaData, final Iterator<MemoryQueryResultDataRow> rows, final long rowCount) {
         this.metaData = metaData;
-        this.rows = rows.iterator();
-        rowCount = rows.size();
+        this.rows = rows;
+        this.rowCount = rowCount;
     }
     
     @Override
@@ -114,6 +118,6 @@ public abstract class AbstractMemoryQueryResult implements QueryResult {
     }
     
     @Override
-    public final void close() {
+    public void close() {
     }
 }
@@ -0,0 +1,328 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.spill;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.Ref;
+import java.sql.SQLXML;
+import java.sql.Struct;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+
+/**
+ * Binary row codec.
+ * 
+ * <p>Each value is written with one byte type tag followed by a compact payload, and is read back as the same class.
+ * Values of other serializable types fall back to java serialization, except LOB, array and other values bound to the connection which are refused.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BinaryRowCodec {
+    
+    private static final byte NULL = 0;
+    
+    private static final byte STRING = 1;
+    
+    private static final byte BOOLEAN = 2;
+    
+    private static final byte BYTE = 3;
+    
+    private static final byte SHORT = 4;
+    
+    private static final byte INTEGER = 5;
+    
+    private static final byte LONG = 6;
+    
+    private static final byte FLOAT = 7;
+    
+    private static final byte DOUBLE = 8;
+    
+    private static final byte BIG_DECIMAL = 9;
+    
+    private static final byte BIG_INTEGER = 10;
+    
+    private static final byte BYTES = 11;
+    
+    private static final byte SQL_DATE = 12;
+    
+    private static final byte SQL_TIME = 13;
+    
+    private static final byte SQL_TIMESTAMP = 14;
+    
+    private static final byte DATE = 15;
+    
+    private static final byte LOCAL_DATE = 16;
+    
+    private static final byte LOCAL_TIME = 17;
+    
+    private static final byte LOCAL_DATE_TIME = 18;
+    
+    private static final byte SERIALIZABLE = 19;
+    
+    private static final Collection<Integer> UNENCODABLE_SQL_TYPES = new HashSet<>(
+            Arrays.asList(Types.BLOB, Types.CLOB, Types.NCLOB, Types.ARRAY, Types.STRUCT, Types.REF, Types.REF_CURSOR, Types.SQLXML, Types.DATALINK, Types.JAVA_OBJECT, Types.OTHER));
+    
+    /**
+     * Judge whether values of SQL type can be encoded.
+     *
+     * @param sqlType SQL type defined in {@link Types}
+     * @return can be encoded or not
+     */
+    public static boolean isEncodable(final int sqlType) {
+        return !UNENCODABLE_SQL_TYPES.contains(sqlType);
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param output data output
+     * @param row row values
+     * @throws IOException IO exception
+     */
+    public static void writeRow(final DataOutput output, final Object[] row) throws IOException {
+        writeVarInt(output, row.length);
+        for (Object each : row) {
+            writeValue(output, each);
+        }
+    }
+    
+    /**
+     * Read row.
+     *
+     * @param input data input
+     * @return row values
+     * @throws IOException IO exception
+     */
+    public static Object[] readRow(final DataInput input) throws IOException {
+        Object[] result = new Object[readVarInt(input)];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = readValue(input);
+        }
+        return result;
+    }
+    
+    /**
+     * Write value.
+     *
+     * @param output data output
+     * @param value value
+     * @throws IOException IO exception
+     */
+    public static void writeValue(final DataOutput output, final Object value) throws IOException {
+        if (null == value) {
+            output.writeByte(NULL);
+        } else if (value instanceof String) {
+            output.writeByte(STRING);
+            writeBytes(output, ((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof Boolean) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) value);
+        } else if (value instanceof Byte) {
+            output.writeByte(BYTE);
+            output.writeByte((Byte) value);
+        } else if (value instanceof Short) {
+            output.writeByte(SHORT);
+            output.writeShort((Short) value);
+        } else if (value instanceof Integer) {
+            output.writeByte(INTEGER);
+            output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeByte(LONG);
+            output.writeLong((Long) value);
+        } else if (value instanceof Float) {
+            output.writeByte(FLOAT);
+            output.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) value);
+        } else if (BigDecimal.class == value.getClass()) {
+            output.writeByte(BIG_DECIMAL);
+            writeVarInt(output, ((BigDecimal) value).scale());
+            writeBytes(output, ((BigDecimal) value).unscaledValue().toByteArray());
+        } else if (BigInteger.class == value.getClass()) {
+            output.writeByte(BIG_INTEGER);
+            writeBytes(output, ((BigInteger) value).toByteArray());
+        } else if (value instanceof byte[]) {
+            output.writeByte(BYTES);
+            writeBytes(output, (byte[]) value);
+        } else if (Date.class == value.getClass()) {
+            output.writeByte(SQL_DATE);
+            output.writeLong(((Date) value).getTime());
+        } else if (Time.class == value.getClass()) {
+            output.writeByte(SQL_TIME);
+            output.writeLong(((Time) value).getTime());
+        } else if (Timestamp.class == value.getClass()) {
+            output.writeByte(SQL_TIMESTAMP);
+            output.writeLong(((Timestamp) value).getTime());
+            output.writeInt(((Timestamp) value).getNanos());
+        } else if (java.util.Date.class == value.getClass()) {
+            output.writeByte(DATE);
+            output.writeLong(((java.util.Date) value).getTime());
+        } else if (value instanceof LocalDate) {
+            output.writeByte(LOCAL_DATE);
+            output.writeLong(((LocalDate) value).toEpochDay());
+        } else if (value instanceof LocalTime) {
+            output.writeByte(LOCAL_TIME);
+            output.writeLong(((LocalTime) value).toNanoOfDay());
+        } else if (value instanceof LocalDateTime) {
+            output.writeByte(LOCAL_DATE_TIME);
+            output.writeLong(((LocalDateTime) value).toLocalDate().toEpochDay());
+            output.writeLong(((LocalDateTime) value).toLocalTime().toNanoOfDay());
+        } else {
+            output.writeByte(SERIALIZABLE);
+            writeBytes(output, serialize(value));
+        }
+    }
+    
+    /**
+     * Read value.
+     *
+     * @param input data input
+     * @return value
+     * @throws IOException IO exception
+     */
+    public static Object readValue(final DataInput input) throws IOException {
+        byte type = input.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                return new String(readBytes(input), StandardCharsets.UTF_8);
+            case BOOLEAN:
+                return input.readBoolean();
+            case BYTE:
+                return input.readByte();
+            case SHORT:
+                return input.readShort();
+            case INTEGER:
+                return input.readInt();
+            case LONG:
+                return input.readLong();
+            case FLOAT:
+                return input.readFloat();
+            case DOUBLE:
+                return input.readDouble();
+            case BIG_DECIMAL:
+                int scale = readVarInt(input);
+                return new BigDecimal(new BigInteger(readBytes(input)), scale);
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(input));
+            case BYTES:
+                return readBytes(input);
+            case SQL_DATE:
+                return new Date(input.readLong());
+            case SQL_TIME:
+                return new Time(input.readLong());
+            case SQL_TIMESTAMP:
+                Timestamp timestamp = new Timestamp(input.readLong());
+                timestamp.setNanos(input.readInt());
+                return timestamp;
+            case DATE:
+                return new java.util.Date(input.readLong());
+            case LOCAL_DATE:
+                return LocalDate.ofEpochDay(input.readLong());
+            case LOCAL_TIME:
+                return LocalTime.ofNanoOfDay(input.readLong());
+            case LOCAL_DATE_TIME:
+                return LocalDateTime.of(LocalDate.ofEpochDay(input.readLong()), LocalTime.ofNanoOfDay(input.readLong()));
+            case SERIALIZABLE:
+                return deserialize(readBytes(input));
+            default:
+                throw new IOException(String.format("Unknown value type `%d`.", type));
+        }
+    }
+    
+    private static void writeBytes(final DataOutput output, final byte[] value) throws IOException {
+        writeVarInt(output, value.length);
+        output.write(value);
+    }
+    
+    private static byte[] readBytes(final DataInput input) throws IOException {
+        byte[] result = new byte[readVarInt(input)];
+        input.readFully(result);
+        return result;
+    }
+    
+    private static void writeVarInt(final DataOutput output, final int value) throws IOException {
+        int remaining = value;
+        while (0 != (remaining & ~0x7F)) {
+            output.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        output.writeByte(remaining);
+    }
+    
+    private static int readVarInt(final DataInput input) throws IOException {
+        int result = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte each = input.readByte();
+            result |= (each & 0x7F) << shift;
+            if (0 == (each & 0x80)) {
+                return result;
+            }
+        }
+        throw new IOException("Malformed variable length integer.");
+    }
+    
+    private static byte[] serialize(final Object value) throws IOException {
+        if (!(value instanceof Serializable) || isConnectionBound(value)) {
+            throw new NotSerializableException(value.getClass().getName());
+        }
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(result)) {
+            objectOutputStream.writeObject(value);
+        }
+        return result.toByteArray();
+    }
+    
+    private static boolean isConnectionBound(final Object value) {
+        return value instanceof Blob || value instanceof Clob || value instanceof Array || value instanceof Struct || value instanceof Ref || value instanceof SQLXML;
+    }
+    
+    private static Object deserialize(final byte[] value) throws IOException {
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(value))) {
+            return objectInputStream.readObject();
+        } catch (final ClassNotFoundException ex) {
+            throw new IOException(ex);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.spill;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Row size estimator.
+ * 
+ * <p>The estimated size only counts object headers, references and payloads roughly, and is used to decide when rows should spill.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RowSizeEstimator {
+    
+    private static final int ROW_OVERHEAD_SIZE = 16;
+    
+    /**
+     * Estimate memory size in bytes of row.
+     *
+     * @param row row values
+     * @return estimated memory size
+     */
+    public static long estimate(final Object[] row) {
+        long result = ROW_OVERHEAD_SIZE + 8L * row.length;
+        for (Object each : row) {
+            if (each instanceof String) {
+                result += 40L + 2L * ((String) each).length();
+            } else if (each instanceof byte[]) {
+                result += 16L + ((byte[]) each).length;
+            } else if (each instanceof BigDecimal || each instanceof BigInteger) {
+                result += 48L;
+            } else if (null != each) {
+                result += 24L;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.spill;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Row spill file.
+ * 
+ * <p>Rows are appended to a temporary file with {@link BinaryRowCodec}, and read back in the same order after writing finished.
+ * The temporary file is deleted when all rows are read or when closed.</p>
+ */
+public final class RowSpillFile implements AutoCloseable {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final Path file;
+    
+    private DataOutputStream output;
+    
+    private DataInputStream input;
+    
+    @Getter
+    private long rowCount;
+    
+    private long readCount;
+    
+    public RowSpillFile(final String name) throws IOException {
+        file = Files.createTempFile("shardingsphere-" + name + "-", ".spill");
+        try {
+            output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE));
+        } catch (final IOException ex) {
+            Files.deleteIfExists(file);
+            throw ex;
+        }
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row row values
+     * @throws IOException IO exception
+     */
+    public void write(final Object[] row) throws IOException {
+        Preconditions.checkState(null != output, "Can not write row after writing finished.");
+        BinaryRowCodec.writeRow(output, row);
+        rowCount++;
+    }
+    
+    /**
+     * Read next row, writing is finished at the first call and the file is deleted once all rows are read.
+     *
+     * @return next row, null if all rows are read
+     * @throws IOException IO exception
+     */
+    public Object[] read() throws IOException {
+        if (readCount >= rowCount) {
+            close();
+            return null;
+        }
+        if (null != output) {
+            output.close();
+            output = null;
+            input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE));
+        }
+        readCount++;
+        Object[] result = BinaryRowCodec.readRow(input);
+        if (readCount == rowCount) {
+            close();
+        }
+        return result;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        try {
+            if (null != output) {
+                output.close();
+                output = null;
+            }
+            if (null != input) {
+                input.close();
+                input = null;
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
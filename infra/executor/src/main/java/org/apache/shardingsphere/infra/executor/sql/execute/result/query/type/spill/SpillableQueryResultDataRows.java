@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.spill;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+
+/**
+ * Spillable query result data rows.
+ * 
+ * <p>Rows are kept in memory until the estimated memory size exceeds memory limit, the following rows are appended to {@link RowSpillFile}.
+ * Rows are iterated in adding order, each row is released once iterated and the temporary file is deleted after the last spilled row iterated.</p>
+ */
+public final class SpillableQueryResultDataRows implements Iterator<MemoryQueryResultDataRow>, AutoCloseable {
+    
+    private final String name;
+    
+    private final long memoryLimit;
+    
+    private final Queue<Object[]> memoryRows = new ArrayDeque<>();
+    
+    private long memorySize;
+    
+    private RowSpillFile spillFile;
+    
+    private long spilledRowCount;
+    
+    public SpillableQueryResultDataRows(final String name, final long memoryLimit) {
+        this.name = name;
+        this.memoryLimit = memoryLimit;
+    }
+    
+    /**
+     * Add row.
+     *
+     * @param row row values
+     * @throws IOException IO exception
+     */
+    public void add(final Object[] row) throws IOException {
+        if (null == spillFile) {
+            long rowSize = RowSizeEstimator.estimate(row);
+            if (memorySize + rowSize <= memoryLimit) {
+                memoryRows.add(row);
+                memorySize += rowSize;
+                return;
+            }
+            spillFile = new RowSpillFile(name);
+        }
+        spillFile.write(row);
+        spilledRowCount++;
+    }
+    
+    /**
+     * Get row count which are not iterated.
+     *
+     * @return row count
+     */
+    public long size() {
+        return memoryRows.size() + spilledRowCount;
+    }
+    
+    /**
+     * Judge whether rows are spilled.
+     *
+     * @return rows are spilled or not
+     */
+    public boolean isSpilled() {
+        return null != spillFile;
+    }
+    
+    @Override
+    public boolean hasNext() {
+        return !memoryRows.isEmpty() || spilledRowCount > 0L;
+    }
+    
+    @SneakyThrows(IOException.class)
+    @Override
+    public MemoryQueryResultDataRow next() {
+        Object[] result = memoryRows.poll();
+        if (null != result) {
+            return new MemoryQueryResultDataRow(Arrays.asList(result));
+        }
+        if (spilledRowCount <= 0L) {
+            throw new NoSuchElementException();
+        }
+        spilledRowCount--;
+        Object[] spilledRow = spillFile.read();
+        if (0L == spilledRowCount) {
+            spillFile.close();
+        }
+        return new MemoryQueryResultDataRow(Arrays.asList(spilledRow));
+    }
+    
+    @Override
+    public void close() throws IOException {
+        memoryRows.clear();
+        spilledRowCount = 0L;
+        if (null != spillFile) {
+            spillFile.close();
+        }
+    }
+}
@@ -38,6 +38,20 @@ public interface SQLExecutionHook extends ShardingSphereSPI {
      */
     void start(String dataSourceName, String sql, List<Object> params, ConnectionProperties connectionProps, boolean isTrunkThread);
     
+    /**
+     * Handle when SQL execution started with logic database name.
+     *
+     * @param databaseName logic database name, null if unknown
+     * @param dataSourceName data source name
+     * @param sql SQL
+     * @param params SQL parameters
+     * @param connectionProps connection properties
+     * @param isTrunkThread is execution in trunk thread
+     */
+    default void start(String databaseName, String dataSourceName, String sql, List<Object> params, ConnectionProperties connectionProps, boolean isTrunkThread) {
+        start(dataSourceName, sql, params, connectionProps, isTrunkThread);
+    }
+    
     /**
      * Handle when SQL execution finished success.
      */
@@ -17,10 +17,13 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import org.apache.shardingsphere.infra.config.props.KernelExecutorMode;
+import org.apache.shardingsphere.infra.executor.kernel.fixture.CancellableExecutorCallbackFixture;
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -30,10 +33,16 @@ import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class ExecutorEngineTest {
     
@@ -82,6 +91,40 @@ class ExecutorEngineTest {
         assertThat(actual.size(), is(4));
     }
     
+    @Test
+    void assertParallelExecuteWithVirtualMode() throws SQLException, InterruptedException {
+        try (ExecutorEngine virtualExecutorEngine = ExecutorEngine.createExecutorEngine(0, KernelExecutorMode.VIRTUAL)) {
+            List<String> actual = virtualExecutorEngine.execute(executionGroupContext, firstCallback, callback, false);
+            latch.await();
+            assertThat(actual.size(), is(4));
+        }
+    }
+    
+    @Test
+    void assertParallelExecuteWithFailFast() throws SQLException {
+        CancellableExecutorCallbackFixture trunkCallback = new CancellableExecutorCallbackFixture();
+        ExecutorCallback<Object, String> failedCallback = mock(ExecutorCallback.class);
+        SQLException expected = new SQLException("failed");
+        when(failedCallback.execute(any(), anyBoolean(), any())).thenThrow(expected);
+        SQLException actual = assertThrows(SQLException.class, () -> executorEngine.execute(executionGroupContext, trunkCallback, failedCallback, false));
+        assertThat(actual, is(expected));
+        assertTrue(trunkCallback.isCancelled());
+    }
+    
+    @Test
+    void assertParallelExecuteWithFailFastCancelRunningSibling() throws SQLException {
+        CancellableExecutorCallbackFixture siblingCallback = new CancellableExecutorCallbackFixture();
+        ExecutorCallback<Object, String> failedCallback = mock(ExecutorCallback.class);
+        SQLException expected = new SQLException("failed");
+        when(failedCallback.execute(any(), anyBoolean(), any())).thenAnswer(invocation -> {
+            siblingCallback.getStartedLatch().await(1L, TimeUnit.MINUTES);
+            throw expected;
+        });
+        SQLException actual = assertThrows(SQLException.class, () -> executorEngine.execute(executionGroupContext, failedCallback, siblingCallback, false));
+        assertThat(actual, is(expected));
+        assertTrue(siblingCallback.isCancelled());
+    }
+    
     @Test
     void assertSerialExecute() throws SQLException, InterruptedException {
         List<String> actual = executorEngine.execute(executionGroupContext, firstCallback, callback, true);
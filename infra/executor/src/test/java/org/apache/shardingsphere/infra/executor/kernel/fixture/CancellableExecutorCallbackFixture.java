@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.fixture;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@Getter
+public final class CancellableExecutorCallbackFixture implements ExecutorCallback<Object, String> {
+    
+    private final CountDownLatch startedLatch = new CountDownLatch(1);
+    
+    private final CountDownLatch cancelledLatch = new CountDownLatch(1);
+    
+    private volatile boolean cancelled;
+    
+    @Override
+    public Collection<String> execute(final Collection<Object> inputs, final boolean isTrunkThread, final String processId) {
+        startedLatch.countDown();
+        try {
+            cancelledLatch.await(1L, TimeUnit.MINUTES);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        return Collections.singleton("cancelled");
+    }
+    
+    @Override
+    public void cancel(final Collection<Object> inputs) {
+        cancelled = true;
+        cancelledLatch.countDown();
+    }
+}
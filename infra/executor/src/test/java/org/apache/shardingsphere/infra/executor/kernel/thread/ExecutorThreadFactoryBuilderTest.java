@@ -33,4 +33,12 @@ class ExecutorThreadFactoryBuilderTest {
         });
         assertThat(thread.getName(), is("ShardingSphere-test"));
     }
+    
+    @Test
+    void assertBuildWithNameFormatAndBackingThreadFactory() {
+        ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build("test-%d", Thread::new);
+        Thread thread = threadFactory.newThread(() -> {
+        });
+        assertThat(thread.getName(), is("ShardingSphere-test-0"));
+    }
 }
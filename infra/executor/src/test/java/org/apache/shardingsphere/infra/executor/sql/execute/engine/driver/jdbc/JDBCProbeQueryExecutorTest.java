@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
+
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DatabaseConnectionManager;
+import org.apache.shardingsphere.infra.session.connection.probe.ProbeQuery;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JDBCProbeQueryExecutorTest {
+    
+    private final ExecutorEngine executorEngine = ExecutorEngine.createExecutorEngineWithSize(2);
+    
+    @SuppressWarnings("unchecked")
+    private final DatabaseConnectionManager<Connection> databaseConnectionManager = mock(DatabaseConnectionManager.class);
+    
+    @AfterEach
+    void tearDown() {
+        executorEngine.close();
+    }
+    
+    @Test
+    void assertExecute() throws SQLException {
+        Connection connection0 = mockConnection("SELECT id FROM t_order_0 LIMIT 2", 1L, 3L);
+        Connection connection1 = mockConnection("SELECT id FROM t_order_1 LIMIT 2", 2L);
+        PreparedStatement preparedStatement = mockPreparedStatement(4L);
+        when(connection0.prepareStatement("SELECT id FROM t_order_2 LIMIT 2")).thenReturn(preparedStatement);
+        when(databaseConnectionManager.getConnections("foo_db", "ds_0", 0, 1, ConnectionMode.CONNECTION_STRICTLY)).thenReturn(Collections.singletonList(connection0));
+        when(databaseConnectionManager.getConnections("foo_db", "ds_1", 0, 1, ConnectionMode.CONNECTION_STRICTLY)).thenReturn(Collections.singletonList(connection1));
+        List<List<Object>> actual = new JDBCProbeQueryExecutor(executorEngine, databaseConnectionManager, "foo_process").execute("foo_db", Arrays.asList(
+                new ProbeQuery("ds_0", "SELECT id FROM t_order_0 LIMIT 2", Collections.emptyList()),
+                new ProbeQuery("ds_1", "SELECT id FROM t_order_1 LIMIT 2", Collections.emptyList()),
+                new ProbeQuery("ds_0", "SELECT id FROM t_order_2 LIMIT 2", Collections.emptyList())), 3);
+        assertThat(actual, is(Arrays.asList(Arrays.asList(1L, 3L), Collections.singletonList(2L), Collections.singletonList(4L))));
+        verify(databaseConnectionManager, times(1)).getConnections("foo_db", "ds_0", 0, 1, ConnectionMode.CONNECTION_STRICTLY);
+        verify(connection0.prepareStatement("SELECT id FROM t_order_0 LIMIT 2")).setQueryTimeout(3);
+    }
+    
+    @Test
+    void assertExecuteWithParameters() throws SQLException {
+        Connection connection = mockConnection("SELECT id FROM t_order_0 WHERE user_id = ? LIMIT 2", 1L);
+        when(databaseConnectionManager.getConnections("foo_db", "ds_0", 0, 1, ConnectionMode.CONNECTION_STRICTLY)).thenReturn(Collections.singletonList(connection));
+        new JDBCProbeQueryExecutor(executorEngine, databaseConnectionManager, "foo_process").execute("foo_db",
+                Collections.singletonList(new ProbeQuery("ds_0", "SELECT id FROM t_order_0 WHERE user_id = ? LIMIT 2", Collections.singletonList(10))), 3);
+        verify(connection.prepareStatement("SELECT id FROM t_order_0 WHERE user_id = ? LIMIT 2")).setObject(1, 10);
+    }
+    
+    @Test
+    void assertExecuteFailure() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement("SELECT id FROM t_order_0 LIMIT 2")).thenThrow(new SQLException("Query timeout."));
+        when(databaseConnectionManager.getConnections("foo_db", "ds_0", 0, 1, ConnectionMode.CONNECTION_STRICTLY)).thenReturn(Collections.singletonList(connection));
+        assertThrows(SQLException.class, () -> new JDBCProbeQueryExecutor(executorEngine, databaseConnectionManager, "foo_process").execute("foo_db",
+                Collections.singletonList(new ProbeQuery("ds_0", "SELECT id FROM t_order_0 LIMIT 2", Collections.emptyList())), 3));
+    }
+    
+    private Connection mockConnection(final String sql, final Object... values) throws SQLException {
+        Connection result = mock(Connection.class);
+        PreparedStatement preparedStatement = mockPreparedStatement(values);
+        when(result.prepareStatement(sql)).thenReturn(preparedStatement);
+        return result;
+    }
+    
+    private PreparedStatement mockPreparedStatement(final Object... values) throws SQLException {
+        PreparedStatement result = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        Boolean[] restNexts = new Boolean[values.length];
+        Arrays.fill(restNexts, true);
+        restNexts[values.length - 1] = false;
+        when(resultSet.next()).thenReturn(true, restNexts);
+        when(resultSet.getObject(1)).thenReturn(values[0], Arrays.copyOfRange(values, 1, values.length));
+        when(result.executeQuery()).thenReturn(resultSet);
+        return result;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory;
+
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Blob;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JDBCSpillableMemoryQueryResultTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "FIXTURE");
+    
+    @Test
+    void assertConstructorWithSQLException() throws SQLException {
+        ResultSet resultSet = mockResultSet();
+        when(resultSet.next()).thenThrow(new SQLException(""));
+        assertThrows(SQLException.class, () -> new JDBCSpillableMemoryQueryResult(resultSet, databaseType, 1L));
+    }
+    
+    @Test
+    void assertNextInMemory() throws SQLException {
+        ResultSet resultSet = mockResultSet();
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getString(1)).thenReturn("foo", "bar");
+        JDBCSpillableMemoryQueryResult actual = new JDBCSpillableMemoryQueryResult(resultSet, databaseType, Long.MAX_VALUE);
+        assertFalse(actual.isSpilled());
+        assertThat(actual.getRowCount(), is(2L));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, String.class), is("foo"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, String.class), is("bar"));
+        assertFalse(actual.next());
+        actual.close();
+    }
+    
+    @Test
+    void assertNextWithSpill() throws SQLException {
+        ResultSet resultSet = mockResultSet();
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getString(1)).thenReturn("foo", null, "baz");
+        when(resultSet.wasNull()).thenReturn(false, true, false);
+        JDBCSpillableMemoryQueryResult actual = new JDBCSpillableMemoryQueryResult(resultSet, databaseType, 1L, true);
+        assertTrue(actual.isSpilled());
+        assertThat(actual.getRowCount(), is(3L));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, String.class), is("foo"));
+        assertTrue(actual.next());
+        assertNull(actual.getValue(1, String.class));
+        assertTrue(actual.wasNull());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, String.class), is("baz"));
+        assertFalse(actual.next());
+        assertThat(actual.getJDBCResultSet().orElse(null), is(resultSet));
+        actual.close();
+    }
+    
+    @Test
+    void assertNextWithLOBColumnNotSpilled() throws SQLException {
+        ResultSet resultSet = mockResultSet(Types.BLOB);
+        when(resultSet.next()).thenReturn(true, true, false);
+        Blob blob = mock(Blob.class);
+        when(resultSet.getBlob(1)).thenReturn(blob);
+        JDBCSpillableMemoryQueryResult actual = new JDBCSpillableMemoryQueryResult(resultSet, databaseType, 1L);
+        assertFalse(actual.isSpilled());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Blob.class), is(blob));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Blob.class), is(blob));
+        assertFalse(actual.next());
+        actual.close();
+    }
+    
+    private ResultSet mockResultSet() throws SQLException {
+        return mockResultSet(Types.VARCHAR);
+    }
+    
+    private ResultSet mockResultSet(final int columnType) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(1);
+        when(resultSetMetaData.getColumnType(1)).thenReturn(columnType);
+        when(result.getMetaData()).thenReturn(resultSetMetaData);
+        return result;
+    }
+}
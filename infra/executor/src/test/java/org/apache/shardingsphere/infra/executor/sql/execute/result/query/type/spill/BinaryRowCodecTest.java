@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.spill;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.rowset.serial.SerialBlob;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryRowCodecTest {
+    
+    @Test
+    void assertWriteAndReadRow() throws IOException {
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        Object[] expected = {null, "foo", true, (byte) 1, (short) 2, 3, 4L, 5.1F, 6.2D, new BigDecimal("7.30"), new BigInteger("8"), new byte[]{9},
+                new Date(10L), new Time(11L), timestamp, new java.util.Date(12L), LocalDate.of(2024, 1, 2), LocalTime.of(3, 4, 5, 6), LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6),
+                OffsetDateTime.of(2024, 1, 2, 3, 4, 5, 6, ZoneOffset.UTC)};
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        BinaryRowCodec.writeRow(new DataOutputStream(output), expected);
+        Object[] actual = BinaryRowCodec.readRow(new DataInputStream(new ByteArrayInputStream(output.toByteArray())));
+        assertThat(actual.length, is(expected.length));
+        for (int i = 0; i < expected.length; i++) {
+            assertThat(actual[i], is(expected[i]));
+        }
+    }
+    
+    @Test
+    void assertWriteConnectionBoundValue() throws SQLException {
+        assertThrows(NotSerializableException.class, () -> BinaryRowCodec.writeValue(new DataOutputStream(new ByteArrayOutputStream()), new SerialBlob(new byte[]{1})));
+    }
+    
+    @Test
+    void assertIsEncodable() {
+        assertTrue(BinaryRowCodec.isEncodable(Types.INTEGER));
+        assertTrue(BinaryRowCodec.isEncodable(Types.VARCHAR));
+        assertFalse(BinaryRowCodec.isEncodable(Types.BLOB));
+        assertFalse(BinaryRowCodec.isEncodable(Types.OTHER));
+    }
+}
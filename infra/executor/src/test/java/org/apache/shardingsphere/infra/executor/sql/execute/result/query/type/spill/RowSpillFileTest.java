@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.spill;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class RowSpillFileTest {
+    
+    @Test
+    void assertWriteAndRead() throws IOException {
+        try (RowSpillFile file = new RowSpillFile("test")) {
+            file.write(new Object[]{1, "foo"});
+            file.write(new Object[]{2, "bar"});
+            assertThat(file.getRowCount(), is(2L));
+            assertThat(file.read(), is(new Object[]{1, "foo"}));
+            assertThat(file.read(), is(new Object[]{2, "bar"}));
+            assertNull(file.read());
+        }
+    }
+    
+    @Test
+    void assertDeleteFileAfterAllRowsRead() throws IOException {
+        RowSpillFile file = new RowSpillFile("exhausted");
+        file.write(new Object[]{1, "foo"});
+        assertThat(countSpillFiles("exhausted"), is(1L));
+        assertThat(file.read(), is(new Object[]{1, "foo"}));
+        assertThat(countSpillFiles("exhausted"), is(0L));
+        assertNull(file.read());
+    }
+    
+    private long countSpillFiles(final String name) throws IOException {
+        try (Stream<Path> files = Files.list(Paths.get(System.getProperty("java.io.tmpdir")))) {
+            return files.filter(each -> each.getFileName().toString().startsWith("shardingsphere-" + name + "-")).count();
+        }
+    }
+}
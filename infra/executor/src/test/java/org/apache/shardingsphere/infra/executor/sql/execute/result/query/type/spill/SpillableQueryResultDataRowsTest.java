@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.spill;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpillableQueryResultDataRowsTest {
+    
+    @Test
+    void assertIterateInMemory() throws IOException {
+        try (SpillableQueryResultDataRows rows = new SpillableQueryResultDataRows("test", Long.MAX_VALUE)) {
+            rows.add(new Object[]{1, "foo"});
+            rows.add(new Object[]{2, "bar"});
+            assertFalse(rows.isSpilled());
+            assertThat(rows.size(), is(2L));
+            assertThat(rows.next().getValue(), is(Arrays.<Object>asList(1, "foo")));
+            assertThat(rows.next().getValue(), is(Arrays.<Object>asList(2, "bar")));
+            assertFalse(rows.hasNext());
+        }
+    }
+    
+    @Test
+    void assertIterateWithSpill() throws IOException {
+        long memoryLimit = RowSizeEstimator.estimate(new Object[]{1, "foo"});
+        try (SpillableQueryResultDataRows rows = new SpillableQueryResultDataRows("test", memoryLimit)) {
+            rows.add(new Object[]{1, "foo"});
+            rows.add(new Object[]{2, "bar"});
+            rows.add(new Object[]{3, null});
+            assertTrue(rows.isSpilled());
+            assertThat(rows.size(), is(3L));
+            assertThat(rows.next().getValue(), is(Arrays.<Object>asList(1, "foo")));
+            assertThat(rows.next().getValue(), is(Arrays.<Object>asList(2, "bar")));
+            assertThat(rows.size(), is(1L));
+            assertThat(rows.next().getValue(), is(Arrays.asList(3, null)));
+            assertFalse(rows.hasNext());
+        }
+    }
+}
@@ -25,6 +25,8 @@ import groovy.lang.GroovyShell;
 import groovy.lang.Script;
 import groovy.util.Expando;
 import org.apache.shardingsphere.infra.expr.core.GroovyUtils;
+import org.apache.shardingsphere.infra.expr.groovy.compiler.CompiledInlineExpression;
+import org.apache.shardingsphere.infra.expr.groovy.compiler.InlineExpressionCompiler;
 import org.apache.shardingsphere.infra.expr.spi.InlineExpressionParser;
 
 import java.util.ArrayList;
@@ -33,6 +35,7 @@ import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -47,6 +50,8 @@ public final class GroovyInlineExpressionParser implements InlineExpressionParse
     
     private static final Map<String, Script> SCRIPTS = new ConcurrentHashMap<>();
     
+    private static final Map<String, Optional<CompiledInlineExpression>> COMPILED_EXPRESSIONS = new ConcurrentHashMap<>();
+    
     private static final GroovyShell SHELL = new GroovyShell();
     
     private String inlineExpression;
@@ -82,13 +87,20 @@ public final class GroovyInlineExpressionParser implements InlineExpressionParse
     }
     
     /**
-     * Turn inline expression into Groovy Closure. This function will replace all inline expression placeholders.
+     * Evaluate inline expression with arguments. This function will replace all inline expression placeholders.
+     * The compiled inline expression is used if the inline expression and arguments are supported by {@link InlineExpressionCompiler}, otherwise the inline expression is turned into Groovy Closure.
      * For compatibility reasons, it does not check whether the unit of the input parameter map is null.
-     * @return The result of the Groovy Closure pattern.
+     * @return The result of the compiled inline expression or the Groovy Closure pattern.
      */
     @Override
     public String evaluateWithArgs(final Map<String, Comparable<?>> map) {
-        Closure<?> result = ((Closure<?>) evaluate("{it -> \"" + handlePlaceHolder(inlineExpression) + "\"}")).rehydrate(new Expando(), null, null);
+        String expression = handlePlaceHolder(inlineExpression);
+        return COMPILED_EXPRESSIONS.computeIfAbsent(expression, key -> new InlineExpressionCompiler(key).compile()).flatMap(optional -> optional.evaluate(map))
+                .orElseGet(() -> evaluateWithClosure(expression, map));
+    }
+    
+    private String evaluateWithClosure(final String expression, final Map<String, Comparable<?>> map) {
+        Closure<?> result = ((Closure<?>) evaluate("{it -> \"" + expression + "\"}")).rehydrate(new Expando(), null, null);
         result.setResolveStrategy(Closure.DELEGATE_ONLY);
         map.forEach(result::setProperty);
         return result.call().toString();
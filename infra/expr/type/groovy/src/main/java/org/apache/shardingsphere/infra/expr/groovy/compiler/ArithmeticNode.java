@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.groovy.compiler;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Arithmetic node, which supports addition, subtraction, multiplication and remainder of integers and string concatenation.
+ */
+@RequiredArgsConstructor
+public final class ArithmeticNode implements InlineExpressionNode {
+    
+    private final char operator;
+    
+    private final InlineExpressionNode left;
+    
+    private final InlineExpressionNode right;
+    
+    @Override
+    public Object evaluate(final Map<String, Comparable<?>> args) {
+        Object leftValue = left.evaluate(args);
+        if (null == leftValue) {
+            return null;
+        }
+        Object rightValue = right.evaluate(args);
+        if (null == rightValue) {
+            return null;
+        }
+        if ('+' == operator && (leftValue instanceof String || rightValue instanceof String)) {
+            return leftValue.toString() + rightValue;
+        }
+        if (leftValue instanceof Integer && rightValue instanceof Integer) {
+            return evaluate((int) leftValue, (int) rightValue);
+        }
+        if (leftValue instanceof Number && rightValue instanceof Number) {
+            return evaluate(((Number) leftValue).longValue(), ((Number) rightValue).longValue());
+        }
+        return null;
+    }
+    
+    private Integer evaluate(final int leftValue, final int rightValue) {
+        switch (operator) {
+            case '+':
+                return leftValue + rightValue;
+            case '-':
+                return leftValue - rightValue;
+            case '*':
+                return leftValue * rightValue;
+            default:
+                return 0 == rightValue ? null : leftValue % rightValue;
+        }
+    }
+    
+    private Long evaluate(final long leftValue, final long rightValue) {
+        switch (operator) {
+            case '+':
+                return leftValue + rightValue;
+            case '-':
+                return leftValue - rightValue;
+            case '*':
+                return leftValue * rightValue;
+            default:
+                return 0L == rightValue ? null : leftValue % rightValue;
+        }
+    }
+}
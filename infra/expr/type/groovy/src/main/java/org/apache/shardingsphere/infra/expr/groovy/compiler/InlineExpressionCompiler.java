@@ -0,0 +1,266 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.groovy.compiler;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Inline expression compiler.
+ * 
+ * <p>Compile inline expression such as {@code t_order_${Math.abs(user_id.hashCode()) % 16}} into nodes which can be evaluated without Groovy.
+ * Only integer and string literals, variables, {@code + - * %}, parentheses, {@code hashCode()} and {@code Math.abs()} are supported,
+ * other expressions can not be compiled and should be evaluated by Groovy.</p>
+ */
+@RequiredArgsConstructor
+public final class InlineExpressionCompiler {
+    
+    private static final Collection<String> UNSUPPORTED_IDENTIFIERS = new HashSet<>(Arrays.asList("it", "this", "super", "null", "true", "false", "new", "in", "as", "instanceof",
+            "delegate", "owner", "thisObject", "metaClass", "class", "directive", "resolveStrategy", "maximumNumberOfParameters", "parameterTypes", "properties"));
+    
+    private static final Collection<String> DEFAULT_IMPORTED_PACKAGES = Arrays.asList("java.lang.", "java.util.", "java.io.", "java.net.", "java.math.", "groovy.lang.", "groovy.util.");
+    
+    private final String inlineExpression;
+    
+    private int position;
+    
+    /**
+     * Compile inline expression.
+     *
+     * @return compiled inline expression, empty if the inline expression is not supported
+     */
+    public Optional<CompiledInlineExpression> compile() {
+        List<InlineExpressionNode> result = new LinkedList<>();
+        StringBuilder text = new StringBuilder();
+        while (position < inlineExpression.length()) {
+            char each = inlineExpression.charAt(position);
+            if ('\\' == each || '"' == each) {
+                return Optional.empty();
+            }
+            if ('$' != each) {
+                text.append(each);
+                position++;
+                continue;
+            }
+            if (!inlineExpression.startsWith("${", position)) {
+                return Optional.empty();
+            }
+            if (text.length() > 0) {
+                result.add(new ConstantNode(text.toString()));
+                text.setLength(0);
+            }
+            position += 2;
+            InlineExpressionNode node = parseAdditive();
+            skipWhitespaces();
+            if (null == node || !isCurrentChar('}')) {
+                return Optional.empty();
+            }
+            result.add(node);
+            position++;
+        }
+        if (text.length() > 0) {
+            result.add(new ConstantNode(text.toString()));
+        }
+        return Optional.of(new CompiledInlineExpression(result));
+    }
+    
+    private InlineExpressionNode parseAdditive() {
+        InlineExpressionNode result = parseMultiplicative();
+        while (null != result) {
+            skipWhitespaces();
+            if (!isCurrentChar('+') && !isCurrentChar('-')) {
+                return result;
+            }
+            char operator = inlineExpression.charAt(position++);
+            if (isCurrentChar(operator) || isCurrentChar('=')) {
+                return null;
+            }
+            InlineExpressionNode right = parseMultiplicative();
+            result = null == right ? null : new ArithmeticNode(operator, result, right);
+        }
+        return null;
+    }
+    
+    private InlineExpressionNode parseMultiplicative() {
+        InlineExpressionNode result = parseUnary();
+        while (null != result) {
+            skipWhitespaces();
+            if (!isCurrentChar('*') && !isCurrentChar('%')) {
+                return result;
+            }
+            char operator = inlineExpression.charAt(position++);
+            if (isCurrentChar('*') || isCurrentChar('=')) {
+                return null;
+            }
+            InlineExpressionNode right = parseUnary();
+            result = null == right ? null : new ArithmeticNode(operator, result, right);
+        }
+        return null;
+    }
+    
+    private InlineExpressionNode parseUnary() {
+        skipWhitespaces();
+        if (!isCurrentChar('-')) {
+            return parsePostfix();
+        }
+        position++;
+        if (isCurrentChar('-')) {
+            return null;
+        }
+        InlineExpressionNode operand = parseUnary();
+        return null == operand ? null : new NegateNode(operand);
+    }
+    
+    private InlineExpressionNode parsePostfix() {
+        InlineExpressionNode result = parsePrimary();
+        while (null != result && isCurrentChar('.')) {
+            position++;
+            if (!"hashCode".equals(readIdentifier()) || !readEmptyArguments()) {
+                return null;
+            }
+            result = new HashCodeNode(result);
+        }
+        return result;
+    }
+    
+    private InlineExpressionNode parsePrimary() {
+        skipWhitespaces();
+        if (position >= inlineExpression.length()) {
+            return null;
+        }
+        char current = inlineExpression.charAt(position);
+        if (isDigit(current)) {
+            return parseNumber();
+        }
+        if ('\'' == current) {
+            return parseString();
+        }
+        if ('(' == current) {
+            position++;
+            InlineExpressionNode result = parseAdditive();
+            return readChar(')') ? result : null;
+        }
+        String identifier = readIdentifier();
+        if ("Math".equals(identifier)) {
+            return parseAbs();
+        }
+        return null == identifier || UNSUPPORTED_IDENTIFIERS.contains(identifier) || isDefaultImportedClassName(identifier) ? null : new VariableNode(identifier);
+    }
+    
+    private InlineExpressionNode parseNumber() {
+        int startPosition = position;
+        while (position < inlineExpression.length() && isDigit(inlineExpression.charAt(position))) {
+            position++;
+        }
+        if (position < inlineExpression.length() && (Character.isLetter(inlineExpression.charAt(position)) || '.' == inlineExpression.charAt(position))
+                || position - startPosition > 1 && '0' == inlineExpression.charAt(startPosition)) {
+            return null;
+        }
+        try {
+            long value = Long.parseLong(inlineExpression.substring(startPosition, position));
+            return new ConstantNode(value <= Integer.MAX_VALUE ? (Object) (int) value : (Object) value);
+        } catch (final NumberFormatException ignored) {
+            return null;
+        }
+    }
+    
+    private InlineExpressionNode parseString() {
+        int endPosition = inlineExpression.indexOf('\'', position + 1);
+        if (-1 == endPosition) {
+            return null;
+        }
+        String value = inlineExpression.substring(position + 1, endPosition);
+        position = endPosition + 1;
+        return value.contains("\\") ? null : new ConstantNode(value);
+    }
+    
+    private InlineExpressionNode parseAbs() {
+        if (!readChar('.') || !"abs".equals(readIdentifier()) || !readChar('(')) {
+            return null;
+        }
+        InlineExpressionNode operand = parseAdditive();
+        return null != operand && readChar(')') ? new AbsNode(operand) : null;
+    }
+    
+    private String readIdentifier() {
+        skipWhitespaces();
+        int startPosition = position;
+        if (position >= inlineExpression.length() || !isIdentifierStart(inlineExpression.charAt(position))) {
+            return null;
+        }
+        while (position < inlineExpression.length() && isIdentifierPart(inlineExpression.charAt(position))) {
+            position++;
+        }
+        return inlineExpression.substring(startPosition, position);
+    }
+    
+    private boolean isIdentifierStart(final char value) {
+        return '_' == value || value >= 'a' && value <= 'z' || value >= 'A' && value <= 'Z';
+    }
+    
+    private boolean isIdentifierPart(final char value) {
+        return isIdentifierStart(value) || isDigit(value);
+    }
+    
+    private boolean isDigit(final char value) {
+        return value >= '0' && value <= '9';
+    }
+    
+    private boolean isDefaultImportedClassName(final String identifier) {
+        if (!Character.isUpperCase(identifier.charAt(0))) {
+            return false;
+        }
+        for (String each : DEFAULT_IMPORTED_PACKAGES) {
+            try {
+                Class.forName(each + identifier, false, InlineExpressionCompiler.class.getClassLoader());
+                return true;
+            } catch (final ClassNotFoundException ignored) {
+            }
+        }
+        return false;
+    }
+    
+    private boolean readEmptyArguments() {
+        return readChar('(') && readChar(')');
+    }
+    
+    private boolean readChar(final char expected) {
+        skipWhitespaces();
+        if (!isCurrentChar(expected)) {
+            return false;
+        }
+        position++;
+        return true;
+    }
+    
+    private boolean isCurrentChar(final char expected) {
+        return position < inlineExpression.length() && expected == inlineExpression.charAt(position);
+    }
+    
+    private void skipWhitespaces() {
+        while (position < inlineExpression.length() && ' ' == inlineExpression.charAt(position)) {
+            position++;
+        }
+    }
+}
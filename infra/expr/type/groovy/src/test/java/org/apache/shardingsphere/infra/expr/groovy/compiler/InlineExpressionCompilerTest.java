@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.groovy.compiler;
+
+import groovy.lang.Closure;
+import groovy.lang.GroovyShell;
+import groovy.util.Expando;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InlineExpressionCompilerTest {
+    
+    private static final GroovyShell SHELL = new GroovyShell();
+    
+    @Test
+    void assertCompileWithSupportedExpressions() {
+        Collection<Comparable<?>> values = new LinkedList<>(Arrays.asList(0, 1, 7, -7, 15, 16, 1024, Integer.MAX_VALUE, Integer.MIN_VALUE,
+                0L, 9L, -9L, 3000000000L, Long.MAX_VALUE, Long.MIN_VALUE, "", "foo", "bar_1"));
+        for (String each : Arrays.asList("t_order_${user_id}", "t_order_${user_id % 16}", "t_order_${(user_id + 1) * 3 % 16}", "t_order_${-user_id % 4}", "t_order_${user_id - 2 * 3}",
+                "t_order_${user_id.hashCode() % 16}", "t_order_${Math.abs(user_id.hashCode()) % 16}", "t_order_${ Math.abs( user_id.hashCode( ) ) % 3000000000 }",
+                "ds_${user_id + '_x'}", "ds_${'x_' + user_id}", "ds_${user_id % 2}_t_${user_id % 4}", "${user_id}", "t_order")) {
+            Optional<CompiledInlineExpression> compiledInlineExpression = new InlineExpressionCompiler(each).compile();
+            assertTrue(compiledInlineExpression.isPresent(), each);
+            for (Comparable<?> value : values) {
+                Map<String, Comparable<?>> args = Collections.singletonMap("user_id", value);
+                Optional<String> actual = compiledInlineExpression.get().evaluate(args);
+                if (actual.isPresent()) {
+                    assertThat(each + " with " + value, actual.get(), is(evaluateWithGroovy(each, args)));
+                }
+            }
+        }
+    }
+    
+    @Test
+    void assertCompileWithUnsupportedExpressions() {
+        for (String each : Arrays.asList("t_order_${user_id / 2}", "t_order_${user_id.intdiv(2)}", "t_order_$user_id", "t_order_${user_id ** 2}", "t_order_${user_id++}",
+                "t_order_${it}", "t_order_${Integer.MAX_VALUE}", "t_order_${1.5}", "t_order_${user_id ? 1 : 2}", "t_order_${user_id", "t_order_\\${user_id}", "t_order_${\"x\"}",
+                "t_order_${[0, 1]}", "t_order_${user_id.toString()}", "t_order_${Math.max(user_id, 1)}", "t_order_${user_id % 16L}", "t_order_${user_id?.hashCode()}")) {
+            assertFalse(new InlineExpressionCompiler(each).compile().isPresent(), each);
+        }
+    }
+    
+    @Test
+    void assertEvaluateWithUnsupportedArguments() {
+        CompiledInlineExpression compiledInlineExpression = new InlineExpressionCompiler("t_order_${user_id % 16}").compile().orElseThrow(IllegalStateException::new);
+        assertFalse(compiledInlineExpression.evaluate(Collections.emptyMap()).isPresent());
+        assertFalse(compiledInlineExpression.evaluate(Collections.singletonMap("user_id", 1.5D)).isPresent());
+        assertFalse(compiledInlineExpression.evaluate(Collections.singletonMap("user_id", "foo")).isPresent());
+        assertFalse(new InlineExpressionCompiler("t_order_${user_id % 0}").compile().orElseThrow(IllegalStateException::new).evaluate(Collections.singletonMap("user_id", 1)).isPresent());
+    }
+    
+    private String evaluateWithGroovy(final String expression, final Map<String, Comparable<?>> args) {
+        Closure<?> closure = ((Closure<?>) SHELL.evaluate("{it -> \"" + expression + "\"}")).rehydrate(new Expando(), null, null);
+        closure.setResolveStrategy(Closure.DELEGATE_ONLY);
+        args.forEach(closure::setProperty);
+        return closure.call().toString();
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.merge.engine.ResultProcessEngine;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 
 import java.util.Optional;
 
@@ -40,7 +41,9 @@ public interface ResultDecoratorEngine<T extends ShardingSphereRule> extends Res
      * @param database database
      * @param props configuration properties
      * @param sqlStatementContext SQL statement context
+     * @param connectionContext connection context
      * @return created instance
      */
-    Optional<ResultDecorator<T>> newInstance(ShardingSphereMetaData metaData, ShardingSphereDatabase database, ConfigurationProperties props, SQLStatementContext sqlStatementContext);
+    Optional<ResultDecorator<T>> newInstance(ShardingSphereMetaData metaData, ShardingSphereDatabase database, ConfigurationProperties props, SQLStatementContext sqlStatementContext,
+                                             ConnectionContext connectionContext);
 }
@@ -37,9 +37,14 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
 
 /**
  * Memory merged result.
+ * 
+ * <p>Rows initialized are compacted into {@link MemoryQueryResultRowBatch} when row count reaches the batch threshold,
+ * so that large merged results do not retain one object array and boxed values for each row.
+ * Each row is released from the initialized rows once it is added into the batch, so the rows and the batch are not both retained while compacting.</p>
  *
  * @param <T> type of rule
  */
@@ -47,24 +52,55 @@ public abstract class MemoryMergedResult<T extends ShardingSphereRule> implement
     
     private static final Collection<Class<?>> INVALID_MEMORY_TYPES = new HashSet<>(Arrays.asList(Blob.class, Clob.class, Reader.class, InputStream.class, SQLXML.class));
     
+    private static final int ROW_BATCH_THRESHOLD = 1024;
+    
     private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
     
+    private final MemoryQueryResultRowBatch memoryResultSetRowBatch;
+    
     private MemoryQueryResultRow currentResultSetRow;
     
+    private int currentRowIndex;
+    
+    private int nextRowIndex;
+    
     private boolean wasNull;
     
     protected MemoryMergedResult(final T rule, final ShardingSphereSchema schema, final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
         List<MemoryQueryResultRow> memoryQueryResultRows = init(rule, schema, sqlStatementContext, queryResults);
-        memoryResultSetRows = memoryQueryResultRows.iterator();
-        if (!memoryQueryResultRows.isEmpty()) {
-            currentResultSetRow = memoryQueryResultRows.get(0);
+        if (memoryQueryResultRows.size() < ROW_BATCH_THRESHOLD) {
+            memoryResultSetRows = memoryQueryResultRows.iterator();
+            memoryResultSetRowBatch = null;
+            if (!memoryQueryResultRows.isEmpty()) {
+                currentResultSetRow = memoryQueryResultRows.get(0);
+            }
+        } else {
+            memoryResultSetRows = null;
+            memoryResultSetRowBatch = createRowBatch(memoryQueryResultRows);
         }
     }
     
+    private MemoryQueryResultRowBatch createRowBatch(final List<MemoryQueryResultRow> memoryQueryResultRows) {
+        MemoryQueryResultRowBatch result = new MemoryQueryResultRowBatch(memoryQueryResultRows.get(0).getColumnCount(), memoryQueryResultRows.size());
+        ListIterator<MemoryQueryResultRow> iterator = memoryQueryResultRows.listIterator();
+        while (iterator.hasNext()) {
+            result.add(iterator.next());
+            iterator.set(null);
+        }
+        return result;
+    }
+    
     protected abstract List<MemoryQueryResultRow> init(T rule, ShardingSphereSchema schema, SQLStatementContext sqlStatementContext, List<QueryResult> queryResults) throws SQLException;
     
     @Override
     public final boolean next() {
+        if (null != memoryResultSetRowBatch) {
+            if (nextRowIndex < memoryResultSetRowBatch.getSize()) {
+                currentRowIndex = nextRowIndex++;
+                return true;
+            }
+            return false;
+        }
         if (memoryResultSetRows.hasNext()) {
             currentResultSetRow = memoryResultSetRows.next();
             return true;
@@ -75,7 +111,7 @@ public abstract class MemoryMergedResult<T extends ShardingSphereRule> implement
     @Override
     public final Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
         ShardingSpherePreconditions.checkNotContains(INVALID_MEMORY_TYPES, type, () -> new SQLFeatureNotSupportedException(String.format("Get value from `%s`", type.getName())));
-        Object result = currentResultSetRow.getCell(columnIndex);
+        Object result = getCurrentCell(columnIndex);
         wasNull = null == result;
         return result;
     }
@@ -83,11 +119,15 @@ public abstract class MemoryMergedResult<T extends ShardingSphereRule> implement
     @Override
     public final Object getCalendarValue(final int columnIndex, final Class<?> type, @SuppressWarnings("UseOfObsoleteDateTimeApi") final Calendar calendar) {
         // TODO implement with calendar
-        Object result = currentResultSetRow.getCell(columnIndex);
+        Object result = getCurrentCell(columnIndex);
         wasNull = null == result;
         return result;
     }
     
+    private Object getCurrentCell(final int columnIndex) {
+        return null == memoryResultSetRowBatch ? currentResultSetRow.getCell(columnIndex) : memoryResultSetRowBatch.getCell(currentRowIndex, columnIndex);
+    }
+    
     @Override
     public final InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
         throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
@@ -0,0 +1,274 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Memory query result row batch.
+ * 
+ * <p>Rows are stored column by column. Columns whose non null values are all {@link Integer}, {@link Long} or {@link Double} are kept in primitive arrays with null bits,
+ * so that boxed values are not retained. Values of other columns are kept in object arrays, and a primitive column falls back to object array once a value of other type is added.</p>
+ */
+public final class MemoryQueryResultRowBatch {
+    
+    private final Column[] columns;
+    
+    private int capacity;
+    
+    @Getter
+    private int size;
+    
+    public MemoryQueryResultRowBatch(final int columnCount, final int capacity) {
+        columns = new Column[columnCount];
+        this.capacity = Math.max(capacity, 1);
+    }
+    
+    /**
+     * Add row.
+     *
+     * @param row memory query result row
+     */
+    public void add(final MemoryQueryResultRow row) {
+        Preconditions.checkArgument(columns.length == row.getColumnCount());
+        if (size == capacity) {
+            capacity += Math.max(capacity >> 1, 1);
+            for (Column each : columns) {
+                if (null != each) {
+                    each.grow(capacity);
+                }
+            }
+        }
+        for (int i = 0; i < columns.length; i++) {
+            set(i, row.getCell(i + 1));
+        }
+        size++;
+    }
+    
+    private void set(final int columnOffset, final Object value) {
+        Column column = columns[columnOffset];
+        if (null == column) {
+            if (null == value) {
+                return;
+            }
+            column = createColumn(value);
+            column.setNulls(size);
+            columns[columnOffset] = column;
+        } else if (!column.isAcceptable(value)) {
+            column = new ObjectColumn(column, size, capacity);
+            columns[columnOffset] = column;
+        }
+        column.set(size, value);
+    }
+    
+    private Column createColumn(final Object value) {
+        if (value instanceof Integer) {
+            return new IntColumn(capacity);
+        }
+        if (value instanceof Long) {
+            return new LongColumn(capacity);
+        }
+        if (value instanceof Double) {
+            return new DoubleColumn(capacity);
+        }
+        return new ObjectColumn(capacity);
+    }
+    
+    /**
+     * Get data from cell.
+     *
+     * @param rowIndex row index, start from 0
+     * @param columnIndex column index, start from 1
+     * @return data from cell
+     */
+    public Object getCell(final int rowIndex, final int columnIndex) {
+        Preconditions.checkArgument(rowIndex >= 0 && rowIndex < size);
+        Preconditions.checkArgument(columnIndex > 0 && columnIndex < columns.length + 1);
+        Column column = columns[columnIndex - 1];
+        return null == column ? null : column.get(rowIndex);
+    }
+    
+    private abstract static class Column {
+        
+        abstract boolean isAcceptable(Object value);
+        
+        abstract void set(int rowIndex, Object value);
+        
+        abstract Object get(int rowIndex);
+        
+        abstract void grow(int capacity);
+        
+        void setNulls(final int rowCount) {
+        }
+    }
+    
+    private abstract static class PrimitiveColumn extends Column {
+        
+        private final BitSet nulls = new BitSet();
+        
+        @Override
+        final void set(final int rowIndex, final Object value) {
+            if (null == value) {
+                nulls.set(rowIndex);
+            } else {
+                setValue(rowIndex, value);
+            }
+        }
+        
+        @Override
+        final Object get(final int rowIndex) {
+            return nulls.get(rowIndex) ? null : getValue(rowIndex);
+        }
+        
+        @Override
+        final void setNulls(final int rowCount) {
+            nulls.set(0, rowCount);
+        }
+        
+        abstract void setValue(int rowIndex, Object value);
+        
+        abstract Object getValue(int rowIndex);
+    }
+    
+    private static final class IntColumn extends PrimitiveColumn {
+        
+        private int[] values;
+        
+        IntColumn(final int capacity) {
+            values = new int[capacity];
+        }
+        
+        @Override
+        boolean isAcceptable(final Object value) {
+            return null == value || value instanceof Integer;
+        }
+        
+        @Override
+        void setValue(final int rowIndex, final Object value) {
+            values[rowIndex] = (Integer) value;
+        }
+        
+        @Override
+        Object getValue(final int rowIndex) {
+            return values[rowIndex];
+        }
+        
+        @Override
+        void grow(final int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+    
+    private static final class LongColumn extends PrimitiveColumn {
+        
+        private long[] values;
+        
+        LongColumn(final int capacity) {
+            values = new long[capacity];
+        }
+        
+        @Override
+        boolean isAcceptable(final Object value) {
+            return null == value || value instanceof Long;
+        }
+        
+        @Override
+        void setValue(final int rowIndex, final Object value) {
+            values[rowIndex] = (Long) value;
+        }
+        
+        @Override
+        Object getValue(final int rowIndex) {
+            return values[rowIndex];
+        }
+        
+        @Override
+        void grow(final int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+    
+    private static final class DoubleColumn extends PrimitiveColumn {
+        
+        private double[] values;
+        
+        DoubleColumn(final int capacity) {
+            values = new double[capacity];
+        }
+        
+        @Override
+        boolean isAcceptable(final Object value) {
+            return null == value || value instanceof Double;
+        }
+        
+        @Override
+        void setValue(final int rowIndex, final Object value) {
+            values[rowIndex] = (Double) value;
+        }
+        
+        @Override
+        Object getValue(final int rowIndex) {
+            return values[rowIndex];
+        }
+        
+        @Override
+        void grow(final int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+    
+    private static final class ObjectColumn extends Column {
+        
+        private Object[] values;
+        
+        ObjectColumn(final int capacity) {
+            values = new Object[capacity];
+        }
+        
+        ObjectColumn(final Column column, final int rowCount, final int capacity) {
+            this(capacity);
+            for (int i = 0; i < rowCount; i++) {
+                values[i] = column.get(i);
+            }
+        }
+        
+        @Override
+        boolean isAcceptable(final Object value) {
+            return true;
+        }
+        
+        @Override
+        void set(final int rowIndex, final Object value) {
+            values[rowIndex] = value;
+        }
+        
+        @Override
+        Object get(final int rowIndex) {
+            return values[rowIndex];
+        }
+        
+        @Override
+        void grow(final int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+}
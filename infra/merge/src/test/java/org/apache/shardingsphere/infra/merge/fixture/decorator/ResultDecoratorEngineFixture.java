@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.merge.engine.decorator.ResultDecoratorEng
 import org.apache.shardingsphere.infra.merge.fixture.rule.DecoratorRuleFixture;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 
 import java.util.Optional;
 
@@ -31,7 +32,8 @@ public final class ResultDecoratorEngineFixture implements ResultDecoratorEngine
     
     @Override
     public Optional<ResultDecorator<DecoratorRuleFixture>> newInstance(final ShardingSphereMetaData metaData,
-                                                                       final ShardingSphereDatabase database, final ConfigurationProperties props, final SQLStatementContext sqlStatementContext) {
+                                                                       final ShardingSphereDatabase database, final ConfigurationProperties props, final SQLStatementContext sqlStatementContext,
+                                                                       final ConnectionContext connectionContext) {
         return Optional.of(new ResultDecoratorFixture());
     }
     
@@ -17,7 +17,11 @@
 
 package org.apache.shardingsphere.infra.merge.result.impl.memory;
 
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.fixture.TestMemoryMergedResult;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.test.infra.fixture.rule.MockedRule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -28,8 +32,12 @@ import java.sql.Clob;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.SQLXML;
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
+import java.util.Objects;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -110,6 +118,29 @@ class MemoryMergedResultTest {
         assertThrows(SQLFeatureNotSupportedException.class, () -> memoryMergedResult.getCharacterStream(1));
     }
     
+    @Test
+    void assertNextWithRowBatch() throws SQLException {
+        List<MemoryQueryResultRow> rows = new ArrayList<>(2048);
+        for (int i = 0; i < 2048; i++) {
+            rows.add(new MemoryQueryResultRow(new Object[]{i, 0 == i % 2 ? null : "foo_" + i}));
+        }
+        MemoryMergedResult<MockedRule> actual = new MemoryMergedResult<MockedRule>(null, null, null, Collections.emptyList()) {
+            
+            @Override
+            protected List<MemoryQueryResultRow> init(final MockedRule rule, final ShardingSphereSchema schema, final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) {
+                return rows;
+            }
+        };
+        assertTrue(rows.stream().allMatch(Objects::isNull));
+        for (int i = 0; i < 2048; i++) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(i));
+            assertThat(actual.getValue(2, Object.class), is(0 == i % 2 ? null : "foo_" + i));
+            assertThat(actual.wasNull(), is(0 == i % 2));
+        }
+        assertFalse(actual.next());
+    }
+    
     @Test
     void assertWasNull() {
         assertFalse(memoryMergedResult.wasNull());
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MemoryQueryResultRowBatchTest {
+    
+    @Test
+    void assertGetCellWithPrimitiveColumns() {
+        MemoryQueryResultRowBatch actual = new MemoryQueryResultRowBatch(4, 1);
+        actual.add(new MemoryQueryResultRow(new Object[]{null, 1L, 1.5D, null}));
+        actual.add(new MemoryQueryResultRow(new Object[]{2, null, 2.5D, null}));
+        actual.add(new MemoryQueryResultRow(new Object[]{3, 3L, null, null}));
+        assertThat(actual.getSize(), is(3));
+        assertNull(actual.getCell(0, 1));
+        assertThat(actual.getCell(1, 1), is(2));
+        assertThat(actual.getCell(2, 1), instanceOf(Integer.class));
+        assertThat(actual.getCell(0, 2), is(1L));
+        assertNull(actual.getCell(1, 2));
+        assertThat(actual.getCell(2, 2), instanceOf(Long.class));
+        assertThat(actual.getCell(1, 3), is(2.5D));
+        assertNull(actual.getCell(2, 3));
+        assertNull(actual.getCell(2, 4));
+    }
+    
+    @Test
+    void assertGetCellWithMixedTypes() {
+        MemoryQueryResultRowBatch actual = new MemoryQueryResultRowBatch(1, 4);
+        actual.add(new MemoryQueryResultRow(new Object[]{1}));
+        actual.add(new MemoryQueryResultRow(new Object[]{null}));
+        actual.add(new MemoryQueryResultRow(new Object[]{2L}));
+        actual.add(new MemoryQueryResultRow(new Object[]{new BigDecimal("3")}));
+        actual.add(new MemoryQueryResultRow(new Object[]{"foo"}));
+        assertThat(actual.getCell(0, 1), is(1));
+        assertNull(actual.getCell(1, 1));
+        assertThat(actual.getCell(2, 1), is(2L));
+        assertThat(actual.getCell(3, 1), is(new BigDecimal("3")));
+        assertThat(actual.getCell(4, 1), is("foo"));
+    }
+    
+    @Test
+    void assertGetCellWithIndexOutOfRange() {
+        MemoryQueryResultRowBatch actual = new MemoryQueryResultRowBatch(1, 1);
+        actual.add(new MemoryQueryResultRow(new Object[]{1}));
+        assertThrows(IllegalArgumentException.class, () -> actual.getCell(1, 1));
+        assertThrows(IllegalArgumentException.class, () -> actual.getCell(0, 2));
+    }
+    
+    @Test
+    void assertAddRowWithDifferentColumnCount() {
+        assertThrows(IllegalArgumentException.class, () -> new MemoryQueryResultRowBatch(2, 1).add(new MemoryQueryResultRow(new Object[]{1})));
+    }
+}
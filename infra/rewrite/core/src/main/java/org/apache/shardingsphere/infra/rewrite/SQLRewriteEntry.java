@@ -27,14 +27,19 @@ import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContextDecorato
 import org.apache.shardingsphere.infra.rewrite.engine.GenericSQLRewriteEngine;
 import org.apache.shardingsphere.infra.rewrite.engine.RouteSQLRewriteEngine;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.SQLToken;
+import org.apache.shardingsphere.infra.rewrite.template.SQLRewriteTemplate;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.session.query.PreparedStatementCache;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.infra.spi.type.ordered.OrderedSPILoader;
 import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 
 /**
  * SQL rewrite entry.
@@ -77,10 +82,35 @@ public final class SQLRewriteEntry {
         HintValueContext hintValueContext = queryContext.getHintValueContext();
         SQLRewriteContext result = new SQLRewriteContext(database, queryContext);
         decorate(result, routeContext, hintValueContext);
-        result.generateSQLTokens();
+        Optional<PreparedStatementCache> preparedStatementCache = queryContext.getPreparedStatementCache();
+        if (preparedStatementCache.isPresent() && result.isSQLTokensReusable()) {
+            generateSQLTokens(result, getSQLRewriteTemplate(preparedStatementCache.get()), routeContext);
+        } else {
+            result.generateSQLTokens();
+        }
+        return result;
+    }
+    
+    private SQLRewriteTemplate getSQLRewriteTemplate(final PreparedStatementCache preparedStatementCache) {
+        Optional<SQLRewriteTemplate> cachedTemplate = preparedStatementCache.get(SQLRewriteTemplate.class).filter(optional -> optional.getDatabase() == database);
+        if (cachedTemplate.isPresent()) {
+            return cachedTemplate.get();
+        }
+        SQLRewriteTemplate result = new SQLRewriteTemplate(database);
+        preparedStatementCache.put(SQLRewriteTemplate.class, result);
         return result;
     }
     
+    private void generateSQLTokens(final SQLRewriteContext sqlRewriteContext, final SQLRewriteTemplate sqlRewriteTemplate, final RouteContext routeContext) {
+        Optional<List<SQLToken>> sqlTokens = sqlRewriteTemplate.findSQLTokens(routeContext.getRouteUnits());
+        if (sqlTokens.isPresent()) {
+            sqlRewriteContext.getSqlTokens().addAll(sqlTokens.get());
+            return;
+        }
+        sqlRewriteContext.generateSQLTokens();
+        sqlRewriteTemplate.putSQLTokens(routeContext.getRouteUnits(), sqlRewriteContext.getSqlTokens());
+    }
+    
     @SuppressWarnings({"unchecked", "rawtypes"})
     private void decorate(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final HintValueContext hintValueContext) {
         if (hintValueContext.isSkipSQLRewrite()) {
@@ -20,7 +20,10 @@ package org.apache.shardingsphere.infra.rewrite.context;
 import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.DeleteStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.type.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.UpdateStatementContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.GroupedParameterBuilder;
@@ -104,6 +107,19 @@ public final class SQLRewriteContext {
         this.sqlTokenGenerators.addAll(sqlTokenGenerators);
     }
     
+    /**
+     * Judge whether SQL tokens are reusable for later executions of the same bound SQL statement context.
+     *
+     * @return SQL tokens are reusable or not
+     */
+    public boolean isSQLTokensReusable() {
+        if (sqlStatementContext instanceof SelectStatementContext && ((SelectStatementContext) sqlStatementContext).getPaginationContext().isSeekOffsetApplied()) {
+            return false;
+        }
+        return (sqlStatementContext instanceof SelectStatementContext || sqlStatementContext instanceof UpdateStatementContext || sqlStatementContext instanceof DeleteStatementContext)
+                && sqlTokenGenerators.isReusable();
+    }
+    
     /**
      * Generate SQL tokens.
      */
@@ -77,6 +77,20 @@ public final class SQLTokenGenerators {
         return result;
     }
     
+    /**
+     * Judge whether generated SQL tokens are reusable for other parameters and connections.
+     *
+     * @return generated SQL tokens are reusable or not
+     */
+    public boolean isReusable() {
+        for (SQLTokenGenerator each : generators) {
+            if (each instanceof ParametersAware || each instanceof ConnectionContextAware) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
     private void setUpSQLTokenGenerator(final SQLTokenGenerator sqlTokenGenerator, final List<Object> params, final ShardingSphereDatabase database,
                                         final DatabaseType databaseType, final List<SQLToken> previousSQLTokens, final ConnectionContext connectionContext) {
         if (sqlTokenGenerator instanceof ParametersAware) {
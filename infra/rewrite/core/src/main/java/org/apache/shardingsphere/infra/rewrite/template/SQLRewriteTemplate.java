@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.template;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.SQLToken;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SQL rewrite template.
+ * 
+ * <p>Keeps SQL tokens generated for one bound SQL statement context by route units, tokens are reused for later executions with the same route units,
+ * so that prepared statement executions only rewrite parameters. Template is held by prepared statement cache and replaced when database changes,
+ * because database is rebuilt after meta data or rule changed.</p>
+ */
+@RequiredArgsConstructor
+public final class SQLRewriteTemplate {
+    
+    private static final int MAX_ROUTE_UNITS_SIZE = 64;
+    
+    @Getter
+    private final ShardingSphereDatabase database;
+    
+    private final Map<Collection<RouteUnit>, List<SQLToken>> sqlTokens = new ConcurrentHashMap<>();
+    
+    /**
+     * Find SQL tokens.
+     *
+     * @param routeUnits route units
+     * @return found SQL tokens
+     */
+    public Optional<List<SQLToken>> findSQLTokens(final Collection<RouteUnit> routeUnits) {
+        return Optional.ofNullable(sqlTokens.get(routeUnits));
+    }
+    
+    /**
+     * Put SQL tokens.
+     *
+     * @param routeUnits route units
+     * @param sqlTokens SQL tokens
+     */
+    public void putSQLTokens(final Collection<RouteUnit> routeUnits, final List<SQLToken> sqlTokens) {
+        if (this.sqlTokens.size() < MAX_ROUTE_UNITS_SIZE) {
+            this.sqlTokens.putIfAbsent(new LinkedHashSet<>(routeUnits), Collections.unmodifiableList(new ArrayList<>(sqlTokens)));
+        }
+    }
+}
@@ -18,9 +18,11 @@
 package org.apache.shardingsphere.infra.rewrite;
 
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
 import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
@@ -28,18 +30,23 @@ import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rewrite.engine.result.GenericSQLRewriteResult;
 import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.template.SQLRewriteTemplate;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.session.query.PreparedStatementCache;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.attribute.SQLStatementAttributes;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.SelectStatement;
 import org.apache.shardingsphere.sqltranslator.context.SQLTranslatorContext;
 import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
 import org.apache.shardingsphere.sqltranslator.rule.builder.DefaultSQLTranslatorRuleConfigurationBuilder;
 import org.junit.jupiter.api.Test;
 
+import java.lang.ref.WeakReference;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -48,7 +55,13 @@ import java.util.Optional;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
@@ -102,6 +115,62 @@ class SQLRewriteEntryTest {
         assertThat(sqlRewriteResult.getSqlRewriteUnits().size(), is(2));
     }
     
+    @Test
+    void assertRewriteWithSQLRewriteTemplate() {
+        ShardingSphereDatabase database = createDatabase();
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.emptyList()));
+        PreparedStatementCache preparedStatementCache = new PreparedStatementCache();
+        QueryContext queryContext = createPreparedQueryContext(preparedStatementCache);
+        assertFalse(preparedStatementCache.get(SQLRewriteTemplate.class).isPresent());
+        RouteSQLRewriteResult actual = (RouteSQLRewriteResult) createSQLRewriteEntry(database).rewrite(queryContext, routeContext);
+        SQLRewriteTemplate sqlRewriteTemplate = preparedStatementCache.get(SQLRewriteTemplate.class).orElseThrow(IllegalStateException::new);
+        assertTrue(sqlRewriteTemplate.findSQLTokens(routeContext.getRouteUnits()).isPresent());
+        assertThat(actual.getSqlRewriteUnits().values().iterator().next().getSql(), is("SELECT * FROM tbl WHERE id = ?"));
+        actual = (RouteSQLRewriteResult) createSQLRewriteEntry(database).rewrite(queryContext, routeContext);
+        assertThat(preparedStatementCache.get(SQLRewriteTemplate.class).orElse(null), sameInstance(sqlRewriteTemplate));
+        assertThat(actual.getSqlRewriteUnits().values().iterator().next().getSql(), is("SELECT * FROM tbl WHERE id = ?"));
+        assertThat(actual.getSqlRewriteUnits().values().iterator().next().getParameters(), is(Collections.singletonList(1)));
+        createSQLRewriteEntry(createDatabase()).rewrite(queryContext, routeContext);
+        assertThat(preparedStatementCache.get(SQLRewriteTemplate.class).orElse(null), not(sameInstance(sqlRewriteTemplate)));
+    }
+    
+    @Test
+    void assertSQLRewriteTemplateReleasedWithPreparedStatement() throws InterruptedException {
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.emptyList()));
+        PreparedStatementCache preparedStatementCache = new PreparedStatementCache();
+        createSQLRewriteEntry(createDatabase()).rewrite(createPreparedQueryContext(preparedStatementCache), routeContext);
+        WeakReference<SQLRewriteTemplate> sqlRewriteTemplate = new WeakReference<>(preparedStatementCache.get(SQLRewriteTemplate.class).orElse(null));
+        assertNotNull(sqlRewriteTemplate.get());
+        preparedStatementCache = null;
+        for (int i = 0; i < 100 && null != sqlRewriteTemplate.get(); i++) {
+            System.gc();
+            Thread.sleep(10L);
+        }
+        assertNull(sqlRewriteTemplate.get());
+    }
+    
+    private ShardingSphereDatabase createDatabase() {
+        return new ShardingSphereDatabase("foo_db", databaseType, mockResourceMetaData(), mock(RuleMetaData.class), Collections.singleton(new ShardingSphereSchema("test")));
+    }
+    
+    private SQLRewriteEntry createSQLRewriteEntry(final ShardingSphereDatabase database) {
+        return new SQLRewriteEntry(
+                database, new RuleMetaData(Collections.singleton(new SQLTranslatorRule(new DefaultSQLTranslatorRuleConfigurationBuilder().build()))), new ConfigurationProperties(new Properties()));
+    }
+    
+    private QueryContext createPreparedQueryContext(final PreparedStatementCache preparedStatementCache) {
+        SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getTablesContext().getDatabaseNames()).thenReturn(Collections.emptyList());
+        SelectStatement sqlStatement = mock(SelectStatement.class);
+        when(sqlStatement.getAttributes()).thenReturn(new SQLStatementAttributes());
+        when(sqlStatement.getDatabaseType()).thenReturn(databaseType);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(sqlStatement);
+        return new QueryContext(sqlStatementContext, "SELECT * FROM tbl WHERE id = ?", Collections.singletonList(1), new HintValueContext(), mock(ConnectionContext.class),
+                mock(ShardingSphereMetaData.class), preparedStatementCache);
+    }
+    
     private ResourceMetaData mockResourceMetaData() {
         Map<String, StorageUnit> storageUnits = new LinkedHashMap<>(2, 1F);
         StorageUnit storageUnit1 = mock(StorageUnit.class);
@@ -42,11 +42,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -120,6 +122,21 @@ class SQLRewriteContextTest {
         assertThat(sqlRewriteContext.getParameterBuilder(), instanceOf(StandardParameterBuilder.class));
     }
     
+    @Test
+    void assertIsSQLTokensReusableWithSeekOffset() {
+        SelectStatementContext statementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(statementContext.getTablesContext().getDatabaseName().isPresent()).thenReturn(false);
+        QueryContext queryContext = mock(QueryContext.class, RETURNS_DEEP_STUBS);
+        when(queryContext.getSqlStatementContext()).thenReturn(statementContext);
+        when(queryContext.getSql()).thenReturn("SELECT * FROM tbl ORDER BY id LIMIT ?, ?");
+        when(queryContext.getParameters()).thenReturn(Arrays.asList(1000, 10));
+        when(queryContext.getHintValueContext()).thenReturn(hintValueContext);
+        SQLRewriteContext sqlRewriteContext = new SQLRewriteContext(database, queryContext);
+        assertTrue(sqlRewriteContext.isSQLTokensReusable());
+        when(statementContext.getPaginationContext().isSeekOffsetApplied()).thenReturn(true);
+        assertFalse(sqlRewriteContext.isSQLTokensReusable());
+    }
+    
     @Test
     void assertGenerateOptionalSQLToken() {
         QueryContext queryContext = mock(QueryContext.class, RETURNS_DEEP_STUBS);
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.template;
+
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.SQLToken;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class SQLRewriteTemplateTest {
+    
+    @Test
+    void assertFindSQLTokens() {
+        SQLRewriteTemplate template = new SQLRewriteTemplate(mock(ShardingSphereDatabase.class));
+        Collection<RouteUnit> routeUnits = createRouteUnits("ds_0");
+        SQLToken sqlToken = mock(SQLToken.class);
+        List<SQLToken> sqlTokens = new LinkedList<>(Collections.singleton(sqlToken));
+        template.putSQLTokens(routeUnits, sqlTokens);
+        sqlTokens.clear();
+        assertThat(template.findSQLTokens(createRouteUnits("ds_0")).orElse(Collections.emptyList()), is(Collections.singletonList(sqlToken)));
+        assertFalse(template.findSQLTokens(createRouteUnits("ds_1")).isPresent());
+    }
+    
+    @Test
+    void assertPutSQLTokensWithTooManyRouteUnits() {
+        SQLRewriteTemplate template = new SQLRewriteTemplate(mock(ShardingSphereDatabase.class));
+        for (int i = 0; i < 64; i++) {
+            template.putSQLTokens(createRouteUnits("ds_" + i), Collections.emptyList());
+        }
+        template.putSQLTokens(createRouteUnits("ds_64"), Collections.emptyList());
+        assertTrue(template.findSQLTokens(createRouteUnits("ds_63")).isPresent());
+        assertFalse(template.findSQLTokens(createRouteUnits("ds_64")).isPresent());
+    }
+    
+    private Collection<RouteUnit> createRouteUnits(final String dataSourceName) {
+        Collection<RouteUnit> result = new LinkedHashSet<>();
+        result.add(new RouteUnit(new RouteMapper(dataSourceName, dataSourceName), Collections.singleton(new RouteMapper("t_order", "t_order_0"))));
+        return result;
+    }
+}
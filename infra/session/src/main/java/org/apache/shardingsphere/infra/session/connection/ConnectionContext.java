@@ -24,11 +24,15 @@ import lombok.Setter;
 import org.apache.shardingsphere.infra.metadata.user.Grantee;
 import org.apache.shardingsphere.infra.session.connection.cursor.CursorConnectionContext;
 import org.apache.shardingsphere.infra.session.connection.datasource.UsedDataSourceProvider;
+import org.apache.shardingsphere.infra.session.connection.probe.ProbeQueryExecutor;
 import org.apache.shardingsphere.infra.session.connection.transaction.TransactionConnectionContext;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 /**
  * Connection context.
@@ -47,9 +51,19 @@ public final class ConnectionContext implements AutoCloseable {
     
     private final TransactionConnectionContext transactionContext = new TransactionConnectionContext();
     
+    private final Collection<String> readwriteSplittingUncommittedWriteGroups = ConcurrentHashMap.newKeySet();
+    
+    private final Map<String, Long> readwriteSplittingLastWriteMillis = new ConcurrentHashMap<>();
+    
     @Setter(AccessLevel.NONE)
     private String currentDatabaseName;
     
+    @Getter(AccessLevel.NONE)
+    private volatile ProbeQueryExecutor probeQueryExecutor;
+    
+    @Getter(AccessLevel.NONE)
+    private volatile Executor mergeExecutor;
+    
     public ConnectionContext(final UsedDataSourceProvider usedDataSourceProvider) {
         this(usedDataSourceProvider, null);
     }
@@ -101,6 +115,24 @@ public final class ConnectionContext implements AutoCloseable {
         return Optional.ofNullable(currentDatabaseName);
     }
     
+    /**
+     * Get probe query executor.
+     *
+     * @return probe query executor, empty if probe queries can not be executed with connections of session
+     */
+    public Optional<ProbeQueryExecutor> getProbeQueryExecutor() {
+        return Optional.ofNullable(probeQueryExecutor);
+    }
+    
+    /**
+     * Get merge executor.
+     *
+     * @return merge executor, empty if query results can only be merged in caller thread
+     */
+    public Optional<Executor> getMergeExecutor() {
+        return Optional.ofNullable(mergeExecutor);
+    }
+    
     @Override
     public void close() {
         clearCursorContext();
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.session.connection.probe;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Probe query executor, which executes probe queries with connections of session.
+ */
+@FunctionalInterface
+public interface ProbeQueryExecutor {
+    
+    /**
+     * Execute probe queries.
+     *
+     * @param databaseName database name
+     * @param probeQueries probe queries
+     * @param queryTimeoutSeconds query timeout in seconds
+     * @return values of first column of each probe query, in the same order as probe queries
+     * @throws SQLException SQL exception
+     */
+    List<List<Object>> execute(String databaseName, List<ProbeQuery> probeQueries, int queryTimeoutSeconds) throws SQLException;
+}
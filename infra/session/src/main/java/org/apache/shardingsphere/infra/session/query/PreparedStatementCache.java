@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.infra.session.query;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Prepared statement cache.
+ * 
+ * <p>Held by prepared statement beside its bound SQL statement context, values derived from the SQL statement context are dropped together with the prepared statement.</p>
+ */
+public final class PreparedStatementCache {
+    
+    private final Map<Class<?>, Object> values = new ConcurrentHashMap<>(2, 1F);
+    
+    /**
+     * Get cached value.
+     *
+     * @param type type of value
+     * @param <T> type of value
+     * @return cached value
+     */
+    public <T> Optional<T> get(final Class<T> type) {
+        return Optional.ofNullable(values.get(type)).map(type::cast);
+    }
+    
+    /**
+     * Put value.
+     *
+     * @param type type of value
+     * @param value value
+     * @param <T> type of value
+     */
+    public <T> void put(final Class<T> type, final T value) {
+        values.put(type, value);
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.session.query;
 
 import com.google.common.base.Joiner;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
@@ -32,6 +33,7 @@ import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Query context.
@@ -55,6 +57,9 @@ public final class QueryContext {
     
     private final boolean useCache;
     
+    @Getter(AccessLevel.NONE)
+    private final PreparedStatementCache preparedStatementCache;
+    
     public QueryContext(final SQLStatementContext sqlStatementContext, final String sql, final List<Object> params, final HintValueContext hintValueContext, final ConnectionContext connectionContext,
                         final ShardingSphereMetaData metaData) {
         this(sqlStatementContext, sql, params, hintValueContext, connectionContext, metaData, false);
@@ -62,6 +67,16 @@ public final class QueryContext {
     
     public QueryContext(final SQLStatementContext sqlStatementContext, final String sql, final List<Object> params, final HintValueContext hintValueContext, final ConnectionContext connectionContext,
                         final ShardingSphereMetaData metaData, final boolean useCache) {
+        this(sqlStatementContext, sql, params, hintValueContext, connectionContext, metaData, useCache, null);
+    }
+    
+    public QueryContext(final SQLStatementContext sqlStatementContext, final String sql, final List<Object> params, final HintValueContext hintValueContext, final ConnectionContext connectionContext,
+                        final ShardingSphereMetaData metaData, final PreparedStatementCache preparedStatementCache) {
+        this(sqlStatementContext, sql, params, hintValueContext, connectionContext, metaData, true, preparedStatementCache);
+    }
+    
+    private QueryContext(final SQLStatementContext sqlStatementContext, final String sql, final List<Object> params, final HintValueContext hintValueContext,
+                         final ConnectionContext connectionContext, final ShardingSphereMetaData metaData, final boolean useCache, final PreparedStatementCache preparedStatementCache) {
         this.sqlStatementContext = sqlStatementContext;
         this.sql = sql;
         parameters = params;
@@ -70,6 +85,7 @@ public final class QueryContext {
         this.metaData = metaData;
         usedDatabaseNames = getUsedDatabaseNames(sqlStatementContext, connectionContext);
         this.useCache = useCache;
+        this.preparedStatementCache = preparedStatementCache;
     }
     
     private Collection<String> getUsedDatabaseNames(final SQLStatementContext sqlStatementContext, final ConnectionContext connectionContext) {
@@ -81,6 +97,15 @@ public final class QueryContext {
         return connectionContext.getCurrentDatabaseName().isPresent() ? Collections.singleton(connectionContext.getCurrentDatabaseName().get()) : Collections.emptyList();
     }
     
+    /**
+     * Get prepared statement cache.
+     *
+     * @return prepared statement cache, empty if query is not executed by prepared statement
+     */
+    public Optional<PreparedStatementCache> getPreparedStatementCache() {
+        return Optional.ofNullable(preparedStatementCache);
+    }
+    
     /**
      * Get used database.
      *
@@ -48,7 +48,7 @@ public final class ExecuteCallbackFactory {
      * @return created instance
      */
     public JDBCExecutorCallback<Boolean> newInstance(final ShardingSphereDatabase database, final StatementExecuteCallback executeCallback, final SQLStatement sqlStatement) {
-        return new JDBCExecutorCallback<Boolean>(database.getProtocolType(), database.getResourceMetaData(), sqlStatement, SQLExecutorExceptionHandler.isExceptionThrown()) {
+        return new JDBCExecutorCallback<Boolean>(database.getName(), database.getProtocolType(), database.getResourceMetaData(), sqlStatement, SQLExecutorExceptionHandler.isExceptionThrown()) {
             
             @Override
             protected Boolean executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode, final DatabaseType storageType) throws SQLException {
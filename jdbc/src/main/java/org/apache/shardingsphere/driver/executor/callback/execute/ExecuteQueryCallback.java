@@ -22,6 +22,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMod
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.JDBCMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.JDBCSpillableMemoryQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
 import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
@@ -36,14 +37,21 @@ import java.util.Optional;
  */
 public abstract class ExecuteQueryCallback extends JDBCExecutorCallback<QueryResult> {
     
-    protected ExecuteQueryCallback(final DatabaseType protocolType, final ResourceMetaData resourceMetaData, final SQLStatement sqlStatement, final boolean isExceptionThrown) {
-        super(protocolType, resourceMetaData, sqlStatement, isExceptionThrown);
+    private final long queryResultMemoryLimit;
+    
+    protected ExecuteQueryCallback(final String databaseName, final DatabaseType protocolType, final ResourceMetaData resourceMetaData, final SQLStatement sqlStatement,
+                                   final boolean isExceptionThrown, final long queryResultMemoryLimit) {
+        super(databaseName, protocolType, resourceMetaData, sqlStatement, isExceptionThrown);
+        this.queryResultMemoryLimit = queryResultMemoryLimit;
     }
     
     @Override
     protected final QueryResult executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode, final DatabaseType storageType) throws SQLException {
         ResultSet resultSet = executeQuery(sql, statement);
-        return ConnectionMode.MEMORY_STRICTLY == connectionMode ? new JDBCStreamQueryResult(resultSet, true) : new JDBCMemoryQueryResult(resultSet, storageType, true);
+        if (ConnectionMode.MEMORY_STRICTLY == connectionMode) {
+            return new JDBCStreamQueryResult(resultSet, true);
+        }
+        return queryResultMemoryLimit > 0L ? new JDBCSpillableMemoryQueryResult(resultSet, storageType, queryResultMemoryLimit, true) : new JDBCMemoryQueryResult(resultSet, storageType, true);
     }
     
     @Override
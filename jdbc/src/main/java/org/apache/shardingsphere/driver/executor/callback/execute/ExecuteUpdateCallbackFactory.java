@@ -48,7 +48,7 @@ public final class ExecuteUpdateCallbackFactory {
      * @return created instance
      */
     public JDBCExecutorCallback<Integer> newInstance(final ShardingSphereDatabase database, final SQLStatement sqlStatement, final StatementExecuteUpdateCallback updateCallback) {
-        return new JDBCExecutorCallback<Integer>(database.getProtocolType(), database.getResourceMetaData(), sqlStatement, SQLExecutorExceptionHandler.isExceptionThrown()) {
+        return new JDBCExecutorCallback<Integer>(database.getName(), database.getProtocolType(), database.getResourceMetaData(), sqlStatement, SQLExecutorExceptionHandler.isExceptionThrown()) {
             
             @Override
             protected Integer executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode, final DatabaseType storageType) throws SQLException {
@@ -32,9 +32,9 @@ import java.sql.Statement;
  */
 public final class PreparedStatementExecuteQueryCallback extends ExecuteQueryCallback {
     
-    public PreparedStatementExecuteQueryCallback(final DatabaseType protocolType, final ResourceMetaData resourceMetaData, final SQLStatement sqlStatement,
-                                                 final boolean isExceptionThrown) {
-        super(protocolType, resourceMetaData, sqlStatement, isExceptionThrown);
+    public PreparedStatementExecuteQueryCallback(final String databaseName, final DatabaseType protocolType, final ResourceMetaData resourceMetaData, final SQLStatement sqlStatement,
+                                                 final boolean isExceptionThrown, final long queryResultMemoryLimit) {
+        super(databaseName, protocolType, resourceMetaData, sqlStatement, isExceptionThrown, queryResultMemoryLimit);
     }
     
     @Override
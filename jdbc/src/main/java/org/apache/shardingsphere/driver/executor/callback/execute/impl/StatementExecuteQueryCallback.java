@@ -31,8 +31,9 @@ import java.sql.Statement;
  */
 public final class StatementExecuteQueryCallback extends ExecuteQueryCallback {
     
-    public StatementExecuteQueryCallback(final DatabaseType protocolType, final ResourceMetaData resourceMetaData, final SQLStatement sqlStatement, final boolean isExceptionThrown) {
-        super(protocolType, resourceMetaData, sqlStatement, isExceptionThrown);
+    public StatementExecuteQueryCallback(final String databaseName, final DatabaseType protocolType, final ResourceMetaData resourceMetaData, final SQLStatement sqlStatement,
+                                         final boolean isExceptionThrown, final long queryResultMemoryLimit) {
+        super(databaseName, protocolType, resourceMetaData, sqlStatement, isExceptionThrown, queryResultMemoryLimit);
     }
     
     @Override
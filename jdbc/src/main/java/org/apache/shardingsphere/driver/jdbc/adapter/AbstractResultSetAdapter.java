@@ -26,6 +26,7 @@ import org.apache.shardingsphere.driver.jdbc.core.statement.ShardingSpherePrepar
 import org.apache.shardingsphere.driver.jdbc.core.statement.ShardingSphereStatement;
 import org.apache.shardingsphere.driver.jdbc.unsupported.AbstractUnsupportedOperationResultSet;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 
 import java.sql.ResultSet;
@@ -33,6 +34,8 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.SQLWarning;
 import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -47,13 +50,20 @@ public abstract class AbstractResultSetAdapter extends AbstractUnsupportedOperat
     
     private final SQLStatementContext sqlStatementContext;
     
+    private final Collection<QueryResult> queryResults;
+    
     private final ForceExecuteTemplate<ResultSet> forceExecuteTemplate;
     
     private boolean closed;
     
     protected AbstractResultSetAdapter(final List<ResultSet> resultSets, final Statement statement, final SQLStatementContext sqlStatementContext) {
+        this(resultSets, Collections.emptyList(), statement, sqlStatementContext);
+    }
+    
+    protected AbstractResultSetAdapter(final List<ResultSet> resultSets, final Collection<QueryResult> queryResults, final Statement statement, final SQLStatementContext sqlStatementContext) {
         Preconditions.checkArgument(!resultSets.isEmpty());
         this.resultSets = resultSets;
+        this.queryResults = queryResults;
         this.statement = statement;
         this.sqlStatementContext = sqlStatementContext;
         forceExecuteTemplate = new ForceExecuteTemplate<>();
@@ -124,6 +134,13 @@ public abstract class AbstractResultSetAdapter extends AbstractUnsupportedOperat
     @Override
     public final void close() throws SQLException {
         closed = true;
-        forceExecuteTemplate.execute(resultSets, ResultSet::close);
+        try {
+            closeMergedResult();
+        } finally {
+            new ForceExecuteTemplate<QueryResult>().execute(queryResults, QueryResult::close);
+            forceExecuteTemplate.execute(resultSets, ResultSet::close);
+        }
     }
+    
+    protected abstract void closeMergedResult() throws SQLException;
 }
@@ -29,6 +29,7 @@ import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCProbeQueryExecutor;
 import org.apache.shardingsphere.infra.executor.sql.process.ProcessEngine;
 import org.apache.shardingsphere.infra.session.connection.transaction.TransactionConnectionContext;
 import org.apache.shardingsphere.mode.manager.ContextManager;
@@ -84,6 +85,8 @@ public final class ShardingSphereConnection extends AbstractConnectionAdapter {
         this.contextManager = contextManager;
         databaseConnectionManager = new DriverDatabaseConnectionManager(currentDatabaseName, contextManager);
         processId = processEngine.connect(currentDatabaseName);
+        databaseConnectionManager.getConnectionContext().setProbeQueryExecutor(new JDBCProbeQueryExecutor(contextManager.getExecutorEngine(), databaseConnectionManager, processId));
+        databaseConnectionManager.getConnectionContext().setMergeExecutor(contextManager.getExecutorEngine().getExecutorServiceManager().getExecutorService());
     }
     
     /**
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.driver.jdbc.adapter.AbstractResultSetAdapter;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.util.ResultSetUtils;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 
@@ -46,6 +47,7 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -79,6 +81,18 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
         this.columnLabelAndIndexMap = columnLabelAndIndexMap;
     }
     
+    public ShardingSphereResultSet(final List<ResultSet> resultSets, final Collection<QueryResult> queryResults, final MergedResult mergeResultSet, final Statement statement,
+                                   final SQLStatementContext sqlStatementContext, final Map<String, Integer> columnLabelAndIndexMap) {
+        super(resultSets, queryResults, statement, sqlStatementContext);
+        this.mergeResultSet = mergeResultSet;
+        this.columnLabelAndIndexMap = columnLabelAndIndexMap;
+    }
+    
+    @Override
+    protected void closeMergedResult() throws SQLException {
+        mergeResultSet.close();
+    }
+    
     @Override
     public boolean next() throws SQLException {
         return mergeResultSet.next();
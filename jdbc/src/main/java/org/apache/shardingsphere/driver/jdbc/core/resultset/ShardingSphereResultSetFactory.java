@@ -67,7 +67,7 @@ public final class ShardingSphereResultSetFactory {
                                  final Statement statement, final Map<String, Integer> columnLabelAndIndexMap) throws SQLException {
         List<ResultSet> resultSets = getResultSets(queryResults);
         MergedResult mergedResult = new MergeEngine(metaData, database, props, connectionContext).merge(queryResults, queryContext.getSqlStatementContext());
-        return new ShardingSphereResultSet(resultSets, mergedResult, statement, queryContext.getSqlStatementContext(),
+        return new ShardingSphereResultSet(resultSets, queryResults, mergedResult, statement, queryContext.getSqlStatementContext(),
                 null == columnLabelAndIndexMap
                         ? ShardingSphereResultSetUtils.createColumnLabelAndIndexMap(queryContext.getSqlStatementContext(), resultSets.get(0).getMetaData())
                         : columnLabelAndIndexMap);
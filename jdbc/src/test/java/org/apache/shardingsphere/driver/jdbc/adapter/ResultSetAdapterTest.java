@@ -20,6 +20,7 @@ package org.apache.shardingsphere.driver.jdbc.adapter;
 import org.apache.shardingsphere.driver.jdbc.core.resultset.ShardingSphereResultSet;
 import org.apache.shardingsphere.driver.jdbc.core.statement.ShardingSphereStatement;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.junit.jupiter.api.Test;
 
@@ -48,6 +49,20 @@ class ResultSetAdapterTest {
         verify(resultSet).close();
     }
     
+    @Test
+    void assertCloseWithQueryResults() throws Exception {
+        ResultSet resultSet = mock(ResultSet.class);
+        QueryResult queryResult = mock(QueryResult.class);
+        MergedResult mergedResult = mock(MergedResult.class);
+        ShardingSphereResultSet actual = new ShardingSphereResultSet(Collections.singletonList(resultSet), Collections.singletonList(queryResult), mergedResult,
+                mock(ShardingSphereStatement.class, RETURNS_DEEP_STUBS), mock(SQLStatementContext.class), Collections.emptyMap());
+        actual.close();
+        assertTrue(actual.isClosed());
+        verify(mergedResult).close();
+        verify(queryResult).close();
+        verify(resultSet).close();
+    }
+    
     @Test
     void assertSetFetchDirection() throws SQLException {
         ResultSet resultSet = mock(ResultSet.class);
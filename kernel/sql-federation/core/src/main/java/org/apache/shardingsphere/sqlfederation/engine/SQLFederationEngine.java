@@ -111,7 +111,7 @@ public final class SQLFederationEngine implements AutoCloseable {
         this.currentDatabaseName = currentDatabaseName;
         this.currentSchemaName = currentSchemaName;
         sqlFederationRule = metaData.getGlobalRuleMetaData().getSingleRule(SQLFederationRule.class);
-        processor = SQLFederationProcessorFactory.getInstance().newInstance(statistics, jdbcExecutor);
+        processor = SQLFederationProcessorFactory.getInstance().newInstance(statistics, jdbcExecutor, sqlFederationRule.getScanSQLStatementCache());
     }
     
     /**
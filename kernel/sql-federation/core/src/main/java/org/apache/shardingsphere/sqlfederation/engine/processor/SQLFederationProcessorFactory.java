@@ -22,6 +22,7 @@ import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
 import org.apache.shardingsphere.sqlfederation.engine.processor.impl.StandardSQLFederationProcessor;
+import org.apache.shardingsphere.sqlfederation.executor.context.ScanSQLStatementCache;
 
 /**
  * SQL federation processor factory.
@@ -45,9 +46,10 @@ public final class SQLFederationProcessorFactory {
      *
      * @param statistics shardingSphere statistics
      * @param jdbcExecutor JDBC executor
+     * @param scanSQLStatementCache scan SQL statement cache
      * @return created instance
      */
-    public SQLFederationProcessor newInstance(final ShardingSphereStatistics statistics, final JDBCExecutor jdbcExecutor) {
-        return new StandardSQLFederationProcessor(statistics, jdbcExecutor);
+    public SQLFederationProcessor newInstance(final ShardingSphereStatistics statistics, final JDBCExecutor jdbcExecutor, final ScanSQLStatementCache scanSQLStatementCache) {
+        return new StandardSQLFederationProcessor(statistics, jdbcExecutor, scanSQLStatementCache);
     }
 }
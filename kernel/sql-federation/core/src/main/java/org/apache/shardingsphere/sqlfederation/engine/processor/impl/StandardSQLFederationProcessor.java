@@ -51,6 +51,8 @@ import org.apache.shardingsphere.sqlfederation.context.SQLFederationContext;
 import org.apache.shardingsphere.sqlfederation.engine.processor.SQLFederationProcessor;
 import org.apache.shardingsphere.sqlfederation.executor.context.ExecutorBindContext;
 import org.apache.shardingsphere.sqlfederation.executor.context.ExecutorContext;
+import org.apache.shardingsphere.sqlfederation.executor.context.ScanSQLStatementCache;
+import org.apache.shardingsphere.sqlfederation.executor.enumerable.enumerator.jdbc.ConcurrentJDBCScan;
 import org.apache.shardingsphere.sqlfederation.executor.enumerable.implementor.EnumerableScanImplementor;
 import org.apache.shardingsphere.sqlfederation.resultset.SQLFederationResultSet;
 
@@ -72,6 +74,8 @@ public final class StandardSQLFederationProcessor implements SQLFederationProces
     
     private final JDBCExecutor jdbcExecutor;
     
+    private final ScanSQLStatementCache scanSQLStatementCache;
+    
     private ExecutorContext executorContext;
     
     @Override
@@ -81,8 +85,8 @@ public final class StandardSQLFederationProcessor implements SQLFederationProces
         if (null == schemaPlus) {
             return;
         }
-        executorContext =
-                new ExecutorContext(prepareEngine, jdbcExecutor, callback, statistics, currentDatabaseName, currentSchemaName, federationContext.isPreview(), federationContext.getProcessId());
+        executorContext = new ExecutorContext(prepareEngine, jdbcExecutor, callback, statistics, currentDatabaseName, currentSchemaName, federationContext.isPreview(),
+                federationContext.getProcessId(), scanSQLStatementCache);
         EnumerableScanImplementor scanImplementor = new EnumerableScanImplementor(federationContext.getQueryContext(), compilerContext, executorContext);
         SQLStatementContext sqlStatementContext = federationContext.getQueryContext().getSqlStatementContext();
         Collection<SimpleTableSegment> simpleTables = sqlStatementContext.getTablesContext().getSimpleTables();
@@ -117,6 +121,9 @@ public final class StandardSQLFederationProcessor implements SQLFederationProces
     
     @Override
     public void release(final String currentDatabaseName, final String currentSchemaName, final QueryContext queryContext, final SchemaPlus schemaPlus) {
+        if (null != executorContext) {
+            executorContext.getConcurrentScans().forEach(ConcurrentJDBCScan::close);
+        }
         Collection<SimpleTableSegment> simpleTables = queryContext.getSqlStatementContext().getTablesContext().getSimpleTables();
         for (SimpleTableSegment each : simpleTables) {
             Table table = getTable(currentDatabaseName, currentSchemaName, schemaPlus, each, queryContext.getSqlStatementContext().getSqlStatement().getDatabaseType(), queryContext.getSql());
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.sqlfederation.config.SQLFederationRuleConfigura
 import org.apache.shardingsphere.sqlfederation.constant.SQLFederationOrder;
 import org.apache.shardingsphere.sqlfederation.compiler.context.CompilerContext;
 import org.apache.shardingsphere.sqlfederation.compiler.context.CompilerContextFactory;
+import org.apache.shardingsphere.sqlfederation.executor.context.ScanSQLStatementCache;
 
 import java.util.Collection;
 import java.util.concurrent.atomic.AtomicReference;
@@ -38,14 +39,18 @@ public final class SQLFederationRule implements GlobalRule {
     
     private final AtomicReference<CompilerContext> compilerContext;
     
+    private final AtomicReference<ScanSQLStatementCache> scanSQLStatementCache;
+    
     public SQLFederationRule(final SQLFederationRuleConfiguration ruleConfig, final Collection<ShardingSphereDatabase> databases) {
         configuration = ruleConfig;
         compilerContext = new AtomicReference<>(CompilerContextFactory.create(databases));
+        scanSQLStatementCache = new AtomicReference<>(new ScanSQLStatementCache());
     }
     
     @Override
     public void refresh(final Collection<ShardingSphereDatabase> databases, final GlobalRuleChangedType changedType) {
         compilerContext.set(CompilerContextFactory.create(databases));
+        scanSQLStatementCache.set(new ScanSQLStatementCache());
     }
     
     /**
@@ -57,6 +62,15 @@ public final class SQLFederationRule implements GlobalRule {
         return compilerContext.get();
     }
     
+    /**
+     * Get scan SQL statement cache.
+     *
+     * @return scan SQL statement cache
+     */
+    public ScanSQLStatementCache getScanSQLStatementCache() {
+        return scanSQLStatementCache.get();
+    }
+    
     @Override
     public int getOrder() {
         return SQLFederationOrder.ORDER;
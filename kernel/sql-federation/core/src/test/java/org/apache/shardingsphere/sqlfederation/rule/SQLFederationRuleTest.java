@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.rule;
+
+import org.apache.shardingsphere.infra.rule.scope.GlobalRule.GlobalRuleChangedType;
+import org.apache.shardingsphere.sqlfederation.config.SQLFederationCacheOption;
+import org.apache.shardingsphere.sqlfederation.config.SQLFederationRuleConfiguration;
+import org.apache.shardingsphere.sqlfederation.executor.context.ScanSQLStatementCache;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+class SQLFederationRuleTest {
+    
+    @Test
+    void assertGetScanSQLStatementCache() {
+        SQLFederationRule rule = new SQLFederationRule(new SQLFederationRuleConfiguration(true, false, mock(SQLFederationCacheOption.class)), Collections.emptyList());
+        assertThat(rule.getScanSQLStatementCache(), sameInstance(rule.getScanSQLStatementCache()));
+    }
+    
+    @Test
+    void assertRefreshScanSQLStatementCache() {
+        SQLFederationRule rule = new SQLFederationRule(new SQLFederationRuleConfiguration(true, false, mock(SQLFederationCacheOption.class)), Collections.emptyList());
+        ScanSQLStatementCache actual = rule.getScanSQLStatementCache();
+        rule.refresh(Collections.emptyList(), GlobalRuleChangedType.SCHEMA_CHANGED);
+        assertThat(rule.getScanSQLStatementCache(), not(sameInstance(actual)));
+    }
+}
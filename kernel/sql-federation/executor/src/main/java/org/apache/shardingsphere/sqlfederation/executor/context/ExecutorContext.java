@@ -27,12 +27,14 @@ import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.executor.sql.process.ProcessEngine;
 import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
+import org.apache.shardingsphere.sqlfederation.executor.enumerable.enumerator.jdbc.ConcurrentJDBCScan;
 
 import java.sql.Connection;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Executor context.
@@ -47,6 +49,8 @@ public final class ExecutorContext {
     
     private final Collection<ExecutionUnit> previewExecutionUnits = new LinkedList<>();
     
+    private final Collection<ConcurrentJDBCScan> concurrentScans = new LinkedList<>();
+    
     private final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine;
     
     private final JDBCExecutor jdbcExecutor;
@@ -62,4 +66,15 @@ public final class ExecutorContext {
     private final boolean preview;
     
     private final String processId;
+    
+    private final ScanSQLStatementCache scanSQLStatementCache;
+    
+    /**
+     * Get concurrent scans which are neither executed nor cancelled.
+     *
+     * @return unexecuted concurrent scans
+     */
+    public Collection<ConcurrentJDBCScan> getUnexecutedConcurrentScans() {
+        return concurrentScans.stream().filter(each -> null == each.getScanResult() && !each.isCancelled()).collect(Collectors.toList());
+    }
 }
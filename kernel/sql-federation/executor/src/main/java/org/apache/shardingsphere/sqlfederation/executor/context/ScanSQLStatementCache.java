@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.context;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+
+import java.util.function.Supplier;
+
+/**
+ * Scan SQL statement cache.
+ * 
+ * <p>Keeps the parsed SQL statements of pushed down scan SQLs, so repeated scans of all connections skip parsing.
+ * Only parsed SQL statements, which are never changed after parsing, are shared. SQL statement contexts are mutated during route, rewrite and merge,
+ * so they are bound for every scan with hint value context of the scan.
+ * Cache is owned by SQL federation rule and replaced when the rule is refreshed, all entries are also dropped when meta data instance changes.</p>
+ */
+public final class ScanSQLStatementCache {
+    
+    private static final int MAX_SIZE = 256;
+    
+    private volatile MetaDataBoundCache current = new MetaDataBoundCache(null);
+    
+    /**
+     * Get SQL statement, parse and cache it if absent.
+     *
+     * @param metaData meta data
+     * @param currentDatabaseName current database name
+     * @param sql scan SQL
+     * @param parser parser to create SQL statement
+     * @return SQL statement
+     */
+    public SQLStatement get(final ShardingSphereMetaData metaData, final String currentDatabaseName, final String sql, final Supplier<SQLStatement> parser) {
+        return getCache(metaData).get(new ScanSQLStatementCacheKey(currentDatabaseName, sql), unused -> parser.get());
+    }
+    
+    private Cache<ScanSQLStatementCacheKey, SQLStatement> getCache(final ShardingSphereMetaData metaData) {
+        MetaDataBoundCache result = current;
+        if (result.metaData == metaData) {
+            return result.cache;
+        }
+        synchronized (this) {
+            if (current.metaData != metaData) {
+                current = new MetaDataBoundCache(metaData);
+            }
+            return current.cache;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class MetaDataBoundCache {
+        
+        private final ShardingSphereMetaData metaData;
+        
+        private final Cache<ScanSQLStatementCacheKey, SQLStatement> cache = Caffeine.newBuilder().softValues().maximumSize(MAX_SIZE).build();
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class ScanSQLStatementCacheKey {
+        
+        private final String currentDatabaseName;
+        
+        private final String sql;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.enumerable.enumerator.jdbc;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.wrapper.SQLWrapperException;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.LinkedList;
+
+/**
+ * Concurrent JDBC scan, which is executed together with the other unexecuted concurrent scans of the same federated query.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class ConcurrentJDBCScan {
+    
+    private final QueryContext queryContext;
+    
+    private final ShardingSphereDatabase database;
+    
+    private final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext;
+    
+    private final Collection<QueryResult> queryResults = new LinkedList<>();
+    
+    @Setter
+    private JDBCScanResult scanResult;
+    
+    private boolean cancelled;
+    
+    /**
+     * Get statements.
+     *
+     * @return statements
+     */
+    public Collection<Statement> getStatements() {
+        Collection<Statement> result = new LinkedList<>();
+        for (ExecutionGroup<JDBCExecutionUnit> each : executionGroupContext.getInputGroups()) {
+            for (JDBCExecutionUnit executionUnit : each.getInputs()) {
+                result.add(executionUnit.getStorageResource());
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Cancel scan, so it is not executed together with the other concurrent scans any more.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+    
+    /**
+     * Close statements of scan.
+     */
+    public void close() {
+        try {
+            for (Statement each : getStatements()) {
+                each.close();
+            }
+        } catch (final SQLException ex) {
+            throw new SQLWrapperException(ex);
+        }
+    }
+}
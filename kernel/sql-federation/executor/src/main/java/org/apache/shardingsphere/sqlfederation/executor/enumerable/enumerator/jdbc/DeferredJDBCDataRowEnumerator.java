@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.enumerable.enumerator.jdbc;
+
+import lombok.SneakyThrows;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.wrapper.SQLWrapperException;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.concurrent.Callable;
+
+/**
+ * Deferred JDBC data row enumerator.
+ * 
+ * <p>The scan is executed at the first {@link #moveNext()}, and its rows are enumerated by {@link JDBCDataRowEnumerator} then.
+ * If the enumerator is closed before the scan is executed, the scan is cancelled by cancel callback.</p>
+ */
+public final class DeferredJDBCDataRowEnumerator implements Enumerator<Object> {
+    
+    private final Callable<JDBCScanResult> scanExecutor;
+    
+    private final Collection<Statement> statements;
+    
+    private final Runnable cancelCallback;
+    
+    private JDBCDataRowEnumerator delegate;
+    
+    private boolean executed;
+    
+    private boolean closed;
+    
+    public DeferredJDBCDataRowEnumerator(final Callable<JDBCScanResult> scanExecutor, final Collection<Statement> statements, final Runnable cancelCallback) {
+        this.scanExecutor = scanExecutor;
+        this.statements = statements;
+        this.cancelCallback = cancelCallback;
+    }
+    
+    @Override
+    public Object current() {
+        return null == delegate ? null : delegate.current();
+    }
+    
+    @SneakyThrows
+    @Override
+    public boolean moveNext() {
+        if (closed) {
+            return false;
+        }
+        if (!executed) {
+            executed = true;
+            JDBCScanResult scanResult = scanExecutor.call();
+            delegate = new JDBCDataRowEnumerator(scanResult.getMergedResult(), scanResult.getMetaData(), statements);
+        }
+        return null != delegate && delegate.moveNext();
+    }
+    
+    @Override
+    public void reset() {
+        if (null != delegate) {
+            delegate.reset();
+        }
+    }
+    
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (null != delegate) {
+            delegate.close();
+            return;
+        }
+        if (!executed) {
+            cancelCallback.run();
+        }
+        try {
+            for (Statement each : statements) {
+                each.close();
+            }
+        } catch (final SQLException ex) {
+            throw new SQLWrapperException(ex);
+        }
+    }
+}
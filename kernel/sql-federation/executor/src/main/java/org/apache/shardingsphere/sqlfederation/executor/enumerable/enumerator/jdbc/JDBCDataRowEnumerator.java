@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.sqlfederation.executor.enumerable.enumerator.jdbc;
 
-import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.calcite.linq4j.Enumerator;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
@@ -33,18 +32,36 @@ import java.util.Collection;
 
 /**
  * JDBC data row enumerator.
+ * 
+ * <p>Rows are read from merged result in batches. The first batch holds one row, so the first row is handed to Calcite as soon as it is read,
+ * and each following batch doubles up to {@link #MAX_BATCH_SIZE}, so long scans read rows from storage without interleaving with row consumers.</p>
  */
-@RequiredArgsConstructor
 public final class JDBCDataRowEnumerator implements Enumerator<Object> {
     
-    private final MergedResult queryResult;
+    private static final int MAX_BATCH_SIZE = 1024;
     
-    private final QueryResultMetaData metaData;
+    private final MergedResult queryResult;
     
     private final Collection<Statement> statements;
     
+    private final int columnCount;
+    
+    private Object[] rows = new Object[0];
+    
+    private int batchSize;
+    
+    private int rowIndex;
+    
+    private boolean hasMoreRows = true;
+    
     private Object currentRow;
     
+    public JDBCDataRowEnumerator(final MergedResult queryResult, final QueryResultMetaData metaData, final Collection<Statement> statements) throws SQLException {
+        this.queryResult = queryResult;
+        this.statements = statements;
+        columnCount = metaData.getColumnCount();
+    }
+    
     @Override
     public Object current() {
         return currentRow;
@@ -57,23 +74,47 @@ public final class JDBCDataRowEnumerator implements Enumerator<Object> {
     }
     
     private boolean moveNext0() throws SQLException {
-        if (queryResult.next()) {
-            setCurrentRow();
-            return true;
+        if (rowIndex >= batchSize && !loadBatch()) {
+            currentRow = null;
+            return false;
+        }
+        currentRow = rows[rowIndex];
+        rows[rowIndex++] = null;
+        return true;
+    }
+    
+    private boolean loadBatch() throws SQLException {
+        rowIndex = 0;
+        batchSize = 0;
+        if (!hasMoreRows) {
+            return false;
         }
-        return false;
+        if (rows.length < MAX_BATCH_SIZE) {
+            rows = new Object[Math.max(1, rows.length << 1)];
+        }
+        while (batchSize < rows.length) {
+            if (!queryResult.next()) {
+                hasMoreRows = false;
+                break;
+            }
+            rows[batchSize++] = readRow();
+        }
+        return batchSize > 0;
     }
     
-    private void setCurrentRow() throws SQLException {
-        Object[] rowValues = new Object[metaData.getColumnCount()];
-        for (int i = 0; i < metaData.getColumnCount(); i++) {
-            rowValues[i] = getValue(i);
+    private Object readRow() throws SQLException {
+        if (1 == columnCount) {
+            return readValue(1);
+        }
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = readValue(i + 1);
         }
-        currentRow = 1 == metaData.getColumnCount() ? rowValues[0] : rowValues;
+        return result;
     }
     
-    private Object getValue(final int index) throws SQLException {
-        Object result = queryResult.getValue(index + 1, Object.class);
+    private Object readValue(final int columnIndex) throws SQLException {
+        Object result = queryResult.getValue(columnIndex, Object.class);
         return result instanceof LocalDateTime ? ResultSetUtils.convertValue(result, Timestamp.class) : result;
     }
     
@@ -84,10 +125,15 @@ public final class JDBCDataRowEnumerator implements Enumerator<Object> {
     @Override
     public void close() {
         try {
+            queryResult.close();
             for (Statement each : statements) {
                 each.close();
             }
             currentRow = null;
+            rows = new Object[0];
+            batchSize = 0;
+            rowIndex = 0;
+            hasMoreRows = false;
         } catch (final SQLException ex) {
             throw new SQLWrapperException(ex);
         }
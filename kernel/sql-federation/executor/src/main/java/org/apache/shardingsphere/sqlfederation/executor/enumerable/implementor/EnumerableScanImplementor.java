@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sqlfederation.executor.enumerable.implementor;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.calcite.linq4j.AbstractEnumerable;
@@ -24,6 +25,7 @@ import org.apache.calcite.linq4j.Enumerable;
 import org.apache.calcite.linq4j.Enumerator;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.database.core.metadata.database.metadata.option.table.DialectDriverQuerySystemCatalogOption;
 import org.apache.shardingsphere.infra.database.core.metadata.database.system.SystemDatabase;
@@ -34,15 +36,17 @@ import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionI
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.process.ProcessEngine;
 import org.apache.shardingsphere.infra.executor.sql.process.ProcessRegistry;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.merge.MergeEngine;
-import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
@@ -54,7 +58,10 @@ import org.apache.shardingsphere.sqlfederation.compiler.implementor.ScanImplemen
 import org.apache.shardingsphere.sqlfederation.compiler.implementor.ScanImplementorContext;
 import org.apache.shardingsphere.sqlfederation.compiler.implementor.enumerator.EmptyDataRowEnumerator;
 import org.apache.shardingsphere.sqlfederation.executor.context.ExecutorContext;
+import org.apache.shardingsphere.sqlfederation.executor.enumerable.enumerator.jdbc.ConcurrentJDBCScan;
+import org.apache.shardingsphere.sqlfederation.executor.enumerable.enumerator.jdbc.DeferredJDBCDataRowEnumerator;
 import org.apache.shardingsphere.sqlfederation.executor.enumerable.enumerator.jdbc.JDBCDataRowEnumerator;
+import org.apache.shardingsphere.sqlfederation.executor.enumerable.enumerator.jdbc.JDBCScanResult;
 import org.apache.shardingsphere.sqlfederation.executor.enumerable.enumerator.memory.MemoryDataRowEnumerator;
 import org.apache.shardingsphere.sqlfederation.executor.enumerable.enumerator.memory.MemoryTableStatisticsBuilder;
 
@@ -67,6 +74,7 @@ import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 /**
@@ -95,7 +103,14 @@ public final class EnumerableScanImplementor implements ScanImplementor {
             executorContext.getPreviewExecutionUnits().addAll(executionContext.getExecutionUnits());
             return createEmptyEnumerable();
         }
-        return createJDBCEnumerable(scanQueryContext, queryContext.getMetaData().getDatabase(executorContext.getCurrentDatabaseName()), executionContext);
+        ShardingSphereDatabase database = queryContext.getMetaData().getDatabase(executorContext.getCurrentDatabaseName());
+        return isConcurrentScanEnabled() ? createConcurrentJDBCEnumerable(scanQueryContext, database, executionContext) : createJDBCEnumerable(scanQueryContext, database, executionContext);
+    }
+    
+    private boolean isConcurrentScanEnabled() {
+        // Connections in transaction are shared by scans, so scans can not be executed concurrently.
+        return queryContext.getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.SQL_FEDERATION_ASYNC_SCAN_ENABLED)
+                && !queryContext.getConnectionContext().getTransactionContext().isInTransaction();
     }
     
     private boolean containsSystemSchema(final SQLStatementContext sqlStatementContext) {
@@ -112,24 +127,83 @@ public final class EnumerableScanImplementor implements ScanImplementor {
     private AbstractEnumerable<Object> createJDBCEnumerable(final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionContext executionContext) {
         return new AbstractEnumerable<Object>() {
             
-            @SneakyThrows
             @Override
             public Enumerator<Object> enumerator() {
-                computeConnectionOffsets(executionContext);
-                ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = prepare(database, executionContext);
-                setParameters(executionGroupContext.getInputGroups());
-                ShardingSpherePreconditions.checkState(!ProcessRegistry.getInstance().get(executorContext.getProcessId()).isInterrupted(), SQLExecutionInterruptedException::new);
-                processEngine.executeSQL(executionGroupContext, queryContext);
-                List<QueryResult> queryResults =
-                        executorContext.getJdbcExecutor().execute(executionGroupContext, executorContext.getCallback()).stream().map(QueryResult.class::cast).collect(Collectors.toList());
-                MergeEngine mergeEngine = new MergeEngine(queryContext.getMetaData(), database, queryContext.getMetaData().getProps(), queryContext.getConnectionContext());
-                MergedResult mergedResult = mergeEngine.merge(queryResults, queryContext.getSqlStatementContext());
-                Collection<Statement> statements = getStatements(executionGroupContext.getInputGroups());
-                return new JDBCDataRowEnumerator(mergedResult, queryResults.get(0).getMetaData(), statements);
+                return createJDBCEnumerator(queryContext, database, executionContext);
             }
         };
     }
     
+    @SneakyThrows
+    private Enumerator<Object> createJDBCEnumerator(final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionContext executionContext) {
+        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = prepareExecution(queryContext, database, executionContext);
+        JDBCScanResult scanResult = executeScan(queryContext, database, executionGroupContext);
+        return new JDBCDataRowEnumerator(scanResult.getMergedResult(), scanResult.getMetaData(), getStatements(executionGroupContext.getInputGroups()));
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private AbstractEnumerable<Object> createConcurrentJDBCEnumerable(final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionContext executionContext) {
+        ConcurrentJDBCScan scan = new ConcurrentJDBCScan(queryContext, database, prepareExecution(queryContext, database, executionContext));
+        executorContext.getConcurrentScans().add(scan);
+        AtomicBoolean scanEnumerated = new AtomicBoolean();
+        return new AbstractEnumerable<Object>() {
+            
+            @Override
+            public Enumerator<Object> enumerator() {
+                return scanEnumerated.compareAndSet(false, true)
+                        ? new DeferredJDBCDataRowEnumerator(() -> executeConcurrentScans(scan), scan.getStatements(), scan::cancel)
+                        : createJDBCEnumerator(queryContext, database, executionContext);
+            }
+        };
+    }
+    
+    private JDBCScanResult executeConcurrentScans(final ConcurrentJDBCScan scan) throws SQLException {
+        if (null != scan.getScanResult()) {
+            return scan.getScanResult();
+        }
+        Collection<ExecutionGroup<ConcurrentScanExecutionGroup>> inputGroups = new LinkedList<>();
+        Collection<ConcurrentJDBCScan> unexecutedScans = executorContext.getUnexecutedConcurrentScans();
+        for (ConcurrentJDBCScan each : unexecutedScans) {
+            for (ExecutionGroup<JDBCExecutionUnit> executionGroup : each.getExecutionGroupContext().getInputGroups()) {
+                inputGroups.add(new ExecutionGroup<>(Collections.singletonList(new ConcurrentScanExecutionGroup(each, executionGroup))));
+            }
+        }
+        ExecutionGroupContext<ConcurrentScanExecutionGroup> executionGroupContext = new ExecutionGroupContext<>(inputGroups, scan.getExecutionGroupContext().getReportContext());
+        try {
+            for (ConcurrentScanExecutionGroup each : executorContext.getJdbcExecutor().getExecutorEngine().execute(executionGroupContext, null, new ConcurrentScanExecutorCallback(), false)) {
+                each.getScan().getQueryResults().addAll(each.getQueryResults());
+            }
+        } catch (final SQLException ex) {
+            SQLExecutorExceptionHandler.handleException(ex);
+        }
+        for (ConcurrentJDBCScan each : unexecutedScans) {
+            each.setScanResult(merge(each.getQueryContext(), each.getDatabase(), new ArrayList<>(each.getQueryResults())));
+        }
+        return scan.getScanResult();
+    }
+    
+    private ExecutionGroupContext<JDBCExecutionUnit> prepareExecution(final QueryContext queryContext, final ShardingSphereDatabase database,
+                                                                      final ExecutionContext executionContext) throws SQLException {
+        computeConnectionOffsets(executionContext);
+        ExecutionGroupContext<JDBCExecutionUnit> result = prepare(database, executionContext);
+        setParameters(result.getInputGroups());
+        ShardingSpherePreconditions.checkState(!ProcessRegistry.getInstance().get(executorContext.getProcessId()).isInterrupted(), SQLExecutionInterruptedException::new);
+        processEngine.executeSQL(result, queryContext);
+        return result;
+    }
+    
+    private JDBCScanResult executeScan(final QueryContext queryContext, final ShardingSphereDatabase database,
+                                       final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext) throws SQLException {
+        List<QueryResult> queryResults =
+                executorContext.getJdbcExecutor().execute(executionGroupContext, executorContext.getCallback()).stream().map(QueryResult.class::cast).collect(Collectors.toList());
+        return merge(queryContext, database, queryResults);
+    }
+    
+    private JDBCScanResult merge(final QueryContext queryContext, final ShardingSphereDatabase database, final List<QueryResult> queryResults) throws SQLException {
+        MergeEngine mergeEngine = new MergeEngine(queryContext.getMetaData(), database, queryContext.getMetaData().getProps(), queryContext.getConnectionContext());
+        return new JDBCScanResult(mergeEngine.merge(queryResults, queryContext.getSqlStatementContext()), queryResults.get(0).getMetaData());
+    }
+    
     private ExecutionGroupContext<JDBCExecutionUnit> prepare(final ShardingSphereDatabase database, final ExecutionContext executionContext) throws SQLException {
         // TODO pass grantee from proxy and jdbc adapter
         return executorContext.getPrepareEngine().prepare(database.getName(), executionContext.getRouteContext(), executorContext.getConnectionOffsets(), executionContext.getExecutionUnits(),
@@ -200,9 +274,10 @@ public final class EnumerableScanImplementor implements ScanImplementor {
     
     private QueryContext createQueryContext(final ShardingSphereMetaData metaData, final ScanImplementorContext sqlString, final DatabaseType databaseType, final boolean useCache) {
         String sql = sqlString.getSql().replace(System.lineSeparator(), " ");
-        SQLStatement sqlStatement = compilerContext.getSqlParserRule().getSQLParserEngine(databaseType).parse(sql, useCache);
         List<Object> params = getParameters(sqlString.getParamIndexes());
         HintValueContext hintValueContext = new HintValueContext();
+        SQLStatement sqlStatement = executorContext.getScanSQLStatementCache().get(
+                metaData, executorContext.getCurrentDatabaseName(), sql, () -> compilerContext.getSqlParserRule().getSQLParserEngine(databaseType).parse(sql, useCache));
         SQLStatementContext sqlStatementContext = new SQLBindEngine(metaData, executorContext.getCurrentDatabaseName(), hintValueContext).bind(sqlStatement);
         return new QueryContext(sqlStatementContext, sql, params, hintValueContext, queryContext.getConnectionContext(), metaData, useCache);
     }
@@ -227,4 +302,35 @@ public final class EnumerableScanImplementor implements ScanImplementor {
             }
         };
     }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class ConcurrentScanExecutionGroup {
+        
+        private final ConcurrentJDBCScan scan;
+        
+        private final ExecutionGroup<JDBCExecutionUnit> executionGroup;
+        
+        private final Collection<QueryResult> queryResults = new LinkedList<>();
+    }
+    
+    private final class ConcurrentScanExecutorCallback implements ExecutorCallback<ConcurrentScanExecutionGroup, ConcurrentScanExecutionGroup> {
+        
+        @Override
+        public Collection<ConcurrentScanExecutionGroup> execute(final Collection<ConcurrentScanExecutionGroup> inputs, final boolean isTrunkThread, final String processId) throws SQLException {
+            for (ConcurrentScanExecutionGroup each : inputs) {
+                for (ExecuteResult executeResult : executorContext.getCallback().execute(each.getExecutionGroup().getInputs(), isTrunkThread, processId)) {
+                    each.getQueryResults().add((QueryResult) executeResult);
+                }
+            }
+            return inputs;
+        }
+        
+        @Override
+        public void cancel(final Collection<ConcurrentScanExecutionGroup> inputs) {
+            for (ConcurrentScanExecutionGroup each : inputs) {
+                executorContext.getCallback().cancel(each.getExecutionGroup().getInputs());
+            }
+        }
+    }
 }
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.context;
+
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ScanSQLStatementCacheTest {
+    
+    private final AtomicInteger parseCount = new AtomicInteger();
+    
+    private final Supplier<SQLStatement> parser = () -> {
+        parseCount.incrementAndGet();
+        return mock(SQLStatement.class);
+    };
+    
+    @Test
+    void assertGetWithSameSQL() {
+        ScanSQLStatementCache cache = new ScanSQLStatementCache();
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class);
+        SQLStatement actual = cache.get(metaData, "foo_db", "SELECT id FROM t_order", parser);
+        assertThat(cache.get(metaData, "foo_db", "SELECT id FROM t_order", parser), sameInstance(actual));
+        assertThat(parseCount.get(), is(1));
+    }
+    
+    @Test
+    void assertGetWithDifferentSQLOrDatabase() {
+        ScanSQLStatementCache cache = new ScanSQLStatementCache();
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class);
+        SQLStatement actual = cache.get(metaData, "foo_db", "SELECT id FROM t_order", parser);
+        assertThat(cache.get(metaData, "foo_db", "SELECT id FROM t_order_item", parser), not(sameInstance(actual)));
+        assertThat(cache.get(metaData, "bar_db", "SELECT id FROM t_order", parser), not(sameInstance(actual)));
+        assertThat(parseCount.get(), is(3));
+    }
+    
+    @Test
+    void assertGetAfterMetaDataChanged() {
+        ScanSQLStatementCache cache = new ScanSQLStatementCache();
+        SQLStatement actual = cache.get(mock(ShardingSphereMetaData.class), "foo_db", "SELECT id FROM t_order", parser);
+        assertThat(cache.get(mock(ShardingSphereMetaData.class), "foo_db", "SELECT id FROM t_order", parser), not(sameInstance(actual)));
+        assertThat(parseCount.get(), is(2));
+    }
+    
+    @Test
+    void assertGetConcurrently() throws InterruptedException, ExecutionException {
+        ScanSQLStatementCache cache = new ScanSQLStatementCache();
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class);
+        int threadCount = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        try {
+            CountDownLatch startLatch = new CountDownLatch(1);
+            Collection<Future<SQLStatement>> futures = new ArrayList<>(threadCount);
+            for (int i = 0; i < threadCount; i++) {
+                futures.add(executorService.submit(() -> {
+                    startLatch.await();
+                    return cache.get(metaData, "foo_db", "SELECT id FROM t_order", parser);
+                }));
+            }
+            startLatch.countDown();
+            SQLStatement expected = cache.get(metaData, "foo_db", "SELECT id FROM t_order", parser);
+            for (Future<SQLStatement> each : futures) {
+                assertThat(each.get(), sameInstance(expected));
+            }
+            assertThat(parseCount.get(), is(1));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.enumerable.enumerator.jdbc;
+
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.sqlfederation.executor.context.ExecutorContext;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DeferredJDBCDataRowEnumeratorTest {
+    
+    @Test
+    void assertMoveNext() throws SQLException {
+        int rowCount = 5000;
+        Statement statement = mock(Statement.class);
+        AtomicInteger executedCount = new AtomicInteger();
+        DeferredJDBCDataRowEnumerator actual = new DeferredJDBCDataRowEnumerator(() -> {
+            executedCount.incrementAndGet();
+            return new JDBCScanResult(mockMergedResult(rowCount), mockMetaData());
+        }, Collections.singleton(statement), mock(Runnable.class));
+        assertThat(executedCount.get(), is(0));
+        for (int i = 0; i < rowCount; i++) {
+            assertTrue(actual.moveNext());
+            assertThat(actual.current(), is(i));
+        }
+        assertFalse(actual.moveNext());
+        assertFalse(actual.moveNext());
+        assertThat(actual.current(), nullValue());
+        assertThat(executedCount.get(), is(1));
+        actual.close();
+        actual.close();
+        verify(statement).close();
+    }
+    
+    @Test
+    void assertMoveNextWithScanFailure() {
+        DeferredJDBCDataRowEnumerator actual = new DeferredJDBCDataRowEnumerator(() -> {
+            throw new SQLException("scan failed");
+        }, Collections.emptyList(), mock(Runnable.class));
+        SQLException ex = assertThrows(SQLException.class, actual::moveNext);
+        assertThat(ex.getMessage(), is("scan failed"));
+        assertFalse(actual.moveNext());
+        actual.close();
+    }
+    
+    @Test
+    void assertCloseBeforeAllRowsEnumerated() throws SQLException {
+        Statement statement = mock(Statement.class);
+        DeferredJDBCDataRowEnumerator actual = new DeferredJDBCDataRowEnumerator(
+                () -> new JDBCScanResult(mockMergedResult(Integer.MAX_VALUE), mockMetaData()), Collections.singleton(statement), mock(Runnable.class));
+        assertTrue(actual.moveNext());
+        assertThat(actual.current(), is(0));
+        actual.close();
+        verify(statement, times(1)).close();
+        assertThat(actual.current(), nullValue());
+        assertFalse(actual.moveNext());
+    }
+    
+    @Test
+    void assertCloseWithoutExecution() throws SQLException {
+        Statement statement = mock(Statement.class);
+        Runnable cancelCallback = mock(Runnable.class);
+        DeferredJDBCDataRowEnumerator actual = new DeferredJDBCDataRowEnumerator(() -> {
+            throw new SQLException("should not execute");
+        }, Collections.singleton(statement), cancelCallback);
+        actual.close();
+        verify(cancelCallback).run();
+        verify(statement).close();
+        assertFalse(actual.moveNext());
+    }
+    
+    @Test
+    void assertCloseUnexecutedScanThenMoveNextAnotherScan() throws SQLException {
+        ExecutorContext executorContext = new ExecutorContext(null, null, null, null, "foo_db", "foo_schema", false, "foo_process", null);
+        ConcurrentJDBCScan closedScan = createConcurrentScan();
+        ConcurrentJDBCScan movedScan = createConcurrentScan();
+        executorContext.getConcurrentScans().add(closedScan);
+        executorContext.getConcurrentScans().add(movedScan);
+        new DeferredJDBCDataRowEnumerator(() -> {
+            throw new SQLException("should not execute");
+        }, closedScan.getStatements(), closedScan::cancel).close();
+        Collection<ConcurrentJDBCScan> executedScans = new LinkedList<>();
+        DeferredJDBCDataRowEnumerator actual = new DeferredJDBCDataRowEnumerator(() -> {
+            executedScans.addAll(executorContext.getUnexecutedConcurrentScans());
+            return new JDBCScanResult(mockMergedResult(2), mockMetaData());
+        }, movedScan.getStatements(), movedScan::cancel);
+        assertTrue(actual.moveNext());
+        assertTrue(actual.moveNext());
+        assertFalse(actual.moveNext());
+        assertThat(executedScans, is(Collections.singletonList(movedScan)));
+        assertTrue(closedScan.isCancelled());
+        assertFalse(movedScan.isCancelled());
+    }
+    
+    @Test
+    void assertReset() throws SQLException {
+        AtomicInteger executedCount = new AtomicInteger();
+        DeferredJDBCDataRowEnumerator actual = new DeferredJDBCDataRowEnumerator(() -> {
+            executedCount.incrementAndGet();
+            return new JDBCScanResult(mockMergedResult(2), mockMetaData());
+        }, Collections.emptyList(), mock(Runnable.class));
+        actual.reset();
+        assertThat(executedCount.get(), is(0));
+        assertTrue(actual.moveNext());
+        actual.reset();
+        assertTrue(actual.moveNext());
+        assertThat(executedCount.get(), is(1));
+    }
+    
+    private ConcurrentJDBCScan createConcurrentScan() {
+        return new ConcurrentJDBCScan(mock(QueryContext.class), mock(ShardingSphereDatabase.class), new ExecutionGroupContext<>(Collections.emptyList(), new ExecutionGroupReportContext("foo_process", "foo_db")));
+    }
+    
+    private MergedResult mockMergedResult(final int rowCount) throws SQLException {
+        MergedResult result = mock(MergedResult.class);
+        AtomicInteger rowIndex = new AtomicInteger(-1);
+        when(result.next()).thenAnswer(invocation -> rowIndex.incrementAndGet() < rowCount);
+        when(result.getValue(1, Object.class)).thenAnswer(invocation -> rowIndex.get());
+        return result;
+    }
+    
+    private QueryResultMetaData mockMetaData() throws SQLException {
+        QueryResultMetaData result = mock(QueryResultMetaData.class);
+        when(result.getColumnCount()).thenReturn(1);
+        return result;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.enumerable.enumerator.jdbc;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JDBCDataRowEnumeratorTest {
+    
+    @Test
+    void assertMoveNext() throws SQLException {
+        int rowCount = 2500;
+        MergedResult mergedResult = mock(MergedResult.class);
+        Boolean[] nextResults = new Boolean[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            nextResults[i] = i < rowCount - 1;
+        }
+        when(mergedResult.next()).thenReturn(true, nextResults);
+        Object[] values = new Object[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            values[i] = i + 1;
+        }
+        when(mergedResult.getValue(1, Object.class)).thenReturn(0, values);
+        when(mergedResult.getValue(2, Object.class)).thenReturn("foo");
+        Statement statement = mock(Statement.class);
+        JDBCDataRowEnumerator actual = new JDBCDataRowEnumerator(mergedResult, mockMetaData(2), Collections.singleton(statement));
+        assertTrue(actual.moveNext());
+        verify(mergedResult).next();
+        assertThat(((Object[]) actual.current())[0], is(0));
+        for (int i = 1; i < rowCount; i++) {
+            assertTrue(actual.moveNext());
+            assertThat(((Object[]) actual.current())[0], is(i));
+            assertThat(((Object[]) actual.current())[1], is("foo"));
+        }
+        assertFalse(actual.moveNext());
+        assertThat(actual.current(), nullValue());
+        verify(mergedResult, times(rowCount + 1)).next();
+        actual.close();
+        verify(statement).close();
+    }
+    
+    @Test
+    void assertMoveNextWithGrowingBatches() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true, true, true, true, true, false);
+        when(mergedResult.getValue(1, Object.class)).thenReturn(1, 2, 3, 4, 5);
+        JDBCDataRowEnumerator actual = new JDBCDataRowEnumerator(mergedResult, mockMetaData(1), Collections.emptyList());
+        assertTrue(actual.moveNext());
+        verify(mergedResult, times(1)).next();
+        assertTrue(actual.moveNext());
+        verify(mergedResult, times(3)).next();
+        assertTrue(actual.moveNext());
+        assertThat(actual.current(), is(3));
+        verify(mergedResult, times(3)).next();
+        assertTrue(actual.moveNext());
+        assertTrue(actual.moveNext());
+        assertThat(actual.current(), is(5));
+        verify(mergedResult, times(6)).next();
+        assertFalse(actual.moveNext());
+        assertFalse(actual.moveNext());
+        verify(mergedResult, times(6)).next();
+    }
+    
+    @Test
+    void assertMoveNextWithSingleColumn() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true, false);
+        LocalDateTime dateTime = LocalDateTime.of(2024, 1, 1, 0, 0);
+        when(mergedResult.getValue(eq(1), eq(Object.class))).thenReturn(dateTime);
+        JDBCDataRowEnumerator actual = new JDBCDataRowEnumerator(mergedResult, mockMetaData(1), Collections.emptyList());
+        assertTrue(actual.moveNext());
+        assertThat(actual.current(), instanceOf(Timestamp.class));
+        assertThat(actual.current(), is(Timestamp.valueOf(dateTime)));
+        assertFalse(actual.moveNext());
+        verify(mergedResult, times(0)).getValue(eq(2), eq(Object.class));
+    }
+    
+    @Test
+    void assertMoveNextWithEmptyResult() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        JDBCDataRowEnumerator actual = new JDBCDataRowEnumerator(mergedResult, mockMetaData(1), Collections.emptyList());
+        assertFalse(actual.moveNext());
+        assertThat(actual.current(), nullValue());
+        verify(mergedResult, times(0)).getValue(anyInt(), eq(Object.class));
+    }
+    
+    private QueryResultMetaData mockMetaData(final int columnCount) throws SQLException {
+        QueryResultMetaData result = mock(QueryResultMetaData.class);
+        when(result.getColumnCount()).thenReturn(columnCount);
+        return result;
+    }
+}
@@ -56,9 +56,9 @@ public final class RegisterCenterMetaDataContextsInitFactory extends MetaDataCon
     private final boolean persistSchemasEnabled;
     
     public RegisterCenterMetaDataContextsInitFactory(final PersistRepository repository, final ComputeNodeInstanceContext instanceContext) {
-        persistSchemasEnabled = new ConfigurationProperties(new PropertiesPersistService(repository, new VersionPersistService(repository)).load())
-                .getValue(ConfigurationPropertyKey.PERSIST_SCHEMAS_TO_REPOSITORY_ENABLED);
-        persistFacade = new MetaDataPersistFacade(repository, persistSchemasEnabled);
+        ConfigurationProperties props = new ConfigurationProperties(new PropertiesPersistService(repository, new VersionPersistService(repository)).load());
+        persistSchemasEnabled = props.getValue(ConfigurationPropertyKey.PERSIST_SCHEMAS_TO_REPOSITORY_ENABLED);
+        persistFacade = new MetaDataPersistFacade(repository, persistSchemasEnabled, props.getValue(ConfigurationPropertyKey.META_DATA_SNAPSHOT_PATH));
         this.instanceContext = instanceContext;
     }
     
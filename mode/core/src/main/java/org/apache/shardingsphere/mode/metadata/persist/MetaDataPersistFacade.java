@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.mode.metadata.persist;
 
+import com.google.common.base.Strings;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.config.database.DatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
@@ -31,6 +32,7 @@ import org.apache.shardingsphere.mode.metadata.persist.config.database.DatabaseR
 import org.apache.shardingsphere.mode.metadata.persist.config.global.GlobalRulePersistService;
 import org.apache.shardingsphere.mode.metadata.persist.config.global.PropertiesPersistService;
 import org.apache.shardingsphere.mode.metadata.persist.metadata.DatabaseMetaDataPersistFacade;
+import org.apache.shardingsphere.mode.metadata.persist.metadata.snapshot.DatabaseRuleConfigurationSnapshot;
 import org.apache.shardingsphere.mode.metadata.persist.statistics.StatisticsPersistService;
 import org.apache.shardingsphere.mode.metadata.persist.version.VersionPersistService;
 import org.apache.shardingsphere.mode.spi.repository.PersistRepository;
@@ -68,11 +70,15 @@ public final class MetaDataPersistFacade {
     private final StatisticsPersistService statisticsService;
     
     public MetaDataPersistFacade(final PersistRepository repository, final boolean persistSchemasEnabled) {
+        this(repository, persistSchemasEnabled, "");
+    }
+    
+    public MetaDataPersistFacade(final PersistRepository repository, final boolean persistSchemasEnabled, final String metaDataSnapshotPath) {
         this.repository = repository;
         versionService = new VersionPersistService(repository);
         dataSourceUnitService = new DataSourceUnitPersistService(repository);
-        databaseMetaDataFacade = new DatabaseMetaDataPersistFacade(repository, versionService, persistSchemasEnabled);
-        databaseRuleService = new DatabaseRulePersistService(repository);
+        databaseMetaDataFacade = new DatabaseMetaDataPersistFacade(repository, versionService, persistSchemasEnabled, metaDataSnapshotPath);
+        databaseRuleService = new DatabaseRulePersistService(repository, Strings.isNullOrEmpty(metaDataSnapshotPath) ? null : new DatabaseRuleConfigurationSnapshot(metaDataSnapshotPath));
         globalRuleService = new GlobalRulePersistService(repository, versionService);
         propsService = new PropertiesPersistService(repository, versionService);
         statisticsService = new StatisticsPersistService(repository);
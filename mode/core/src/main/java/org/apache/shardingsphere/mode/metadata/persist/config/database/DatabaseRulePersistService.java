@@ -21,6 +21,7 @@ import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
 import org.apache.shardingsphere.mode.node.path.version.MetaDataVersion;
 import org.apache.shardingsphere.infra.yaml.config.pojo.rule.YamlRuleConfiguration;
 import org.apache.shardingsphere.infra.yaml.config.swapper.rule.YamlRuleConfigurationSwapperEngine;
+import org.apache.shardingsphere.mode.metadata.persist.metadata.snapshot.DatabaseRuleConfigurationSnapshot;
 import org.apache.shardingsphere.mode.metadata.persist.version.VersionPersistService;
 import org.apache.shardingsphere.mode.node.path.engine.generator.NodePathGenerator;
 import org.apache.shardingsphere.mode.node.path.type.database.metadata.rule.DatabaseRuleItem;
@@ -32,11 +33,16 @@ import org.apache.shardingsphere.mode.node.rule.tuple.RuleNodeTuple;
 import org.apache.shardingsphere.mode.node.rule.tuple.YamlRuleNodeTupleSwapperEngine;
 import org.apache.shardingsphere.mode.spi.repository.PersistRepository;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -52,11 +58,18 @@ public final class DatabaseRulePersistService {
     
     private final YamlRuleNodeTupleSwapperEngine tupleSwapperEngine;
     
+    private final DatabaseRuleConfigurationSnapshot snapshot;
+    
     public DatabaseRulePersistService(final PersistRepository repository) {
+        this(repository, null);
+    }
+    
+    public DatabaseRulePersistService(final PersistRepository repository, final DatabaseRuleConfigurationSnapshot snapshot) {
         this.repository = repository;
         versionPersistService = new VersionPersistService(repository);
         yamlSwapperEngine = new YamlRuleConfigurationSwapperEngine();
         tupleSwapperEngine = new YamlRuleNodeTupleSwapperEngine();
+        this.snapshot = snapshot;
     }
     
     /**
@@ -79,9 +92,39 @@ public final class DatabaseRulePersistService {
         Collection<DatabaseRuleNodePath> nodePaths = new LinkedList<>();
         nodePaths.addAll(getUniqueItemNodePaths(databaseName, databaseRuleNode.getRuleType(), databaseRuleNode.getUniqueItems()));
         nodePaths.addAll(getNamedItemNodePaths(databaseName, databaseRuleNode.getRuleType(), databaseRuleNode.getNamedItems()));
-        return nodePaths.stream()
-                .map(each -> new RuleNodeTuple(each, versionPersistService.loadContent(new VersionNodePath(each)))).filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        if (null == snapshot) {
+            return nodePaths.stream()
+                    .map(each -> new RuleNodeTuple(each, versionPersistService.loadContent(new VersionNodePath(each)))).filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+        }
+        Map<String, String> contents = loadContents(databaseName, databaseRuleNode.getRuleType(), nodePaths);
+        return nodePaths.stream().map(each -> new RuleNodeTuple(each, contents.get(NodePathGenerator.toPath(each)))).collect(Collectors.toList());
+    }
+    
+    /*
+     * Active versions of all rule items are queried in batch. Revisions of active version nodes are queried before contents,
+     * rule items in snapshot whose revisions are unchanged are not fetched from repository again.
+     */
+    private Map<String, String> loadContents(final String databaseName, final String ruleType, final Collection<DatabaseRuleNodePath> nodePaths) {
+        Map<String, VersionNodePath> versionNodePaths = new LinkedHashMap<>(nodePaths.size(), 1F);
+        nodePaths.forEach(each -> versionNodePaths.put(NodePathGenerator.toPath(each), new VersionNodePath(each)));
+        Map<String, String> activeVersions = repository.batchQuery(versionNodePaths.values().stream().map(VersionNodePath::getActiveVersionPath).collect(Collectors.toList()));
+        Map<String, String> versionPaths = new LinkedHashMap<>(versionNodePaths.size(), 1F);
+        versionNodePaths.forEach((key, value) -> Optional.ofNullable(activeVersions.get(value.getActiveVersionPath()))
+                .ifPresent(optional -> versionPaths.put(key, value.getVersionPath(Integer.parseInt(optional)))));
+        Map<String, Long> versionRevisions = repository.batchQueryRevisions(new ArrayList<>(versionPaths.values()));
+        Map<String, Long> revisions = new LinkedHashMap<>(versionPaths.size(), 1F);
+        versionPaths.forEach((key, value) -> Optional.ofNullable(versionRevisions.get(value)).ifPresent(optional -> revisions.put(key, optional)));
+        Map<String, String> snapshotContents = revisions.isEmpty() ? Collections.emptyMap() : snapshot.load(databaseName, ruleType, revisions);
+        Map<String, String> versionContents = repository.batchQuery(
+                versionPaths.entrySet().stream().filter(entry -> !snapshotContents.containsKey(entry.getKey())).map(Entry::getValue).collect(Collectors.toList()));
+        Map<String, String> result = new LinkedHashMap<>(versionPaths.size(), 1F);
+        versionPaths.forEach((key, value) -> Optional.ofNullable(snapshotContents.containsKey(key) ? snapshotContents.get(key) : versionContents.get(value))
+                .ifPresent(optional -> result.put(key, optional)));
+        if (!revisions.isEmpty() && snapshotContents.size() != result.size()) {
+            snapshot.persist(databaseName, ruleType, revisions, result);
+        }
+        return result;
     }
     
     private Collection<DatabaseRuleNodePath> getUniqueItemNodePaths(final String databaseName, final String ruleType, final Collection<String> uniqueItems) {
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.mode.metadata.persist.metadata;
 
+import com.google.common.base.Strings;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -34,6 +35,7 @@ import org.apache.shardingsphere.mode.metadata.persist.metadata.service.SchemaMe
 import org.apache.shardingsphere.mode.metadata.persist.metadata.service.TableMetaDataPersistDisabledService;
 import org.apache.shardingsphere.mode.metadata.persist.metadata.service.TableMetaDataPersistEnabledService;
 import org.apache.shardingsphere.mode.metadata.persist.metadata.service.ViewMetaDataPersistService;
+import org.apache.shardingsphere.mode.metadata.persist.metadata.snapshot.TableMetaDataSnapshot;
 import org.apache.shardingsphere.mode.metadata.persist.version.VersionPersistService;
 import org.apache.shardingsphere.mode.persist.service.TableMetaDataPersistService;
 import org.apache.shardingsphere.mode.spi.repository.PersistRepository;
@@ -59,9 +61,14 @@ public final class DatabaseMetaDataPersistFacade {
     private final ViewMetaDataPersistService view;
     
     public DatabaseMetaDataPersistFacade(final PersistRepository repository, final VersionPersistService versionPersistService, final boolean persistSchemasEnabled) {
+        this(repository, versionPersistService, persistSchemasEnabled, "");
+    }
+    
+    public DatabaseMetaDataPersistFacade(final PersistRepository repository, final VersionPersistService versionPersistService, final boolean persistSchemasEnabled,
+                                         final String metaDataSnapshotPath) {
         database = new DatabaseMetaDataPersistService(repository);
         if (persistSchemasEnabled) {
-            table = new TableMetaDataPersistEnabledService(repository, versionPersistService);
+            table = new TableMetaDataPersistEnabledService(repository, versionPersistService, Strings.isNullOrEmpty(metaDataSnapshotPath) ? null : new TableMetaDataSnapshot(metaDataSnapshotPath));
         } else {
             table = new TableMetaDataPersistDisabledService(repository);
         }
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
 import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereTable;
 import org.apache.shardingsphere.infra.yaml.schema.swapper.YamlTableSwapper;
+import org.apache.shardingsphere.mode.metadata.persist.metadata.snapshot.TableMetaDataSnapshot;
 import org.apache.shardingsphere.mode.metadata.persist.version.VersionPersistService;
 import org.apache.shardingsphere.mode.node.path.engine.generator.NodePathGenerator;
 import org.apache.shardingsphere.mode.node.path.type.database.metadata.schema.TableMetaDataNodePath;
@@ -29,7 +30,14 @@ import org.apache.shardingsphere.mode.node.path.version.VersionNodePath;
 import org.apache.shardingsphere.mode.persist.service.TableMetaDataPersistService;
 import org.apache.shardingsphere.mode.spi.repository.PersistRepository;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -42,12 +50,50 @@ public final class TableMetaDataPersistEnabledService implements TableMetaDataPe
     
     private final VersionPersistService versionPersistService;
     
+    private final TableMetaDataSnapshot snapshot;
+    
     private final YamlTableSwapper swapper = new YamlTableSwapper();
     
+    public TableMetaDataPersistEnabledService(final PersistRepository repository, final VersionPersistService versionPersistService) {
+        this(repository, versionPersistService, null);
+    }
+    
+    /*
+     * Active versions of all tables are queried in batch. Tables dropped while loading, whose active version or content is absent, are skipped.
+     * Revisions of active version nodes are queried before contents, tables in snapshot whose revisions are unchanged are neither fetched nor swapped again.
+     */
     @Override
     public Collection<ShardingSphereTable> load(final String databaseName, final String schemaName) {
-        return repository.getChildrenKeys(NodePathGenerator.toPath(new TableMetaDataNodePath(databaseName, schemaName, null))).stream()
-                .map(each -> load(databaseName, schemaName, each)).collect(Collectors.toList());
+        List<String> tableNodeNames = repository.getChildrenKeys(NodePathGenerator.toPath(new TableMetaDataNodePath(databaseName, schemaName, null)));
+        Map<String, VersionNodePath> versionNodePaths = new LinkedHashMap<>(tableNodeNames.size(), 1F);
+        tableNodeNames.forEach(each -> versionNodePaths.put(each, new VersionNodePath(new TableMetaDataNodePath(databaseName, schemaName, each))));
+        Map<String, String> activeVersions = repository.batchQuery(versionNodePaths.values().stream().map(VersionNodePath::getActiveVersionPath).collect(Collectors.toList()));
+        Map<String, String> versionPaths = new LinkedHashMap<>(versionNodePaths.size(), 1F);
+        versionNodePaths.forEach((key, value) -> Optional.ofNullable(activeVersions.get(value.getActiveVersionPath()))
+                .ifPresent(optional -> versionPaths.put(key, value.getVersionPath(Integer.parseInt(optional)))));
+        Map<String, Long> revisions = null == snapshot ? Collections.emptyMap() : loadRevisions(versionPaths);
+        Map<String, ShardingSphereTable> snapshotTables = revisions.isEmpty() ? Collections.emptyMap() : snapshot.load(databaseName, schemaName, revisions);
+        Map<String, String> versionContents = repository.batchQuery(
+                versionPaths.entrySet().stream().filter(entry -> !snapshotTables.containsKey(entry.getKey())).map(Entry::getValue).collect(Collectors.toList()));
+        Map<String, ShardingSphereTable> result = new LinkedHashMap<>(versionPaths.size(), 1F);
+        versionPaths.forEach((key, value) -> {
+            if (snapshotTables.containsKey(key)) {
+                result.put(key, snapshotTables.get(key));
+            } else {
+                Optional.ofNullable(versionContents.get(value)).ifPresent(optional -> result.put(key, swapper.swapToObject(YamlEngine.unmarshal(optional, YamlShardingSphereTable.class))));
+            }
+        });
+        if (!revisions.isEmpty() && snapshotTables.size() != result.size()) {
+            snapshot.persist(databaseName, schemaName, revisions, result);
+        }
+        return result.values();
+    }
+    
+    private Map<String, Long> loadRevisions(final Map<String, String> versionPaths) {
+        Map<String, Long> versionRevisions = repository.batchQueryRevisions(new ArrayList<>(versionPaths.values()));
+        Map<String, Long> result = new LinkedHashMap<>(versionPaths.size(), 1F);
+        versionPaths.forEach((key, value) -> Optional.ofNullable(versionRevisions.get(value)).ifPresent(optional -> result.put(key, optional)));
+        return result;
     }
     
     @Override
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.persist.metadata.snapshot;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+/**
+ * Database rule configuration snapshot.
+ *
+ * <p>Rule item contents of one rule type are saved in one binary file with the repository revisions of the version nodes they are loaded from.
+ * Only contents whose saved revisions are the same as revisions of current active version nodes in repository are read when loading.</p>
+ */
+@Slf4j
+public final class DatabaseRuleConfigurationSnapshot {
+    
+    private static final int MAGIC_NUMBER = 0x53535252;
+    
+    private static final int FORMAT_VERSION = 1;
+    
+    private static final String RULES_DIRECTORY = "rules";
+    
+    private static final String FILE_SUFFIX = ".snapshot";
+    
+    private final Path path;
+    
+    public DatabaseRuleConfigurationSnapshot(final String path) {
+        this.path = Paths.get(path);
+    }
+    
+    /**
+     * Load rule item contents whose revisions are the same as revisions of current version nodes.
+     *
+     * @param databaseName database name
+     * @param ruleType rule type
+     * @param revisions revisions of current version nodes in repository, key is rule item path and value is revision
+     * @return loaded contents, key is rule item path
+     */
+    public Map<String, String> load(final String databaseName, final String ruleType, final Map<String, Long> revisions) {
+        Path file = getFile(databaseName, ruleType);
+        if (!Files.isRegularFile(file)) {
+            return Collections.emptyMap();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return load(channel.map(MapMode.READ_ONLY, 0L, channel.size()), revisions);
+            // CHECKSTYLE:OFF
+        } catch (final IOException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.warn("Load rule configuration snapshot `{}` failed, rule configurations will be loaded from repository.", file, ex);
+            return Collections.emptyMap();
+        }
+    }
+    
+    private Map<String, String> load(final ByteBuffer buffer, final Map<String, Long> revisions) {
+        if (MAGIC_NUMBER != buffer.getInt() || FORMAT_VERSION != buffer.getInt()) {
+            return Collections.emptyMap();
+        }
+        int itemCount = buffer.getInt();
+        Map<String, String> result = new HashMap<>(itemCount, 1F);
+        for (int i = 0; i < itemCount; i++) {
+            String itemPath = readString(buffer);
+            long revision = buffer.getLong();
+            int contentLength = buffer.getInt();
+            if (Objects.equals(revisions.get(itemPath), revision)) {
+                byte[] content = new byte[contentLength];
+                buffer.get(content);
+                result.put(itemPath, new String(content, StandardCharsets.UTF_8));
+            } else {
+                buffer.position(buffer.position() + contentLength);
+            }
+        }
+        return result;
+    }
+    
+    private String readString(final ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * Persist rule item contents with revisions of version nodes they are loaded from, contents without revision are not persisted.
+     *
+     * @param databaseName database name
+     * @param ruleType rule type
+     * @param revisions revisions of version nodes in repository, key is rule item path and value is revision
+     * @param contents contents, key is rule item path
+     */
+    public void persist(final String databaseName, final String ruleType, final Map<String, Long> revisions, final Map<String, String> contents) {
+        Path file = getFile(databaseName, ruleType);
+        Path tempFile = null;
+        try {
+            Files.createDirectories(file.getParent());
+            tempFile = Files.createTempFile(file.getParent(), ruleType, FILE_SUFFIX);
+            Files.write(tempFile, toBytes(revisions, contents));
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException ex) {
+            log.warn("Persist rule configuration snapshot `{}` failed.", file, ex);
+        } finally {
+            deleteTempFile(tempFile);
+        }
+    }
+    
+    private void deleteTempFile(final Path tempFile) {
+        if (null == tempFile) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (final IOException ex) {
+            log.warn("Delete temporary rule configuration snapshot `{}` failed.", tempFile, ex);
+        }
+    }
+    
+    private byte[] toBytes(final Map<String, Long> revisions, final Map<String, String> contents) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(result);
+        output.writeInt(MAGIC_NUMBER);
+        output.writeInt(FORMAT_VERSION);
+        output.writeInt((int) contents.keySet().stream().filter(revisions::containsKey).count());
+        for (Entry<String, String> entry : contents.entrySet()) {
+            if (!revisions.containsKey(entry.getKey())) {
+                continue;
+            }
+            writeBytes(output, entry.getKey().getBytes(StandardCharsets.UTF_8));
+            output.writeLong(revisions.get(entry.getKey()));
+            writeBytes(output, entry.getValue().getBytes(StandardCharsets.UTF_8));
+        }
+        output.flush();
+        return result.toByteArray();
+    }
+    
+    private void writeBytes(final DataOutputStream output, final byte[] bytes) throws IOException {
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+    
+    private Path getFile(final String databaseName, final String ruleType) {
+        return path.resolve(databaseName).resolve(RULES_DIRECTORY).resolve(ruleType + FILE_SUFFIX);
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.persist.metadata.snapshot;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.TableType;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereConstraint;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereIndex;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+/**
+ * Table meta data snapshot.
+ * 
+ * <p>Tables of one schema are saved in one binary file with the repository revisions of the version nodes they are swapped from.
+ * Only tables whose saved revisions are the same as revisions of current active version nodes in repository are decoded when loading,
+ * so contents of these tables do not need to be fetched from repository.</p>
+ */
+@Slf4j
+public final class TableMetaDataSnapshot {
+    
+    private static final int MAGIC_NUMBER = 0x53535453;
+    
+    private static final int FORMAT_VERSION = 3;
+    
+    private static final String SCHEMAS_DIRECTORY = "schemas";
+    
+    private static final String FILE_SUFFIX = ".snapshot";
+    
+    private final Path path;
+    
+    public TableMetaDataSnapshot(final String path) {
+        this.path = Paths.get(path);
+    }
+    
+    /**
+     * Load tables whose revisions are the same as revisions of current version nodes.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param revisions revisions of current version nodes in repository, key is table node name and value is revision
+     * @return loaded tables, key is table node name
+     */
+    public Map<String, ShardingSphereTable> load(final String databaseName, final String schemaName, final Map<String, Long> revisions) {
+        Path file = getFile(databaseName, schemaName);
+        if (!Files.isRegularFile(file)) {
+            return Collections.emptyMap();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return load(channel.map(MapMode.READ_ONLY, 0L, channel.size()), revisions);
+            // CHECKSTYLE:OFF
+        } catch (final IOException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.warn("Load table meta data snapshot `{}` failed, tables will be loaded from repository.", file, ex);
+            return Collections.emptyMap();
+        }
+    }
+    
+    private Map<String, ShardingSphereTable> load(final ByteBuffer buffer, final Map<String, Long> revisions) {
+        if (MAGIC_NUMBER != buffer.getInt() || FORMAT_VERSION != buffer.getInt()) {
+            return Collections.emptyMap();
+        }
+        int tableCount = buffer.getInt();
+        Map<String, ShardingSphereTable> result = new HashMap<>(tableCount, 1F);
+        for (int i = 0; i < tableCount; i++) {
+            String tableNodeName = readString(buffer);
+            long revision = buffer.getLong();
+            int tableLength = buffer.getInt();
+            if (Objects.equals(revisions.get(tableNodeName), revision)) {
+                result.put(tableNodeName, readTable(buffer));
+            } else {
+                buffer.position(buffer.position() + tableLength);
+            }
+        }
+        return result;
+    }
+    
+    private ShardingSphereTable readTable(final ByteBuffer buffer) {
+        String name = readString(buffer);
+        String type = readString(buffer);
+        int columnCount = buffer.getInt();
+        Collection<ShardingSphereColumn> columns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            String columnName = readString(buffer);
+            int dataType = buffer.getInt();
+            byte flags = buffer.get();
+            columns.add(new ShardingSphereColumn(columnName, dataType, isFlagSet(flags, 0), isFlagSet(flags, 1), isFlagSet(flags, 2), isFlagSet(flags, 3), isFlagSet(flags, 4), isFlagSet(flags, 5)));
+        }
+        int indexCount = buffer.getInt();
+        Collection<ShardingSphereIndex> indexes = new ArrayList<>(indexCount);
+        for (int i = 0; i < indexCount; i++) {
+            String indexName = readString(buffer);
+            boolean unique = 1 == buffer.get();
+            indexes.add(new ShardingSphereIndex(indexName, readStrings(buffer), unique));
+        }
+        int constraintCount = buffer.getInt();
+        Collection<ShardingSphereConstraint> constraints = new ArrayList<>(constraintCount);
+        for (int i = 0; i < constraintCount; i++) {
+            constraints.add(new ShardingSphereConstraint(readString(buffer), readString(buffer)));
+        }
+        return new ShardingSphereTable(name, columns, indexes, constraints, null == type ? null : TableType.valueOf(type));
+    }
+    
+    private boolean isFlagSet(final byte flags, final int bit) {
+        return 0 != (flags & 1 << bit);
+    }
+    
+    private List<String> readStrings(final ByteBuffer buffer) {
+        int count = buffer.getInt();
+        if (-1 == count) {
+            return null;
+        }
+        List<String> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(readString(buffer));
+        }
+        return result;
+    }
+    
+    private String readString(final ByteBuffer buffer) {
+        byte[] bytes = readBytes(buffer);
+        return null == bytes ? null : new String(bytes, StandardCharsets.UTF_8);
+    }
+    
+    private byte[] readBytes(final ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (-1 == length) {
+            return null;
+        }
+        byte[] result = new byte[length];
+        buffer.get(result);
+        return result;
+    }
+    
+    /**
+     * Persist tables with revisions of version nodes they are swapped from, tables without revision are not persisted.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param revisions revisions of version nodes in repository, key is table node name and value is revision
+     * @param tables tables, key is table node name
+     */
+    public void persist(final String databaseName, final String schemaName, final Map<String, Long> revisions, final Map<String, ShardingSphereTable> tables) {
+        Path file = getFile(databaseName, schemaName);
+        Path tempFile = null;
+        try {
+            Files.createDirectories(file.getParent());
+            tempFile = Files.createTempFile(file.getParent(), schemaName, FILE_SUFFIX);
+            Files.write(tempFile, toBytes(revisions, tables));
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException ex) {
+            log.warn("Persist table meta data snapshot `{}` failed.", file, ex);
+        } finally {
+            deleteTempFile(tempFile);
+        }
+    }
+    
+    private void deleteTempFile(final Path tempFile) {
+        if (null == tempFile) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (final IOException ex) {
+            log.warn("Delete temporary table meta data snapshot `{}` failed.", tempFile, ex);
+        }
+    }
+    
+    private byte[] toBytes(final Map<String, Long> revisions, final Map<String, ShardingSphereTable> tables) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(result);
+        output.writeInt(MAGIC_NUMBER);
+        output.writeInt(FORMAT_VERSION);
+        output.writeInt((int) tables.keySet().stream().filter(revisions::containsKey).count());
+        for (Entry<String, ShardingSphereTable> entry : tables.entrySet()) {
+            if (!revisions.containsKey(entry.getKey())) {
+                continue;
+            }
+            writeString(output, entry.getKey());
+            output.writeLong(revisions.get(entry.getKey()));
+            byte[] tableBytes = toBytes(entry.getValue());
+            output.writeInt(tableBytes.length);
+            output.write(tableBytes);
+        }
+        output.flush();
+        return result.toByteArray();
+    }
+    
+    private byte[] toBytes(final ShardingSphereTable table) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(result);
+        writeString(output, table.getName());
+        writeString(output, null == table.getType() ? null : table.getType().name());
+        output.writeInt(table.getAllColumns().size());
+        for (ShardingSphereColumn each : table.getAllColumns()) {
+            writeString(output, each.getName());
+            output.writeInt(each.getDataType());
+            output.writeByte(getFlags(each.isPrimaryKey(), each.isGenerated(), each.isCaseSensitive(), each.isVisible(), each.isUnsigned(), each.isNullable()));
+        }
+        output.writeInt(table.getAllIndexes().size());
+        for (ShardingSphereIndex each : table.getAllIndexes()) {
+            writeString(output, each.getName());
+            output.writeByte(each.isUnique() ? 1 : 0);
+            writeStrings(output, each.getColumns());
+        }
+        output.writeInt(table.getAllConstraints().size());
+        for (ShardingSphereConstraint each : table.getAllConstraints()) {
+            writeString(output, each.getName());
+            writeString(output, each.getReferencedTableName());
+        }
+        output.flush();
+        return result.toByteArray();
+    }
+    
+    private int getFlags(final boolean... values) {
+        int result = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i]) {
+                result |= 1 << i;
+            }
+        }
+        return result;
+    }
+    
+    private void writeStrings(final DataOutputStream output, final Collection<String> values) throws IOException {
+        if (null == values) {
+            output.writeInt(-1);
+            return;
+        }
+        output.writeInt(values.size());
+        for (String each : values) {
+            writeString(output, each);
+        }
+    }
+    
+    private void writeString(final DataOutputStream output, final String value) throws IOException {
+        if (null == value) {
+            output.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+    
+    private Path getFile(final String databaseName, final String schemaName) {
+        return path.resolve(databaseName).resolve(SCHEMAS_DIRECTORY).resolve(schemaName + FILE_SUFFIX);
+    }
+}
@@ -18,17 +18,23 @@
 package org.apache.shardingsphere.mode.metadata.persist.config.database;
 
 import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
+import org.apache.shardingsphere.mode.metadata.persist.metadata.snapshot.DatabaseRuleConfigurationSnapshot;
 import org.apache.shardingsphere.mode.node.path.version.MetaDataVersion;
 import org.apache.shardingsphere.mode.spi.repository.PersistRepository;
 import org.apache.shardingsphere.test.infra.fixture.rule.MockedRuleConfiguration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -64,6 +70,36 @@ class DatabaseRulePersistServiceTest {
         assertThat(ruleConfig.getNamed(), is(Collections.singletonMap("rule_item", "named_content")));
     }
     
+    @Test
+    void assertLoadWithSnapshot(@TempDir final Path tempDir) {
+        DatabaseRuleConfigurationSnapshot snapshot = new DatabaseRuleConfigurationSnapshot(tempDir.toString());
+        snapshot.persist("foo_db", "fixture", Collections.singletonMap("/metadata/foo_db/rules/fixture/unique", 5L),
+                Collections.singletonMap("/metadata/foo_db/rules/fixture/unique", "unique_content"));
+        when(repository.getChildrenKeys("/metadata/foo_db/rules")).thenReturn(Collections.singletonList("fixture"));
+        when(repository.getChildrenKeys("/metadata/foo_db/rules/fixture/named")).thenReturn(Collections.singletonList("rule_item"));
+        Map<String, String> activeVersions = new HashMap<>(2, 1F);
+        activeVersions.put("/metadata/foo_db/rules/fixture/unique/active_version", "0");
+        activeVersions.put("/metadata/foo_db/rules/fixture/named/rule_item/active_version", "0");
+        when(repository.batchQuery(Arrays.asList("/metadata/foo_db/rules/fixture/unique/active_version", "/metadata/foo_db/rules/fixture/named/rule_item/active_version")))
+                .thenReturn(activeVersions);
+        Map<String, Long> versionRevisions = new HashMap<>(2, 1F);
+        versionRevisions.put("/metadata/foo_db/rules/fixture/unique/versions/0", 5L);
+        versionRevisions.put("/metadata/foo_db/rules/fixture/named/rule_item/versions/0", 6L);
+        when(repository.batchQueryRevisions(Arrays.asList("/metadata/foo_db/rules/fixture/unique/versions/0", "/metadata/foo_db/rules/fixture/named/rule_item/versions/0")))
+                .thenReturn(versionRevisions);
+        when(repository.batchQuery(Collections.singletonList("/metadata/foo_db/rules/fixture/named/rule_item/versions/0")))
+                .thenReturn(Collections.singletonMap("/metadata/foo_db/rules/fixture/named/rule_item/versions/0", "named_content"));
+        Collection<RuleConfiguration> actual = new DatabaseRulePersistService(repository, snapshot).load("foo_db");
+        assertThat(actual.size(), is(1));
+        MockedRuleConfiguration ruleConfig = (MockedRuleConfiguration) actual.iterator().next();
+        assertThat(ruleConfig.getUnique(), is("unique_content"));
+        assertThat(ruleConfig.getNamed(), is(Collections.singletonMap("rule_item", "named_content")));
+        Map<String, Long> expectedRevisions = new HashMap<>(2, 1F);
+        expectedRevisions.put("/metadata/foo_db/rules/fixture/unique", 5L);
+        expectedRevisions.put("/metadata/foo_db/rules/fixture/named/rule_item", 6L);
+        assertThat(snapshot.load("foo_db", "fixture", expectedRevisions).size(), is(2));
+    }
+    
     @Test
     void assertLoadWithEmptyDatabase() {
         when(repository.getChildrenKeys("/metadata/foo_db/rules")).thenReturn(Collections.emptyList());
@@ -17,17 +17,26 @@
 
 package org.apache.shardingsphere.mode.metadata.persist.metadata.service;
 
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.TableType;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.mode.metadata.persist.metadata.snapshot.TableMetaDataSnapshot;
 import org.apache.shardingsphere.mode.metadata.persist.version.VersionPersistService;
 import org.apache.shardingsphere.mode.spi.repository.PersistRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -52,13 +61,79 @@ class TableMetaDataPersistEnabledServiceTest {
     @Test
     void assertLoad() {
         when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(Collections.singletonList("foo_tbl"));
-        when(repository.query("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version")).thenReturn("0");
-        when(repository.query("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/0")).thenReturn("{name: foo_tbl}");
+        when(repository.batchQuery(Collections.singletonList("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version")))
+                .thenReturn(Collections.singletonMap("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version", "0"));
+        when(repository.batchQuery(Collections.singletonList("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/0")))
+                .thenReturn(Collections.singletonMap("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/0", "{name: foo_tbl}"));
         Collection<ShardingSphereTable> actual = persistService.load("foo_db", "foo_schema");
         assertThat(actual.size(), is(1));
         assertThat(actual.iterator().next().getName(), is("foo_tbl"));
     }
     
+    @Test
+    void assertLoadWithDroppedTable() {
+        when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(Arrays.asList("foo_tbl", "bar_tbl"));
+        when(repository.batchQuery(Arrays.asList("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version", "/metadata/foo_db/schemas/foo_schema/tables/bar_tbl/active_version")))
+                .thenReturn(Collections.singletonMap("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version", "0"));
+        when(repository.batchQuery(Collections.singletonList("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/0")))
+                .thenReturn(Collections.singletonMap("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/0", "{name: foo_tbl}"));
+        Collection<ShardingSphereTable> actual = persistService.load("foo_db", "foo_schema");
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next().getName(), is("foo_tbl"));
+    }
+    
+    @Test
+    void assertLoadWithSnapshot(@TempDir final Path tempDir) {
+        TableMetaDataSnapshot snapshot = new TableMetaDataSnapshot(tempDir.toString());
+        snapshot.persist("foo_db", "foo_schema", Collections.singletonMap("foo_tbl", 5L), Collections.singletonMap("foo_tbl", new ShardingSphereTable("foo_tbl",
+                Collections.emptyList(), Collections.emptyList(), Collections.emptyList())));
+        when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(Arrays.asList("foo_tbl", "bar_tbl"));
+        Map<String, String> activeVersions = new HashMap<>(2, 1F);
+        activeVersions.put("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version", "0");
+        activeVersions.put("/metadata/foo_db/schemas/foo_schema/tables/bar_tbl/active_version", "0");
+        when(repository.batchQuery(Arrays.asList("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version", "/metadata/foo_db/schemas/foo_schema/tables/bar_tbl/active_version")))
+                .thenReturn(activeVersions);
+        Map<String, Long> versionRevisions = new HashMap<>(2, 1F);
+        versionRevisions.put("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/0", 5L);
+        versionRevisions.put("/metadata/foo_db/schemas/foo_schema/tables/bar_tbl/versions/0", 6L);
+        when(repository.batchQueryRevisions(Arrays.asList("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/0", "/metadata/foo_db/schemas/foo_schema/tables/bar_tbl/versions/0")))
+                .thenReturn(versionRevisions);
+        when(repository.batchQuery(Collections.singletonList("/metadata/foo_db/schemas/foo_schema/tables/bar_tbl/versions/0")))
+                .thenReturn(Collections.singletonMap("/metadata/foo_db/schemas/foo_schema/tables/bar_tbl/versions/0", "{name: bar_tbl}"));
+        List<ShardingSphereTable> actual = new ArrayList<>(new TableMetaDataPersistEnabledService(repository, new VersionPersistService(repository), snapshot).load("foo_db", "foo_schema"));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getName(), is("foo_tbl"));
+        assertThat(actual.get(1).getName(), is("bar_tbl"));
+        Map<String, Long> expectedRevisions = new HashMap<>(2, 1F);
+        expectedRevisions.put("foo_tbl", 5L);
+        expectedRevisions.put("bar_tbl", 6L);
+        assertThat(snapshot.load("foo_db", "foo_schema", expectedRevisions).size(), is(2));
+    }
+    
+    @Test
+    void assertLoadWithSnapshotOfRecreatedTable(@TempDir final Path tempDir) {
+        TableMetaDataSnapshot snapshot = new TableMetaDataSnapshot(tempDir.toString());
+        snapshot.persist("foo_db", "foo_schema", Collections.singletonMap("foo_tbl", 5L), Collections.singletonMap("foo_tbl", new ShardingSphereTable("foo_tbl",
+                Collections.emptyList(), Collections.emptyList(), Collections.emptyList())));
+        when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(Collections.singletonList("foo_tbl"));
+        when(repository.batchQuery(Collections.singletonList("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version")))
+                .thenReturn(Collections.singletonMap("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version", "0"));
+        when(repository.batchQueryRevisions(Collections.singletonList("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/0")))
+                .thenReturn(Collections.singletonMap("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/0", 9L));
+        when(repository.batchQuery(Collections.singletonList("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/0")))
+                .thenReturn(Collections.singletonMap("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/0", "{name: foo_tbl, type: VIEW}"));
+        Collection<ShardingSphereTable> actual = new TableMetaDataPersistEnabledService(repository, new VersionPersistService(repository), snapshot).load("foo_db", "foo_schema");
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next().getType(), is(TableType.VIEW));
+    }
+    
+    @Test
+    void assertLoadTable() {
+        when(repository.query("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version")).thenReturn("0");
+        when(repository.query("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/0")).thenReturn("{name: foo_tbl}");
+        assertThat(persistService.load("foo_db", "foo_schema", "foo_tbl").getName(), is("foo_tbl"));
+    }
+    
     @Test
     void assertPersistWithoutVersion() {
         ShardingSphereTable table = mock(ShardingSphereTable.class);
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.persist.metadata.snapshot;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DatabaseRuleConfigurationSnapshotTest {
+    
+    @Test
+    void assertLoadWithoutSnapshotFile(@TempDir final Path tempDir) {
+        assertTrue(new DatabaseRuleConfigurationSnapshot(tempDir.toString()).load("foo_db", "foo_rule", Collections.singletonMap("/foo_item", 1L)).isEmpty());
+    }
+    
+    @Test
+    void assertPersistAndLoad(@TempDir final Path tempDir) {
+        DatabaseRuleConfigurationSnapshot snapshot = new DatabaseRuleConfigurationSnapshot(tempDir.toString());
+        Map<String, String> contents = new HashMap<>(2, 1F);
+        contents.put("/foo_item", "foo_content");
+        contents.put("/bar_item", "bar_content");
+        Map<String, Long> revisions = new HashMap<>(2, 1F);
+        revisions.put("/foo_item", 1L);
+        revisions.put("/bar_item", 2L);
+        snapshot.persist("foo_db", "foo_rule", revisions, contents);
+        assertThat(snapshot.load("foo_db", "foo_rule", revisions), is(contents));
+    }
+    
+    @Test
+    void assertLoadWithChangedRevision(@TempDir final Path tempDir) {
+        DatabaseRuleConfigurationSnapshot snapshot = new DatabaseRuleConfigurationSnapshot(tempDir.toString());
+        Map<String, String> contents = new HashMap<>(2, 1F);
+        contents.put("/foo_item", "foo_content");
+        contents.put("/bar_item", "bar_content");
+        Map<String, Long> revisions = new HashMap<>(2, 1F);
+        revisions.put("/foo_item", 1L);
+        revisions.put("/bar_item", 2L);
+        snapshot.persist("foo_db", "foo_rule", revisions, contents);
+        revisions.put("/bar_item", 3L);
+        assertThat(snapshot.load("foo_db", "foo_rule", revisions), is(Collections.singletonMap("/foo_item", "foo_content")));
+    }
+    
+    @Test
+    void assertLoadWithInvalidSnapshotFile(@TempDir final Path tempDir) throws IOException {
+        Files.createDirectories(tempDir.resolve("foo_db").resolve("rules"));
+        Files.write(tempDir.resolve("foo_db").resolve("rules").resolve("foo_rule.snapshot"), "foo".getBytes(StandardCharsets.UTF_8));
+        assertTrue(new DatabaseRuleConfigurationSnapshot(tempDir.toString()).load("foo_db", "foo_rule", Collections.singletonMap("/foo_item", 1L)).isEmpty());
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.persist.metadata.snapshot;
+
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.TableType;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereConstraint;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereIndex;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TableMetaDataSnapshotTest {
+    
+    @Test
+    void assertLoadWithoutSnapshotFile(@TempDir final Path tempDir) {
+        assertTrue(new TableMetaDataSnapshot(tempDir.toString()).load("foo_db", "foo_schema", Collections.singletonMap("foo_tbl", 1L)).isEmpty());
+    }
+    
+    @Test
+    void assertPersistAndLoad(@TempDir final Path tempDir) {
+        TableMetaDataSnapshot snapshot = new TableMetaDataSnapshot(tempDir.toString());
+        Map<String, ShardingSphereTable> tables = new HashMap<>(2, 1F);
+        tables.put("foo_tbl", createTable());
+        tables.put("bar_tbl", new ShardingSphereTable("bar_tbl", Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), TableType.VIEW));
+        Map<String, Long> revisions = new HashMap<>(2, 1F);
+        revisions.put("foo_tbl", 1L);
+        revisions.put("bar_tbl", 2L);
+        snapshot.persist("foo_db", "foo_schema", revisions, tables);
+        Map<String, ShardingSphereTable> actual = snapshot.load("foo_db", "foo_schema", revisions);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("foo_tbl").toString(), is(createTable().toString()));
+        assertThat(actual.get("bar_tbl").getType(), is(TableType.VIEW));
+    }
+    
+    @Test
+    void assertLoadWithChangedRevision(@TempDir final Path tempDir) {
+        TableMetaDataSnapshot snapshot = new TableMetaDataSnapshot(tempDir.toString());
+        snapshot.persist("foo_db", "foo_schema", Collections.singletonMap("foo_tbl", 1L), Collections.singletonMap("foo_tbl", createTable()));
+        Map<String, Long> revisions = new HashMap<>(2, 1F);
+        revisions.put("foo_tbl", 3L);
+        revisions.put("bar_tbl", 2L);
+        assertTrue(snapshot.load("foo_db", "foo_schema", revisions).isEmpty());
+    }
+    
+    @Test
+    void assertPersistWithoutRevision(@TempDir final Path tempDir) {
+        TableMetaDataSnapshot snapshot = new TableMetaDataSnapshot(tempDir.toString());
+        Map<String, ShardingSphereTable> tables = new HashMap<>(2, 1F);
+        tables.put("foo_tbl", createTable());
+        tables.put("bar_tbl", new ShardingSphereTable("bar_tbl", Collections.emptyList(), Collections.emptyList(), Collections.emptyList()));
+        snapshot.persist("foo_db", "foo_schema", Collections.singletonMap("foo_tbl", 1L), tables);
+        Map<String, Long> revisions = new HashMap<>(2, 1F);
+        revisions.put("foo_tbl", 1L);
+        revisions.put("bar_tbl", 2L);
+        assertThat(snapshot.load("foo_db", "foo_schema", revisions).keySet(), is(Collections.singleton("foo_tbl")));
+    }
+    
+    @Test
+    void assertPersistFailureWithoutTempFileLeft(@TempDir final Path tempDir) throws IOException {
+        Path snapshotFile = tempDir.resolve("foo_db").resolve("schemas").resolve("foo_schema.snapshot");
+        Files.createDirectories(snapshotFile.resolve("foo_dir"));
+        new TableMetaDataSnapshot(tempDir.toString()).persist("foo_db", "foo_schema", Collections.singletonMap("foo_tbl", 1L), Collections.singletonMap("foo_tbl", createTable()));
+        try (Stream<Path> files = Files.list(snapshotFile.getParent())) {
+            assertThat(files.collect(Collectors.toList()), is(Collections.singletonList(snapshotFile)));
+        }
+    }
+    
+    @Test
+    void assertLoadWithInvalidSnapshotFile(@TempDir final Path tempDir) throws IOException {
+        Files.createDirectories(tempDir.resolve("foo_db").resolve("schemas"));
+        Files.write(tempDir.resolve("foo_db").resolve("schemas").resolve("foo_schema.snapshot"), "foo".getBytes(StandardCharsets.UTF_8));
+        assertFalse(new TableMetaDataSnapshot(tempDir.toString()).load("foo_db", "foo_schema", Collections.singletonMap("foo_tbl", 1L)).containsKey("foo_tbl"));
+    }
+    
+    private ShardingSphereTable createTable() {
+        ShardingSphereColumn idColumn = new ShardingSphereColumn("id", Types.BIGINT, true, true, false, true, true, false);
+        ShardingSphereColumn nameColumn = new ShardingSphereColumn("name", Types.VARCHAR, false, false, true, true, false, true);
+        return new ShardingSphereTable("foo_tbl", Arrays.asList(idColumn, nameColumn), Collections.singleton(new ShardingSphereIndex("foo_idx", Collections.singletonList("name"), true)),
+                Collections.singleton(new ShardingSphereConstraint("foo_fk", "bar_tbl")));
+    }
+}
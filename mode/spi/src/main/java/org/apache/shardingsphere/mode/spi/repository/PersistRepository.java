@@ -19,7 +19,11 @@ package org.apache.shardingsphere.mode.spi.repository;
 
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPI;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Persist repository.
@@ -39,6 +43,32 @@ public interface PersistRepository extends TypedSPI, AutoCloseable {
      */
     String query(String key);
     
+    /**
+     * Query data of keys in batch.
+     *
+     * @param keys keys to be queried
+     * @return queried data map, key is queried key and value is queried data or null if the key is not existed
+     */
+    default Map<String, String> batchQuery(final Collection<String> keys) {
+        Map<String, String> result = new LinkedHashMap<>(keys.size(), 1F);
+        for (String each : keys) {
+            result.put(each, query(each));
+        }
+        return result;
+    }
+    
+    /**
+     * Query revisions of keys in batch.
+     * 
+     * <p>Revision of key changes whenever the key is created or updated, so a key created again after deleted has a different revision.</p>
+     *
+     * @param keys keys to be queried
+     * @return queried revisions, key is queried key and value is revision, keys not existed are absent, and all keys are absent if revision is not supported
+     */
+    default Map<String, Long> batchQueryRevisions(final Collection<String> keys) {
+        return Collections.emptyMap();
+    }
+    
     /**
      * Get names of sub-node.
      *
@@ -19,11 +19,13 @@ package org.apache.shardingsphere.mode.repository.cluster.etcd;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
+import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.etcd.jetcd.ByteSequence;
 import io.etcd.jetcd.Client;
 import io.etcd.jetcd.KeyValue;
 import io.etcd.jetcd.Watch;
+import io.etcd.jetcd.kv.GetResponse;
 import io.etcd.jetcd.options.DeleteOption;
 import io.etcd.jetcd.options.GetOption;
 import io.etcd.jetcd.options.OptionsUtil;
@@ -46,7 +48,12 @@ import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEve
 import org.apache.shardingsphere.mode.repository.cluster.lock.DistributedLock;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -60,6 +67,8 @@ import java.util.stream.Collectors;
 @Slf4j
 public final class EtcdRepository implements ClusterPersistRepository {
     
+    private static final int BATCH_QUERY_SIZE = 1000;
+    
     private static final ExecutorService EVENT_LISTENER_EXECUTOR = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("Etcd-EventListener-%d").build());
     
     private Client client;
@@ -82,6 +91,49 @@ public final class EtcdRepository implements ClusterPersistRepository {
         return keyValues.isEmpty() ? null : keyValues.iterator().next().getValue().toString(StandardCharsets.UTF_8);
     }
     
+    /*
+     * Get requests are sent asynchronously and multiplexed on the client channel, the count of requests in flight is limited by batch size.
+     */
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    @Override
+    public Map<String, String> batchQuery(final Collection<String> keys) {
+        Map<String, String> result = new LinkedHashMap<>(keys.size(), 1F);
+        for (List<String> each : Lists.partition(new ArrayList<>(keys), BATCH_QUERY_SIZE)) {
+            Map<String, CompletableFuture<GetResponse>> responses = new LinkedHashMap<>(each.size(), 1F);
+            for (String key : each) {
+                responses.put(key, client.getKVClient().get(ByteSequence.from(key, StandardCharsets.UTF_8)));
+            }
+            for (Entry<String, CompletableFuture<GetResponse>> entry : responses.entrySet()) {
+                List<KeyValue> keyValues = entry.getValue().get().getKvs();
+                result.put(entry.getKey(), keyValues.isEmpty() ? null : keyValues.iterator().next().getValue().toString(StandardCharsets.UTF_8));
+            }
+        }
+        return result;
+    }
+    
+    /*
+     * Revision of key is the mod revision of the key, only keys are fetched without values.
+     */
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    @Override
+    public Map<String, Long> batchQueryRevisions(final Collection<String> keys) {
+        Map<String, Long> result = new LinkedHashMap<>(keys.size(), 1F);
+        GetOption getOption = GetOption.newBuilder().withKeysOnly(true).build();
+        for (List<String> each : Lists.partition(new ArrayList<>(keys), BATCH_QUERY_SIZE)) {
+            Map<String, CompletableFuture<GetResponse>> responses = new LinkedHashMap<>(each.size(), 1F);
+            for (String key : each) {
+                responses.put(key, client.getKVClient().get(ByteSequence.from(key, StandardCharsets.UTF_8), getOption));
+            }
+            for (Entry<String, CompletableFuture<GetResponse>> entry : responses.entrySet()) {
+                List<KeyValue> keyValues = entry.getValue().get().getKvs();
+                if (!keyValues.isEmpty()) {
+                    result.put(entry.getKey(), keyValues.iterator().next().getModRevision());
+                }
+            }
+        }
+        return result;
+    }
+    
     @SneakyThrows({InterruptedException.class, ExecutionException.class})
     @Override
     public List<String> getChildrenKeys(final String key) {
@@ -46,9 +46,11 @@ import org.mockito.quality.Strictness;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -56,6 +58,8 @@ import java.util.concurrent.ExecutionException;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doAnswer;
@@ -137,6 +141,26 @@ class EtcdRepositoryTest {
         verify(getResponse).getKvs();
     }
     
+    @Test
+    void assertBatchQuery() {
+        io.etcd.jetcd.api.KeyValue keyValue = io.etcd.jetcd.api.KeyValue.newBuilder().setKey(ByteString.copyFromUtf8("/foo")).setValue(ByteString.copyFromUtf8("foo_value")).build();
+        when(getResponse.getKvs()).thenReturn(Collections.singletonList(new KeyValue(keyValue, ByteSequence.EMPTY)), Collections.emptyList());
+        Map<String, String> actual = repository.batchQuery(Arrays.asList("/foo", "/bar"));
+        assertThat(actual.get("/foo"), is("foo_value"));
+        assertTrue(actual.containsKey("/bar"));
+        assertNull(actual.get("/bar"));
+        verify(kv).get(ByteSequence.from("/foo", StandardCharsets.UTF_8));
+        verify(kv).get(ByteSequence.from("/bar", StandardCharsets.UTF_8));
+    }
+    
+    @Test
+    void assertBatchQueryRevisions() {
+        io.etcd.jetcd.api.KeyValue keyValue = io.etcd.jetcd.api.KeyValue.newBuilder().setKey(ByteString.copyFromUtf8("/foo")).setModRevision(10L).build();
+        when(getResponse.getKvs()).thenReturn(Collections.singletonList(new KeyValue(keyValue, ByteSequence.EMPTY)), Collections.emptyList());
+        Map<String, Long> actual = repository.batchQueryRevisions(Arrays.asList("/foo", "/bar"));
+        assertThat(actual, is(Collections.singletonMap("/foo", 10L)));
+    }
+    
     @Test
     void assertGetChildrenKeys() {
         io.etcd.jetcd.api.KeyValue keyValue1 = io.etcd.jetcd.api.KeyValue.newBuilder()
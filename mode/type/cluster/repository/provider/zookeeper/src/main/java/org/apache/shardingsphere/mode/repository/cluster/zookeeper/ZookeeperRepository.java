@@ -18,10 +18,15 @@
 package org.apache.shardingsphere.mode.repository.cluster.zookeeper;
 
 import com.google.common.base.Strings;
+import com.google.common.collect.Lists;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory;
 import org.apache.curator.framework.CuratorFrameworkFactory.Builder;
 import org.apache.curator.framework.api.ACLProvider;
+import org.apache.curator.framework.api.BackgroundCallback;
+import org.apache.curator.framework.api.CuratorEvent;
+import org.apache.curator.framework.api.Pathable;
 import org.apache.curator.framework.recipes.cache.CuratorCache;
 import org.apache.curator.framework.recipes.cache.CuratorCacheListener;
 import org.apache.curator.retry.ExponentialBackoffRetry;
@@ -41,26 +46,39 @@ import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.Zookeep
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperPropertyKey;
 import org.apache.zookeeper.CreateMode;
 import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.KeeperException.Code;
 import org.apache.zookeeper.KeeperException.NodeExistsException;
 import org.apache.zookeeper.KeeperException.OperationTimeoutException;
 import org.apache.zookeeper.ZooDefs;
 import org.apache.zookeeper.data.ACL;
+import org.apache.zookeeper.data.Stat;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 /**
  * Registry repository of ZooKeeper.
  */
+@Slf4j
 public final class ZookeeperRepository implements ClusterPersistRepository {
     
+    private static final int BATCH_QUERY_SIZE = 1000;
+    
+    private static final long DEFAULT_BATCH_QUERY_TIMEOUT_MILLISECONDS = 60000L;
+    
     private final Map<String, CuratorCache> caches = new ConcurrentHashMap<>();
     
     private final Map<String, CuratorCacheListener> dataListeners = new ConcurrentHashMap<>();
@@ -69,9 +87,13 @@ public final class ZookeeperRepository implements ClusterPersistRepository {
     
     private CuratorFramework client;
     
+    private long batchQueryTimeoutMilliseconds;
+    
     @Override
     public void init(final ClusterPersistRepositoryConfiguration config, final ComputeNodeInstanceContext computeNodeInstanceContext) {
         ZookeeperProperties zookeeperProps = new ZookeeperProperties(config.getProps());
+        int timeToLiveSeconds = zookeeperProps.getValue(ZookeeperPropertyKey.TIME_TO_LIVE_SECONDS);
+        batchQueryTimeoutMilliseconds = 0 == timeToLiveSeconds ? DEFAULT_BATCH_QUERY_TIMEOUT_MILLISECONDS : timeToLiveSeconds * 1000L;
         client = buildCuratorClient(config, zookeeperProps);
         client.getConnectionStateListenable().addListener(new SessionConnectionReconnectListener(computeNodeInstanceContext, this));
         initCuratorClient(zookeeperProps);
@@ -180,6 +202,86 @@ public final class ZookeeperRepository implements ClusterPersistRepository {
         }
     }
     
+    /*
+     * Get data requests are sent in background and pipelined on the session connection, the count of requests in flight is limited by batch size.
+     * Requests not answered within session timeout are queried one by one.
+     */
+    @Override
+    public Map<String, String> batchQuery(final Collection<String> keys) {
+        Map<String, String> result = batchQuery(keys, callback -> client.getData().inBackground(callback), event -> new String(event.getData(), StandardCharsets.UTF_8), this::query);
+        Map<String, String> orderedResult = new LinkedHashMap<>(keys.size(), 1F);
+        keys.forEach(each -> orderedResult.put(each, result.get(each)));
+        return orderedResult;
+    }
+    
+    /*
+     * Revision of node is the zxid of the transaction which modified the node last.
+     */
+    @Override
+    public Map<String, Long> batchQueryRevisions(final Collection<String> keys) {
+        return batchQuery(keys, callback -> client.checkExists().inBackground(callback), event -> event.getStat().getMzxid(), this::queryRevision);
+    }
+    
+    private Long queryRevision(final String key) {
+        try {
+            Stat stat = client.checkExists().forPath(key);
+            return null == stat ? null : stat.getMzxid();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            throw new ClusterRepositoryPersistException(ex);
+        }
+    }
+    
+    private <T> Map<String, T> batchQuery(final Collection<String> keys, final Function<BackgroundCallback, Pathable<?>> requester,
+                                          final Function<CuratorEvent, T> valueExtractor, final Function<String, T> directQuery) {
+        Map<String, T> result = new ConcurrentHashMap<>(keys.size(), 1F);
+        for (List<String> each : Lists.partition(new ArrayList<>(keys), BATCH_QUERY_SIZE)) {
+            batchQuery(each, requester, valueExtractor, directQuery, result);
+        }
+        return result;
+    }
+    
+    private <T> void batchQuery(final List<String> keys, final Function<BackgroundCallback, Pathable<?>> requester,
+                                final Function<CuratorEvent, T> valueExtractor, final Function<String, T> directQuery, final Map<String, T> result) {
+        CountDownLatch latch = new CountDownLatch(keys.size());
+        Collection<String> answeredKeys = ConcurrentHashMap.newKeySet(keys.size());
+        Collection<KeeperException> exceptions = new ConcurrentLinkedQueue<>();
+        boolean answered;
+        try {
+            for (String each : keys) {
+                requester.apply((curatorFramework, event) -> {
+                    try {
+                        Code code = Code.get(event.getResultCode());
+                        if (Code.OK == code) {
+                            result.put(each, valueExtractor.apply(event));
+                        } else if (Code.NONODE != code) {
+                            exceptions.add(KeeperException.create(code, event.getPath()));
+                        }
+                    } finally {
+                        answeredKeys.add(each);
+                        latch.countDown();
+                    }
+                }).forPath(each);
+            }
+            answered = latch.await(batchQueryTimeoutMilliseconds, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ClusterRepositoryPersistException(ex);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            throw new ClusterRepositoryPersistException(ex);
+        }
+        if (!exceptions.isEmpty()) {
+            throw new ClusterRepositoryPersistException(exceptions.iterator().next());
+        }
+        if (!answered) {
+            log.warn("Batch query of {} keys is not answered within {} milliseconds, query unanswered keys one by one.", keys.size(), batchQueryTimeoutMilliseconds);
+            keys.stream().filter(each -> !answeredKeys.contains(each)).forEach(each -> Optional.ofNullable(directQuery.apply(each)).ifPresent(optional -> result.put(each, optional)));
+        }
+    }
+    
     @Override
     public boolean isExisted(final String key) {
         try {
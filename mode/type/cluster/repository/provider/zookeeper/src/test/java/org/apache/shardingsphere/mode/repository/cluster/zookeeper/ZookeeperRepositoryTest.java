@@ -26,16 +26,19 @@ import org.apache.curator.framework.api.BackgroundVersionable;
 import org.apache.curator.framework.api.CreateBuilder;
 import org.apache.curator.framework.api.DeleteBuilder;
 import org.apache.curator.framework.api.ExistsBuilder;
+import org.apache.curator.framework.api.GetDataBuilder;
 import org.apache.curator.framework.api.GetChildrenBuilder;
 import org.apache.curator.framework.api.ProtectACLCreateModeStatPathAndBytesable;
 import org.apache.curator.framework.api.SetDataBuilder;
 import org.apache.curator.framework.listen.Listenable;
+import org.apache.curator.test.TestingServer;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
 import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
 import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperPropertyKey;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException;
 import org.apache.zookeeper.data.Stat;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -47,19 +50,24 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -73,6 +81,8 @@ class ZookeeperRepositoryTest {
     
     private static final String SERVER_LISTS = "127.0.0.1:2181";
     
+    private static final int BATCH_QUERY_KEY_COUNT = 2500;
+    
     @Mock
     private CuratorFramework client;
     
@@ -172,6 +182,57 @@ class ZookeeperRepositoryTest {
         assertThat(childrenKeys.size(), is(2));
     }
     
+    @Test
+    void assertBatchQueryWithEmbeddedServer() throws Exception {
+        try (TestingServer server = new TestingServer()) {
+            ZookeeperRepository repository = new ZookeeperRepository();
+            repository.init(new ClusterPersistRepositoryConfiguration(repository.getType(), "governance", server.getConnectString(), new Properties()), mock(ComputeNodeInstanceContext.class));
+            List<String> keys = new ArrayList<>(BATCH_QUERY_KEY_COUNT);
+            for (int i = 0; i < BATCH_QUERY_KEY_COUNT; i++) {
+                keys.add("/batch/foo_" + i);
+                repository.persist("/batch/foo_" + i, "value_" + i);
+            }
+            keys.add("/batch/bar");
+            Map<String, String> actual = repository.batchQuery(keys);
+            repository.close();
+            assertThat(new ArrayList<>(actual.keySet()), is(keys));
+            for (int i = 0; i < BATCH_QUERY_KEY_COUNT; i++) {
+                assertThat(actual.get("/batch/foo_" + i), is("value_" + i));
+            }
+            assertNull(actual.get("/batch/bar"));
+        }
+    }
+    
+    @Test
+    void assertBatchQueryRevisionsWithEmbeddedServer() throws Exception {
+        try (TestingServer server = new TestingServer()) {
+            ZookeeperRepository repository = new ZookeeperRepository();
+            repository.init(new ClusterPersistRepositoryConfiguration(repository.getType(), "governance", server.getConnectString(), new Properties()), mock(ComputeNodeInstanceContext.class));
+            repository.persist("/revision/foo", "foo_value");
+            repository.persist("/revision/bar", "bar_value");
+            Map<String, Long> actual = repository.batchQueryRevisions(Arrays.asList("/revision/foo", "/revision/bar", "/revision/baz"));
+            repository.update("/revision/foo", "new_foo_value");
+            Map<String, Long> actualAfterUpdate = repository.batchQueryRevisions(Arrays.asList("/revision/foo", "/revision/bar"));
+            repository.close();
+            assertThat(actual.size(), is(2));
+            assertThat(actualAfterUpdate.get("/revision/bar"), is(actual.get("/revision/bar")));
+            assertTrue(actualAfterUpdate.get("/revision/foo") > actual.get("/revision/foo"));
+        }
+    }
+    
+    @Test
+    void assertBatchQueryWithUnansweredRequests() throws Exception {
+        GetDataBuilder getDataBuilder = mock(GetDataBuilder.class, RETURNS_DEEP_STUBS);
+        when(client.getData()).thenReturn(getDataBuilder);
+        when(getDataBuilder.forPath("/batch/foo")).thenReturn("foo_value".getBytes(StandardCharsets.UTF_8));
+        when(getDataBuilder.forPath("/batch/bar")).thenThrow(new KeeperException.NoNodeException());
+        Properties props = PropertiesBuilder.build(new Property(ZookeeperPropertyKey.TIME_TO_LIVE_SECONDS.getKey(), "1"));
+        REPOSITORY.init(new ClusterPersistRepositoryConfiguration(REPOSITORY.getType(), "governance", SERVER_LISTS, props), mock(ComputeNodeInstanceContext.class));
+        Map<String, String> actual = REPOSITORY.batchQuery(Arrays.asList("/batch/foo", "/batch/bar"));
+        assertThat(actual.get("/batch/foo"), is("foo_value"));
+        assertNull(actual.get("/batch/bar"));
+    }
+    
     @Test
     void assertBuildCuratorClientWithCustomConfiguration() {
         Properties props = PropertiesBuilder.build(
@@ -22,11 +22,13 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCProbeQueryExecutor;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.ExecutorStatementManager;
 import org.apache.shardingsphere.infra.metadata.user.Grantee;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnectionManager;
+import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.statement.JDBCBackendStatement;
 import org.apache.shardingsphere.proxy.backend.session.transaction.TransactionStatus;
 import org.apache.shardingsphere.sql.parser.statement.core.enums.TransactionIsolationLevel;
@@ -89,7 +91,11 @@ public final class ConnectionSession {
      * @param grantee grantee
      */
     public void setGrantee(final Grantee grantee) {
-        connectionContext.set(new ConnectionContext(databaseConnectionManager::getUsedDataSourceNames, grantee));
+        ConnectionContext newConnectionContext = new ConnectionContext(databaseConnectionManager::getUsedDataSourceNames, grantee);
+        newConnectionContext.setProbeQueryExecutor((databaseName, probeQueries, queryTimeoutSeconds) -> new JDBCProbeQueryExecutor(
+                BackendExecutorContext.getInstance().getExecutorEngine(), databaseConnectionManager, processId).execute(databaseName, probeQueries, queryTimeoutSeconds));
+        newConnectionContext.setMergeExecutor(command -> BackendExecutorContext.getInstance().getExecutorEngine().getExecutorServiceManager().getExecutorService().execute(command));
+        connectionContext.set(newConnectionContext);
     }
     
     /**
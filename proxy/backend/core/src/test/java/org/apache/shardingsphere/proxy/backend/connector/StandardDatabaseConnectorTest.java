@@ -26,6 +26,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryRe
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -224,19 +225,27 @@ class StandardDatabaseConnectorTest {
     }
     
     @Test
-    void assertCloseCorrectly() throws SQLException {
+    void assertCloseCorrectly() throws SQLException, ReflectiveOperationException {
         SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
         when(sqlStatementContext.getTablesContext().getDatabaseNames()).thenReturn(Collections.emptyList());
         when(sqlStatementContext.getSqlStatement().getDatabaseType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
         DatabaseConnector engine = createDatabaseConnector(JDBCDriverType.STATEMENT, createQueryContext(sqlStatementContext));
+        MergedResult mergedResult = mock(MergedResult.class);
+        Plugins.getMemberAccessor().set(StandardDatabaseConnector.class.getDeclaredField("mergedResult"), engine, mergedResult);
+        Collection<QueryResult> cachedQueryResults = getField(engine, "cachedQueryResults");
+        QueryResult queryResult = mock(QueryResult.class);
+        cachedQueryResults.add(queryResult);
         Collection<ResultSet> cachedResultSets = getField(engine, "cachedResultSets");
         cachedResultSets.add(resultSet);
         Collection<Statement> cachedStatements = getField(engine, "cachedStatements");
         cachedStatements.add(statement);
         engine.close();
+        verify(mergedResult).close();
+        verify(queryResult).close();
         verify(resultSet).close();
         verify(statement).cancel();
         verify(statement).close();
+        assertTrue(cachedQueryResults.isEmpty());
         assertTrue(cachedResultSets.isEmpty());
         assertTrue(cachedStatements.isEmpty());
     }
@@ -22,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.firebird.packet.command.query.FirebirdBinaryColumnType;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.session.query.PreparedStatementCache;
 import org.apache.shardingsphere.proxy.backend.session.ServerPreparedStatement;
 
 import java.util.List;
@@ -42,6 +43,8 @@ public final class FirebirdServerPreparedStatement implements ServerPreparedStat
     
     private final HintValueContext hintValueContext;
     
+    private final PreparedStatementCache preparedStatementCache = new PreparedStatementCache();
+    
     private final List<FirebirdBinaryColumnType> parameterTypes = new CopyOnWriteArrayList<>();
     
     private final Map<Integer, byte[]> longData = new ConcurrentHashMap<>();
@@ -76,7 +76,7 @@ public final class FirebirdExecuteStatementCommandExecutor implements QueryComma
             ((ParameterAware) sqlStatementContext).bindParameters(params);
         }
         QueryContext queryContext = new QueryContext(sqlStatementContext, preparedStatement.getSql(), params, preparedStatement.getHintValueContext(), connectionSession.getConnectionContext(),
-                ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData(), true);
+                ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData(), preparedStatement.getPreparedStatementCache());
         connectionSession.setQueryContext(queryContext);
         proxyBackendHandler = ProxyBackendHandlerFactory.newInstance(TypedSPILoader.getService(DatabaseType.class, "Firebird"), queryContext, connectionSession, true);
         ResponseHeader responseHeader = proxyBackendHandler.execute();
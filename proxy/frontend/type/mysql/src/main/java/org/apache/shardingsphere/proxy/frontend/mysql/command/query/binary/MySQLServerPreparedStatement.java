@@ -22,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLPreparedStatementParameterType;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.session.query.PreparedStatementCache;
 import org.apache.shardingsphere.proxy.backend.session.ServerPreparedStatement;
 
 import java.util.List;
@@ -43,6 +44,8 @@ public final class MySQLServerPreparedStatement implements ServerPreparedStateme
     
     private final HintValueContext hintValueContext;
     
+    private final PreparedStatementCache preparedStatementCache = new PreparedStatementCache();
+    
     private final List<Integer> parameterColumnDefinitionFlags;
     
     private final List<MySQLPreparedStatementParameterType> parameterTypes = new CopyOnWriteArrayList<>();
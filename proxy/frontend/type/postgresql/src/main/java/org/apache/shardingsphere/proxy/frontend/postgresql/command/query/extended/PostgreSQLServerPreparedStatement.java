@@ -26,6 +26,7 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.Pos
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.session.query.PreparedStatementCache;
 import org.apache.shardingsphere.proxy.backend.session.ServerPreparedStatement;
 
 import java.util.ArrayList;
@@ -46,6 +47,8 @@ public final class PostgreSQLServerPreparedStatement implements ServerPreparedSt
     
     private final HintValueContext hintValueContext;
     
+    private final PreparedStatementCache preparedStatementCache = new PreparedStatementCache();
+    
     private final List<PostgreSQLColumnType> parameterTypes;
     
     private final List<Integer> actualParameterMarkerIndexes;